@@ -33,6 +33,8 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.PosixParser;
 import org.tugraz.sysds.common.Types.ExecMode;
 import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.tugraz.sysds.utils.Explain;
 import org.tugraz.sysds.utils.Explain.ExplainType;
@@ -63,6 +65,7 @@ public class DMLOptions {
 	public boolean              lineage       = false;            // whether compute lineage trace
 	public boolean              lineage_dedup = false;            // whether deduplicate lineage items
 	public ReuseCacheType       linReuseType  = ReuseCacheType.NONE;
+	public LineageCachePolicy   linCachePolicy = null;            // eviction policy of lineage cache (null: from config)
 	public boolean              fedWorker     = false;
 	public int                  fedWorkerPort = -1;
 	
@@ -126,6 +129,12 @@ public class DMLOptions {
 							dmlOptions.linReuseType = ReuseCacheType.REUSE_HYBRID;
 						else if (lineageType.equalsIgnoreCase("none"))
 							dmlOptions.linReuseType = ReuseCacheType.NONE;
+						else if (lineageType.toLowerCase().startsWith("policy_")) {
+							dmlOptions.linCachePolicy = LineageCacheConfig.parseCachePolicy(lineageType.substring(7));
+							if (dmlOptions.linCachePolicy == null)
+								throw new org.apache.commons.cli.ParseException(
+									"Invalid argument specified for -lineage option: " + lineageType);
+						}
 						else
 							throw new org.apache.commons.cli.ParseException(
 								"Invalid argument specified for -lineage option: " + lineageType);
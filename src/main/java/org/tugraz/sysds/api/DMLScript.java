@@ -65,7 +65,9 @@ import org.tugraz.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyze
 import org.tugraz.sysds.runtime.controlprogram.parfor.util.IDHandler;
 import org.tugraz.sysds.runtime.instructions.gpu.context.GPUContextPool;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+import org.tugraz.sysds.runtime.lineage.LineageCache;
 import org.tugraz.sysds.runtime.lineage.LineageCacheConfig;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.tugraz.sysds.runtime.util.LocalFileUtils;
 import org.tugraz.sysds.runtime.util.HDFSTool;
@@ -94,6 +96,7 @@ public class DMLScript
 	public static boolean     LINEAGE = DMLOptions.defaultOptions.lineage;                 // whether compute lineage trace
 	public static boolean     LINEAGE_DEDUP = DMLOptions.defaultOptions.lineage_dedup;     // whether deduplicate lineage items
 	public static ReuseCacheType LINEAGE_REUSE = DMLOptions.defaultOptions.linReuseType;   // whether lineage-based reuse
+	public static LineageCachePolicy LINEAGE_POLICY = DMLOptions.defaultOptions.linCachePolicy; // eviction policy of lineage cache (null: from config)
 
 	public static boolean           USE_ACCELERATOR     = DMLOptions.defaultOptions.gpu;
 	public static boolean           FORCE_ACCELERATOR   = DMLOptions.defaultOptions.forceGPU;
@@ -196,6 +199,7 @@ public class DMLScript
 			LINEAGE             = dmlOptions.lineage;
 			LINEAGE_DEDUP       = dmlOptions.lineage_dedup;
 			LINEAGE_REUSE       = dmlOptions.linReuseType;
+			LINEAGE_POLICY      = dmlOptions.linCachePolicy;
 
 			String fnameOptConfig = dmlOptions.configFile;
 			boolean isFile = dmlOptions.filePath != null;
@@ -405,8 +409,14 @@ public class DMLScript
 			if(ec != null && ec instanceof SparkExecutionContext)
 				((SparkExecutionContext) ec).close();
 			LOG.info("END DML run " + getDateTime() );
-			//cleanup scratch_space and all working dirs
-			cleanupHadoopExecution( dmlconf );
+			try {
+				//flush lineage cache to persistent store (if configured)
+				LineageCache.persist();
+			}
+			finally {
+				//cleanup scratch_space and all working dirs
+				cleanupHadoopExecution( dmlconf );
+			}
 		}
 	}
 	
@@ -422,6 +432,16 @@ public class DMLScript
 		DMLScript.STATISTICS_MAX_WRAP_LEN = dmlconf.getIntValue(DMLConfig.STATS_MAX_WRAP_LEN);
 		NativeHelper.initialize(dmlconf.getTextValue(DMLConfig.NATIVE_BLAS_DIR), dmlconf.getTextValue(DMLConfig.NATIVE_BLAS).trim());
 		
+		LineageCacheConfig.setPersistentStore(dmlconf.getTextValue(DMLConfig.LINEAGE_PERSIST_DIR).trim(),
+			(long)dmlconf.getIntValue(DMLConfig.LINEAGE_PERSIST_QUOTA) * 1024 * 1024);
+		LineageCachePolicy policy = (LINEAGE_POLICY != null) ? LINEAGE_POLICY :
+			LineageCacheConfig.parseCachePolicy(dmlconf.getTextValue(DMLConfig.LINEAGE_POLICY).trim());
+		if( policy == null )
+			throw new DMLRuntimeException("Invalid lineage cache policy: "+dmlconf.getTextValue(DMLConfig.LINEAGE_POLICY));
+		LineageCacheConfig.setCachePolicy(policy);
+		
+		CacheableData.CACHING_BUFFER_OFFHEAP = dmlconf.getBooleanValue(DMLConfig.CACHING_OFFHEAP);
+		
 		DMLScript.SYNCHRONIZE_GPU = dmlconf.getBooleanValue(DMLConfig.SYNCHRONIZE_GPU);
 		DMLScript.EAGER_CUDA_FREE = dmlconf.getBooleanValue(DMLConfig.EAGER_CUDA_FREE);
 		DMLScript.PRINT_GPU_MEMORY_INFO = dmlconf.getBooleanValue(DMLConfig.PRINT_GPU_MEMORY_INFO);
@@ -60,6 +60,8 @@ import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.io.MatrixReader;
 import org.tugraz.sysds.runtime.io.MatrixReaderFactory;
 import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageCache;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.InputInfo;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
@@ -170,6 +172,11 @@ public class Connection implements Closeable
 		//assign the given configuration
 		_dmlconf = dmlconfig;
 		
+		//setup persistent lineage cache for reuse across connections
+		LineageCacheConfig.setPersistentStore(
+			_dmlconf.getTextValue(DMLConfig.LINEAGE_PERSIST_DIR).trim(),
+			(long)_dmlconf.getIntValue(DMLConfig.LINEAGE_PERSIST_QUOTA) * 1024 * 1024);
+		
 		setLocalConfigs();
 	}
 
@@ -300,6 +307,8 @@ public class Connection implements Closeable
 		ConfigurationManager.clearLocalConfigs();
 		if( ConfigurationManager.isCodegenEnabled() )
 			SpoofCompiler.cleanupCodeGenerator();
+		//flush lineage cache to persistent store (if configured)
+		LineageCache.persist();
 	}
 	
 	/**
@@ -43,6 +43,7 @@ import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.tugraz.sysds.runtime.instructions.cp.Data;
 import org.tugraz.sysds.runtime.instructions.cp.ScalarObject;
+import org.tugraz.sysds.runtime.lineage.LineageCache;
 import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
 import org.tugraz.sysds.runtime.meta.MetaDataFormat;
 import org.tugraz.sysds.utils.MLContextProxy;
@@ -630,6 +631,9 @@ public class MLContext implements ConfigurableAPI
 		MLContextProxy.setActive(false);
 		activeMLContext = null;
 
+		// flush lineage cache to persistent store (if configured)
+		LineageCache.persist();
+
 		// cleanup scratch space and buffer pool
 		try {
 			DMLScript.cleanupHadoopExecution(ConfigurationManager.getDMLConfig());
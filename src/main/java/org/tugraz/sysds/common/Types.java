@@ -300,6 +300,6 @@ public class Types
 	
 
 	public enum FileFormat {
-		TEXT, BINARY, MM, CSV, LIBSVM
+		TEXT, BINARY, MM, CSV, LIBSVM, COLUMNAR
 	}
 }
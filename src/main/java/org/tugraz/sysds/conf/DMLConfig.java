@@ -68,7 +68,12 @@ public class DMLConfig
 	public static final String DEFAULT_BLOCK_SIZE   = "sysds.defaultblocksize";
 	public static final String CP_PARALLEL_OPS      = "sysds.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysds.cp.parallel.io";
+	public static final String IO_COMPRESSION_CODEC = "sysds.io.compression.codec"; //none, default, gzip, snappy, lz4, bzip2
 	public static final String COMPRESSED_LINALG    = "sysds.compressed.linalg"; //auto, true, false
+	public static final String COMPRESSED_PLANNING_TIMEOUT  = "sysds.compressed.planning.timeout"; //max planning time in ms, 0 to disable
+	public static final String COMPRESSED_PLANNING_MINRATIO = "sysds.compressed.planning.minratio"; //min estimated compression ratio
+	public static final String CACHING_OFFHEAP      = "sysds.caching.offheap"; //boolean: serialize evicted blocks off-heap
+	public static final String TRANSFORM_STREAMING  = "sysds.transform.streaming"; //auto, true, false
 	public static final String NATIVE_BLAS          = "sysds.native.blas";
 	public static final String NATIVE_BLAS_DIR      = "sysds.native.blas.directory";
 	public static final String CODEGEN              = "sysds.codegen.enabled"; //boolean
@@ -82,6 +87,11 @@ public class DMLConfig
 	public static final String EAGER_CUDA_FREE      = "sysds.gpu.eager.cudaFree"; // boolean: whether to perform eager CUDA free on rmvar
 	public static final String GPU_EVICTION_POLICY  = "sysds.gpu.eviction.policy"; // string: can be lru, lfu, min_evict
 	public static final String LOCAL_SPARK_NUM_THREADS = "sysds.local.spark.number.threads";
+	public static final String LINEAGE_PERSIST_DIR  = "sysds.lineage.persist.dir"; // string: local directory of persistent lineage cache, or none
+	public static final String LINEAGE_PERSIST_QUOTA = "sysds.lineage.persist.quota"; // int: size quota of persistent lineage cache in MB
+	public static final String LINEAGE_POLICY       = "sysds.lineage.policy"; // string: eviction policy of lineage cache: lru, costnsize, lfu, dagheight
+	public static final String FEDERATED_CLIENT_THREADS = "sysds.federated.client.threads"; // int: threads of the shared federated client event loop
+	public static final String FEDERATED_CONNECTIONS = "sysds.federated.connections"; // int: pooled connections per federated worker
 	
 	// Fraction of available memory to use. The available memory is computer when the GPUContext is created
 	// to handle the tradeoff on calling cudaMemGetInfo too often.
@@ -93,6 +103,8 @@ public class DMLConfig
 
 	public static final String DEFAULT_FEDERATED_PORT = "4040"; // borrowed default Spark Port
 	public static final String DEFAULT_NUMBER_OF_FEDERATED_WORKER_THREADS = "1";
+	public static final String DEFAULT_NUMBER_OF_FEDERATED_CLIENT_THREADS = "2"; // shared client event loop
+	public static final String DEFAULT_NUMBER_OF_FEDERATED_CONNECTIONS = "2"; // pooled connections per worker
 	
 	//internal config
 	public static final String DEFAULT_SHARED_DIR_PERMISSION = "777"; //for local fs and DFS
@@ -114,7 +126,12 @@ public class DMLConfig
 		_defaultVals.put(DEFAULT_BLOCK_SIZE,     String.valueOf(OptimizerUtils.DEFAULT_BLOCKSIZE) );
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
+		_defaultVals.put(IO_COMPRESSION_CODEC,   "none" );
 		_defaultVals.put(COMPRESSED_LINALG,      Compression.CompressConfig.AUTO.name() );
+		_defaultVals.put(COMPRESSED_PLANNING_TIMEOUT,  "0" );
+		_defaultVals.put(COMPRESSED_PLANNING_MINRATIO, "1.0" );
+		_defaultVals.put(CACHING_OFFHEAP,        "false" );
+		_defaultVals.put(TRANSFORM_STREAMING,    "auto" );
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_COMPILER,       CompilerType.AUTO.name() );
 		_defaultVals.put(CODEGEN_OPTIMIZER,      PlanSelector.FUSE_COST_BASED_V2.name() );
@@ -133,6 +150,11 @@ public class DMLConfig
 		_defaultVals.put(SYNCHRONIZE_GPU,        "false" );
 		_defaultVals.put(EAGER_CUDA_FREE,        "false" );
 		_defaultVals.put(FLOATING_POINT_PRECISION, "double" );
+		_defaultVals.put(LINEAGE_PERSIST_DIR,    "none" );
+		_defaultVals.put(LINEAGE_PERSIST_QUOTA,  "1024" );
+		_defaultVals.put(LINEAGE_POLICY,         "lru" );
+		_defaultVals.put(FEDERATED_CLIENT_THREADS, DEFAULT_NUMBER_OF_FEDERATED_CLIENT_THREADS );
+		_defaultVals.put(FEDERATED_CONNECTIONS,  DEFAULT_NUMBER_OF_FEDERATED_CONNECTIONS );
 	}
 	
 	public DMLConfig() {
@@ -375,12 +397,14 @@ public class DMLConfig
 	public String getConfigInfo()  {
 		String[] tmpConfig = new String[] { 
 			LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL, DEFAULT_BLOCK_SIZE,
-			CP_PARALLEL_OPS, CP_PARALLEL_IO, NATIVE_BLAS, NATIVE_BLAS_DIR,
-			COMPRESSED_LINALG,
+			CP_PARALLEL_OPS, CP_PARALLEL_IO, IO_COMPRESSION_CODEC, NATIVE_BLAS, NATIVE_BLAS_DIR,
+			COMPRESSED_LINALG, COMPRESSED_PLANNING_TIMEOUT, COMPRESSED_PLANNING_MINRATIO, CACHING_OFFHEAP, TRANSFORM_STREAMING,
 			CODEGEN, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
 			STATS_MAX_WRAP_LEN, PRINT_GPU_MEMORY_INFO,
 			AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, FLOATING_POINT_PRECISION, GPU_EVICTION_POLICY, 
-			LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE, GPU_MEMORY_ALLOCATOR, GPU_MEMORY_UTILIZATION_FACTOR
+			LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE, GPU_MEMORY_ALLOCATOR, GPU_MEMORY_UTILIZATION_FACTOR,
+			LINEAGE_PERSIST_DIR, LINEAGE_PERSIST_QUOTA, LINEAGE_POLICY,
+			FEDERATED_CLIENT_THREADS, FEDERATED_CONNECTIONS
 		}; 
 		
 		StringBuilder sb = new StringBuilder();
@@ -133,9 +133,10 @@ public class AggUnaryOp extends MultiThreadedHop
 				else if( isUnaryAggregateOuterCPRewriteApplicable() )
 				{
 					BinaryOp binput = (BinaryOp)getInput().get(0);
+					int k = OptimizerUtils.getConstrainedNumThreads(_maxNumThreads);
 					agg1 = new UAggOuterChain( binput.getInput().get(0).constructLops(), 
 							binput.getInput().get(1).constructLops(), _op, _direction, 
-							HopsOpOp2LopsB.get(binput.getOp()), DataType.MATRIX, getValueType(), ExecType.CP);
+							HopsOpOp2LopsB.get(binput.getOp()), DataType.MATRIX, getValueType(), ExecType.CP, k);
 					PartialAggregate.setDimensionsBasedOnDirection(agg1, getDim1(), getDim2(), input.getBlocksize(), _direction);
 				
 					if (getDataType() == DataType.SCALAR) {
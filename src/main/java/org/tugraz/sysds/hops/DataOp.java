@@ -441,6 +441,9 @@ public class DataOp extends Hop
 			//additional check for write only
 			if( getDataType()==DataType.SCALAR )
 				_etypeForced = ExecType.CP;
+			//columnar files are single files w/ footer, written in CP
+			if( _op == OpOpData.PERSISTENTWRITE && _inFormat == FileFormat.COLUMNAR )
+				_etypeForced = ExecType.CP;
 			
 			if( _etypeForced != null )
 			{
@@ -290,6 +290,8 @@ public class Data extends Lop
 					fmt = "csv";
 				else if (oparams.getFormat() == FileFormat.LIBSVM)
 					fmt = "libsvm";
+				else if (oparams.getFormat() == FileFormat.COLUMNAR)
+					fmt = "columnar";
 				else if ( oparams.getFormat() == FileFormat.BINARY )
 					fmt = oparams.getBlocksize() > 0 ? "binaryblock" : "binarycell" ;
 				else
@@ -393,6 +395,8 @@ public class Data extends Lop
 				fmt = "csv";
 			else if ( oparams.getFormat() == FileFormat.LIBSVM )
 				fmt = "libsvm";
+			else if ( oparams.getFormat() == FileFormat.COLUMNAR )
+				fmt = "columnar";
 			else { //binary
 				fmt = ( getDataType() == DataType.FRAME || oparams.getBlocksize() > 0
 					|| oparams.getBlocksize() > 0 ) ? "binaryblock" : "binarycell";
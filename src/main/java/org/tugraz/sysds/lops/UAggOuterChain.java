@@ -43,6 +43,7 @@ public class UAggOuterChain extends Lop
 	private Direction _uaggDir = null;
 	//inner operation
 	private Binary.OperationTypes _binOp = null;
+	private int _numThreads = 1;
 	
 	/**
 	 * Constructor to setup a unaryagg outer chain
@@ -57,6 +58,10 @@ public class UAggOuterChain extends Lop
 	 * @param et execution type
 	 */
 	public UAggOuterChain(Lop input1, Lop input2, AggOp uaop, Direction uadir, Binary.OperationTypes bop, DataType dt, ValueType vt, ExecType et) {
+		this(input1, input2, uaop, uadir, bop, dt, vt, et, 1);
+	}
+	
+	public UAggOuterChain(Lop input1, Lop input2, AggOp uaop, Direction uadir, Binary.OperationTypes bop, DataType dt, ValueType vt, ExecType et, int k) {
 		super(Lop.Type.UaggOuterChain, dt, vt);
 		addInput(input1);
 		addInput(input2);
@@ -67,6 +72,7 @@ public class UAggOuterChain extends Lop
 		_uaggOp = uaop;
 		_uaggDir = uadir;
 		_binOp = bop;
+		_numThreads = k;
 		lps.setProperties(inputs, et);
 	}
 	
@@ -77,7 +83,7 @@ public class UAggOuterChain extends Lop
 	
 	@Override
 	public String getInstructions(String input1, String input2, String output) {
-		return InstructionUtils.concatOperands(
+		String ret = InstructionUtils.concatOperands(
 			getExecType().name(),
 			OPCODE,
 			PartialAggregate.getOpcode(_uaggOp, _uaggDir), //outer
@@ -85,5 +91,10 @@ public class UAggOuterChain extends Lop
 			getInputs().get(0).prepInputOperand(input1),
 			getInputs().get(0).prepInputOperand(input2),
 			prepOutputOperand(output));
+		
+		//append degree of parallelism for CP
+		if( getExecType() == ExecType.CP )
+			ret = InstructionUtils.concatOperands(ret, String.valueOf(_numThreads));
+		return ret;
 	}
 }
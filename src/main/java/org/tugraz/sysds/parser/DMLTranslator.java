@@ -1003,6 +1003,13 @@ public class DMLTranslator
 						// write output in textcell format
 						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1);
 						break;
+					
+					case COLUMNAR:
+						// write output in columnar format (frames only)
+						if( ae.getDataType() != DataType.FRAME )
+							throw new LanguageException(source.printErrorLocation()+": Format columnar is only supported for frames.");
+						ae.setOutputParams(ae.getDim1(), ae.getDim2(), ae.getNnz(), ae.getUpdateType(), -1);
+						break;
 						
 					case BINARY:
 						// write output in binary block format
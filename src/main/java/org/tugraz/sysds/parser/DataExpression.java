@@ -88,6 +88,7 @@ public class DataExpression extends DataIdentifier
 	public static final String FORMAT_TYPE_VALUE_CSV = "csv";
 	public static final String FORMAT_TYPE_VALUE_MATRIXMARKET = "mm";
 	public static final String FORMAT_TYPE_VALUE_LIBSVM = "libsvm";
+	public static final String FORMAT_TYPE_VALUE_COLUMNAR = "columnar";
 	
 	public static final String ROWBLOCKCOUNTPARAM = "rows_in_block";
 	public static final String COLUMNBLOCKCOUNTPARAM = "cols_in_block";
@@ -1157,6 +1158,13 @@ public class DataExpression extends DataIdentifier
 				{
 					getOutput().setFormatType(FormatType.LIBSVM);
 					format = 1;
+				}
+				else if ( fmt.equalsIgnoreCase(FORMAT_TYPE_VALUE_COLUMNAR) )
+				{
+					if( isMatrix )
+						raiseValidateError("Format '" + fmt + "' is only supported for frames in statement: " + this.toString(), conditional);
+					getOutput().setFormatType(FormatType.COLUMNAR);
+					format = 2;
 				} else {
 					raiseValidateError("Invalid format '" + fmt+ "' in statement: " + this.toString(), conditional);
 				}
@@ -1267,6 +1275,8 @@ public class DataExpression extends DataIdentifier
 					(getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_CSV)) ||
 					 getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_LIBSVM))
 				getOutput().setBlocksize(-1);
+			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FORMAT_TYPE_VALUE_COLUMNAR))
+				getOutput().setBlocksize(-1);
 			
 			else{
 				raiseValidateError("Invalid format " + getVarParam(FORMAT_TYPE) +  " in statement: " + this.toString(), conditional);
@@ -82,7 +82,11 @@ public abstract class Statement implements ParseInfo
 		public boolean isASP() {
 			return this == ASP;
 		}
+		public boolean isSSP() {
+			return this == SSP;
+		}
 	}
+	public static final String PS_STALENESS = "staleness";
 	public static final String PS_FREQUENCY = "freq";
 	public enum PSFrequency {
 		BATCH, EPOCH
@@ -26,7 +26,9 @@ import java.util.List;
 import org.tugraz.sysds.runtime.matrix.data.IJV;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class that stores information about a column group within a compressed matrix block. There are subclasses specific to
@@ -41,7 +43,10 @@ public abstract class ColGroup implements Serializable {
 		RLE_BITMAP, // RLE bitmap
 		OLE_BITMAP, // OLE bitmap
 		DDC1, // DDC 1 byte
-		DDC2; // DDC 2 byte
+		DDC2, // DDC 2 byte
+		CONST, // single value tuple
+		SDC, // sparse DDC (default tuple + exceptions)
+		DDCBP; // DDC bit-packed (1, 2, or 4 bit)
 	}
 
 	/**
@@ -242,6 +247,32 @@ public abstract class ColGroup implements Serializable {
 	 */
 	public abstract ColGroup scalarOperation(ScalarOperator op);
 
+	/**
+	 * Perform the specified cell-wise unary operation directly on the compressed column group, without decompressing
+	 * individual cells if possible.
+	 * 
+	 * @param op operation to perform
+	 * @return version of this column group with the operation applied
+	 */
+	public abstract ColGroup unaryOperation(UnaryOperator op);
+
+	/**
+	 * Perform the specified binary operation with a row vector on the right (i.e., X op v, where v is broadcast over
+	 * all rows) directly on the compressed column group, without decompressing individual cells if possible.
+	 * 
+	 * @param op binary operation to perform
+	 * @param v  dense row vector of the full matrix width, indexed by the column indexes of this group
+	 * @return version of this column group with the operation applied
+	 */
+	public abstract ColGroup binaryRowOperation(BinaryOperator op, double[] v);
+
+	/**
+	 * Reverse the order of rows (i.e., rev(X)) directly on the compressed column group.
+	 * 
+	 * @return version of this column group with reversed rows
+	 */
+	public abstract ColGroup reverseRows();
+
 	public abstract void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result);
 
 	/**
@@ -0,0 +1,243 @@
+/*
+ * Modifications Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.tugraz.sysds.runtime.compress.utils.ConverterUtils;
+import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
+import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a column group where all rows share a single value tuple. Besides the value
+ * tuple itself, no per-row data is stored.
+ */
+public class ColGroupConst extends ColGroupDDC {
+	private static final long serialVersionUID = 3204391661346504374L;
+
+	public ColGroupConst() {
+		super();
+	}
+
+	public ColGroupConst(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, ubm);
+		if(getNumValues() != 1 || ubm.getNumOffsets() < numRows)
+			throw new RuntimeException("Invalid construction of constant column group w/ "
+				+ getNumValues() + " distinct values.");
+	}
+
+	public ColGroupConst(int[] colIndices, int numRows, double[] values) {
+		super(colIndices, numRows, values);
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.CONST;
+	}
+
+	@Override
+	protected double getData(int r) {
+		return _values[0];
+	}
+
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[colIx];
+	}
+
+	@Override
+	protected void setData(int r, int code) {
+		throw new RuntimeException("Unsupported set of codes for constant column group.");
+	}
+
+	@Override
+	protected int getCode(int r) {
+		return 0;
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		int numCols = getNumCols();
+		out.writeInt(_numRows);
+		out.writeInt(numCols);
+
+		// write col indices
+		for(int i = 0; i < _colIndexes.length; i++)
+			out.writeInt(_colIndexes[i]);
+
+		// write value tuple
+		for(int i = 0; i < _values.length; i++)
+			out.writeDouble(_values[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		int numCols = in.readInt();
+
+		// read col indices
+		_colIndexes = new int[numCols];
+		for(int i = 0; i < numCols; i++)
+			_colIndexes[i] = in.readInt();
+
+		// read value tuple
+		_values = new double[numCols];
+		for(int i = 0; i < numCols; i++)
+			_values[i] = in.readDouble();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 8; // header
+		// col indices
+		ret += 4 * _colIndexes.length;
+		// value tuple
+		ret += 8 * _values.length;
+		return ret;
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		int ncol = getNumCols();
+		for(int i = rl; i < ru; i++)
+			for(int j = 0; j < ncol; j++)
+				target.appendValue(i, _colIndexes[j], _values[j]);
+		// note: append ok because final sort per row
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		int nrow = getNumRows();
+		double[] c = target.getDenseBlockValues();
+		Arrays.fill(c, 0, nrow, _values[colpos]);
+		target.setNonZeros((_values[colpos] != 0) ? nrow : 0);
+	}
+
+	@Override
+	public int[] getCounts(int[] counts) {
+		return getCounts(0, getNumRows(), counts);
+	}
+
+	@Override
+	public int[] getCounts(int rl, int ru, int[] counts) {
+		counts[0] = ru - rl;
+		return counts;
+	}
+
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		// all rows have the nnz of the single value tuple
+		int lnnz = 0;
+		for(int j = 0; j < _values.length; j++)
+			lnnz += (_values[j] != 0) ? 1 : 0;
+		for(int i = rl; i < ru; i++)
+			rnnz[i - rl] += lnnz;
+	}
+
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) {
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlockValues();
+		final int numCols = getNumCols();
+
+		// compute the single dot product and add to all output rows
+		double val = 0;
+		for(int j = 0; j < numCols; j++)
+			val += _values[j] * b[_colIndexes[j]];
+		if(val != 0)
+			for(int i = rl; i < ru; i++)
+				c[i] += val;
+	}
+
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) {
+		double[] a = ConverterUtils.getDenseVector(vector);
+		final int nrow = getNumRows();
+
+		// aggregate the input vector and scale the value tuple
+		double aval = 0;
+		for(int i = 0; i < nrow; i++)
+			aval += a[i];
+		addScaledValues(aval, result.getDenseBlockValues());
+	}
+
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) {
+		final int nrow = getNumRows();
+
+		// aggregate the input vector and scale the value tuple
+		double aval = 0;
+		for(int i = 0; i < nrow; i++)
+			aval += a.getData(i);
+		addScaledValues(aval, result.getDenseBlockValues());
+	}
+
+	private void addScaledValues(double aval, double[] c) {
+		final int ncol = getNumCols();
+		for(int j = 0; j < ncol; j++)
+			c[_colIndexes[j]] += aval * _values[j];
+	}
+
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for(int j = 0; j < _values.length; j++)
+			kplus.execute3(kbuff, _values[j], _numRows);
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+
+	@Override
+	protected void computeColSums(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		for(int j = 0; j < ncol; j++) {
+			KahanObject kbuff = new KahanObject(result.quickGetValue(0, _colIndexes[j]),
+				result.quickGetValue(1, _colIndexes[j]));
+			kplus.execute3(kbuff, _values[j], _numRows);
+			result.quickSetValue(0, _colIndexes[j], kbuff._sum);
+			result.quickSetValue(1, _colIndexes[j], kbuff._correction);
+		}
+	}
+
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) {
+		return new ColGroupConst(_colIndexes, _numRows, applyScalarOp(op));
+	}
+
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		return new ColGroupConst(_colIndexes, _numRows, applyUnaryOp(op));
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		return new ColGroupConst(_colIndexes, _numRows, applyBinaryRowOp(op, v));
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// all rows are identical, and groups are immutable
+		return this;
+	}
+}
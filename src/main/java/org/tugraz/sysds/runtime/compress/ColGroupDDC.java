@@ -16,9 +16,12 @@
 
 package org.tugraz.sysds.runtime.compress;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 
+import org.tugraz.sysds.runtime.compress.utils.DblArray;
 import org.tugraz.sysds.runtime.functionobjects.Builtin;
 import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
 import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
@@ -231,6 +234,71 @@ public abstract class ColGroupDDC extends ColGroupValue {
 
 	protected abstract int getCode(int r);
 
+	/**
+	 * Appends the rows of the given block (restricted to the columns of this group) by encoding them with the
+	 * dictionary of this group, extended by new distinct value tuples where necessary.
+	 * 
+	 * @param that block of rows to append, with the number of columns of the compressed block
+	 * @return new DDC column group, or null if the extended dictionary exceeds the DDC code range
+	 */
+	public ColGroupDDC appendRows(MatrixBlock that) {
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		final int rlen2 = that.getNumRows();
+
+		// build lookup of existing value tuples
+		HashMap<DblArray, Integer> dict = new HashMap<>();
+		for(int k = 0; k < numVals; k++)
+			dict.put(new DblArray(Arrays.copyOfRange(_values, k * numCols, (k + 1) * numCols)), k);
+
+		// encode appended rows, incl dictionary extension by new tuples
+		ArrayList<double[]> newTuples = new ArrayList<>();
+		int[] codes = new int[rlen2];
+		double[] tmp = new double[numCols];
+		for(int i = 0; i < rlen2; i++) {
+			for(int j = 0; j < numCols; j++)
+				tmp[j] = that.quickGetValue(i, _colIndexes[j]);
+			Integer code = dict.get(new DblArray(tmp));
+			if(code == null) {
+				code = dict.size();
+				double[] tuple = tmp.clone();
+				dict.put(new DblArray(tuple), code);
+				newTuples.add(tuple);
+			}
+			codes[i] = code;
+		}
+
+		// create output group w/ sufficient code width
+		final int rnumVals = dict.size();
+		final int rlen = _numRows + rlen2;
+		double[] rvalues = Arrays.copyOf(_values, rnumVals * numCols);
+		for(int k = 0; k < newTuples.size(); k++)
+			System.arraycopy(newTuples.get(k), 0, rvalues, (numVals + k) * numCols, numCols);
+		ColGroupDDC ret = null;
+		if(rnumVals <= 255)
+			ret = new ColGroupDDC1(_colIndexes, rlen, rvalues, new byte[rlen]);
+		else if(rnumVals <= Character.MAX_VALUE)
+			ret = new ColGroupDDC2(_colIndexes, rlen, rvalues, new char[rlen]);
+		else
+			return null;
+
+		// copy existing and appended codes
+		copyCodes(ret);
+		for(int i = 0; i < rlen2; i++)
+			ret.setData(_numRows + i, codes[i]);
+		return ret;
+	}
+
+	/**
+	 * Copies the codes of all rows of this group into the given target group of equal or larger number of rows.
+	 * 
+	 * @param ret target DDC column group with zero-initialized codes
+	 */
+	protected void copyCodes(ColGroupDDC ret) {
+		for(int i = 0; i < _numRows; i++)
+			ret.setData(i, getCode(i));
+	}
+
 	@Override
 	public long estimateInMemorySize() {
 		return super.estimateInMemorySize();
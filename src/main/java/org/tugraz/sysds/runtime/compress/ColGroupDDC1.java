@@ -28,7 +28,9 @@ import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
 import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
 import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with dense dictionary encoding (DDC) using 1
@@ -419,4 +421,25 @@ public class ColGroupDDC1 extends ColGroupDDC {
 		// as zero are represented, it is sufficient to simply apply the scalar op
 		return new ColGroupDDC1(_colIndexes, _numRows, applyScalarOp(op), _data);
 	}
+
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupDDC1(_colIndexes, _numRows, applyUnaryOp(op), _data);
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupDDC1(_colIndexes, _numRows, applyBinaryRowOp(op, v), _data);
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// reverse codes, values are shallow-copied
+		byte[] rdata = new byte[_numRows];
+		for(int i = 0; i < _numRows; i++)
+			rdata[i] = _data[_numRows - i - 1];
+		return new ColGroupDDC1(_colIndexes, _numRows, _values, rdata);
+	}
 }
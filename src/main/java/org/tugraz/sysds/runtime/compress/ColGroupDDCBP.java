@@ -0,0 +1,385 @@
+/*
+ * Modifications Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.tugraz.sysds.runtime.compress.utils.ConverterUtils;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
+import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
+import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a column group that is encoded with dense dictionary encoding (DDC) using
+ * bit-packed codes of 1, 2, or 4 bits. This is beneficial for columns with few distinct value tuples such as one-hot
+ * encoded columns or small-range integer codes, where 1 byte codes of DDC1 would be mostly unused.
+ */
+public class ColGroupDDCBP extends ColGroupDDC {
+	private static final long serialVersionUID = 5204913274913046518L;
+
+	public static final int MAX_NUM_VALUES = 16;
+
+	private int _bits; // code width in {1, 2, 4}
+	private long[] _data; // packed codes, 64/_bits per word
+
+	public ColGroupDDCBP() {
+		super();
+	}
+
+	public ColGroupDDCBP(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, ubm);
+
+		int numVals = ubm.getNumValues();
+		int numCols = ubm.getNumColumns();
+
+		// materialize zero values, if necessary
+		int zeroIx = -1;
+		if(ubm.getNumOffsets() < numRows) {
+			zeroIx = containsAllZeroValue();
+			if(zeroIx < 0) {
+				zeroIx = numVals;
+				_values = Arrays.copyOf(_values, _values.length + numCols);
+			}
+		}
+
+		_bits = getNumBits(getNumValues());
+		_data = new long[getNumWords(numRows, _bits)];
+		if(zeroIx > 0)
+			for(int i = 0; i < numRows; i++)
+				setData(i, zeroIx);
+
+		// iterate over values and write dictionary codes
+		for(int i = 0; i < numVals; i++) {
+			int[] tmpList = ubm.getOffsetsList(i).extractValues();
+			int tmpListSize = ubm.getNumOffsets(i);
+			for(int k = 0; k < tmpListSize; k++)
+				setData(tmpList[k], i);
+		}
+	}
+
+	public ColGroupDDCBP(int[] colIndices, int numRows, double[] values, int bits, long[] data) {
+		super(colIndices, numRows, values);
+		_bits = bits;
+		_data = data;
+	}
+
+	/**
+	 * Obtains the code width for the given number of distinct value tuples.
+	 *
+	 * @param numVals number of distinct value tuples
+	 * @return number of bits per code
+	 */
+	public static int getNumBits(int numVals) {
+		if(numVals > MAX_NUM_VALUES)
+			throw new RuntimeException("Too many distinct values for bit-packed DDC: " + numVals);
+		return (numVals <= 2) ? 1 : (numVals <= 4) ? 2 : 4;
+	}
+
+	public static int getNumWords(int numRows, int bits) {
+		return (int) (((long) numRows * bits + 63) / 64);
+	}
+
+	public int getNumBits() {
+		return _bits;
+	}
+
+	public long[] getData() {
+		return _data;
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.DDCBP;
+	}
+
+	@Override
+	protected double getData(int r) {
+		return _values[getCode(r)];
+	}
+
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[getCode(r) * getNumCols() + colIx];
+	}
+
+	@Override
+	protected void setData(int r, int code) {
+		// codes never cross word boundaries because 64 % _bits == 0
+		long pos = (long) r * _bits;
+		int shift = (int) (pos & 63);
+		long mask = ((1L << _bits) - 1) << shift;
+		int wix = (int) (pos >>> 6);
+		_data[wix] = (_data[wix] & ~mask) | (((long) code << shift) & mask);
+	}
+
+	@Override
+	protected int getCode(int r) {
+		long pos = (long) r * _bits;
+		return (int) ((_data[(int) (pos >>> 6)] >>> (pos & 63)) & ((1L << _bits) - 1));
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		int numCols = getNumCols();
+		int numVals = getNumValues();
+		out.writeInt(_numRows);
+		out.writeInt(numCols);
+		out.writeInt(numVals);
+
+		// write col indices
+		for(int i = 0; i < _colIndexes.length; i++)
+			out.writeInt(_colIndexes[i]);
+
+		// write distinct values
+		for(int i = 0; i < _values.length; i++)
+			out.writeDouble(_values[i]);
+
+		// write packed data
+		out.writeByte(_bits);
+		for(int i = 0; i < _data.length; i++)
+			out.writeLong(_data[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		int numCols = in.readInt();
+		int numVals = in.readInt();
+
+		// read col indices
+		_colIndexes = new int[numCols];
+		for(int i = 0; i < numCols; i++)
+			_colIndexes[i] = in.readInt();
+
+		// read distinct values
+		_values = new double[numVals * numCols];
+		for(int i = 0; i < numVals * numCols; i++)
+			_values[i] = in.readDouble();
+
+		// read packed data
+		_bits = in.readByte();
+		_data = new long[getNumWords(_numRows, _bits)];
+		for(int i = 0; i < _data.length; i++)
+			_data[i] = in.readLong();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 13; // header
+		// col indices
+		ret += 4 * _colIndexes.length;
+		// distinct values (groups of values)
+		ret += 8 * _values.length;
+		// data
+		ret += 8 * _data.length;
+
+		return ret;
+	}
+
+	@Override
+	public long estimateInMemorySize() {
+		long size = super.estimateInMemorySize();
+
+		// adding data size
+		if(_data != null)
+			size += 4 + 8 * _data.length;
+
+		return size;
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		int ncol = getNumCols();
+		for(int i = rl; i < ru; i++) {
+			int valOff = getCode(i) * ncol;
+			for(int j = 0; j < ncol; j++)
+				target.appendValue(i, _colIndexes[j], _values[valOff + j]);
+		}
+		// note: append ok because final sort per row
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		int nrow = getNumRows();
+		int ncol = getNumCols();
+		double[] c = target.getDenseBlockValues();
+		int nnz = 0;
+		for(int i = 0; i < nrow; i++)
+			nnz += ((c[i] = _values[getCode(i) * ncol + colpos]) != 0) ? 1 : 0;
+		target.setNonZeros(nnz);
+	}
+
+	@Override
+	public int[] getCounts(int[] counts) {
+		return getCounts(0, getNumRows(), counts);
+	}
+
+	@Override
+	public int[] getCounts(int rl, int ru, int[] counts) {
+		final int numVals = getNumValues();
+		Arrays.fill(counts, 0, numVals, 0);
+		for(int i = rl; i < ru; i++)
+			counts[getCode(i)]++;
+		return counts;
+	}
+
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+
+		// pre-aggregate nnz per value tuple
+		int[] counts = new int[numVals];
+		for(int k = 0, valOff = 0; k < numVals; k++, valOff += ncol)
+			for(int j = 0; j < ncol; j++)
+				counts[k] += (_values[valOff + j] != 0) ? 1 : 0;
+
+		// scan data and add counts to output rows
+		for(int i = rl; i < ru; i++)
+			rnnz[i - rl] += counts[getCode(i)];
+	}
+
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) {
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlockValues();
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+
+		// prepare reduced rhs w/ relevant values
+		double[] sb = new double[numCols];
+		for(int j = 0; j < numCols; j++) {
+			sb[j] = b[_colIndexes[j]];
+		}
+
+		// pre-aggregate all distinct values
+		double[] vals = preaggValues(numVals, sb);
+
+		// iterative over codes and add to output
+		for(int i = rl; i < ru; i++)
+			c[i] += vals[getCode(i)];
+	}
+
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) {
+		double[] a = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlockValues();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+
+		// iterative over codes and pre-aggregate inputs per code
+		// (always beneficial due to the small number of distinct values)
+		double[] vals = allocDVector(numVals, true);
+		for(int i = 0; i < nrow; i++)
+			vals[getCode(i)] += a[i];
+
+		// post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) {
+		double[] c = result.getDenseBlockValues();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+
+		// iterative over codes and pre-aggregate inputs per code
+		double[] vals = allocDVector(numVals, true);
+		for(int i = 0; i < nrow; i++)
+			vals[getCode(i)] += a.getData(i);
+
+		// post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+
+		// iterative over codes and count per code
+		int[] counts = getCounts();
+
+		// post-scaling of pre-aggregate with distinct values
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for(int k = 0, valOff = 0; k < numVals; k++, valOff += ncol) {
+			int cntk = counts[k];
+			for(int j = 0; j < ncol; j++)
+				kplus.execute3(kbuff, _values[valOff + j], cntk);
+		}
+
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+
+	@Override
+	protected void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru) {
+		// note: due to corrections the output might be a large dense block
+		DenseBlock c = result.getDenseBlock();
+		KahanObject kbuff = new KahanObject(0, 0);
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+
+		// pre-aggregate nnz per value tuple
+		double[] vals = sumAllValues(kplus, kbuff, false);
+
+		// scan data and add to result (use kahan plus not general KahanFunction
+		// for correctness in case of sqk+)
+		for(int i = rl; i < ru; i++) {
+			double[] cvals = c.values(i);
+			int cix = c.pos(i);
+			kbuff.set(cvals[cix], cvals[cix + 1]);
+			kplus2.execute2(kbuff, vals[getCode(i)]);
+			cvals[cix] = kbuff._sum;
+			cvals[cix + 1] = kbuff._correction;
+		}
+	}
+
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) {
+		// as zero are represented, it is sufficient to simply apply the scalar op
+		return new ColGroupDDCBP(_colIndexes, _numRows, applyScalarOp(op), _bits, _data);
+	}
+
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupDDCBP(_colIndexes, _numRows, applyUnaryOp(op), _bits, _data);
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupDDCBP(_colIndexes, _numRows, applyBinaryRowOp(op, v), _bits, _data);
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// reverse codes, values are shallow-copied
+		ColGroupDDCBP ret = new ColGroupDDCBP(_colIndexes, _numRows, _values, _bits, new long[_data.length]);
+		for(int i = 0; i < _numRows; i++)
+			ret.setData(i, getCode(_numRows - i - 1));
+		return ret;
+	}
+}
@@ -29,7 +29,9 @@ import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
 import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
 import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with simple lists of offsets for each set of
@@ -269,6 +271,55 @@ public class ColGroupOLE extends ColGroupOffset {
 		return new ColGroupOLE(_colIndexes, _numRows, loff.length < _numRows, rvalues, rbitmaps, rbitmapOffs);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		return applyValueOp(applyUnaryOp(op), computeZeroTuple(op));
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		return applyValueOp(applyBinaryRowOp(op, v), computeZeroTuple(op, v));
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// re-encode bitmaps of reversed row offsets, values are shallow-copied
+		final int numVals = getNumValues();
+		char[][] lbitmaps = new char[numVals][];
+		int totalLen = 0;
+		for(int k = 0; k < numVals; k++) {
+			int[] loff = computeReversedOffsets(k);
+			lbitmaps[k] = BitmapEncoder.genOffsetBitmap(loff, loff.length);
+			totalLen += lbitmaps[k].length;
+		}
+		ColGroupOLE ret = new ColGroupOLE(_colIndexes, _numRows, _zeros, _values, null, null);
+		ret.createCompressedBitmaps(numVals, totalLen, lbitmaps);
+		return ret;
+	}
+
+	private ColGroup applyValueOp(double[] rvalues, double[] zeroTuple) {
+		// fast path: zero rows remain zero, bitmaps are shallow-copied
+		if(zeroTuple == null) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, rvalues, _data, _ptr);
+		}
+
+		// slow path: zero rows change (potentially create new bitmap)
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if(loff.length == 0) { // empty offset list: go back to fast path
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, rvalues, _data, _ptr);
+		}
+
+		char[] lbitmap = BitmapEncoder.genOffsetBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length + lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length + 1);
+		rbitmapOffs[rbitmapOffs.length - 1] = rbitmaps.length;
+
+		return new ColGroupOLE(_colIndexes, _numRows, loff.length < _numRows,
+			appendTuple(rvalues, zeroTuple), rbitmaps, rbitmapOffs);
+	}
+
 	@Override
 	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) {
 		double[] b = ConverterUtils.getDenseVector(vector);
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 
+import org.tugraz.sysds.runtime.compress.utils.IntArrayList;
 import org.tugraz.sysds.runtime.compress.utils.LinearAlgebraUtils;
 import org.tugraz.sysds.runtime.functionobjects.Builtin;
 import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
@@ -249,6 +250,21 @@ public abstract class ColGroupOffset extends ColGroupValue {
 	 * @param ind row indicator vector of non zeros
 	 * @return offsets
 	 */
+	protected int[] computeReversedOffsets(int k) {
+		// collect row offsets of value tuple k
+		IntArrayList offsets = new IntArrayList();
+		Iterator<Integer> iter = getIterator(k);
+		while(iter.hasNext())
+			offsets.appendValue(iter.next());
+		// map to reversed row positions, in ascending order
+		final int len = offsets.size();
+		int[] tmp = offsets.extractValues();
+		int[] ret = new int[len];
+		for(int i = 0; i < len; i++)
+			ret[len - i - 1] = _numRows - tmp[i] - 1;
+		return ret;
+	}
+
 	protected int[] computeOffsets(boolean[] ind) {
 		// determine number of offsets
 		int numOffsets = 0;
@@ -30,7 +30,9 @@ import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
 import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.Pair;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 /** A group of columns compressed with a single run-length encoded bitmap. */
 public class ColGroupRLE extends ColGroupOffset {
@@ -468,6 +470,55 @@ public class ColGroupRLE extends ColGroupOffset {
 		return new ColGroupRLE(_colIndexes, _numRows, loff.length < _numRows, rvalues, rbitmaps, rbitmapOffs);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		return applyValueOp(applyUnaryOp(op), computeZeroTuple(op));
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		return applyValueOp(applyBinaryRowOp(op, v), computeZeroTuple(op, v));
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// re-encode bitmaps of reversed row offsets, values are shallow-copied
+		final int numVals = getNumValues();
+		char[][] lbitmaps = new char[numVals][];
+		int totalLen = 0;
+		for(int k = 0; k < numVals; k++) {
+			int[] loff = computeReversedOffsets(k);
+			lbitmaps[k] = BitmapEncoder.genRLEBitmap(loff, loff.length);
+			totalLen += lbitmaps[k].length;
+		}
+		ColGroupRLE ret = new ColGroupRLE(_colIndexes, _numRows, _zeros, _values, null, null);
+		ret.createCompressedBitmaps(numVals, totalLen, lbitmaps);
+		return ret;
+	}
+
+	private ColGroup applyValueOp(double[] rvalues, double[] zeroTuple) {
+		// fast path: zero rows remain zero, bitmaps are shallow-copied
+		if(zeroTuple == null) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, rvalues, _data, _ptr);
+		}
+
+		// slow path: zero rows change (potentially create new bitmap)
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if(loff.length == 0) { // empty offset list: go back to fast path
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, rvalues, _data, _ptr);
+		}
+
+		char[] lbitmap = BitmapEncoder.genRLEBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length + lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length + 1);
+		rbitmapOffs[rbitmapOffs.length - 1] = rbitmaps.length;
+
+		return new ColGroupRLE(_colIndexes, _numRows, loff.length < _numRows,
+			appendTuple(rvalues, zeroTuple), rbitmaps, rbitmapOffs);
+	}
+
 	@Override
 	protected final void computeSum(MatrixBlock result, KahanFunction kplus) {
 		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
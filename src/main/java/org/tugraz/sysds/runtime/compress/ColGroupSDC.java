@@ -0,0 +1,487 @@
+/*
+ * Modifications Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.runtime.compress;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.tugraz.sysds.runtime.compress.utils.ConverterUtils;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.functionobjects.KahanFunction;
+import org.tugraz.sysds.runtime.functionobjects.KahanPlus;
+import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Class to encapsulate information about a column group that is encoded with sparse dictionary encoding (SDC). All
+ * rows take the default value tuple at dictionary position 0, except for a sorted list of exception rows with
+ * individual 2 byte codes. This is beneficial for near-constant columns, where the most frequent value tuple is not
+ * necessarily zero.
+ */
+public class ColGroupSDC extends ColGroupDDC {
+	private static final long serialVersionUID = -7210598631424307549L;
+
+	private int[] _offsets; // sorted exception rows
+	private char[] _codes; // codes of exception rows (>0)
+
+	public ColGroupSDC() {
+		super();
+	}
+
+	public ColGroupSDC(int[] colIndices, int numRows, UncompressedBitmap ubm) {
+		super(colIndices, numRows, ubm);
+
+		final int numVals = getNumValues();
+		final int numCols = getNumCols();
+
+		// determine the default tuple (most frequent, incl zero rows)
+		int numZeros = (int) (numRows - ubm.getNumOffsets());
+		int defaultIx = -1;
+		int maxCount = numZeros;
+		for(int i = 0; i < numVals; i++)
+			if(ubm.getNumOffsets(i) > maxCount)
+				maxCount = ubm.getNumOffsets(defaultIx = i);
+
+		// reorder dictionary with default tuple at position 0 and
+		// materialized zero tuple at the end, if necessary
+		int[] map = new int[numVals];
+		double[] values = new double[(numVals + 1) * numCols];
+		int pos = 1;
+		if(defaultIx >= 0)
+			System.arraycopy(_values, defaultIx * numCols, values, 0, numCols);
+		for(int i = 0; i < numVals; i++)
+			if(i != defaultIx) {
+				System.arraycopy(_values, i * numCols, values, pos * numCols, numCols);
+				map[i] = pos++;
+			}
+		int zeroCode = (defaultIx < 0) ? 0 : (numZeros > 0) ? pos++ : -1;
+		_values = Arrays.copyOf(values, pos * numCols);
+
+		// write codes of all rows and extract exceptions
+		char[] data = new char[numRows];
+		if(zeroCode > 0)
+			Arrays.fill(data, (char) zeroCode);
+		for(int i = 0; i < numVals; i++) {
+			int[] tmpList = ubm.getOffsetsList(i).extractValues();
+			int tmpListSize = ubm.getNumOffsets(i);
+			for(int k = 0; k < tmpListSize; k++)
+				data[tmpList[k]] = (char) map[i];
+		}
+		int numExceptions = numRows - maxCount;
+		_offsets = new int[numExceptions];
+		_codes = new char[numExceptions];
+		for(int i = 0, k = 0; i < numRows; i++)
+			if(data[i] != 0) {
+				_offsets[k] = i;
+				_codes[k++] = data[i];
+			}
+	}
+
+	public ColGroupSDC(int[] colIndices, int numRows, double[] values, int[] offsets, char[] codes) {
+		super(colIndices, numRows, values);
+		_offsets = offsets;
+		_codes = codes;
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.SDC;
+	}
+
+	public int getNumExceptions() {
+		return _offsets.length;
+	}
+
+	public int[] getOffsets() {
+		return _offsets;
+	}
+
+	public char[] getCodes() {
+		return _codes;
+	}
+
+	@Override
+	protected double getData(int r) {
+		return _values[getCode(r) * getNumCols()];
+	}
+
+	@Override
+	protected double getData(int r, int colIx) {
+		return _values[getCode(r) * getNumCols() + colIx];
+	}
+
+	@Override
+	protected void setData(int r, int code) {
+		throw new RuntimeException("Unsupported set of codes for SDC column group.");
+	}
+
+	@Override
+	protected int getCode(int r) {
+		int ix = Arrays.binarySearch(_offsets, r);
+		return (ix >= 0) ? _codes[ix] : 0;
+	}
+
+	@Override
+	protected void copyCodes(ColGroupDDC ret) {
+		// default code 0 is already set in the target, copy exceptions only
+		for(int k = 0; k < _offsets.length; k++)
+			ret.setData(_offsets[k], _codes[k]);
+	}
+
+	/**
+	 * Obtains the position of the first exception row greater or equal than the given row index.
+	 *
+	 * @param rl row index
+	 * @return position in the list of exception rows
+	 */
+	private int getExceptionPos(int rl) {
+		int ix = Arrays.binarySearch(_offsets, rl);
+		return (ix >= 0) ? ix : -ix - 1;
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		int numCols = getNumCols();
+		int numVals = getNumValues();
+		out.writeInt(_numRows);
+		out.writeInt(numCols);
+		out.writeInt(numVals);
+
+		// write col indices
+		for(int i = 0; i < _colIndexes.length; i++)
+			out.writeInt(_colIndexes[i]);
+
+		// write distinct values
+		for(int i = 0; i < _values.length; i++)
+			out.writeDouble(_values[i]);
+
+		// write exceptions
+		out.writeInt(_offsets.length);
+		for(int i = 0; i < _offsets.length; i++)
+			out.writeInt(_offsets[i]);
+		for(int i = 0; i < _codes.length; i++)
+			out.writeChar(_codes[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		_numRows = in.readInt();
+		int numCols = in.readInt();
+		int numVals = in.readInt();
+
+		// read col indices
+		_colIndexes = new int[numCols];
+		for(int i = 0; i < numCols; i++)
+			_colIndexes[i] = in.readInt();
+
+		// read distinct values
+		_values = new double[numVals * numCols];
+		for(int i = 0; i < numVals * numCols; i++)
+			_values[i] = in.readDouble();
+
+		// read exceptions
+		int numExceptions = in.readInt();
+		_offsets = new int[numExceptions];
+		_codes = new char[numExceptions];
+		for(int i = 0; i < numExceptions; i++)
+			_offsets[i] = in.readInt();
+		for(int i = 0; i < numExceptions; i++)
+			_codes[i] = in.readChar();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = 16; // header
+		// col indices
+		ret += 4 * _colIndexes.length;
+		// distinct values (groups of values)
+		ret += 8 * _values.length;
+		// exceptions
+		ret += 6 * _offsets.length;
+		return ret;
+	}
+
+	@Override
+	public long estimateInMemorySize() {
+		long size = super.estimateInMemorySize();
+
+		// adding exception offsets and codes
+		if(_offsets != null)
+			size += 4 * _offsets.length + 2 * _codes.length;
+
+		return size;
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int rl, int ru) {
+		int ncol = getNumCols();
+		for(int i = rl, p = getExceptionPos(rl); i < ru; i++) {
+			int valOff = (p < _offsets.length && _offsets[p] == i) ? _codes[p++] * ncol : 0;
+			for(int j = 0; j < ncol; j++)
+				target.appendValue(i, _colIndexes[j], _values[valOff + j]);
+		}
+		// note: append ok because final sort per row
+	}
+
+	@Override
+	public void decompressToBlock(MatrixBlock target, int colpos) {
+		int nrow = getNumRows();
+		int ncol = getNumCols();
+		double[] c = target.getDenseBlockValues();
+
+		// fill default value and overwrite exceptions
+		double defaultVal = _values[colpos];
+		Arrays.fill(c, 0, nrow, defaultVal);
+		int nnz = (defaultVal != 0) ? nrow : 0;
+		for(int k = 0; k < _offsets.length; k++) {
+			double val = _values[_codes[k] * ncol + colpos];
+			nnz += ((val != 0) ? 1 : 0) - ((defaultVal != 0) ? 1 : 0);
+			c[_offsets[k]] = val;
+		}
+		target.setNonZeros(nnz);
+	}
+
+	@Override
+	public int[] getCounts(int[] counts) {
+		return getCounts(0, getNumRows(), counts);
+	}
+
+	@Override
+	public int[] getCounts(int rl, int ru, int[] counts) {
+		final int numVals = getNumValues();
+		Arrays.fill(counts, 0, numVals, 0);
+		int p = getExceptionPos(rl);
+		int pu = getExceptionPos(ru);
+		for(int k = p; k < pu; k++)
+			counts[_codes[k]]++;
+		counts[0] = (ru - rl) - (pu - p);
+		return counts;
+	}
+
+	@Override
+	protected void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+
+		// pre-aggregate nnz per value tuple
+		int[] counts = new int[numVals];
+		for(int k = 0, valOff = 0; k < numVals; k++, valOff += ncol)
+			for(int j = 0; j < ncol; j++)
+				counts[k] += (_values[valOff + j] != 0) ? 1 : 0;
+
+		// add default counts to all rows and correct exceptions
+		if(counts[0] != 0)
+			for(int i = rl; i < ru; i++)
+				rnnz[i - rl] += counts[0];
+		for(int k = getExceptionPos(rl); k < _offsets.length && _offsets[k] < ru; k++)
+			rnnz[_offsets[k] - rl] += counts[_codes[k]] - counts[0];
+	}
+
+	@Override
+	public void rightMultByVector(MatrixBlock vector, MatrixBlock result, int rl, int ru) {
+		double[] b = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlockValues();
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+
+		// prepare reduced rhs w/ relevant values
+		double[] sb = new double[numCols];
+		for(int j = 0; j < numCols; j++) {
+			sb[j] = b[_colIndexes[j]];
+		}
+
+		// pre-aggregate all distinct values
+		double[] vals = preaggValues(numVals, sb);
+
+		// add default value to all rows, and correct exceptions
+		final double val0 = vals[0];
+		if(val0 != 0)
+			for(int i = rl; i < ru; i++)
+				c[i] += val0;
+		for(int k = getExceptionPos(rl); k < _offsets.length && _offsets[k] < ru; k++)
+			c[_offsets[k]] += vals[_codes[k]] - val0;
+	}
+
+	@Override
+	public void leftMultByRowVector(MatrixBlock vector, MatrixBlock result) {
+		double[] a = ConverterUtils.getDenseVector(vector);
+		double[] c = result.getDenseBlockValues();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+
+		// pre-aggregate inputs per code, where the default code
+		// receives the total sum minus all exceptions
+		double[] vals = allocDVector(numVals, true);
+		double sum = 0;
+		for(int i = 0; i < nrow; i++)
+			sum += a[i];
+		for(int k = 0; k < _offsets.length; k++) {
+			double aval = a[_offsets[k]];
+			vals[_codes[k]] += aval;
+			sum -= aval;
+		}
+		vals[0] = sum;
+
+		// post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+
+	@Override
+	public void leftMultByRowVector(ColGroupDDC a, MatrixBlock result) {
+		double[] c = result.getDenseBlockValues();
+		final int nrow = getNumRows();
+		final int numVals = getNumValues();
+
+		// pre-aggregate inputs per code, where the default code
+		// receives the total sum minus all exceptions
+		double[] vals = allocDVector(numVals, true);
+		double sum = 0;
+		for(int i = 0; i < nrow; i++)
+			sum += a.getData(i);
+		for(int k = 0; k < _offsets.length; k++) {
+			double aval = a.getData(_offsets[k]);
+			vals[_codes[k]] += aval;
+			sum -= aval;
+		}
+		vals[0] = sum;
+
+		// post-scaling of pre-aggregate with distinct values
+		postScaling(vals, c);
+	}
+
+	@Override
+	protected void computeSum(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+
+		// iterative over codes and count per code
+		int[] counts = getCounts();
+
+		// post-scaling of pre-aggregate with distinct values
+		KahanObject kbuff = new KahanObject(result.quickGetValue(0, 0), result.quickGetValue(0, 1));
+		for(int k = 0, valOff = 0; k < numVals; k++, valOff += ncol) {
+			int cntk = counts[k];
+			for(int j = 0; j < ncol; j++)
+				kplus.execute3(kbuff, _values[valOff + j], cntk);
+		}
+
+		result.quickSetValue(0, 0, kbuff._sum);
+		result.quickSetValue(0, 1, kbuff._correction);
+	}
+
+	@Override
+	protected void computeColSums(MatrixBlock result, KahanFunction kplus) {
+		final int ncol = getNumCols();
+		final int numVals = getNumValues();
+
+		// iterative over codes and count per code
+		int[] counts = getCounts();
+
+		// post-scaling of pre-aggregate with distinct values
+		for(int j = 0; j < ncol; j++) {
+			KahanObject kbuff = new KahanObject(result.quickGetValue(0, _colIndexes[j]),
+				result.quickGetValue(1, _colIndexes[j]));
+			for(int k = 0; k < numVals; k++)
+				kplus.execute3(kbuff, _values[k * ncol + j], counts[k]);
+			result.quickSetValue(0, _colIndexes[j], kbuff._sum);
+			result.quickSetValue(1, _colIndexes[j], kbuff._correction);
+		}
+	}
+
+	@Override
+	protected void computeRowSums(MatrixBlock result, KahanFunction kplus, int rl, int ru) {
+		// note: due to corrections the output might be a large dense block
+		DenseBlock c = result.getDenseBlock();
+		KahanObject kbuff = new KahanObject(0, 0);
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+
+		// pre-aggregate nnz per value tuple
+		double[] vals = sumAllValues(kplus, kbuff, false);
+
+		// scan rows w/ exception cursor and add to result (use kahan plus not
+		// general KahanFunction for correctness in case of sqk+)
+		for(int i = rl, p = getExceptionPos(rl); i < ru; i++) {
+			int code = (p < _offsets.length && _offsets[p] == i) ? _codes[p++] : 0;
+			double[] cvals = c.values(i);
+			int cix = c.pos(i);
+			kbuff.set(cvals[cix], cvals[cix + 1]);
+			kplus2.execute2(kbuff, vals[code]);
+			cvals[cix] = kbuff._sum;
+			cvals[cix + 1] = kbuff._correction;
+		}
+	}
+
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) {
+		// as zero are represented, it is sufficient to simply apply the scalar op
+		return new ColGroupSDC(_colIndexes, _numRows, applyScalarOp(op), _offsets, _codes);
+	}
+
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupSDC(_colIndexes, _numRows, applyUnaryOp(op), _offsets, _codes);
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		// as zero are represented, it is sufficient to apply the op to the dictionary
+		return new ColGroupSDC(_colIndexes, _numRows, applyBinaryRowOp(op, v), _offsets, _codes);
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// reverse exception offsets and codes, values are shallow-copied
+		final int len = _offsets.length;
+		int[] roffsets = new int[len];
+		char[] rcodes = new char[len];
+		for(int k = 0; k < len; k++) {
+			roffsets[k] = _numRows - _offsets[len - k - 1] - 1;
+			rcodes[k] = _codes[len - k - 1];
+		}
+		return new ColGroupSDC(_colIndexes, _numRows, _values, roffsets, rcodes);
+	}
+
+	@Override
+	public ColGroupRowIterator getRowIterator(int rl, int ru) {
+		return new SDCRowIterator(rl, ru);
+	}
+
+	private class SDCRowIterator extends ColGroupRowIterator {
+		private int _p; // exception cursor
+
+		public SDCRowIterator(int rl, int ru) {
+			_p = getExceptionPos(rl);
+		}
+
+		@Override
+		public void next(double[] buff, int rowIx, int segIx, boolean last) {
+			// advance exception cursor (rows are accessed in increasing order)
+			while(_p < _offsets.length && _offsets[_p] < rowIx)
+				_p++;
+			final int clen = getNumCols();
+			final int off = (_p < _offsets.length && _offsets[_p] == rowIx) ? _codes[_p] * clen : 0;
+			for(int j = 0; j < clen; j++)
+				buff[_colIndexes[j]] = _values[off + j];
+		}
+	}
+}
@@ -26,12 +26,16 @@ import java.util.List;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlock.Type;
 import org.tugraz.sysds.runtime.functionobjects.ReduceRow;
+import org.tugraz.sysds.runtime.functionobjects.RevIndex;
 import org.tugraz.sysds.runtime.matrix.data.IJV;
 import org.tugraz.sysds.runtime.matrix.data.LibMatrixAgg;
 import org.tugraz.sysds.runtime.matrix.data.LibMatrixMult;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ReorgOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 import org.tugraz.sysds.runtime.util.SortUtils;
 
 /**
@@ -305,6 +309,52 @@ public class ColGroupUncompressed extends ColGroup {
 		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		// execute unary operations
+		MatrixBlock retContent = _data.unaryOperations(op, new MatrixBlock());
+		// construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+
+	@Override
+	public ColGroup binaryRowOperation(BinaryOperator op, double[] v) {
+		// slice row vector to the columns of this group
+		MatrixBlock vect = new MatrixBlock(1, _colIndexes.length, false);
+		for(int j = 0; j < _colIndexes.length; j++)
+			vect.quickSetValue(0, j, v[_colIndexes[j]]);
+		// execute binary operations
+		MatrixBlock retContent = _data.binaryOperations(op, vect, new MatrixBlock());
+		// construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+
+	@Override
+	public ColGroup reverseRows() {
+		// execute rev reorg operation
+		MatrixBlock retContent = _data.reorgOperations(
+			new ReorgOperator(RevIndex.getRevIndexFnObject()), new MatrixBlock(), 0, 0, 0);
+		// construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+
+	/**
+	 * Appends the rows of the given block (restricted to the columns of this group).
+	 * 
+	 * @param that block of rows to append, with the number of columns of the compressed block
+	 * @return new uncompressed column group
+	 */
+	public ColGroupUncompressed appendRows(MatrixBlock that) {
+		// slice appended rows to the columns of this group
+		MatrixBlock tmp = new MatrixBlock(that.getNumRows(), _colIndexes.length, false);
+		for(int i = 0; i < that.getNumRows(); i++)
+			for(int j = 0; j < _colIndexes.length; j++)
+				tmp.quickSetValue(i, j, that.quickGetValue(i, _colIndexes[j]));
+		// execute rbind and construct new uncompressed column group
+		MatrixBlock retContent = _data.append(tmp, new MatrixBlock(), false);
+		return new ColGroupUncompressed(getColIndices(), retContent.getNumRows(), retContent);
+	}
+
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock ret) {
 		// execute unary aggregate operations
@@ -26,7 +26,9 @@ import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.Pair;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Base class for column groups encoded with value dictionary.
@@ -335,6 +337,66 @@ public abstract class ColGroupValue extends ColGroup {
 		return ret;
 	}
 
+	protected double[] applyUnaryOp(UnaryOperator op) {
+		// scan over linearized values
+		double[] ret = new double[_values.length];
+		for(int i = 0; i < _values.length; i++) {
+			ret[i] = op.fn.execute(_values[i]);
+		}
+		return ret;
+	}
+
+	protected double[] applyBinaryRowOp(BinaryOperator op, double[] v) {
+		// scan over linearized values, w/ column-aligned rhs values
+		final int numCols = getNumCols();
+		double[] ret = new double[_values.length];
+		for(int i = 0; i < _values.length; i++) {
+			ret[i] = op.fn.execute(_values[i], v[_colIndexes[i % numCols]]);
+		}
+		return ret;
+	}
+
+	/**
+	 * Computes the value tuple that zero rows (i.e., rows not covered by any value tuple) map to under the given unary
+	 * operation.
+	 * 
+	 * @param op unary operation
+	 * @return the new tuple, or null if zero rows remain zero
+	 */
+	protected double[] computeZeroTuple(UnaryOperator op) {
+		double val0 = op.fn.execute(0);
+		if(val0 == 0)
+			return null;
+		double[] ret = new double[getNumCols()];
+		Arrays.fill(ret, val0);
+		return ret;
+	}
+
+	/**
+	 * Computes the value tuple that zero rows (i.e., rows not covered by any value tuple) map to under the given binary
+	 * row vector operation.
+	 * 
+	 * @param op binary operation
+	 * @param v  dense row vector of the full matrix width
+	 * @return the new tuple, or null if zero rows remain zero
+	 */
+	protected double[] computeZeroTuple(BinaryOperator op, double[] v) {
+		final int numCols = getNumCols();
+		double[] ret = new double[numCols];
+		boolean zero = true;
+		for(int j = 0; j < numCols; j++) {
+			ret[j] = op.fn.execute(0, v[_colIndexes[j]]);
+			zero &= (ret[j] == 0);
+		}
+		return zero ? null : ret;
+	}
+
+	protected static double[] appendTuple(double[] values, double[] tuple) {
+		double[] ret = Arrays.copyOf(values, values.length + tuple.length);
+		System.arraycopy(tuple, 0, ret, values.length, tuple.length);
+		return ret;
+	}
+
 	@Override
 	public void unaryAggregateOperations(AggregateUnaryOperator op, MatrixBlock result) {
 		unaryAggregateOperations(op, result, 0, getNumRows());
@@ -37,12 +37,15 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.commons.math3.random.Well1024a;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
 import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.lops.MMTSJ.MMTSJType;
 import org.tugraz.sysds.lops.MapMultChain.ChainType;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.compress.ColGroup.CompressionType;
 import org.tugraz.sysds.runtime.compress.cocode.PlanningCoCoder;
+import org.tugraz.sysds.runtime.compress.cocode.PlanningCoCodingGroup;
 import org.tugraz.sysds.runtime.compress.estim.CompressedSizeEstimator;
 import org.tugraz.sysds.runtime.compress.estim.CompressedSizeInfo;
 import org.tugraz.sysds.runtime.compress.estim.CompressedSizeEstimatorFactory;
@@ -62,13 +65,16 @@ import org.tugraz.sysds.runtime.functionobjects.KahanPlusSq;
 import org.tugraz.sysds.runtime.functionobjects.Multiply;
 import org.tugraz.sysds.runtime.functionobjects.ReduceAll;
 import org.tugraz.sysds.runtime.functionobjects.ReduceCol;
+import org.tugraz.sysds.runtime.functionobjects.RevIndex;
 import org.tugraz.sysds.runtime.instructions.cp.CM_COV_Object;
 import org.tugraz.sysds.runtime.instructions.cp.KahanObject;
 import org.tugraz.sysds.runtime.instructions.cp.ScalarObject;
 import org.tugraz.sysds.runtime.instructions.spark.data.IndexedMatrixValue;
 import org.tugraz.sysds.runtime.matrix.data.CTableMap;
 import org.tugraz.sysds.runtime.matrix.data.IJV;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixAgg;
 import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixBincell.BinaryAccessType;
 import org.tugraz.sysds.runtime.matrix.data.LibMatrixReorg;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
@@ -94,6 +100,7 @@ import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.IndexRange;
 import org.tugraz.sysds.runtime.util.SortUtils;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 public class CompressedMatrixBlock extends MatrixBlock {
 
@@ -122,6 +129,9 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	public static final long MIN_PAR_AGG_THRESHOLD = 16 * 1024 * 1024; // 16MB
 	public static final boolean INVESTIGATE_ESTIMATES = false;
 	public static boolean ALLOW_DDC_ENCODING = true;
+	public static boolean ALLOW_CONST_ENCODING = true;
+	public static boolean ALLOW_SDC_ENCODING = true;
+	public static boolean ALLOW_DDCBP_ENCODING = true;
 	public static final boolean ALLOW_SHARED_DDC1_DICTIONARY = true;
 	protected ArrayList<ColGroup> _colGroups = null;
 	protected CompressionStatistics _stats = null;
@@ -129,6 +139,9 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	protected long seed = -1; // I the seed is -1 then the system used system millisecond time and class hash for
 								// seeding.
 	protected double sampling_ratio = 0.05;
+	protected long planning_timeout = -1; // planning time budget in ms, -1 for the configured default
+	protected double planning_min_ratio = -1; // min estimated compression ratio, -1 for the configured default
+	protected long planning_deadline = -1; // absolute planning deadline in ms, -1 for now plus the time budget
 
 	/**
 	 * Constructor for building an empty Compressed Matrix block object.
@@ -187,6 +200,25 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		this.sampling_ratio = sampling_ratio;
 	}
 
+	public void setPlanningTimeout(long planning_timeout) {
+		this.planning_timeout = planning_timeout;
+	}
+
+	public void setPlanningMinRatio(double planning_min_ratio) {
+		this.planning_min_ratio = planning_min_ratio;
+	}
+
+	/**
+	 * Sets an absolute planning deadline (in ms since the epoch), which
+	 * overrides the planning time budget. This allows tests to trigger
+	 * the planning abort independent of the wall-clock time.
+	 * 
+	 * @param planning_deadline absolute deadline, -1 for the time budget
+	 */
+	public void setPlanningDeadline(long planning_deadline) {
+		this.planning_deadline = planning_deadline;
+	}
+
 	/**
 	 * 
 	 * @return true if block is compressed.
@@ -235,6 +267,18 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		Timing time = new Timing(true);
 		_stats = new CompressionStatistics();
 
+		// PLANNING BUDGET:
+		// Classification and co-coding are aborted (returning the uncompressed
+		// block) if they exceed the time budget, or if the sample-based estimates
+		// show that the block does not compress to the minimum ratio.
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		final long timeout = (planning_timeout >= 0) ? planning_timeout : conf
+			.getIntValue(DMLConfig.COMPRESSED_PLANNING_TIMEOUT);
+		final double minRatio = (planning_min_ratio >= 0) ? planning_min_ratio : conf
+			.getDoubleValue(DMLConfig.COMPRESSED_PLANNING_MINRATIO);
+		final long deadline = (planning_deadline >= 0) ? planning_deadline :
+			(timeout > 0) ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+
 		// SAMPLE-BASED DECISIONS:
 		// Decisions such as testing if a column is amenable to bitmap
 		// compression or evaluating co-coding potentials are made based on a
@@ -263,7 +307,12 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		// where a column is compressible if ratio > 1.
 		CompressedSizeInfo[] sizeInfos = (k > 1) ? computeCompressedSizeInfos(bitmapSizeEstimator,
 			numCols,
-			k) : computeCompressedSizeInfos(bitmapSizeEstimator, numCols);
+			deadline,
+			k) : computeCompressedSizeInfos(bitmapSizeEstimator, numCols, deadline);
+		if(sizeInfos == null) {
+			LOG.warn("Abort block compression because the planning time budget is exceeded.");
+			return new MatrixBlock().copyShallow(this);
+		}
 		long nnzUC = 0;
 		for(int col = 0; col < numCols; col++) {
 			double uncompSize = getUncompressedSize(numRows,
@@ -317,10 +366,39 @@ public class CompressedMatrixBlock extends MatrixBlock {
 			return new MatrixBlock().copyShallow(this);
 		}
 
+		// early abort if the uncompressed columns alone exceed the size budget
+		final double origSize = MatrixBlock.estimateSizeInMemory(numRows,
+			numCols,
+			(nonZeros >= 0) ? getSparsity() : 1.0);
+		final double ucSize = colsUC.isEmpty() ? 0 : MatrixBlock.estimateSizeInMemory(numRows,
+			colsUC.size(),
+			OptimizerUtils.getSparsity(numRows, colsUC.size(), nnzUC));
+		if(origSize / ucSize < minRatio) {
+			LOG.warn("Abort block compression because the incompressible columns exceed the size budget.");
+			return new MatrixBlock().copyShallow(this);
+		}
+
 		// PHASE 2: Grouping columns
 		// Divide the bitmap columns into column groups.
-		List<int[]> bitmapColGrps = PlanningCoCoder
-			.findCocodesByPartitioning(bitmapSizeEstimator, colsC, sizeInfos, numRows, k);
+		List<PlanningCoCodingGroup> coCodeGroups = PlanningCoCoder
+			.findCocodesByPartitioning(bitmapSizeEstimator, colsC, sizeInfos, numRows, k, deadline);
+		if(coCodeGroups == null) {
+			LOG.warn("Abort block compression because the planning time budget is exceeded.");
+			return new MatrixBlock().copyShallow(this);
+		}
+
+		// early abort if the estimated compression ratio is below the size budget
+		List<int[]> bitmapColGrps = new ArrayList<>();
+		double estSize = ucSize;
+		for(PlanningCoCodingGroup grp : coCodeGroups) {
+			bitmapColGrps.add(grp.getColIndices());
+			estSize += grp.getEstSize();
+		}
+		_stats.estSize = estSize;
+		if(origSize / estSize < minRatio) {
+			LOG.warn("Abort block compression because the estimated compression ratio is less than " + minRatio + ".");
+			return new MatrixBlock().copyShallow(this);
+		}
 
 		if(LOG.isDebugEnabled()) {
 			_stats.timePhase2 = time.stop();
@@ -398,10 +476,13 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		if(LOG.isDebugEnabled()) {
 			LOG.debug("--compression phase 5: " + _stats.timePhase5);
 
-			LOG.debug("--col groups types (OLE,RLE,DDC1,DDC2,UC): " + counts[2] + "," + counts[1] + "," + counts[3]
-				+ "," + counts[4] + "," + counts[0]);
-			LOG.debug("--col groups sizes (OLE,RLE,DDC1,DDC2,UC): " + counts[7] + "," + counts[6] + "," + counts[8]
-				+ "," + counts[9] + "," + counts[5]);
+			final int n = CompressionType.values().length;
+			LOG.debug("--col groups types (OLE,RLE,DDC1,DDC2,CONST,SDC,DDCBP,UC): " + counts[2] + "," + counts[1]
+				+ "," + counts[3] + "," + counts[4] + "," + counts[5] + "," + counts[6] + "," + counts[7] + ","
+				+ counts[0]);
+			LOG.debug("--col groups sizes (OLE,RLE,DDC1,DDC2,CONST,SDC,DDCBP,UC): " + counts[n + 2] + ","
+				+ counts[n + 1] + "," + counts[n + 3] + "," + counts[n + 4] + "," + counts[n + 5] + "," + counts[n + 6]
+				+ "," + counts[n + 7] + "," + counts[n]);
 			LOG.debug("--compressed size: " + _stats.size);
 			LOG.debug("--compression ratio: " + _stats.ratio);
 		}
@@ -420,33 +501,40 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	 * @return counts
 	 */
 	private static int[] getColGroupCounts(ArrayList<ColGroup> colgroups) {
-		int[] ret = new int[10]; // 5 x count, 5 x num_columns
+		final int n = CompressionType.values().length;
+		int[] ret = new int[2 * n]; // n x count, n x num_columns
 		for(ColGroup c : colgroups) {
 			ret[c.getCompType().ordinal()]++;
-			ret[5 + c.getCompType().ordinal()] += c.getNumCols();
+			ret[n + c.getCompType().ordinal()] += c.getNumCols();
 		}
 		return ret;
 	}
 
-	private static CompressedSizeInfo[] computeCompressedSizeInfos(CompressedSizeEstimator estim, int clen) {
+	private static CompressedSizeInfo[] computeCompressedSizeInfos(CompressedSizeEstimator estim, int clen,
+		long deadline) {
 		CompressedSizeInfo[] ret = new CompressedSizeInfo[clen];
-		for(int col = 0; col < clen; col++)
+		for(int col = 0; col < clen; col++) {
+			if(System.currentTimeMillis() > deadline)
+				return null;
 			ret[col] = estim.estimateCompressedColGroupSize(new int[] {col});
+		}
 		return ret;
 	}
 
-	private static CompressedSizeInfo[] computeCompressedSizeInfos(CompressedSizeEstimator estim, int clen, int k) {
+	private static CompressedSizeInfo[] computeCompressedSizeInfos(CompressedSizeEstimator estim, int clen,
+		long deadline, int k) {
 		try {
 			ExecutorService pool = CommonThreadPool.get(k);
 			ArrayList<SizeEstimTask> tasks = new ArrayList<>();
 			for(int col = 0; col < clen; col++)
-				tasks.add(new SizeEstimTask(estim, col));
+				tasks.add(new SizeEstimTask(estim, col, deadline));
 			List<Future<CompressedSizeInfo>> rtask = pool.invokeAll(tasks);
-			ArrayList<CompressedSizeInfo> ret = new ArrayList<>();
-			for(Future<CompressedSizeInfo> lrtask : rtask)
-				ret.add(lrtask.get());
 			pool.shutdown();
-			return ret.toArray(new CompressedSizeInfo[0]);
+			CompressedSizeInfo[] ret = new CompressedSizeInfo[clen];
+			for(int col = 0; col < clen; col++)
+				if((ret[col] = rtask.get(col).get()) == null)
+					return null;
+			return ret;
 		}
 		catch(Exception ex) {
 			throw new DMLRuntimeException(ex);
@@ -535,8 +623,15 @@ public class CompressedMatrixBlock extends MatrixBlock {
 		long rleSize = sizeInfo.getRLESize();
 		long oleSize = sizeInfo.getOLESize();
 		long ddcSize = sizeInfo.getDDCSize();
-
-		if(ALLOW_DDC_ENCODING && ddcSize < rleSize && ddcSize < oleSize) {
+		long minSize = sizeInfo.getMinSize();
+
+		if(sizeInfo.getConstSize() == minSize)
+			return new ColGroupConst(colIndexes, rlen, ubm);
+		else if(sizeInfo.getDDCBPSize() == minSize)
+			return new ColGroupDDCBP(colIndexes, rlen, ubm);
+		else if(sizeInfo.getSDCSize() == minSize)
+			return new ColGroupSDC(colIndexes, rlen, ubm);
+		else if(ALLOW_DDC_ENCODING && ddcSize < rleSize && ddcSize < oleSize) {
 			if(ubm.getNumValues() <= 255)
 				return new ColGroupDDC1(colIndexes, rlen, ubm);
 			else
@@ -817,6 +912,15 @@ public class CompressedMatrixBlock extends MatrixBlock {
 				case DDC2:
 					grp = new ColGroupDDC2();
 					break;
+				case CONST:
+					grp = new ColGroupConst();
+					break;
+				case SDC:
+					grp = new ColGroupSDC();
+					break;
+				case DDCBP:
+					grp = new ColGroupDDCBP();
+					break;
 			}
 
 			// deserialize and add column group (flag for shared dictionary passed
@@ -1643,7 +1747,8 @@ public class CompressedMatrixBlock extends MatrixBlock {
 			int[] ixgroup = group.getColIndices();
 			List<ColGroup> tmpList = groups.subList(i, numGroups);
 
-			if(group instanceof ColGroupDDC // single DDC group
+			if(group instanceof ColGroupDDC // single DDC group (w/o per-row search of SDC codes)
+				&& !(group instanceof ColGroupSDC)
 				&& ixgroup.length == 1 && !containsUC && numRows < BitmapEncoder.BITMAP_BLOCK_SZ) {
 				// compute vector-matrix partial result
 				leftMultByVectorTranspose(tmpList, (ColGroupDDC) group, tmpret);
@@ -1828,14 +1933,19 @@ public class CompressedMatrixBlock extends MatrixBlock {
 	private static class SizeEstimTask implements Callable<CompressedSizeInfo> {
 		private final CompressedSizeEstimator _estim;
 		private final int _col;
+		private final long _deadline;
 
-		protected SizeEstimTask(CompressedSizeEstimator estim, int col) {
+		protected SizeEstimTask(CompressedSizeEstimator estim, int col, long deadline) {
 			_estim = estim;
 			_col = col;
+			_deadline = deadline;
 		}
 
 		@Override
 		public CompressedSizeInfo call() {
+			// skip remaining columns if the planning time budget is exceeded
+			if(System.currentTimeMillis() > _deadline)
+				return null;
 			return _estim.estimateCompressedColGroupSize(new int[] {_col});
 		}
 	}
@@ -1907,25 +2017,82 @@ public class CompressedMatrixBlock extends MatrixBlock {
 
 	@Override
 	public MatrixBlock unaryOperations(UnaryOperator op, MatrixValue result) {
-		printDecompressWarning("unaryOperations");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		return tmp.unaryOperations(op, result);
+		// call uncompressed unary operations for cumulative aggregates
+		if(!isCompressed() || LibMatrixAgg.isSupportedUnaryOperator(op)) {
+			printDecompressWarning("unaryOperations");
+			MatrixBlock tmp = isCompressed() ? decompress() : this;
+			return tmp.unaryOperations(op, result);
+		}
+
+		// apply the cell-wise operation to the dictionaries of all column groups
+		CompressedMatrixBlock ret = allocateCompressedOutput(result, rlen, clen);
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for(ColGroup grp : _colGroups)
+			newColGroups.add(grp.unaryOperation(op));
+		ret._colGroups = newColGroups;
+		ret.setNonZeros(rlen * clen);
+		return ret;
 	}
 
 	@Override
 	public MatrixBlock binaryOperations(BinaryOperator op, MatrixValue thatValue, MatrixValue result) {
-		printDecompressWarning("binaryOperations", (MatrixBlock) thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
-		MatrixBlock right = getUncompressed(thatValue);
-		return left.binaryOperations(op, right, result);
+		MatrixBlock that = (MatrixBlock) thatValue;
+		if(!isCompressedRowVectorOp(that)) {
+			printDecompressWarning("binaryOperations", that);
+			MatrixBlock left = isCompressed() ? decompress() : this;
+			MatrixBlock right = getUncompressed(thatValue);
+			return left.binaryOperations(op, right, result);
+		}
+
+		// apply the row vector operation to the dictionaries of all column groups
+		CompressedMatrixBlock ret = allocateCompressedOutput(result, rlen, clen);
+		ret._colGroups = binaryRowOperations(op, that);
+		ret.setNonZeros(rlen * clen);
+		return ret;
 	}
 
 	@Override
 	public void binaryOperationsInPlace(BinaryOperator op, MatrixValue thatValue) {
-		printDecompressWarning("binaryOperationsInPlace", (MatrixBlock) thatValue);
-		MatrixBlock left = isCompressed() ? decompress() : this;
-		MatrixBlock right = getUncompressed(thatValue);
-		left.binaryOperationsInPlace(op, right);
+		MatrixBlock that = (MatrixBlock) thatValue;
+		if(!isCompressedRowVectorOp(that)) {
+			printDecompressWarning("binaryOperationsInPlace", that);
+			MatrixBlock left = isCompressed() ? decompress() : this;
+			MatrixBlock right = getUncompressed(thatValue);
+			left.binaryOperationsInPlace(op, right);
+			// write back the result as single uncompressed column group
+			if(isCompressed()) {
+				_colGroups = new ArrayList<>();
+				_colGroups.add(new ColGroupUncompressed(
+					UtilFunctions.getSeqArray(0, clen - 1, 1), rlen, left));
+				setNonZeros(left.getNonZeros());
+			}
+			return;
+		}
+
+		// apply the row vector operation to the dictionaries of all column groups
+		_colGroups = binaryRowOperations(op, that);
+		setNonZeros(rlen * clen);
+	}
+
+	private boolean isCompressedRowVectorOp(MatrixBlock that) {
+		return isCompressed() && !isCompressed(that) && that.getNumColumns() == clen
+			&& LibMatrixBincell.getBinaryAccessType(this, that) == BinaryAccessType.MATRIX_ROW_VECTOR;
+	}
+
+	private ArrayList<ColGroup> binaryRowOperations(BinaryOperator op, MatrixBlock that) {
+		double[] v = ConverterUtils.getDenseVector(that);
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for(ColGroup grp : _colGroups)
+			newColGroups.add(grp.binaryRowOperation(op, v));
+		return newColGroups;
+	}
+
+	private CompressedMatrixBlock allocateCompressedOutput(MatrixValue result, int m, int n) {
+		if(result == null || !(result instanceof CompressedMatrixBlock))
+			return new CompressedMatrixBlock(m, n, sparse);
+		CompressedMatrixBlock ret = (CompressedMatrixBlock) result;
+		ret.reset(m, n);
+		return ret;
 	}
 
 	@Override
@@ -1941,19 +2108,59 @@ public class CompressedMatrixBlock extends MatrixBlock {
 
 	@Override
 	public MatrixBlock reorgOperations(ReorgOperator op, MatrixValue ret, int startRow, int startColumn, int length) {
-		printDecompressWarning("reorgOperations");
-		MatrixBlock tmp = isCompressed() ? decompress() : this;
-		return tmp.reorgOperations(op, ret, startRow, startColumn, length);
+		// call uncompressed reorg operations for anything but rev
+		// (transpose and diag would destroy the column group structure)
+		if(!isCompressed() || !(op.fn instanceof RevIndex)) {
+			printDecompressWarning("reorgOperations");
+			MatrixBlock tmp = isCompressed() ? decompress() : this;
+			return tmp.reorgOperations(op, ret, startRow, startColumn, length);
+		}
+
+		// reverse the rows of all column groups
+		CompressedMatrixBlock ret2 = allocateCompressedOutput(ret, rlen, clen);
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for(ColGroup grp : _colGroups)
+			newColGroups.add(grp.reverseRows());
+		ret2._colGroups = newColGroups;
+		ret2.setNonZeros(nonZeros);
+		return ret2;
 	}
 
 	@Override
 	public MatrixBlock append(MatrixBlock that, MatrixBlock ret, boolean cbind) {
 		if(cbind) // use supported operation
 			return append(that, ret);
-		printDecompressWarning("append-rbind", that);
-		MatrixBlock left = isCompressed() ? decompress() : this;
-		MatrixBlock right = getUncompressed(that);
-		return left.append(right, ret, cbind);
+
+		// append rows directly to DDC and uncompressed column groups
+		ArrayList<ColGroup> newColGroups = null;
+		if(isCompressed() && that.getNumColumns() == clen)
+			newColGroups = appendRows(getUncompressed(that));
+		if(newColGroups == null) {
+			printDecompressWarning("append-rbind", that);
+			MatrixBlock left = isCompressed() ? decompress() : this;
+			MatrixBlock right = getUncompressed(that);
+			return left.append(right, ret, cbind);
+		}
+
+		CompressedMatrixBlock ret2 = allocateCompressedOutput(ret, rlen + that.getNumRows(), clen);
+		ret2._colGroups = newColGroups;
+		ret2.setNonZeros(nonZeros + that.getNonZeros());
+		return ret2;
+	}
+
+	private ArrayList<ColGroup> appendRows(MatrixBlock that) {
+		ArrayList<ColGroup> newColGroups = new ArrayList<>();
+		for(ColGroup grp : _colGroups) {
+			ColGroup tmp = null;
+			if(grp instanceof ColGroupDDC)
+				tmp = ((ColGroupDDC) grp).appendRows(that);
+			else if(grp instanceof ColGroupUncompressed)
+				tmp = ((ColGroupUncompressed) grp).appendRows(that);
+			if(tmp == null) // unsupported group or dictionary overflow
+				return null;
+			newColGroups.add(tmp);
+		}
+		return newColGroups;
 	}
 
 	@Override
@@ -41,8 +41,21 @@ public class PlanningCoCoder {
 		BIN_PACKING, STATIC,
 	}
 
-	public static List<int[]> findCocodesByPartitioning(CompressedSizeEstimator sizeEstimator, List<Integer> cols,
-		CompressedSizeInfo[] colInfos, int numRows, int k) {
+	/**
+	 * Find groups of columns to co-code, via partitioning of the given columns and greedy brute-force merging within
+	 * each partition. Partitions are processed in parallel if there are at least k partitions, otherwise the candidate
+	 * merges within a partition are evaluated in parallel.
+	 * 
+	 * @param sizeEstimator compressed size estimator
+	 * @param cols          list of compressible columns
+	 * @param colInfos      size infos of all columns
+	 * @param numRows       number of rows
+	 * @param k             degree of parallelism
+	 * @param deadline      planning deadline in milliseconds since epoch, or Long.MAX_VALUE for no time budget
+	 * @return list of co-coding groups, or null if the planning deadline was exceeded
+	 */
+	public static List<PlanningCoCodingGroup> findCocodesByPartitioning(CompressedSizeEstimator sizeEstimator,
+		List<Integer> cols, CompressedSizeInfo[] colInfos, int numRows, int k, long deadline) {
 		// filtering out non-groupable columns as singleton groups
 		// weight is the ratio of its cardinality to the number of rows
 		int numCols = cols.size();
@@ -59,36 +72,46 @@ public class PlanningCoCoder {
 		// use column group partitioner to create partitions of columns
 		List<int[]> bins = createColumnGroupPartitioner(COLUMN_PARTITIONER).partitionColumns(groupCols, groupColsInfo);
 
-		// brute force grouping within each partition
-		return (k > 1) ? getCocodingGroupsBruteForce(bins,
-			groupColsInfo,
-			sizeEstimator,
-			numRows,
-			k) : getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows);
+		// brute force grouping within each partition, in parallel over partitions
+		// if there are enough partitions, otherwise in parallel over candidate merges
+		if(k > 1 && bins.size() >= k)
+			return getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, k, deadline);
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			return getCocodingGroupsBruteForce(bins, groupColsInfo, sizeEstimator, numRows, pool, deadline);
+		}
+		finally {
+			if(pool != null)
+				pool.shutdown();
+		}
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<int[]> bins,
-		HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen) {
-		List<int[]> retGroups = new ArrayList<>();
+	private static List<PlanningCoCodingGroup> getCocodingGroupsBruteForce(List<int[]> bins,
+		HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen,
+		ExecutorService pool, long deadline) {
+		List<PlanningCoCodingGroup> retGroups = new ArrayList<>();
 		for(int[] bin : bins) {
 			// building an array of singleton CoCodingGroup
 			ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
 			for(int col : bin)
 				sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
-			// brute force co-coding
+			// brute force co-coding, w/ optional parallel evaluation of candidate merges
 			PlanningCoCodingGroup[] outputGroups = findCocodesBruteForce(estim,
 				rlen,
-				sgroups.toArray(new PlanningCoCodingGroup[0]));
-			for(PlanningCoCodingGroup grp : outputGroups)
-				retGroups.add(grp.getColIndices());
+				sgroups.toArray(new PlanningCoCodingGroup[0]),
+				pool,
+				deadline);
+			if(outputGroups == null)
+				return null;
+			retGroups.addAll(Arrays.asList(outputGroups));
 		}
 
 		return retGroups;
 	}
 
-	private static List<int[]> getCocodingGroupsBruteForce(List<int[]> bins,
-		HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, int k) {
-		List<int[]> retGroups = new ArrayList<>();
+	private static List<PlanningCoCodingGroup> getCocodingGroupsBruteForce(List<int[]> bins,
+		HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estim, int rlen, int k, long deadline) {
+		List<PlanningCoCodingGroup> retGroups = new ArrayList<>();
 		try {
 			ExecutorService pool = CommonThreadPool.get(k);
 			ArrayList<CocodeTask> tasks = new ArrayList<>();
@@ -97,13 +120,16 @@ public class PlanningCoCoder {
 				ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
 				for(int col : bin)
 					sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
-				tasks.add(new CocodeTask(estim, sgroups, rlen));
+				tasks.add(new CocodeTask(estim, sgroups, rlen, deadline));
 			}
 			List<Future<PlanningCoCodingGroup[]>> rtask = pool.invokeAll(tasks);
-			for(Future<PlanningCoCodingGroup[]> lrtask : rtask)
-				for(PlanningCoCodingGroup grp : lrtask.get())
-					retGroups.add(grp.getColIndices());
 			pool.shutdown();
+			for(Future<PlanningCoCodingGroup[]> lrtask : rtask) {
+				PlanningCoCodingGroup[] outputGroups = lrtask.get();
+				if(outputGroups == null)
+					return null;
+				retGroups.addAll(Arrays.asList(outputGroups));
+			}
 		}
 		catch(Exception ex) {
 			throw new DMLRuntimeException(ex);
@@ -119,10 +145,12 @@ public class PlanningCoCoder {
 	 * @param sizeEstimator  compressed size estimator
 	 * @param numRowsWeight  number of rows weight
 	 * @param singltonGroups planning co-coding groups
+	 * @param pool           thread pool for parallel evaluation of candidate merges, or null
+	 * @param deadline       planning deadline in milliseconds since epoch
 	 * @return
 	 */
 	private static PlanningCoCodingGroup[] findCocodesBruteForce(CompressedSizeEstimator estim, int numRows,
-		PlanningCoCodingGroup[] singletonGroups) {
+		PlanningCoCodingGroup[] singletonGroups, ExecutorService pool, long deadline) {
 		if(LOG.isTraceEnabled())
 			LOG.trace("Cocoding: process " + singletonGroups.length);
 
@@ -134,9 +162,17 @@ public class PlanningCoCoder {
 		// process merging iterations until no more change
 		boolean changed = true;
 		while(changed && workset.size() > 1) {
+			// create new candidate merges in parallel (incl bitmap extraction),
+			// which turns the memo probes of the sequential search into hits
+			if(pool != null && !createMergeCandidates(estim, numRows, workset, memo, pool, deadline))
+				return null;
+
 			// find best merge, incl memoization
 			PlanningCoCodingGroup tmp = null;
 			for(int i = 0; i < workset.size(); i++) {
+				// early abort if the planning time budget is exceeded
+				if(System.currentTimeMillis() > deadline)
+					return null;
 				for(int j = i + 1; j < workset.size(); j++) {
 					PlanningCoCodingGroup c1 = workset.get(i);
 					PlanningCoCodingGroup c2 = workset.get(j);
@@ -180,6 +216,40 @@ public class PlanningCoCoder {
 		return workset.toArray(new PlanningCoCodingGroup[0]);
 	}
 
+	private static boolean createMergeCandidates(CompressedSizeEstimator estim, int numRows,
+		List<PlanningCoCodingGroup> workset, PlanningMemoTable memo, ExecutorService pool, long deadline) {
+		// collect non-dominated candidate merges that are not yet memoized
+		// (the pruning threshold of the sequential search only gets tighter)
+		ArrayList<MergeTask> tasks = new ArrayList<>();
+		for(int i = 0; i < workset.size(); i++) {
+			for(int j = i + 1; j < workset.size(); j++) {
+				PlanningCoCodingGroup c1 = workset.get(i);
+				PlanningCoCodingGroup c2 = workset.get(j);
+				if(-Math.min(c1.getEstSize(), c2.getEstSize()) > memo.getOptChangeInSize())
+					continue;
+				if(memo.get(c1, c2) == null)
+					tasks.add(new MergeTask(estim, c1, c2, numRows, deadline));
+			}
+		}
+		if(tasks.size() < 2) // not worth the parallelization overhead
+			return true;
+
+		// create candidate groups in parallel and add them to the memo table
+		try {
+			boolean complete = true;
+			for(Future<PlanningCoCodingGroup> lrtask : pool.invokeAll(tasks)) {
+				PlanningCoCodingGroup c1c2 = lrtask.get();
+				if(c1c2 != null)
+					memo.put(c1c2);
+				complete &= (c1c2 != null);
+			}
+			return complete;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
 	private static ColumnGroupPartitioner createColumnGroupPartitioner(PartitionerType type) {
 		switch(type) {
 			case BIN_PACKING:
@@ -207,17 +277,46 @@ public class PlanningCoCoder {
 		private CompressedSizeEstimator _estim = null;
 		private ArrayList<PlanningCoCodingGroup> _sgroups = null;
 		private int _rlen = -1;
+		private long _deadline = Long.MAX_VALUE;
 
-		protected CocodeTask(CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen) {
+		protected CocodeTask(CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen,
+			long deadline) {
 			_estim = estim;
 			_sgroups = sgroups;
 			_rlen = rlen;
+			_deadline = deadline;
 		}
 
 		@Override
 		public PlanningCoCodingGroup[] call() {
 			// brute force co-coding
-			return findCocodesBruteForce(_estim, _rlen, _sgroups.toArray(new PlanningCoCodingGroup[0]));
+			return findCocodesBruteForce(_estim, _rlen, _sgroups.toArray(new PlanningCoCodingGroup[0]), null,
+				_deadline);
+		}
+	}
+
+	private static class MergeTask implements Callable<PlanningCoCodingGroup> {
+		private final CompressedSizeEstimator _estim;
+		private final PlanningCoCodingGroup _c1;
+		private final PlanningCoCodingGroup _c2;
+		private final int _rlen;
+		private final long _deadline;
+
+		protected MergeTask(CompressedSizeEstimator estim, PlanningCoCodingGroup c1, PlanningCoCodingGroup c2,
+			int rlen, long deadline) {
+			_estim = estim;
+			_c1 = c1;
+			_c2 = c2;
+			_rlen = rlen;
+			_deadline = deadline;
+		}
+
+		@Override
+		public PlanningCoCodingGroup call() {
+			// skip remaining candidates if the planning time budget is exceeded
+			if(System.currentTimeMillis() > _deadline)
+				return null;
+			return new PlanningCoCodingGroup(_c1, _c2, _estim, _rlen);
 		}
 	}
 }
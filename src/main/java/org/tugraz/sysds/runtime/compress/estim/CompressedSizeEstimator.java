@@ -17,6 +17,7 @@
 package org.tugraz.sysds.runtime.compress.estim;
 
 import org.tugraz.sysds.runtime.compress.BitmapEncoder;
+import org.tugraz.sysds.runtime.compress.ColGroupDDCBP;
 import org.tugraz.sysds.runtime.compress.CompressedMatrixBlock;
 import org.tugraz.sysds.runtime.compress.UncompressedBitmap;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
@@ -45,6 +46,7 @@ public abstract class CompressedSizeEstimator {
 		int numOffs = 0;
 		int numSegs = 0;
 		int numSingle = 0;
+		int maxFreq = 0;
 
 		// compute size estimation factors
 		for(int i = 0; i < numVals; i++) {
@@ -53,6 +55,7 @@ public abstract class CompressedSizeEstimator {
 			numOffs += listSize;
 			numSegs += list[listSize - 1] / BitmapEncoder.BITMAP_BLOCK_SZ + 1;
 			numSingle += (listSize == 1) ? 1 : 0;
+			maxFreq = Math.max(maxFreq, listSize);
 			if(inclRLE) {
 				int lastOff = -2;
 				for(int j = 0; j < listSize; j++) {
@@ -67,7 +70,28 @@ public abstract class CompressedSizeEstimator {
 		}
 
 		// construct estimation factors
-		return new SizeEstimationFactors(numVals, numSegs, numOffs, numRuns, numSingle);
+		return new SizeEstimationFactors(numVals, numSegs, numOffs, numRuns, numSingle, maxFreq);
+	}
+
+	/**
+	 * Constructs the size info summary from exact size estimation factors, where all rows not covered by the offsets
+	 * are zero rows.
+	 * 
+	 * @param fact    size estimation factors of the full bitmap
+	 * @param numRows number of rows
+	 * @param numCols number of columns
+	 * @return size info summary
+	 */
+	protected static CompressedSizeInfo createSizeInfo(SizeEstimationFactors fact, int numRows, int numCols) {
+		int numZeros = numRows - fact.numOffs;
+		int numValsZ = fact.numVals + ((numZeros > 0) ? 1 : 0);
+		return new CompressedSizeInfo(fact.numVals, fact.numOffs,
+			getRLESize(fact.numVals, fact.numRuns, numCols),
+			getOLESize(fact.numVals, fact.numOffs, fact.numSegs, numCols),
+			getDDCSize(fact.numVals, numRows, numCols),
+			getConstSize(numValsZ, numCols),
+			getSDCSize(numValsZ, numRows - Math.max(fact.maxFreq, numZeros), numCols),
+			getDDCBPSize(numValsZ, numRows, numCols));
 	}
 
 	/**
@@ -131,19 +155,77 @@ public abstract class CompressedSizeEstimator {
 		return ret;
 	}
 
+	/**
+	 * Estimates the number of bytes needed to encode this column group in CONST format.
+	 * 
+	 * @param numVals number of value tuples, incl the zero tuple
+	 * @param numCols number of columns
+	 * @return number of bytes to encode column group in CONST format
+	 */
+	protected static long getConstSize(int numVals, int numCols) {
+		if(numVals != 1)
+			return Long.MAX_VALUE;
+
+		// single value tuple [double per col]
+		return 8 * numCols;
+	}
+
+	/**
+	 * Estimates the number of bytes needed to encode this column group in SDC format.
+	 * 
+	 * @param numVals       number of value tuples, incl the zero tuple
+	 * @param numExceptions number of rows not covered by the most frequent value tuple
+	 * @param numCols       number of columns
+	 * @return number of bytes to encode column group in SDC format
+	 */
+	protected static long getSDCSize(int numVals, int numExceptions, int numCols) {
+		if(numVals > Character.MAX_VALUE - 1)
+			return Long.MAX_VALUE;
+
+		long ret = 0;
+		// distinct value tuples [double per col]
+		ret += 8L * numVals * numCols;
+		// exception offsets and codes [int and char per exception]
+		ret += 6L * numExceptions;
+		return ret;
+	}
+
+	/**
+	 * Estimates the number of bytes needed to encode this column group in bit-packed DDC format.
+	 * 
+	 * @param numVals number of value tuples, incl the zero tuple
+	 * @param numRows number of rows
+	 * @param numCols number of columns
+	 * @return number of bytes to encode column group in bit-packed DDC format
+	 */
+	protected static long getDDCBPSize(int numVals, int numRows, int numCols) {
+		if(numVals > ColGroupDDCBP.MAX_NUM_VALUES)
+			return Long.MAX_VALUE;
+
+		long ret = 0;
+		// distinct value tuples [double per col]
+		ret += 8L * numVals * numCols;
+		// data [1, 2, or 4 bits per row, packed in longs]
+		ret += 8L * ColGroupDDCBP.getNumWords(numRows, ColGroupDDCBP.getNumBits(numVals));
+		return ret;
+	}
+
 	protected static class SizeEstimationFactors {
 		protected int numVals; // num value tuples
 		protected int numSegs; // num OLE segments
 		protected int numOffs; // num OLE offsets
 		protected int numRuns; // num RLE runs
 		protected int numSingle; // num singletons
+		protected int maxFreq; // max num offsets per value tuple
 
-		protected SizeEstimationFactors(int numvals, int numsegs, int numoffs, int numruns, int numsingle) {
+		protected SizeEstimationFactors(int numvals, int numsegs, int numoffs, int numruns, int numsingle,
+			int maxfreq) {
 			numVals = numvals;
 			numSegs = numsegs;
 			numOffs = numoffs;
 			numRuns = numruns;
 			numSingle = numsingle;
+			maxFreq = maxfreq;
 		}
 	}
 }
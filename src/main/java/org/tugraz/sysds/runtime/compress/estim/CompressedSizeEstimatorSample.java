@@ -18,6 +18,8 @@ package org.tugraz.sysds.runtime.compress.estim;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -44,7 +46,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 	private static final Log LOG = LogFactory.getLog(CompressedSizeEstimatorSample.class.getName());
 
 	private int[] _sampleRows = null;
-	private HashMap<Integer, Double> _solveCache = null;
+	private Map<Integer, Double> _solveCache = null;
 
 	/**
 	 * CompressedSizeEstimatorSample, samples from the input data and estimates the size of the compressed matrix.
@@ -65,7 +67,8 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 		}
 
 		// establish estimator-local cache for numeric solve
-		_solveCache = new HashMap<>();
+		// (thread-safe for concurrent estimates during parallel planning)
+		_solveCache = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -103,11 +106,21 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 		int totalNumSeg = fact.numSegs + numUnseenSeg;
 		int totalNumRuns = getNumRuns(ubm, sampleSize, _numRows, sampleRows) + numUnseenSeg;
 
+		// estimate number of exceptions w.r.t. the most frequent value tuple (incl zeros)
+		// and number of distinct tuples incl zero tuple (constant only if no zeros observed)
+		int estZeros = _numRows - numNonZeros;
+		int estMaxFreq = (int) Math.floor((double) fact.maxFreq * _numRows / sampleSize);
+		int numExceptions = Math.max(_numRows - Math.max(estMaxFreq, estZeros), 0);
+		int totalCardinalityZ = totalCardinality + ((estZeros > 0 || numZeros > 0) ? 1 : 0);
+
 		// construct new size info summary
 		return new CompressedSizeInfo(totalCardinality, numNonZeros,
 			getRLESize(totalCardinality, totalNumRuns, numCols),
 			getOLESize(totalCardinality, numNonZeros, totalNumSeg, numCols),
-			getDDCSize(totalCardinality, _numRows, numCols));
+			getDDCSize(totalCardinality, _numRows, numCols),
+			getConstSize(totalCardinalityZ, numCols),
+			getSDCSize(totalCardinalityZ, numExceptions, numCols),
+			getDDCBPSize(totalCardinalityZ, _numRows, numCols));
 	}
 
 	@Override
@@ -116,14 +129,11 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 		SizeEstimationFactors fact = computeSizeEstimationFactors(ubm, true);
 
 		// construct new size info summary
-		return new CompressedSizeInfo(fact.numVals, fact.numOffs,
-			getRLESize(fact.numVals, fact.numRuns, ubm.getNumColumns()),
-			getOLESize(fact.numVals, fact.numOffs, fact.numSegs, ubm.getNumColumns()),
-			getDDCSize(fact.numVals, _numRows, ubm.getNumColumns()));
+		return createSizeInfo(fact, _numRows, ubm.getNumColumns());
 	}
 
 	private static int getNumDistinctValues(UncompressedBitmap ubm, int numRows, int[] sampleRows,
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		return haasAndStokes(ubm, numRows, sampleRows.length, solveCache);
 	}
 
@@ -486,7 +496,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 	 * @return estimator
 	 */
 	private static int haasAndStokes(UncompressedBitmap ubm, int nRows, int sampleSize,
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		// obtain value and frequency histograms
 		int numVals = ubm.getNumValues();
 		int[] freqCounts = getFreqCounts(ubm);
@@ -577,7 +587,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 	 * 
 	 */
 	private static double getDuj2aEstimate(double q, int f[], int n, int dn, double gammaDuj1, int N,
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		int c = HAAS_AND_STOKES_UJ2A_CUT2 ? f.length / 2 + 1 : HAAS_AND_STOKES_UJ2A_C + 1;
 
 		// compute adjusted sample size after removing classes that
@@ -652,7 +662,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 	 * 
 	 */
 	private static double getMethodOfMomentsEstimate(int nj, double q, double min, double max,
-		HashMap<Integer, Double> solveCache) {
+		Map<Integer, Double> solveCache) {
 		if(solveCache.containsKey(nj))
 			return solveCache.get(nj);
 
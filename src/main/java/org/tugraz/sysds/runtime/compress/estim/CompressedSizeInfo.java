@@ -28,13 +28,20 @@ public class CompressedSizeInfo {
 	private final long _rleSize;
 	private final long _oleSize;
 	private final long _ddcSize;
+	private final long _constSize;
+	private final long _sdcSize;
+	private final long _ddcbpSize;
 
-	public CompressedSizeInfo(int estCard, int estNnz, long rleSize, long oleSize, long ddcSize) {
+	public CompressedSizeInfo(int estCard, int estNnz, long rleSize, long oleSize, long ddcSize, long constSize,
+		long sdcSize, long ddcbpSize) {
 		_estCard = estCard;
 		_estNnz = estNnz;
 		_rleSize = rleSize;
 		_oleSize = oleSize;
 		_ddcSize = ddcSize;
+		_constSize = constSize;
+		_sdcSize = sdcSize;
+		_ddcbpSize = ddcbpSize;
 	}
 
 	public long getRLESize() {
@@ -49,8 +56,21 @@ public class CompressedSizeInfo {
 		return CompressedMatrixBlock.ALLOW_DDC_ENCODING ? _ddcSize : Long.MAX_VALUE;
 	}
 
+	public long getConstSize() {
+		return CompressedMatrixBlock.ALLOW_CONST_ENCODING ? _constSize : Long.MAX_VALUE;
+	}
+
+	public long getSDCSize() {
+		return CompressedMatrixBlock.ALLOW_SDC_ENCODING ? _sdcSize : Long.MAX_VALUE;
+	}
+
+	public long getDDCBPSize() {
+		return CompressedMatrixBlock.ALLOW_DDCBP_ENCODING ? _ddcbpSize : Long.MAX_VALUE;
+	}
+
 	public long getMinSize() {
-		return Math.min(Math.min(getRLESize(), getOLESize()), getDDCSize());
+		long ret = Math.min(Math.min(getRLESize(), getOLESize()), getDDCSize());
+		return Math.min(ret, Math.min(getConstSize(), Math.min(getSDCSize(), getDDCBPSize())));
 	}
 
 	public int getEstCard() {
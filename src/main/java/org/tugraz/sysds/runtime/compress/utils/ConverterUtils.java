@@ -19,9 +19,12 @@ package org.tugraz.sysds.runtime.compress.utils;
 import java.util.Arrays;
 
 import org.tugraz.sysds.runtime.compress.ColGroup;
+import org.tugraz.sysds.runtime.compress.ColGroupConst;
 import org.tugraz.sysds.runtime.compress.ColGroupDDC1;
+import org.tugraz.sysds.runtime.compress.ColGroupDDCBP;
 import org.tugraz.sysds.runtime.compress.ColGroupOLE;
 import org.tugraz.sysds.runtime.compress.ColGroupRLE;
+import org.tugraz.sysds.runtime.compress.ColGroupSDC;
 import org.tugraz.sysds.runtime.compress.ColGroupUncompressed;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.util.DataConverter;
@@ -58,6 +61,18 @@ public class ConverterUtils {
 			ColGroupDDC1 in = (ColGroupDDC1) group;
 			ret = new ColGroupDDC1(colIndices, in.getNumRows(), in.getValues(), in.getData());
 		}
+		else if(group instanceof ColGroupConst) {
+			ColGroupConst in = (ColGroupConst) group;
+			ret = new ColGroupConst(colIndices, in.getNumRows(), in.getValues());
+		}
+		else if(group instanceof ColGroupSDC) {
+			ColGroupSDC in = (ColGroupSDC) group;
+			ret = new ColGroupSDC(colIndices, in.getNumRows(), in.getValues(), in.getOffsets(), in.getCodes());
+		}
+		else if(group instanceof ColGroupDDCBP) {
+			ColGroupDDCBP in = (ColGroupDDCBP) group;
+			ret = new ColGroupDDCBP(colIndices, in.getNumRows(), in.getValues(), in.getNumBits(), in.getData());
+		}
 		else {
 			throw new RuntimeException("Using '" + group.getClass() + "' instance of ColGroup not fully supported");
 		}
@@ -115,7 +115,16 @@ public class BasicProgramBlock extends ProgramBlock
 		}
 
 		//actual instruction execution
-		executeInstructions(tmp, ec);
+		try {
+			executeInstructions(tmp, ec);
+		}
+		catch(RuntimeException ex) {
+			//release placeholders of in-flight statement block outputs
+			if (liInputs != null)
+				LineageCache.abort(_sb.getOutputsofSB(), _sb.getOutputsofSB().size(),
+					liInputs, "SB" + _sb.getSBID());
+			throw ex;
+		}
 		
 		//statement-block-level, lineage-based caching
 		if (_sb != null && liInputs != null) {
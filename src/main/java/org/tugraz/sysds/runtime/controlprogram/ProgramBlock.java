@@ -207,7 +207,14 @@ public abstract class ProgramBlock implements ParseInfo
 			// try to reuse instruction result from lineage cache
 			if( !LineageCache.reuse(tmp, ec) ) {
 				// process actual instruction
-				tmp.processInstruction(ec);
+				try {
+					tmp.processInstruction(ec);
+				}
+				catch(Exception ex) {
+					// release placeholder of in-flight computation
+					LineageCache.abort(tmp, ec);
+					throw ex;
+				}
 				
 				// cache result
 				LineageCache.putValue(tmp, ec);
@@ -27,11 +27,15 @@ import java.io.IOException;
 
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.ByteBufferDataInput;
+import org.tugraz.sysds.runtime.util.ByteBufferDataOutput;
 import org.tugraz.sysds.runtime.util.LocalFileUtils;
 
 /**
  * Wrapper for WriteBuffer byte array per matrix/frame in order to
- * support matrix/frame serialization outside global lock.
+ * support matrix/frame serialization outside global lock. In off-heap
+ * mode, all blocks are serialized into pooled direct buffers outside the
+ * heap, with fallback to byte arrays if the direct memory limit is reached.
  * 
  */
 public class ByteBuffer
@@ -43,6 +47,7 @@ public class ByteBuffer
 	
 	protected byte[]     _bdata = null; //sparse matrix
 	protected CacheBlock _cdata = null; //dense matrix/frame
+	protected java.nio.ByteBuffer _odata = null; //off-heap matrix/frame
 	
 	public ByteBuffer( long size ) {
 		_size = size;
@@ -52,18 +57,28 @@ public class ByteBuffer
 	public void serializeBlock( CacheBlock cb ) 
 		throws IOException
 	{	
-		_shallow = cb.isShallowSerialize(true);
+		_shallow = !CacheableData.CACHING_BUFFER_OFFHEAP && cb.isShallowSerialize(true);
 		_matrix = (cb instanceof MatrixBlock);
 		
 		try
 		{
-			if( !_shallow ) //SPARSE/DENSE -> SPARSE
+			//obtain pooled direct buffer (null if direct memory limit reached)
+			java.nio.ByteBuffer tmp = CacheableData.CACHING_BUFFER_OFFHEAP ?
+				DirectBufferPool.getBuffer((int)_size) : null;
+			
+			if( tmp != null ) //SPARSE/DENSE -> OFFHEAP
 			{
-				//deep serialize (for compression)
-				if( CacheableData.CACHING_BUFFER_PAGECACHE )
-					_bdata = PageCache.getPage((int)_size);
-				if( _bdata==null )
-					_bdata = new byte[(int)_size];
+				//deep serialize into direct buffer (outside the heap)
+				cb.write(new ByteBufferDataOutput(tmp));
+				tmp.flip();
+				_odata = tmp;
+			}
+			else if( !_shallow ) //SPARSE/DENSE -> SPARSE
+			{
+				//deep serialize (for compression), where pooled pages
+				//might be larger than the serialized size of the block
+				_bdata = CacheableData.CACHING_BUFFER_PAGECACHE ?
+					PageCache.getOrAllocPage((int)_size) : new byte[(int)_size];
 				DataOutput dout = new CacheDataOutput(_bdata);
 				cb.write(dout);
 			}
@@ -84,12 +99,25 @@ public class ByteBuffer
 		_serialized = true;
 	}
 
-	public CacheBlock deserializeBlock() 
+	/**
+	 * Deserializes the buffered cache block, or returns null if the 
+	 * buffer was already freed by a concurrent eviction.
+	 * 
+	 * @return cache block or null
+	 * @throws IOException if IOException occurs
+	 */
+	public synchronized CacheBlock deserializeBlock() 
 		throws IOException
 	{
 		CacheBlock ret = null;
 		
-		if( !_shallow ) { //sparse matrix / string frame
+		if( _odata != null ) { //off-heap matrix/frame
+			ret = _matrix ? new MatrixBlock() : new FrameBlock();
+			ret.readFields(new ByteBufferDataInput(_odata.duplicate()));
+		}
+		else if( !_shallow ) { //sparse matrix / string frame
+			if( _bdata == null )
+				return null;
 			DataInput din = _matrix ? new CacheDataInput(_bdata) :
 				new DataInputStream(new ByteArrayInputStream(_bdata));
 			ret = _matrix ? new MatrixBlock() : new FrameBlock();
@@ -105,9 +133,14 @@ public class ByteBuffer
 	public void evictBuffer( String fname ) 
 		throws IOException
 	{
-		if( !_shallow ) {
-			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+		if( _odata != null ) {
+			//write out off-heap serialized buffer
+			LocalFileUtils.writeByteBufferToLocal(fname, _odata);
+		}
+		else if( !_shallow ) {
+			//write out byte serialized array (w/o unused tail of pooled pages)
+			LocalFileUtils.writeByteBufferToLocal(fname,
+				java.nio.ByteBuffer.wrap(_bdata, 0, (int)_size));
 		}
 		else {
 			//serialize cache block to output stream
@@ -128,11 +161,15 @@ public class ByteBuffer
 		return _shallow;
 	}
 	
-	public void freeMemory()
+	public synchronized void freeMemory()
 	{
 		//clear strong references to buffer/matrix
+		//(direct buffers are returned to the pool for reuse)
+		if( _odata != null )
+			DirectBufferPool.putBuffer(_odata);
+		_odata = null;
 		if( !_shallow ) {
-			if( CacheableData.CACHING_BUFFER_PAGECACHE )
+			if( CacheableData.CACHING_BUFFER_PAGECACHE && _bdata != null )
 				PageCache.putPage(_bdata);
 			_bdata = null;
 		}
@@ -164,9 +201,9 @@ public class ByteBuffer
 	 */
 	public static boolean isValidCapacity( long size, CacheBlock cb )
 	{
-		if( !cb.isShallowSerialize(true) ) { //SPARSE matrix blocks
+		if( CacheableData.CACHING_BUFFER_OFFHEAP || !cb.isShallowSerialize(true) ) { //SPARSE matrix blocks
 			// since cache blocks are serialized into a byte representation
-			// the buffer buffer can hold at most 2GB in size 
+			// (byte array or direct buffer) the buffer can hold at most 2GB in size 
 			return ( size <= Integer.MAX_VALUE );
 		}
 		else {//DENSE/SPARSE matrix / frame blocks
@@ -82,7 +82,8 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		1e-5 * InfrastructureAnalyzer.getLocalMaxMemory());       //if below threshold [in bytes]
 	public static final double CACHING_BUFFER_SIZE = 0.15;
 	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO;
-	public static final boolean CACHING_BUFFER_PAGECACHE = false;
+	public static final boolean CACHING_BUFFER_PAGECACHE = true;
+	public static boolean       CACHING_BUFFER_OFFHEAP = false; //serialize evicted blocks into direct buffers
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;
 	public static final String  CACHING_COUNTER_GROUP_NAME    = "SystemDS Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.controlprogram.caching;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe pool of direct buffers for the off-heap write buffer.
+ *
+ * Direct memory is only released once the buffer objects are garbage
+ * collected, which is why freed buffers are returned to the pool and reused
+ * instead of allocating a new direct buffer for every eviction. Buffers are
+ * allocated with power-of-two capacities and organized in size classes. The
+ * total capacity of all direct buffers (in use or pooled) is accounted against
+ * the write buffer limit (see {@link CacheableData#CACHING_BUFFER_SIZE}). If a
+ * request exceeds this limit even after dropping all pooled buffers, no direct
+ * buffer is returned and the caller falls back to on-heap serialization.
+ *
+ */
+public class DirectBufferPool
+{
+	//maximum capacity of pooled buffers (larger buffers are allocated exactly)
+	private static final int MAX_POOLED_CAPACITY = 1 << 30;
+	private static final int NUM_CLASSES = 31;
+
+	@SuppressWarnings("unchecked")
+	private static final ConcurrentLinkedDeque<java.nio.ByteBuffer>[] _pool = new ConcurrentLinkedDeque[NUM_CLASSES];
+	//total capacity of all allocated direct buffers, incl pooled buffers
+	private static final AtomicLong _size = new AtomicLong(0);
+
+	static {
+		for( int i=0; i<NUM_CLASSES; i++ )
+			_pool[i] = new ConcurrentLinkedDeque<>();
+	}
+
+	public static void init() {
+		clear();
+		_size.set(0);
+	}
+
+	public static void clear() {
+		for( ConcurrentLinkedDeque<java.nio.ByteBuffer> list : _pool ) {
+			java.nio.ByteBuffer tmp = null;
+			while( (tmp = list.pollFirst()) != null )
+				_size.addAndGet(-tmp.capacity());
+		}
+	}
+
+	/**
+	 * Obtains a cleared direct buffer with a capacity of at least the given size,
+	 * either from the pool or by allocating a new buffer, or null if the direct
+	 * memory limit would be exceeded.
+	 *
+	 * @param size minimum capacity in bytes
+	 * @return direct buffer or null
+	 */
+	public static java.nio.ByteBuffer getBuffer( int size )
+	{
+		int cap = capacityOf(size);
+
+		//probe size class of the requested size
+		if( cap <= MAX_POOLED_CAPACITY ) {
+			java.nio.ByteBuffer ret = _pool[classOf(cap)].pollFirst();
+			if( ret != null ) {
+				ret.clear();
+				return ret;
+			}
+		}
+
+		//reserve capacity, otherwise release pooled buffers
+		//until the new buffer fits into the direct memory limit
+		long limit = LazyWriteBuffer.getWriteBufferLimit();
+		while( true ) {
+			long cur = _size.get();
+			if( cur + cap > limit ) {
+				if( !releasePooledBuffer() )
+					return null;
+			}
+			else if( _size.compareAndSet(cur, cur + cap) )
+				return java.nio.ByteBuffer.allocateDirect(cap);
+		}
+	}
+
+	/**
+	 * Returns a direct buffer obtained via {@link #getBuffer(int)} to the
+	 * pool, or releases it if too large. The caller must not use the
+	 * buffer afterwards.
+	 *
+	 * @param buff direct buffer
+	 */
+	public static void putBuffer( java.nio.ByteBuffer buff ) {
+		if( buff == null )
+			return;
+		if( buff.capacity() <= MAX_POOLED_CAPACITY )
+			_pool[classOf(buff.capacity())].addFirst(buff);
+		else //released by garbage collection
+			_size.addAndGet(-buff.capacity());
+	}
+
+	public static long getSize() {
+		return _size.get();
+	}
+
+	private static boolean releasePooledBuffer() {
+		//drop a pooled buffer (larger classes first), which
+		//is then released by garbage collection
+		for( int k=NUM_CLASSES-1; k>=0; k-- ) {
+			java.nio.ByteBuffer tmp = _pool[k].pollFirst();
+			if( tmp != null ) {
+				_size.addAndGet(-tmp.capacity());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int capacityOf( int size ) {
+		return (size <= 1) ? 1 : (size > MAX_POOLED_CAPACITY) ?
+			size : Integer.highestOneBit(size - 1) << 1;
+	}
+
+	private static int classOf( int cap ) {
+		return 31 - Integer.numberOfLeadingZeros(cap);
+	}
+}
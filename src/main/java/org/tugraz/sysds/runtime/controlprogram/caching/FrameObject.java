@@ -32,6 +32,7 @@ import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.tugraz.sysds.runtime.instructions.spark.data.RDDObject;
 import org.tugraz.sysds.runtime.io.FileFormatProperties;
 import org.tugraz.sysds.runtime.io.FrameReader;
+import org.tugraz.sysds.runtime.io.FrameReaderColumnar;
 import org.tugraz.sysds.runtime.io.FrameReaderFactory;
 import org.tugraz.sysds.runtime.io.FrameWriter;
 import org.tugraz.sysds.runtime.io.FrameWriterFactory;
@@ -41,6 +42,7 @@ import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
 import org.tugraz.sysds.runtime.meta.DataCharacteristics;
 import org.tugraz.sysds.runtime.meta.MetaData;
 import org.tugraz.sysds.runtime.meta.MetaDataFormat;
+import org.tugraz.sysds.runtime.util.IndexRange;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 import java.io.IOException;
@@ -157,6 +159,52 @@ public class FrameObject extends CacheableData<FrameBlock>
 		return dc.getCols();
 	}
 	
+	/**
+	 * Reads a row range and column projection directly from the input file if 
+	 * the frame is backed by an unmodified columnar file that is not yet loaded,
+	 * which only fetches the chunks of the selected columns and row groups.
+	 * 
+	 * @param ixrange index range, 0-based inclusive
+	 * @return frame block of the index range, or null if not applicable
+	 */
+	public synchronized FrameBlock readColumnarIndexRange( IndexRange ixrange ) {
+		if( !isEmpty(false) || isDirty() || getRDDHandle() != null 
+			|| !(_metaData instanceof MetaDataFormat) 
+			|| ((MetaDataFormat)_metaData).getInputInfo() != InputInfo.ColumnarInputInfo )
+			return null;
+		
+		try {
+			FrameReaderColumnar reader = (FrameReaderColumnar) 
+				FrameReaderFactory.createFrameReader(InputInfo.ColumnarInputInfo);
+			return reader.readFrameFromHDFS(getFileName(), ixrange.rowStart, ixrange.rowEnd,
+				UtilFunctions.getSeqArray((int)ixrange.colStart, (int)ixrange.colEnd, 1));
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Indicates if the frame is backed by an unmodified file that is not
+	 * yet loaded, which allows streaming reads of row chunks from the file.
+	 * 
+	 * @return true if the frame can be streamed from its file
+	 */
+	public synchronized boolean isStreamable() {
+		return isEmpty(false) && !isDirty() && getRDDHandle() == null
+			&& getFileName() != null && _metaData instanceof MetaDataFormat;
+	}
+	
+	/**
+	 * Obtain the input info of the backing file.
+	 * 
+	 * @return input info, or null if unknown
+	 */
+	public InputInfo getInputInfo() {
+		return (_metaData instanceof MetaDataFormat) ?
+			((MetaDataFormat)_metaData).getInputInfo() : null;
+	}
+	
 	@Override
 	protected FrameBlock readBlobFromCache(String fname) throws IOException {
 		return (FrameBlock)LazyWriteBuffer.readBlock(fname, false);
@@ -249,6 +297,14 @@ public class FrameObject extends CacheableData<FrameBlock>
 		MetaDataFormat iimd = (MetaDataFormat) _metaData;
 		OutputInfo oinfo = (ofmt != null ? OutputInfo.stringToOutputInfo (ofmt ) 
 				: InputInfo.getMatchingOutputInfo (iimd.getInputInfo ()));
+		
+		//columnar files are single files w/ footer, so collect and write in CP
+		if( oinfo == OutputInfo.ColumnarOutputInfo ) {
+			FrameBlock fb = readBlobFromRDD(rdd, new MutableBoolean());
+			FrameWriterFactory.createFrameWriter(oinfo)
+				.writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+			return;
+		}
 	    
 		//note: the write of an RDD to HDFS might trigger
 		//lazy evaluation of pending transformations.				
@@ -20,9 +20,13 @@
 package org.tugraz.sysds.runtime.controlprogram.caching;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -47,6 +51,10 @@ public class LazyWriteBuffer
 	//for (1) queue semantics and (2) constant time get/insert/delete operations)
 	private static EvictionQueue _mQueue;
 	
+	//buffers removed from the eviction queue but not yet written to local FS,
+	//which allows writing evicted buffers outside the global critical section
+	private static Map<String, ByteBuffer> _mEvicting;
+	
 	//file cleaner for synchronous or asynchronous delete of evicted files
 	private static FileCleaner _fClean;
 	
@@ -70,27 +78,22 @@ public class LazyWriteBuffer
 		{
 			//create byte buffer handle (no block allocation yet)
 			ByteBuffer bbuff = new ByteBuffer( lSize );
+			List<Entry<String, ByteBuffer>> victims = null;
 			
 			//modify buffer pool
 			synchronized( _mQueue )
 			{
-				//evict matrices to make room (by default FIFO)
+				//select matrices to evict to make room (by default FIFO)
 				while( _size+lSize > _limit && !_mQueue.isEmpty() )
 				{
 					//remove first entry from eviction queue
 					Entry<String, ByteBuffer> entry = _mQueue.removeFirst();
-					String ftmp = entry.getKey();
-					ByteBuffer tmp = entry.getValue();
-					
-					if( tmp != null ) {
-						//wait for pending serialization
-						tmp.checkSerialized();
-						
-						//evict matrix
-						tmp.evictBuffer(ftmp);
-						tmp.freeMemory();
-						_size -= tmp.getSize();
-						numEvicted++;
+					if( entry.getValue() != null ) {
+						if( victims == null )
+							victims = new ArrayList<>();
+						victims.add(entry);
+						_mEvicting.put(entry.getKey(), entry.getValue());
+						_size -= entry.getValue().getSize();
 					}
 				}
 				
@@ -99,6 +102,14 @@ public class LazyWriteBuffer
 				_size += lSize;
 			}
 			
+			//evict matrices (outside synchronized critical path, where
+			//concurrent reads are still served from the evicting buffers)
+			if( victims != null ) {
+				for( Entry<String, ByteBuffer> entry : victims )
+					evictBuffer(entry.getKey(), entry.getValue());
+				numEvicted += victims.size();
+			}
+			
 			//serialize matrix (outside synchronized critical path)
 			bbuff.serializeBlock(cb);
 			
@@ -120,6 +131,19 @@ public class LazyWriteBuffer
 		return numEvicted;
 	}
 	
+	private static void evictBuffer(String fname, ByteBuffer bbuff)
+		throws IOException
+	{
+		//wait for pending serialization
+		bbuff.checkSerialized();
+		
+		//evict matrix
+		bbuff.evictBuffer(fname);
+		if( !_mEvicting.remove(fname, bbuff) ) //deleted during eviction
+			LocalFileUtils.deleteFileIfExists(fname, true);
+		bbuff.freeMemory();
+	}
+	
 	public static void deleteBlock(String fname)
 	{
 		boolean requiresDelete = true;
@@ -135,6 +159,10 @@ public class LazyWriteBuffer
 			}
 		}
 		
+		//remove pending eviction (file cleanup by evicting thread)
+		if( requiresDelete && _mEvicting.remove(fname) != null )
+			requiresDelete = false;
+		
 		//delete from FS if required
 		if( requiresDelete )
 			_fClean.deleteFile(fname);
@@ -161,10 +189,17 @@ public class LazyWriteBuffer
 			}
 		}
 		
+		//probe pending evictions
+		if( ldata == null )
+			ldata = _mEvicting.get(fname);
+		
 		//deserialize or read from FS if required
+		//(buffers freed by concurrent evictions are read from FS)
 		if( ldata != null )
-		{
 			cb = ldata.deserializeBlock();
+		
+		if( cb != null )
+		{
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSBuffHits();
 		}
@@ -180,19 +215,26 @@ public class LazyWriteBuffer
 
 	public static void init() {
 		_mQueue = new EvictionQueue();
+		_mEvicting = new ConcurrentHashMap<>();
 		_fClean = new FileCleaner();
 		_size = 0;
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.init();
+		if( CacheableData.CACHING_BUFFER_OFFHEAP )
+			DirectBufferPool.init();
 	}
 
 	public static void cleanup() {
 		if( _mQueue != null )
 			_mQueue.clear();
+		if( _mEvicting != null )
+			_mEvicting.clear();
 		if( _fClean != null )
 			_fClean.close();
 		if( CacheableData.CACHING_BUFFER_PAGECACHE )
 			PageCache.clear();
+		if( CacheableData.CACHING_BUFFER_OFFHEAP )
+			DirectBufferPool.clear();
 	}
 
 	public static long getWriteBufferLimit() {
@@ -212,7 +254,8 @@ public class LazyWriteBuffer
 	}
 	
 	public static long getCacheBlockSize(CacheBlock cb) {
-		return cb.isShallowSerialize() ?
+		//note: off-heap buffers always hold the serialized representation
+		return (cb.isShallowSerialize() && !CacheableData.CACHING_BUFFER_OFFHEAP) ?
 			cb.getInMemorySize() : cb.getExactSerializedSize();
 	}
 	
@@ -19,49 +19,214 @@
 
 package org.tugraz.sysds.runtime.controlprogram.caching;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.tugraz.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+
+/**
+ * Thread-safe pool of byte arrays (pages) for the reuse of serialization
+ * buffers of the buffer pool and the buffers of local binary block I/O.
+ * 
+ * Pages are organized in power-of-two size classes, where class k holds
+ * pages of length [2^k, 2^(k+1)). A request of size s is served from the 
+ * class of s (first page of sufficient length) or the next larger class,
+ * which means returned pages might be larger than requested. The total
+ * size of pooled pages is bounded by a hard limit, and small pages are 
+ * additionally kept in per-thread magazines to avoid contention on the 
+ * shared size classes for frequently used stream buffers.
+ * 
+ */
 public class PageCache 
 {
-	private static final int CLEANUP_THRESHOLD = 128;
-	private static HashMap<Integer, LinkedList<SoftReference<byte[]>>> _pool;
-
+	//maximum pool size as fraction of max heap (in addition to write buffer)
+	private static final double POOL_LIMIT = 0.05;
+	//maximum page size kept in thread-local magazines
+	private static final int MAGAZINE_MAX_PAGE = 64 * 1024;
+	//maximum number of pages scanned in the class of the requested size
+	private static final int MAX_SCAN = 8;
+	private static final int NUM_CLASSES = 32;
+	
+	@SuppressWarnings("unchecked")
+	private static final ConcurrentLinkedDeque<byte[]>[] _pool = new ConcurrentLinkedDeque[NUM_CLASSES];
+	private static final ThreadLocal<byte[][]> _magazines = new ThreadLocal<byte[][]>() {
+		@Override protected byte[][] initialValue() {
+			return new byte[classOf(MAGAZINE_MAX_PAGE)+1][];
+		}
+	};
+	private static final AtomicLong _size = new AtomicLong(0);
+	private static long _limit = computeLimit();
+	
+	//hit/miss statistics
+	private static final LongAdder _numHits = new LongAdder();
+	private static final LongAdder _numMisses = new LongAdder();
+	private static final LongAdder _numBytesRecycled = new LongAdder();
+	
+	static {
+		for( int i=0; i<NUM_CLASSES; i++ )
+			_pool[i] = new ConcurrentLinkedDeque<>();
+	}
+	
 	public static void init() {
-		_pool = new HashMap<>();
+		clear();
+		_limit = computeLimit();
 	}
 
-	public static void clear()
-	{
-		_pool = null;
+	public static void clear() {
+		for( ConcurrentLinkedDeque<byte[]> list : _pool )
+			list.clear();
+		_size.set(0);
+		//note: magazines of other threads are released with these threads,
+		//and the current thread's magazine is reset for consistent statistics
+		_magazines.remove();
 	}
 
+	/**
+	 * Returns a page to the pool. The page is dropped if the 
+	 * pool is full. The caller must not use the page afterwards.
+	 * 
+	 * @param data byte array
+	 */
 	public static void putPage( byte[] data )
 	{
-		//cleanup if too many different size lists
-		if( _pool.size()>CLEANUP_THRESHOLD )
-			_pool.clear();
+		if( data == null || data.length == 0 )
+			return;
+		int k = classOf(data.length);
 		
-		LinkedList<SoftReference<byte[]>> list = _pool.get( data.length );
-		if( list==null ){
-			list = new LinkedList<>();
-			_pool.put(data.length, list);
+		//probe thread-local magazine for small pages
+		if( data.length <= MAGAZINE_MAX_PAGE ) {
+			byte[][] mag = _magazines.get();
+			if( mag[k] == null ) {
+				mag[k] = data;
+				return;
+			}
+		}
+		
+		//reserve space in shared pool (otherwise drop page)
+		long len = data.length;
+		long size = _size.get();
+		while( size + len <= _limit ) {
+			if( _size.compareAndSet(size, size + len) ) {
+				_pool[k].addFirst(data);
+				return;
+			}
+			size = _size.get();
 		}
-		list.addLast(new SoftReference<>(data));	
 	}
 
+	/**
+	 * Obtains a page of at least the given size from the pool, 
+	 * or null if no such page is available. 
+	 * 
+	 * @param size minimum page size in bytes
+	 * @return byte array of length &gt;= size, or null
+	 */
 	public static byte[] getPage( int size )
 	{
-		LinkedList<SoftReference<byte[]>> list = _pool.get( size );
-		if( list!=null ) {
-			while( !list.isEmpty() ){
-				SoftReference<byte[]> ref = list.removeFirst();
-				byte[] tmp = ref.get();
-				if( tmp!=null )
-					return tmp;
+		if( size <= 0 )
+			return null;
+		int k = classOf(size);
+		
+		//probe thread-local magazine for small pages
+		byte[] ret = null;
+		if( size <= MAGAZINE_MAX_PAGE ) {
+			byte[][] mag = _magazines.get();
+			if( mag[k] != null && mag[k].length >= size ) {
+				ret = mag[k];
+				mag[k] = null;
+			}
+			else if( k+1 < mag.length && mag[k+1] != null ) {
+				ret = mag[k+1];
+				mag[k+1] = null;
+			}
+		}
+		
+		//probe shared size class of requested size (tight fit) 
+		if( ret == null )
+			ret = pollFitting(_pool[k], size);
+		
+		//probe next larger size class (any page fits)
+		if( ret == null && k+1 < NUM_CLASSES ) {
+			ret = _pool[k+1].pollFirst();
+			if( ret != null )
+				_size.addAndGet(-ret.length);
+		}
+		
+		//maintain statistics
+		if( ret != null ) {
+			_numHits.increment();
+			_numBytesRecycled.add(ret.length);
+		}
+		else
+			_numMisses.increment();
+		
+		return ret;
+	}
+	
+	/**
+	 * Obtains a page of at least the given size from the pool,
+	 * or allocates a new page of exactly the given size.
+	 * 
+	 * @param size minimum page size in bytes
+	 * @return byte array of length &gt;= size
+	 */
+	public static byte[] getOrAllocPage( int size ) {
+		byte[] ret = getPage(size);
+		return (ret != null) ? ret : new byte[size];
+	}
+	
+	public static long getPoolSize() {
+		return _size.get();
+	}
+	
+	public static long getNumHits() {
+		return _numHits.longValue();
+	}
+	
+	public static long getNumMisses() {
+		return _numMisses.longValue();
+	}
+	
+	public static long getNumBytesRecycled() {
+		return _numBytesRecycled.longValue();
+	}
+	
+	public static void resetStatistics() {
+		_numHits.reset();
+		_numMisses.reset();
+		_numBytesRecycled.reset();
+	}
+	
+	public static String displayStatistics() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHits.longValue());
+		sb.append("/");
+		sb.append(_numMisses.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_numBytesRecycled.longValue())/(1024*1024)));
+		return sb.toString();
+	}
+	
+	private static byte[] pollFitting( ConcurrentLinkedDeque<byte[]> list, int size ) {
+		Iterator<byte[]> iter = list.iterator();
+		for( int i=0; i<MAX_SCAN && iter.hasNext(); i++ ) {
+			byte[] tmp = iter.next();
+			//remove by identity, which might fail on concurrent polls
+			if( tmp.length >= size && list.removeFirstOccurrence(tmp) ) {
+				_size.addAndGet(-tmp.length);
+				return tmp;
 			}
 		}
 		return null;
 	}
+	
+	private static int classOf( int len ) {
+		return 31 - Integer.numberOfLeadingZeros(len);
+	}
+	
+	private static long computeLimit() {
+		return (long)(POOL_LIMIT * InfrastructureAnalyzer.getLocalMaxMemory());
+	}
 }
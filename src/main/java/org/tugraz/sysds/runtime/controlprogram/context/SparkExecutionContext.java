@@ -547,6 +547,13 @@ public class SparkExecutionContext extends ExecutionContext
 			//return existing rdd handling (w/o input format change)
 			rdd = fo.getRDDHandle().getRDD();
 		}
+		//CASE 2a/3a: columnar frames w/o hadoop input format
+		else if( inputInfo2 == InputInfo.ColumnarInputInfo )
+		{
+			RDDObject rddhandle = createColumnarFrameRDDHandle(fo);
+			rdd = rddhandle.getRDD();
+			fo.setRDDHandle(rddhandle);
+		}
 		//CASE 2: dirty in memory data or cached result of rdd operations
 		else if( fo.isDirty() || fo.isCached(false) )
 		{
@@ -555,7 +562,7 @@ public class SparkExecutionContext extends ExecutionContext
 			DataCharacteristics dc = fo.getDataCharacteristics();
 			boolean fromFile = false;
 			if( !OptimizerUtils.checkSparkCollectMemoryBudget(dc, 0) || !_parRDDs.reserve(
-					OptimizerUtils.estimatePartitionedSizeExactSparsity(dc)) ) {
+				OptimizerUtils.estimatePartitionedSizeExactSparsity(dc)) ) {
 				if( fo.isDirty() ) { //write only if necessary
 					fo.exportData();
 				}
@@ -606,6 +613,40 @@ public class SparkExecutionContext extends ExecutionContext
 		return rdd;
 	}
 
+	/**
+	 * Creates an rdd handle for a columnar frame, for which no hadoop input format
+	 * exists. The frame is read in CP and parallelized w/ guarded memory budget, or
+	 * if too large, exported to a temporary binary block file that is read as rdd.
+	 *
+	 * @param fo frame object
+	 * @return rdd handle
+	 */
+	@SuppressWarnings({ "unchecked", "resource" })
+	private RDDObject createColumnarFrameRDDHandle(FrameObject fo) {
+		JavaSparkContext sc = getSparkContext();
+		DataCharacteristics dc = fo.getDataCharacteristics();
+		long size = OptimizerUtils.estimatePartitionedSizeExactSparsity(dc);
+		if( OptimizerUtils.checkSparkCollectMemoryBudget(dc, 0) && _parRDDs.reserve(size) ) {
+			FrameBlock fb = fo.acquireRead(); //pin frame in memory
+			JavaPairRDD<Long, FrameBlock> rdd = toFrameJavaPairRDD(sc, fb);
+			fo.release(); //unpin frame
+			_parRDDs.registerRDD(rdd.id(), size, true);
+			RDDObject rddhandle = new RDDObject(rdd);
+			rddhandle.setParallelizedRDD(true);
+			return rddhandle;
+		}
+		
+		//export to temporary binary block file (removed on rdd cleanup)
+		String fname = OptimizerUtils.getUniqueTempFileName();
+		fo.exportData(fname, OutputInfo.outputInfoToString(OutputInfo.BinaryBlockOutputInfo));
+		InputInfo iinfo = InputInfo.BinaryBlockFrameInputInfo;
+		JavaPairRDD<?,?> rdd = sc.hadoopFile(fname, iinfo.inputFormatClass, iinfo.inputKeyClass, iinfo.inputValueClass);
+		rdd = ((JavaPairRDD<LongWritable, FrameBlock>)rdd).mapToPair( new CopyFrameBlockPairFunction() ); //cp is workaround for read bug
+		RDDObject rddhandle = new RDDObject(rdd);
+		rddhandle.setHDFSFilename(fname);
+		return rddhandle;
+	}
+
 	public Broadcast<CacheBlock> broadcastVariable(CacheableData<CacheBlock> cd) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		Broadcast<CacheBlock> brBlock = null;
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.tugraz.sysds.runtime.controlprogram.federated;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+import org.tugraz.sysds.runtime.util.ByteBufferDataInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Framed binary codec for federated requests and responses, which replaces
+ * generic Java serialization. Matrix blocks are written in their binary block
+ * format directly into pooled buffers, and read from a view of the received
+ * frame without intermediate byte arrays. Operators and other parameters
+ * fall back to Java serialization.
+ * 
+ * Frame layout: [int length][byte msgtype][long id][msg payload], where
+ * requests are encoded as [byte method][int nparams][params] and responses
+ * as [byte status][param], and each param as [byte type][value].
+ */
+public class FederatedCodec {
+	private static final byte MSG_REQUEST  = 1;
+	private static final byte MSG_RESPONSE = 2;
+	
+	private static final byte PARAM_NULL    = 0;
+	private static final byte PARAM_LONG    = 1;
+	private static final byte PARAM_INT     = 2;
+	private static final byte PARAM_DOUBLE  = 3;
+	private static final byte PARAM_BOOLEAN = 4;
+	private static final byte PARAM_STRING  = 5;
+	private static final byte PARAM_MATRIX  = 6;
+	private static final byte PARAM_OBJECT  = 7;
+	private static final byte PARAM_REQUEST = 8;
+	private static final byte PARAM_BATCHREF = 9;
+	
+	private static final int HEADER_SIZE = 4 + 1 + 8 + 1 + 4;
+	private static final int DEFAULT_PARAM_SIZE = 256;
+	
+	public static class Encoder extends MessageToByteEncoder<Object> {
+		@Override
+		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) {
+			//allocate the exact size for matrix blocks to avoid reallocations
+			long size = HEADER_SIZE;
+			if( msg instanceof FederatedRequest )
+				size += estimateSize(msg);
+			else
+				size += estimateSize(((FederatedResponse) msg).getData());
+			int isize = (int) Math.min(size, Integer.MAX_VALUE);
+			return preferDirect ? ctx.alloc().ioBuffer(isize) : ctx.alloc().heapBuffer(isize);
+		}
+		
+		@Override
+		protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws IOException {
+			int start = out.writerIndex();
+			out.writeInt(0); //frame length, set at end
+			ByteBufDataOutput dout = new ByteBufDataOutput(out);
+			if( msg instanceof FederatedRequest ) {
+				FederatedRequest req = (FederatedRequest) msg;
+				out.writeByte(MSG_REQUEST);
+				out.writeLong(req.getID());
+				writeRequest(dout, req);
+			}
+			else if( msg instanceof FederatedResponse ) {
+				FederatedResponse resp = (FederatedResponse) msg;
+				out.writeByte(MSG_RESPONSE);
+				out.writeLong(resp.getID());
+				out.writeByte(resp.getType().ordinal());
+				writeParam(dout, resp.getData());
+			}
+			else
+				throw new DMLRuntimeException("Unsupported federated message: "+msg.getClass().getSimpleName());
+			out.setInt(start, out.writerIndex() - start - 4);
+		}
+	}
+	
+	public static class Decoder extends LengthFieldBasedFrameDecoder {
+		public Decoder() {
+			super(Integer.MAX_VALUE, 0, 4, 0, 4);
+		}
+		
+		@Override
+		protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+			ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+			if( frame == null )
+				return null; //incomplete frame
+			try {
+				//view of the frame (without copy for contiguous buffers)
+				ByteBufferDataInput din = new ByteBufferDataInput(frame.nioBuffer());
+				byte type = din.readByte();
+				long id = din.readLong();
+				if( type == MSG_REQUEST ) {
+					FederatedRequest req = readRequest(din);
+					req.setID(id);
+					return req;
+				}
+				else if( type == MSG_RESPONSE ) {
+					FederatedResponse.Type status = FederatedResponse.Type.values()[din.readByte()];
+					FederatedResponse resp = new FederatedResponse(status, readParam(din));
+					resp.setID(id);
+					return resp;
+				}
+				throw new DMLRuntimeException("Unsupported federated message type: "+type);
+			}
+			finally {
+				frame.release();
+			}
+		}
+	}
+	
+	private static long estimateSize(Object param) {
+		if( param instanceof FederatedRequest ) { //incl nested requests of batches
+			FederatedRequest req = (FederatedRequest) param;
+			long size = 1 + 1 + 4;
+			for( int i=0; i<req.getNumParams(); i++ )
+				size += estimateSize(req.getParam(i));
+			return size;
+		}
+		return (param instanceof MatrixBlock) ? 
+			1 + ((MatrixBlock) param).getExactSizeOnDisk() : DEFAULT_PARAM_SIZE;
+	}
+	
+	private static void writeRequest(ByteBufDataOutput out, FederatedRequest req) throws IOException {
+		out.writeByte(req.getMethod().ordinal());
+		out.writeInt(req.getNumParams());
+		for( int i=0; i<req.getNumParams(); i++ )
+			writeParam(out, req.getParam(i));
+	}
+	
+	private static FederatedRequest readRequest(ByteBufferDataInput in) throws IOException, ClassNotFoundException {
+		FederatedRequest.FedMethod method = FederatedRequest.FedMethod.values()[in.readByte()];
+		int numParams = in.readInt();
+		List<Object> params = new ArrayList<>(numParams);
+		for( int i=0; i<numParams; i++ )
+			params.add(readParam(in));
+		return new FederatedRequest(method, params);
+	}
+	
+	private static void writeParam(ByteBufDataOutput out, Object param) throws IOException {
+		if( param == null )
+			out.writeByte(PARAM_NULL);
+		else if( param instanceof Long ) {
+			out.writeByte(PARAM_LONG);
+			out.writeLong((Long) param);
+		}
+		else if( param instanceof Integer ) {
+			out.writeByte(PARAM_INT);
+			out.writeInt((Integer) param);
+		}
+		else if( param instanceof Double ) {
+			out.writeByte(PARAM_DOUBLE);
+			out.writeDouble((Double) param);
+		}
+		else if( param instanceof Boolean ) {
+			out.writeByte(PARAM_BOOLEAN);
+			out.writeBoolean((Boolean) param);
+		}
+		else if( param instanceof String ) {
+			byte[] tmp = ((String) param).getBytes(StandardCharsets.UTF_8);
+			out.writeByte(PARAM_STRING);
+			out.writeInt(tmp.length);
+			out.write(tmp);
+		}
+		else if( param instanceof MatrixBlock ) {
+			out.writeByte(PARAM_MATRIX);
+			((MatrixBlock) param).write(out);
+		}
+		else if( param instanceof FederatedRequest ) {
+			out.writeByte(PARAM_REQUEST);
+			writeRequest(out, (FederatedRequest) param);
+		}
+		else if( param instanceof FederatedRequest.BatchResultRef ) {
+			out.writeByte(PARAM_BATCHREF);
+			out.writeInt(((FederatedRequest.BatchResultRef) param).getPos());
+		}
+		else if( param instanceof Serializable ) {
+			//length-prefixed java serialization (e.g., operators, lists)
+			out.writeByte(PARAM_OBJECT);
+			int pos = out.buffer().writerIndex();
+			out.writeInt(0);
+			try( ObjectOutputStream oos = new ObjectOutputStream(new ByteBufOutputStream(out.buffer())) ) {
+				oos.writeObject(param);
+			}
+			out.buffer().setInt(pos, out.buffer().writerIndex() - pos - 4);
+		}
+		else
+			throw new DMLRuntimeException("Unsupported federated parameter: "+param.getClass().getSimpleName());
+	}
+	
+	private static Object readParam(ByteBufferDataInput in) throws IOException, ClassNotFoundException {
+		byte type = in.readByte();
+		switch( type ) {
+			case PARAM_NULL:    return null;
+			case PARAM_LONG:    return in.readLong();
+			case PARAM_INT:     return in.readInt();
+			case PARAM_DOUBLE:  return in.readDouble();
+			case PARAM_BOOLEAN: return in.readBoolean();
+			case PARAM_STRING: {
+				byte[] tmp = new byte[in.readInt()];
+				in.readFully(tmp);
+				return new String(tmp, StandardCharsets.UTF_8);
+			}
+			case PARAM_MATRIX: {
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(in);
+				return mb;
+			}
+			case PARAM_OBJECT: {
+				byte[] tmp = new byte[in.readInt()];
+				in.readFully(tmp);
+				try( ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(tmp)) ) {
+					return ois.readObject();
+				}
+			}
+			case PARAM_REQUEST: return readRequest(in);
+			case PARAM_BATCHREF: return new FederatedRequest.BatchResultRef(in.readInt());
+			default:
+				throw new DMLRuntimeException("Unsupported federated parameter type: "+type);
+		}
+	}
+	
+	/**
+	 * Data output over a netty byte buffer, with bulk serialization
+	 * of dense and sparse blocks.
+	 */
+	private static class ByteBufDataOutput extends ByteBufOutputStream implements MatrixBlockDataOutput {
+		public ByteBufDataOutput(ByteBuf buffer) {
+			super(buffer);
+		}
+		
+		@Override
+		public void writeDoubleArray(int len, double[] varr) {
+			ByteBuf buff = buffer();
+			buff.ensureWritable(8 * len);
+			for( int i=0; i<len; i++ )
+				buff.writeDouble(varr[i]);
+		}
+		
+		@Override
+		public void writeSparseRows(int rlen, SparseBlock rows) {
+			ByteBuf buff = buffer();
+			int lrlen = Math.min(rows.numRows(), rlen);
+			for( int i=0; i<lrlen; i++ ) {
+				if( rows.isEmpty(i) ) {
+					buff.writeInt(0);
+					continue;
+				}
+				int apos = rows.pos(i);
+				int alen = rows.size(i);
+				int[] aix = rows.indexes(i);
+				double[] avals = rows.values(i);
+				buff.ensureWritable(4 + 12 * alen);
+				buff.writeInt(alen);
+				for( int j=apos; j<apos+alen; j++ ) {
+					buff.writeInt(aix[j]);
+					buff.writeDouble(avals[j]);
+				}
+			}
+			//remaining empty rows
+			for( int i=lrlen; i<rlen; i++ )
+				buff.writeInt(0);
+		}
+	}
+}
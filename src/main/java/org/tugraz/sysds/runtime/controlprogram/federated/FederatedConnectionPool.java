@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.tugraz.sysds.runtime.controlprogram.federated;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Promise;
+
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of long-lived client connections to federated workers, which share
+ * a single event loop. Each worker is served by a small number of channels
+ * (used round-robin), and concurrent requests are multiplexed over these
+ * channels via request IDs that are echoed by the worker in the response.
+ */
+public class FederatedConnectionPool {
+	private static final Map<InetSocketAddress, WorkerChannels> _pool = new ConcurrentHashMap<>();
+	private static final AtomicLong _reqIDs = new AtomicLong(0);
+	private static EventLoopGroup _workerGroup = null;
+	
+	/**
+	 * Sends the given request over a pooled connection to the federated worker
+	 * at the given address.
+	 * 
+	 * @param address address of the federated worker
+	 * @param request the requested operation
+	 * @return the response future
+	 */
+	public static Promise<FederatedResponse> execute(InetSocketAddress address, FederatedRequest request) {
+		//copy w/ shared data objects (see deepClone) and a unique request ID
+		//because the same request might be sent to multiple workers concurrently
+		FederatedRequest req = request.deepClone();
+		req.setID(_reqIDs.incrementAndGet());
+		
+		Channel ch = _pool.computeIfAbsent(address, a -> new WorkerChannels()).getChannel(address);
+		Promise<FederatedResponse> promise = ch.eventLoop().newPromise();
+		ResponseHandler handler = ch.pipeline().get(ResponseHandler.class);
+		handler.register(req.getID(), promise);
+		if( !ch.isActive() ) //closed before registration
+			handler.fail(req.getID(), new DMLRuntimeException("Federated connection closed: "+address));
+		ch.writeAndFlush(req).addListener((ChannelFutureListener) f -> {
+			if( !f.isSuccess() )
+				handler.fail(req.getID(), f.cause());
+		});
+		return promise;
+	}
+	
+	/**
+	 * Closes all pooled connections and shuts down the shared event loop.
+	 */
+	public static synchronized void clear() {
+		_pool.values().forEach(WorkerChannels::close);
+		_pool.clear();
+		if( _workerGroup != null )
+			_workerGroup.shutdownGracefully();
+		_workerGroup = null;
+	}
+	
+	private static synchronized EventLoopGroup getWorkerGroup() {
+		//daemon threads to not block the termination of the control program
+		if( _workerGroup == null ) {
+			int numThreads = Math.max(ConfigurationManager.getDMLConfig()
+				.getIntValue(DMLConfig.FEDERATED_CLIENT_THREADS), 1);
+			_workerGroup = new NioEventLoopGroup(numThreads,
+				new DefaultThreadFactory("federated-client", true));
+		}
+		return _workerGroup;
+	}
+	
+	private static Channel connect(InetSocketAddress address) {
+		final ResponseHandler handler = new ResponseHandler();
+		Bootstrap b = new Bootstrap();
+		b.group(getWorkerGroup()).channel(NioSocketChannel.class)
+			.option(ChannelOption.SO_KEEPALIVE, true)
+			.option(ChannelOption.TCP_NODELAY, true)
+			.handler(new ChannelInitializer<SocketChannel>() {
+				@Override
+				public void initChannel(SocketChannel ch) {
+					ch.pipeline().addLast("FederatedDecoder", new FederatedCodec.Decoder())
+						.addLast("FederatedOperationHandler", handler)
+						.addLast("FederatedEncoder", new FederatedCodec.Encoder());
+				}
+			});
+		try {
+			return b.connect(address).sync().channel();
+		}
+		catch (InterruptedException e) {
+			throw new DMLRuntimeException("Could not connect to federated worker "+address+".");
+		}
+		catch (Exception e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+	
+	private static class WorkerChannels {
+		private final Channel[] _channels = new Channel[Math.max(ConfigurationManager
+			.getDMLConfig().getIntValue(DMLConfig.FEDERATED_CONNECTIONS), 1)];
+		private final AtomicInteger _pos = new AtomicInteger(0);
+		
+		public Channel getChannel(InetSocketAddress address) {
+			int ix = Math.floorMod(_pos.getAndIncrement(), _channels.length);
+			Channel ch = _channels[ix];
+			if( ch != null && ch.isActive() )
+				return ch;
+			//(re)connect lazily, e.g., after worker restarts
+			synchronized( this ) {
+				if( _channels[ix] == null || !_channels[ix].isActive() )
+					_channels[ix] = connect(address);
+				return _channels[ix];
+			}
+		}
+		
+		public synchronized void close() {
+			for( Channel ch : _channels )
+				if( ch != null )
+					ch.close();
+		}
+	}
+	
+	private static class ResponseHandler extends ChannelInboundHandlerAdapter {
+		private final Map<Long, Promise<FederatedResponse>> _pending = new ConcurrentHashMap<>();
+		
+		public void register(long id, Promise<FederatedResponse> prom) {
+			_pending.put(id, prom);
+		}
+		
+		public void fail(long id, Throwable cause) {
+			Promise<FederatedResponse> prom = _pending.remove(id);
+			if( prom != null )
+				prom.tryFailure(cause);
+		}
+		
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			FederatedResponse response = (FederatedResponse) msg;
+			Promise<FederatedResponse> prom = _pending.remove(response.getID());
+			if( prom == null )
+				throw new DMLRuntimeException("Received response for unknown federated request "+response.getID());
+			prom.setSuccess(response);
+		}
+		
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			//fail all outstanding requests of a closed connection
+			DMLRuntimeException ex = new DMLRuntimeException("Federated connection closed: "+ctx.channel().remoteAddress());
+			_pending.values().forEach(p -> p.tryFailure(ex));
+			_pending.clear();
+		}
+		
+		@Override
+		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			_pending.values().forEach(p -> p.tryFailure(cause));
+			_pending.clear();
+			ctx.close();
+		}
+	}
+}
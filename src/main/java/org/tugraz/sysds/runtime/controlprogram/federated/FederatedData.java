@@ -17,21 +17,6 @@
 
 package org.tugraz.sysds.runtime.controlprogram.federated;
 
-import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.netty.channel.ChannelInitializer;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ObjectEncoder;
-import io.netty.util.concurrent.Promise;
-
-import org.tugraz.sysds.conf.DMLConfig;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 
 import java.net.InetSocketAddress;
@@ -45,7 +30,6 @@ public class FederatedData {
 	 * The ID of default matrix/tensor on which operations get executed if no other ID is given.
 	 */
 	private long _varID = -1; // -1 is never valid since varIDs start at 0
-	private int _nrThreads = Integer.parseInt(DMLConfig.DEFAULT_NUMBER_OF_FEDERATED_WORKER_THREADS);
 
 
 	public FederatedData(InetSocketAddress address, String filepath) {
@@ -117,62 +101,34 @@ public class FederatedData {
 		return executeFederatedOperation(request);
 	}
 	
+	/**
+	 * Executes a chain of federated operations on a federated worker in a single round trip,
+	 * where the first operation is applied to the default variable, and each subsequent
+	 * operation to the worker-local result of its predecessor. Only the result of the
+	 * last operation is returned.
+	 *
+	 * @param requests the requested operations (without varIDs)
+	 * @return the response of the last operation
+	 */
+	public Future<FederatedResponse> executeFederatedChain(FederatedRequest... requests) {
+		if( !isInitialized() )
+			throw new DMLRuntimeException("Tried to execute federated operation on data non initialized federated data.");
+		FederatedRequest batch = new FederatedRequest(FederatedRequest.FedMethod.EXEC_BATCH);
+		for( int i=0; i<requests.length; i++ )
+			batch.appendParam(requests[i].deepClone().appendParam(
+				(i==0) ? _varID : new FederatedRequest.BatchResultRef(i-1)));
+		return executeFederatedOperation(batch);
+	}
+	
 	/**
 	 * Executes an federated operation on a federated worker.
 	 *
 	 * @param request the requested operation
 	 * @return the response
 	 */
-	public synchronized Future<FederatedResponse> executeFederatedOperation(FederatedRequest request) {
-		// Careful with the number of threads. Each thread opens connections to multiple files making resulting in 
-		// java.io.IOException: Too many open files
-		EventLoopGroup workerGroup = new NioEventLoopGroup(_nrThreads);
-		try {
-			Bootstrap b = new Bootstrap();
-			final DataRequestHandler handler = new DataRequestHandler(workerGroup);
-			b.group(workerGroup).channel(NioSocketChannel.class).handler(new ChannelInitializer<SocketChannel>() {
-				@Override
-				public void initChannel(SocketChannel ch) {
-					ch.pipeline().addLast("ObjectDecoder",
-							new ObjectDecoder(Integer.MAX_VALUE, ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())))
-							.addLast("FederatedOperationHandler", handler)
-							.addLast("ObjectEncoder", new ObjectEncoder());
-				}
-			});
-			
-			ChannelFuture f = b.connect(_address).sync();
-			Promise<FederatedResponse> promise = f.channel().eventLoop().newPromise();
-			handler.setPromise(promise);
-			f.channel().writeAndFlush(request);
-			return promise;
-		}
-		catch (InterruptedException e) {
-			throw new DMLRuntimeException("Could not send federated operation.");
-		}
-		catch (Exception e) {
-			throw new DMLRuntimeException(e);
-		}
-	}
-	
-	private static class DataRequestHandler extends ChannelInboundHandlerAdapter {
-		private Promise<FederatedResponse> _prom;
-		private EventLoopGroup _workerGroup;
-		
-		public DataRequestHandler(EventLoopGroup workerGroup) {
-			_workerGroup = workerGroup;
-		}
-		
-		public void setPromise(Promise<FederatedResponse> prom) {
-			_prom = prom;
-		}
-		
-		@Override
-		public void channelRead(ChannelHandlerContext ctx, Object msg) {
-			if (_prom == null)
-				throw new DMLRuntimeException("Read while no message was sent");
-			_prom.setSuccess((FederatedResponse) msg);
-			ctx.close();
-			_workerGroup.shutdownGracefully();
-		}
+	public Future<FederatedResponse> executeFederatedOperation(FederatedRequest request) {
+		// Requests are multiplexed over pooled, long-lived connections, which
+		// avoids the connection setup and teardown per request
+		return FederatedConnectionPool.execute(_address, request);
 	}
 }
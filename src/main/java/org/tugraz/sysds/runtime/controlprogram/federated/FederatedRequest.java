@@ -26,11 +26,13 @@ public class FederatedRequest implements Serializable {
 	private static final long serialVersionUID = 5946781306963870394L;
 	
 	public enum FedMethod {
-		READ, MATVECMULT, TRANSFER, AGGREGATE, SCALAR
+		READ, MATVECMULT, TRANSFER, AGGREGATE, SCALAR,
+		EXEC_BATCH, //sequence of requests, only last result returned
 	}
 	
 	private FedMethod _method;
 	private List<Object> _data;
+	private long _id = -1; //for multiplexing over pooled connections
 	
 	public FederatedRequest(FedMethod method, List<Object> data) {
 		_method = method;
@@ -51,6 +53,14 @@ public class FederatedRequest implements Serializable {
 		return _method;
 	}
 	
+	public long getID() {
+		return _id;
+	}
+	
+	public void setID(long id) {
+		_id = id;
+	}
+	
 	public Object getParam(int i) {
 		return _data.get(i);
 	}
@@ -72,4 +82,24 @@ public class FederatedRequest implements Serializable {
 	public FederatedRequest deepClone() {
 		return new FederatedRequest(_method, new ArrayList<>(_data));
 	}
+	
+	/**
+	 * Parameter that refers to the worker-local result of the request at
+	 * the given position of a batch request, which the worker replaces by
+	 * the variable ID of this intermediate result. Intermediate results
+	 * are only valid until the end of the batch.
+	 */
+	public static class BatchResultRef implements Serializable {
+		private static final long serialVersionUID = -2917408655731932563L;
+		
+		private final int _pos;
+		
+		public BatchResultRef(int pos) {
+			_pos = pos;
+		}
+		
+		public int getPos() {
+			return _pos;
+		}
+	}
 }
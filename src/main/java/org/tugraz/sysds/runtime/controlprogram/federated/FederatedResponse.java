@@ -30,6 +30,7 @@ public class FederatedResponse implements Serializable {
 	
 	private FederatedResponse.Type _status;
 	private Object _data;
+	private long _id = -1; //ID of the corresponding request
 	
 	public FederatedResponse(FederatedResponse.Type status) {
 		this(status, null);
@@ -42,6 +43,18 @@ public class FederatedResponse implements Serializable {
 			_status = FederatedResponse.Type.SUCCESS_EMPTY;
 	}
 	
+	public long getID() {
+		return _id;
+	}
+	
+	public void setID(long id) {
+		_id = id;
+	}
+	
+	public FederatedResponse.Type getType() {
+		return _status;
+	}
+	
 	public boolean isSuccessful() {
 		return _status != FederatedResponse.Type.ERROR;
 	}
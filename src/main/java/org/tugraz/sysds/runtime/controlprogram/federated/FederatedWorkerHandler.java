@@ -54,7 +54,9 @@ import org.tugraz.sysds.utils.JSONHelper;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
@@ -81,9 +83,11 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 
 		synchronized (_seq) {
 			FederatedResponse response = constructResponse(request);
+			response.setID(request.getID());
 			if (!response.isSuccessful())
 				log.error("Method " + method + " failed: " + response.getErrorMessage());
-			ctx.writeAndFlush(response).addListener(new CloseListener());
+			// keep the connection open for subsequent requests (pooled by the client)
+			ctx.writeAndFlush(response).addListener(new WriteListener());
 		}
 	}
 
@@ -101,6 +105,8 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 					return executeAggregation(request);
 				case SCALAR:
 					return executeScalarOperation(request);
+				case EXEC_BATCH:
+					return executeBatch(request);
 				default:
 					String message = String.format("Method %s is not supported.", method);
 					return new FederatedResponse(FederatedResponse.Type.ERROR, message);
@@ -214,7 +220,7 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 					+ dataObject.getDataType().name());
 		}
 		MatrixObject matrixObject = (MatrixObject) dataObject;
-		MatrixBlock matrixBlock = matrixObject.acquireRead();
+		MatrixBlock matrixBlock = matrixObject.acquireReadAndRelease();
 		// create matrix for calculation with correction
 		MatrixCharacteristics mc = new MatrixCharacteristics();
 		// find out the characteristics after aggregation
@@ -258,13 +264,62 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		}
 
 		MatrixObject matrixObject = (MatrixObject) dataObject;
-		MatrixBlock inBlock = matrixObject.acquireRead();
+		MatrixBlock inBlock = matrixObject.acquireReadAndRelease();
 		MatrixBlock retBlock = inBlock.scalarOperations(operator, new MatrixBlock());
 		return new FederatedResponse(FederatedResponse.Type.SUCCESS, retBlock);
 	}
 
-	@SuppressWarnings("unused")
-	private FederatedResponse createMatrixObject(MatrixBlock result) {
+	private FederatedResponse executeBatch(FederatedRequest request) {
+		// execute the requests in order, where intermediate results are kept as
+		// worker-local variables (referenced by batch result refs) until the end
+		int numRequests = request.getNumParams();
+		long[] resultIDs = new long[numRequests];
+		List<Long> tmpIDs = new ArrayList<>();
+		try {
+			FederatedResponse response = null;
+			for (int i = 0; i < numRequests; i++) {
+				FederatedRequest req = resolveBatchResultIDs((FederatedRequest) request.getParam(i), resultIDs, i);
+				if (req.getMethod() == FederatedRequest.FedMethod.EXEC_BATCH)
+					throw new DMLRuntimeException("FederatedWorkerHandler: Nested batch requests are not supported.");
+				response = constructResponse(req);
+				if (!response.isSuccessful() || i == numRequests - 1)
+					return response;
+				Object data = response.getData();
+				if (data instanceof MatrixBlock) {
+					resultIDs[i] = createMatrixObject((MatrixBlock) data);
+					tmpIDs.add(resultIDs[i]);
+				}
+				else if (data instanceof Long) //e.g., read
+					resultIDs[i] = (Long) data;
+				else
+					resultIDs[i] = -1; //no referenceable result
+			}
+			return new FederatedResponse(FederatedResponse.Type.SUCCESS_EMPTY);
+		}
+		finally {
+			// cleanup intermediate results
+			for (long id : tmpIDs)
+				_vars.remove(id).clearData();
+		}
+	}
+
+	private static FederatedRequest resolveBatchResultIDs(FederatedRequest request, long[] resultIDs, int pos) {
+		List<Object> params = new ArrayList<>();
+		for (int i = 0; i < request.getNumParams(); i++) {
+			Object param = request.getParam(i);
+			if (param instanceof FederatedRequest.BatchResultRef) {
+				int ref = ((FederatedRequest.BatchResultRef) param).getPos();
+				if (ref < 0 || ref >= pos || resultIDs[ref] == -1)
+					throw new DMLRuntimeException("FederatedWorkerHandler: Invalid batch result reference "
+						+ ref + " in request " + pos + ".");
+				param = resultIDs[ref];
+			}
+			params.add(param);
+		}
+		return new FederatedRequest(request.getMethod(), params);
+	}
+
+	private long createMatrixObject(MatrixBlock result) {
 		MatrixObject resTo = new MatrixObject(Types.ValueType.FP64, OptimizerUtils.getUniqueTempFileName());
 		MetaDataFormat metadata = new MetaDataFormat(
 			new MatrixCharacteristics(result.getNumRows(), result.getNumColumns()),
@@ -274,7 +329,7 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		resTo.release();
 		long result_var = _seq.getNextID();
 		_vars.put(result_var, resTo);
-		return new FederatedResponse(FederatedResponse.Type.SUCCESS, result_var);
+		return result_var;
 	}
 
 	private static void checkNumParams(int actual, int... expected) {
@@ -290,12 +345,14 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		ctx.close();
 	}
 
-	private static class CloseListener implements ChannelFutureListener {
+	private static class WriteListener implements ChannelFutureListener {
 		@Override
-		public void operationComplete(ChannelFuture channelFuture) throws InterruptedException, DMLRuntimeException {
-			if (!channelFuture.isSuccess())
-				throw new DMLRuntimeException("Federated Worker Write failed");
-			channelFuture.channel().close().sync();
+		public void operationComplete(ChannelFuture channelFuture) {
+			// close the connection on failures, which fails pending requests at the client
+			if (!channelFuture.isSuccess()) {
+				log.error("Federated Worker Write failed", channelFuture.cause());
+				channelFuture.channel().close();
+			}
 		}
 	}
 }
@@ -71,6 +71,10 @@ public class LocalPSWorker extends PSWorker implements Callable<Void> {
 			}
 		} catch (Exception e) {
 			throw new DMLRuntimeException(String.format("%s failed", getWorkerName()), e);
+		} finally {
+			// Notify the ps that this worker pushed its last gradients,
+			// also on failures in order to not block the other workers
+			_ps.finish(_workerID);
 		}
 		return null;
 	}
@@ -30,12 +30,12 @@ public class LocalParamServer extends ParamServer {
 		super();
 	}
 
-	public static LocalParamServer create(ListObject model, String aggFunc, Statement.PSUpdateType updateType, ExecutionContext ec, int workerNum) {
-		return new LocalParamServer(model, aggFunc, updateType, ec, workerNum);
+	public static LocalParamServer create(ListObject model, String aggFunc, Statement.PSUpdateType updateType, int staleness, ExecutionContext ec, int workerNum) {
+		return new LocalParamServer(model, aggFunc, updateType, staleness, ec, workerNum);
 	}
 
-	private LocalParamServer(ListObject model, String aggFunc, Statement.PSUpdateType updateType, ExecutionContext ec, int workerNum) {
-		super(model, aggFunc, updateType, ec, workerNum);
+	private LocalParamServer(ListObject model, String aggFunc, Statement.PSUpdateType updateType, int staleness, ExecutionContext ec, int workerNum) {
+		super(model, aggFunc, updateType, staleness, ec, workerNum);
 	}
 
 	@Override
@@ -43,6 +43,11 @@ public class LocalParamServer extends ParamServer {
 		updateGlobalModel(workerID, gradients);
 	}
 
+	@Override
+	public void finish(int workerID) {
+		finishWorker(workerID);
+	}
+
 	@Override
 	public ListObject pull(int workerID) {
 		ListObject model;
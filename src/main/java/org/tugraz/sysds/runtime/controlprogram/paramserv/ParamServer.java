@@ -24,6 +24,7 @@ import static org.tugraz.sysds.runtime.controlprogram.paramserv.ParamservUtils.P
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -39,11 +40,16 @@ import org.tugraz.sysds.parser.DataIdentifier;
 import org.tugraz.sysds.parser.Statement;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.FunctionProgramBlock;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.controlprogram.parfor.stat.Timing;
+import org.tugraz.sysds.runtime.functionobjects.Plus;
 import org.tugraz.sysds.runtime.instructions.cp.CPOperand;
+import org.tugraz.sysds.runtime.instructions.cp.Data;
 import org.tugraz.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
 import org.tugraz.sysds.runtime.instructions.cp.ListObject;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.utils.Statistics;
 
 public abstract class ParamServer 
@@ -58,14 +64,17 @@ public abstract class ParamServer
 	//aggregation service
 	protected ExecutionContext _ec;
 	private Statement.PSUpdateType _updateType;
+	private int _staleness;
 	private FunctionCallCPInstruction _inst;
 	private String _outputName;
-	private boolean[] _finishedStates;  // Workers' finished states
-	private ListObject _accGradients = null;
+	private boolean[] _finishedStates;  // Workers' finished states (BSP: per iteration, SSP: overall)
+	private int[] _clocks;              // Workers' clocks, i.e., number of pushes (SSP)
+	private boolean[] _blockedStates;   // Workers' blocked states (SSP)
+	private ShardedGradients _accGradients = null;
 
 	protected ParamServer() {}
 
-	protected ParamServer(ListObject model, String aggFunc, Statement.PSUpdateType updateType, ExecutionContext ec, int workerNum) {
+	protected ParamServer(ListObject model, String aggFunc, Statement.PSUpdateType updateType, int staleness, ExecutionContext ec, int workerNum) {
 		// init worker queues and global model
 		_modelMap = new HashMap<>(workerNum);
 		IntStream.range(0, workerNum).forEach(i -> {
@@ -77,7 +86,11 @@ public abstract class ParamServer
 		// init aggregation service
 		_ec = ec;
 		_updateType = updateType;
+		_staleness = staleness;
 		_finishedStates = new boolean[workerNum];
+		_clocks = new int[workerNum];
+		_blockedStates = new boolean[workerNum];
+		_accGradients = new ShardedGradients(model.getLength());
 		setupAggFunc(_ec, aggFunc);
 		
 		// broadcast initial model
@@ -116,35 +129,52 @@ public abstract class ParamServer
 
 	public abstract ListObject pull(int workerID);
 
+	/**
+	 * Notifies the server that the given worker pushed its last gradients,
+	 * which excludes the worker from the staleness bound of SSP updates.
+	 *
+	 * @param workerID worker id
+	 */
+	public abstract void finish(int workerID);
+
 	public ListObject getResult() {
 		// All the model updating work has terminated,
 		// so we could return directly the result model
 		return _model;
 	}
 	
-	protected synchronized void updateGlobalModel(int workerID, ListObject gradients) {
+	protected void updateGlobalModel(int workerID, ListObject gradients) {
 		try {
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Successfully pulled the gradients [size:%d kb] of worker_%d.",
 					gradients.getDataSize() / 1024, workerID));
 			}
 
+			// Accumulate the intermediate gradients outside the global lock,
+			// where concurrent pushes only contend on the same model entries
+			if (_updateType.isBSP() && ACCRUE_BSP_GRADIENTS)
+				_accGradients.accrue(workerID, gradients);
+		}
+		catch (Exception e) {
+			throw new DMLRuntimeException("Aggregation service failed: ", e);
+		}
+		updateGlobalModelSync(workerID, gradients);
+	}
+
+	private synchronized void updateGlobalModelSync(int workerID, ListObject gradients) {
+		try {
 			switch(_updateType) {
 				case BSP: {
 					setFinishedState(workerID);
 
-					// Accumulate the intermediate gradients
-					if( ACCRUE_BSP_GRADIENTS )
-						_accGradients = ParamservUtils.accrueGradients(_accGradients, gradients, true);
-					else
+					// Update the global model with the individual gradients
+					if( !ACCRUE_BSP_GRADIENTS )
 						updateGlobalModel(gradients);
 
 					if (allFinished()) {
 						// Update the global model with accrued gradients
-						if( ACCRUE_BSP_GRADIENTS ) {
-							updateGlobalModel(_accGradients);
-							_accGradients = null;
-						}
+						if( ACCRUE_BSP_GRADIENTS )
+							updateGlobalModel(_accGradients.getAndReset());
 						
 						// Broadcast the updated model
 						resetFinishedStates();
@@ -159,6 +189,27 @@ public abstract class ParamServer
 					broadcastModel(workerID);
 					break;
 				}
+				case SSP: {
+					updateGlobalModel(gradients);
+					_clocks[workerID]++;
+
+					// Broadcast the updated model to the worker if it is within the
+					// staleness bound, otherwise block its next pull until the slowest
+					// worker caught up
+					int minClock = getMinClock();
+					if (_clocks[workerID] - minClock <= _staleness)
+						broadcastModel(workerID);
+					else
+						_blockedStates[workerID] = true;
+
+					// Release the blocked workers that are again within the bound
+					releaseBlockedWorkers(minClock);
+					if (LOG.isDebugEnabled()) {
+						LOG.debug(String.format("Worker_%d at clock %d [min clock: %d, staleness: %d].",
+							workerID, _clocks[workerID], minClock, _staleness));
+					}
+					break;
+				}
 				default:
 					throw new DMLRuntimeException("Unsupported update: " + _updateType.name());
 			}
@@ -168,6 +219,37 @@ public abstract class ParamServer
 		}
 	}
 
+	protected synchronized void finishWorker(int workerID) {
+		if (!_updateType.isSSP())
+			return;
+		// Exclude the finished worker from the minimum clock, and release
+		// the blocked workers that waited for the finished worker
+		setFinishedState(workerID);
+		try {
+			releaseBlockedWorkers(getMinClock());
+		}
+		catch (Exception e) {
+			throw new DMLRuntimeException("Aggregation service failed: ", e);
+		}
+	}
+
+	private int getMinClock() {
+		// Minimum clock of all active workers, where finished workers
+		// never advance their clocks and hence, are excluded
+		return IntStream.range(0, _clocks.length)
+			.filter(i -> !_finishedStates[i])
+			.map(i -> _clocks[i]).min().orElse(Integer.MAX_VALUE);
+	}
+
+	private void releaseBlockedWorkers(int minClock) throws InterruptedException {
+		for (int i = 0; i < _blockedStates.length; i++) {
+			if (_blockedStates[i] && _clocks[i] - minClock <= _staleness) {
+				_blockedStates[i] = false;
+				broadcastModel(i);
+			}
+		}
+	}
+
 	private void updateGlobalModel(ListObject gradients) {
 		Timing tAgg = DMLScript.STATISTICS ? new Timing(true) : null;
 		_model = updateLocalModel(_ec, gradients, _model);
@@ -235,4 +317,51 @@ public abstract class ParamServer
 		if (DMLScript.STATISTICS)
 			Statistics.accPSModelBroadcastTime((long) tBroad.stop());
 	}
+
+	/**
+	 * Accumulation buffer of BSP gradients, sharded by the entries of the model
+	 * list (i.e., the individual model tensors). Each shard is guarded by its
+	 * own lock and workers start accumulating at different shards, which allows
+	 * concurrent pushes to proceed in parallel over the different shards.
+	 */
+	private static class ShardedGradients
+	{
+		private final MatrixBlock[] _shards;
+		private final Object[] _locks;
+		private List<String> _names = null;
+
+		public ShardedGradients(int numShards) {
+			_shards = new MatrixBlock[numShards];
+			_locks = IntStream.range(0, numShards)
+				.mapToObj(i -> new Object()).toArray();
+		}
+
+		public void accrue(int workerID, ListObject gradients) {
+			if (gradients.getLength() != _shards.length) {
+				throw new DMLRuntimeException(String.format("Gradients of worker_%d with %d entries "
+					+ "do not match the model with %d entries.", workerID, gradients.getLength(), _shards.length));
+			}
+			_names = gradients.getNames();
+			BinaryOperator plus = new BinaryOperator(Plus.getPlusFnObject());
+			for (int j = 0; j < _shards.length; j++) {
+				int i = (workerID + j) % _shards.length;
+				MatrixBlock mb = ((MatrixObject) gradients.getData().get(i)).acquireReadAndRelease();
+				synchronized (_locks[i]) {
+					if (_shards[i] == null)
+						_shards[i] = mb;
+					else
+						_shards[i].binaryOperationsInPlace(plus, mb);
+				}
+			}
+			ParamservUtils.cleanupListObject(gradients);
+		}
+
+		public ListObject getAndReset() {
+			List<Data> data = Arrays.stream(_shards)
+				.map(mb -> ParamservUtils.newMatrixObject(mb))
+				.collect(Collectors.toList());
+			Arrays.fill(_shards, null);
+			return new ListObject(data, _names);
+		}
+	}
 }
@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.controlprogram.paramserv;
 
+import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcObject.FINISH;
 import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcObject.PULL;
 import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcObject.PUSH;
 
@@ -66,6 +67,21 @@ public class SparkPSProxy extends ParamServer {
 		}
 	}
 
+	@Override
+	public void finish(int workerID) {
+		Timing tRpc = DMLScript.STATISTICS ? new Timing(true) : null;
+		PSRpcResponse response;
+		try {
+			response = new PSRpcResponse(_client.sendRpcSync(new PSRpcCall(FINISH, workerID, null).serialize(), _rpcTimeout));
+		} catch (IOException e) {
+			throw new DMLRuntimeException(String.format("SparkPSProxy: spark worker_%d failed to notify its completion.", workerID), e);
+		}
+		accRpcRequestTime(tRpc);
+		if (!response.isSuccessful()) {
+			throw new DMLRuntimeException(String.format("SparkPSProxy: spark worker_%d failed to notify its completion. \n%s", workerID, response.getErrorMessage()));
+		}
+	}
+
 	@Override
 	public ListObject pull(int workerID) {
 		Timing tRpc = DMLScript.STATISTICS ? new Timing(true) : null;
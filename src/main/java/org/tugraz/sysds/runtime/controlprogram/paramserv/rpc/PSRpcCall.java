@@ -80,9 +80,10 @@ public class PSRpcCall extends PSRpcObject {
 		switch (method) {
 			case PUSH:
 			case PULL:
+			case FINISH:
 				break;
 			default:
-				throw new DMLRuntimeException("PSRpcCall: only support rpc method 'push' or 'pull'");
+				throw new DMLRuntimeException("PSRpcCall: only support rpc method 'push', 'pull', or 'finish'");
 		}
 	}
 }
@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.controlprogram.paramserv.rpc;
 
+import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcCall.FINISH;
 import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcCall.PULL;
 import static org.tugraz.sysds.runtime.controlprogram.paramserv.rpc.PSRpcCall.PUSH;
 
@@ -68,6 +69,20 @@ public final class PSRpcHandler extends RpcHandler {
 					}
 				}
 				break;
+			case FINISH:
+				try {
+					_server.finish(call.getWorkerID());
+					response = new PSRpcResponse(Type.SUCCESS_EMPTY);
+				} catch (DMLRuntimeException exception) {
+					response = new PSRpcResponse(Type.ERROR, ExceptionUtils.getFullStackTrace(exception));
+				} finally {
+					try {
+						callback.onSuccess(response.serialize());
+					} catch (IOException e) {
+						throw new DMLRuntimeException("PSRpcHandler: some error occrred when wrapping the rpc response.", e);
+					}
+				}
+				break;
 			case PULL:
 				ListObject data;
 				try {
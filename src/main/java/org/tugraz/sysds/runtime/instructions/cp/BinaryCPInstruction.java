@@ -23,7 +23,9 @@ import org.tugraz.sysds.common.Types.DataType;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
 
 public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 
@@ -40,11 +42,22 @@ public abstract class BinaryCPInstruction extends ComputationCPInstruction {
 		CPOperand in1 = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
 		CPOperand in2 = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
 		CPOperand out = new CPOperand("", ValueType.UNKNOWN, DataType.UNKNOWN);
-		String opcode = parseBinaryInstruction(str, in1, in2, out);
+		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
+		InstructionUtils.checkNumFields(parts, 3, 4);
+		String opcode = parts[0];
+		in1.split(parts[1]);
+		in2.split(parts[2]);
+		out.split(parts[3]);
+		//optional degree of parallelism for cellwise matrix operations
+		int k = (parts.length == 5) ? Integer.parseInt(parts[4]) : 1;
 		
 		checkOutputDataType(in1, in2, out);
 		
 		Operator operator = InstructionUtils.parseBinaryOrBuiltinOperator(opcode, in1, in2);
+		if( k > 1 && operator instanceof BinaryOperator )
+			operator = ((BinaryOperator) operator).setNumThreads(k);
+		else if( k > 1 && operator instanceof ScalarOperator )
+			operator = ((ScalarOperator) operator).setNumThreads(k);
 
 		if (in1.getDataType() == DataType.SCALAR && in2.getDataType() == DataType.SCALAR)
 			return new BinaryScalarScalarCPInstruction(operator, in1, in2, out, opcode, str);
@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.matrix.data.LibCommonsMath;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
@@ -36,7 +37,8 @@ public class BinaryMatrixMatrixCPInstruction extends BinaryCPInstruction {
 	public void processInstruction(ExecutionContext ec) {
 		if ( LibCommonsMath.isSupportedMatrixMatrixOperation(getOpcode()) ) {
 			MatrixBlock solution = LibCommonsMath.matrixMatrixOperations(
-				ec.getMatrixInput(input1.getName()), ec.getMatrixInput(input2.getName()), getOpcode());
+				ec.getMatrixInput(input1.getName()), ec.getMatrixInput(input2.getName()), getOpcode(),
+				OptimizerUtils.getConstrainedNumThreads(-1));
 			ec.setMatrixOutput(output.getName(), solution);
 			ec.releaseMatrixInput(input1.getName());
 			ec.releaseMatrixInput(input2.getName());
@@ -46,12 +46,17 @@ public final class FrameIndexingCPInstruction extends IndexingCPInstruction {
 		
 		//right indexing
 		if( opcode.equalsIgnoreCase(RightIndex.OPCODE) ) {
-			//execute right indexing operation
-			FrameBlock in = ec.getFrameInput(input1.getName());
-			FrameBlock out = in.slice(ixrange, new FrameBlock());
+			//read index range directly from columnar input files, if not yet loaded
+			FrameBlock out = ec.getFrameObject(input1.getName()).readColumnarIndexRange(ixrange);
 			
-			//unpin rhs input
-			ec.releaseFrameInput(input1.getName());
+			//execute right indexing operation
+			if( out == null ) {
+				FrameBlock in = ec.getFrameInput(input1.getName());
+				out = in.slice(ixrange, new FrameBlock());
+				
+				//unpin rhs input
+				ec.releaseFrameInput(input1.getName());
+			}
 			
 			//unpin output
 			ec.setFrameOutput(output.getName(), out);
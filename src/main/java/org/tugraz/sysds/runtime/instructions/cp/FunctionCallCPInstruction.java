@@ -177,9 +177,11 @@ public class FunctionCallCPInstruction extends CPInstruction {
 			fpb.execute(fn_ec);
 		}
 		catch (DMLScriptException e) {
+			abortFunctionOutputs(liInputs, fpb);
 			throw e;
 		}
 		catch (Exception e){
+			abortFunctionOutputs(liInputs, fpb);
 			String fname = DMLProgram.constructFunctionKey(_namespace, _functionName);
 			throw new DMLRuntimeException("error executing function " + fname, e);
 		}
@@ -270,4 +272,10 @@ public class FunctionCallCPInstruction extends CPInstruction {
 		}
 		return reuse;
 	}
+	
+	private void abortFunctionOutputs(LineageItem[] liInputs, FunctionProgramBlock fpb) {
+		//release placeholders of in-flight function outputs
+		int numOutputs = Math.min(_boundOutputNames.size(), fpb.getOutputParams().size());
+		LineageCache.abort(_boundOutputNames, numOutputs, liInputs, _functionName);
+	}
 }
@@ -19,18 +19,31 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 import org.tugraz.sysds.common.Types.DataType;
 import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
+import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.controlprogram.caching.FrameObject;
+import org.tugraz.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
 import org.tugraz.sysds.runtime.matrix.operators.Operator;
+import org.tugraz.sysds.runtime.meta.DataCharacteristics;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.meta.MetaDataFormat;
 import org.tugraz.sysds.runtime.transform.encode.Encoder;
 import org.tugraz.sysds.runtime.transform.encode.EncoderFactory;
+import org.tugraz.sysds.runtime.transform.encode.EncoderStreaming;
+import org.tugraz.sysds.utils.Statistics;
 
 public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPInstruction {
 	protected final ArrayList<CPOperand> _outputs;
@@ -66,14 +79,22 @@ public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPI
 
 	@Override 
 	public void processInstruction(ExecutionContext ec) {
+		//streaming encode of unloaded inputs (w/o pinning the input frame)
+		String spec = ec.getScalarInput(input2).getStringValue();
+		FrameObject fo = ec.getFrameObject(input1.getName());
+		if( isStreamingEncode(fo, spec) ) {
+			processStreamingEncode(ec, fo, spec);
+			return;
+		}
+		
 		//obtain and pin input frame
 		FrameBlock fin = ec.getFrameInput(input1.getName());
-		String spec = ec.getScalarInput(input2).getStringValue();
 		String[] colnames = fin.getColumnNames(); 
 		
 		//execute block transform encode
 		Encoder encoder = EncoderFactory.createEncoder(spec, colnames, fin.getNumColumns(), null);
-		MatrixBlock data = encoder.encode(fin, new MatrixBlock(fin.getNumRows(), fin.getNumColumns(), false)); //build and apply
+		MatrixBlock data = encoder.encode(fin, new MatrixBlock(fin.getNumRows(), fin.getNumColumns(), false),
+			OptimizerUtils.getConstrainedNumThreads(-1)); //build and apply
 		FrameBlock meta = encoder.getMetaData(new FrameBlock(fin.getNumColumns(), ValueType.STRING));
 		meta.setColumnNames(colnames);
 		
@@ -82,4 +103,38 @@ public class MultiReturnParameterizedBuiltinCPInstruction extends ComputationCPI
 		ec.setMatrixOutput(getOutput(0).getName(), data);
 		ec.setFrameOutput(getOutput(1).getName(), meta);
 	}
+	
+	private static boolean isStreamingEncode(FrameObject fo, String spec) {
+		String mode = ConfigurationManager.getDMLConfig()
+			.getTextValue(DMLConfig.TRANSFORM_STREAMING).trim().toLowerCase();
+		if( mode.equals("false") || fo.getNumColumns() <= 0 || !fo.isStreamable()
+			|| !EncoderStreaming.isSupported(spec, fo.getInputInfo()) )
+			return false;
+		//auto: stream if the input frame is unlikely to fit into memory
+		return mode.equals("true") || EncoderStreaming.estimateFrameSize(
+			fo.getNumRows(), fo.getNumColumns()) > OptimizerUtils.getLocalMemBudget();
+	}
+	
+	private void processStreamingEncode(ExecutionContext ec, FrameObject fo, String spec) {
+		//encode input chunks and write output blocks directly to the output file
+		MatrixObject mo = ec.getMatrixObject(getOutput(0).getName());
+		DataCharacteristics dc = new MatrixCharacteristics(-1, -1, ConfigurationManager.getBlocksize());
+		FrameBlock meta = null;
+		try {
+			EncoderStreaming encoder = new EncoderStreaming(spec, fo.getFileName(), fo.getInputInfo(),
+				fo.getFileFormatProperties(), fo.getSchema(), fo.getNumColumns(),
+				OptimizerUtils.getConstrainedNumThreads(-1));
+			meta = encoder.encode(mo.getFileName(), dc);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		//bind output matrix to the written file (read on demand)
+		mo.setMetaData(new MetaDataFormat(dc, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo));
+		mo.setHDFSFileExists(true);
+		mo.setDirty(false);
+		ec.setFrameOutput(getOutput(1).getName(), meta);
+		Statistics.incrementTransformStreamEncodes();
+	}
 }
@@ -31,6 +31,7 @@ import java.util.stream.IntStream;
 
 import org.tugraz.sysds.common.Types.DataType;
 import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.lops.Lop;
 import org.tugraz.sysds.parser.ParameterizedBuiltinFunctionExpression;
 import org.tugraz.sysds.parser.Statement;
@@ -262,7 +263,8 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			
 			//compute transformapply
 			Encoder encoder = EncoderFactory.createEncoder(params.get("spec"), colNames, data.getNumColumns(), meta);
-			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false));
+			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false),
+				OptimizerUtils.getConstrainedNumThreads(-1));
 			
 			//release locks
 			ec.setMatrixOutput(output.getName(), mbout);
@@ -34,6 +34,7 @@ import static org.tugraz.sysds.parser.Statement.PS_MODE;
 import static org.tugraz.sysds.parser.Statement.PS_MODEL;
 import static org.tugraz.sysds.parser.Statement.PS_PARALLELISM;
 import static org.tugraz.sysds.parser.Statement.PS_SCHEME;
+import static org.tugraz.sysds.parser.Statement.PS_STALENESS;
 import static org.tugraz.sysds.parser.Statement.PS_UPDATE_FUN;
 import static org.tugraz.sysds.parser.Statement.PS_UPDATE_TYPE;
 
@@ -83,6 +84,7 @@ public class ParamservBuiltinCPInstruction extends ParameterizedBuiltinCPInstruc
 	private static final PSScheme DEFAULT_SCHEME = PSScheme.DISJOINT_CONTIGUOUS;
 	private static final PSModeType DEFAULT_MODE = PSModeType.LOCAL;
 	private static final PSUpdateType DEFAULT_TYPE = PSUpdateType.ASP;
+	private static final int DEFAULT_STALENESS = 3;
 
 	//internal local debug level
 	private static final boolean LDEBUG = false;
@@ -132,7 +134,7 @@ public class ParamservBuiltinCPInstruction extends ParameterizedBuiltinCPInstruc
 
 		// Create the parameter server
 		ListObject model = sec.getListObject(getParam(PS_MODEL));
-		ParamServer ps = createPS(mode, aggFunc, getUpdateType(), workerNum, model, aggServiceEC);
+		ParamServer ps = createPS(mode, aggFunc, getUpdateType(), getStaleness(), workerNum, model, aggServiceEC);
 
 		// Get driver host
 		String host = sec.getSparkContext().getConf().get("spark.driver.host");
@@ -216,7 +218,7 @@ public class ParamservBuiltinCPInstruction extends ParameterizedBuiltinCPInstruc
 
 		// Create the parameter server
 		ListObject model = ec.getListObject(getParam(PS_MODEL));
-		ParamServer ps = createPS(mode, aggFunc, updateType, workerNum, model, aggServiceEC);
+		ParamServer ps = createPS(mode, aggFunc, updateType, getStaleness(), workerNum, model, aggServiceEC);
 
 		// Create the local workers
 		List<LocalPSWorker> workers = IntStream.range(0, workerNum)
@@ -296,11 +298,21 @@ public class ParamservBuiltinCPInstruction extends ParameterizedBuiltinCPInstruc
 		} catch (IllegalArgumentException e) {
 			throw new DMLRuntimeException(String.format("Paramserv function: not support update type '%s'.", getParam(PS_UPDATE_TYPE)));
 		}
-		if (updType == PSUpdateType.SSP)
-			throw new DMLRuntimeException("Paramserv function: Not support update type SSP.");
 		return updType;
 	}
 
+	private int getStaleness() {
+		if (!getParameterMap().containsKey(PS_STALENESS)) {
+			return DEFAULT_STALENESS;
+		}
+		int staleness = Integer.valueOf(getParam(PS_STALENESS));
+		if (staleness < 0) {
+			throw new DMLRuntimeException(String.format("Paramserv function: "
+				+ "The argument '%s' could not be less than 0.", PS_STALENESS));
+		}
+		return staleness;
+	}
+
 	private PSFrequency getFrequency() {
 		if (!getParameterMap().containsKey(PS_FREQUENCY)) {
 			return DEFAULT_UPDATE_FREQUENCY;
@@ -341,11 +353,11 @@ public class ParamservBuiltinCPInstruction extends ParameterizedBuiltinCPInstruc
 	 *
 	 * @return parameter server
 	 */
-	private static ParamServer createPS(PSModeType mode, String aggFunc, PSUpdateType updateType, int workerNum, ListObject model, ExecutionContext ec) {
+	private static ParamServer createPS(PSModeType mode, String aggFunc, PSUpdateType updateType, int staleness, int workerNum, ListObject model, ExecutionContext ec) {
 		switch (mode) {
 			case LOCAL:
 			case REMOTE_SPARK:
-				return LocalParamServer.create(model, aggFunc, updateType, ec, workerNum);
+				return LocalParamServer.create(model, aggFunc, updateType, staleness, ec, workerNum);
 			default:
 				throw new DMLRuntimeException("Unsupported parameter server: "+mode.name());
 		}
@@ -48,7 +48,8 @@ public class UaggOuterChainCPInstruction extends UnaryCPInstruction {
 		String opcode = parts[0];
 
 		if ( opcode.equalsIgnoreCase(UAggOuterChain.OPCODE)) {
-			AggregateUnaryOperator uaggop = InstructionUtils.parseBasicAggregateUnaryOperator(parts[1]);
+			int k = (parts.length > 6) ? Integer.parseInt(parts[6]) : 1;
+			AggregateUnaryOperator uaggop = InstructionUtils.parseBasicAggregateUnaryOperator(parts[1], k);
 			BinaryOperator bop = InstructionUtils.parseBinaryOperator(parts[2]);
 
 			CPOperand in1 = new CPOperand(parts[3]);
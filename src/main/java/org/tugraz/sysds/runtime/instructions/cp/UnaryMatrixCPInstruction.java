@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.instructions.cp;
 
+import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.tugraz.sysds.runtime.matrix.data.LibCommonsMath;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
@@ -36,7 +37,8 @@ public class UnaryMatrixCPInstruction extends UnaryCPInstruction {
 		MatrixBlock retBlock = null;
 		
 		if(LibCommonsMath.isSupportedUnaryOperation(getOpcode())) {
-			retBlock = LibCommonsMath.unaryOperations(inBlock, getOpcode());
+			retBlock = LibCommonsMath.unaryOperations(inBlock, getOpcode(),
+				OptimizerUtils.getConstrainedNumThreads(-1));
 			ec.releaseMatrixInput(input1.getName());
 		}
 		else {
@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock.ColumnMetadata;
+
+/**
+ * Layout and column chunk codecs of the native columnar frame format, shared by
+ * {@link FrameWriterColumnar} and {@link FrameReaderColumnar}. A file is a single
+ * sequence of (1) a header with schema, column names, and column metadata, (2) row
+ * groups with one contiguous chunk per column, (3) a footer with the number of rows 
+ * and chunk offsets per row group, and (4) a fixed-size trailer pointing to the footer.
+ * The footer allows readers to fetch only projected columns and overlapping row groups.
+ * 
+ * Each chunk starts with its encoding: plain (fixed-width typed values, 
+ * bit-packed booleans, or length-prefixed UTF-8 strings) or dictionary (distinct 
+ * strings and fixed-width codes, where code 0 encodes null).
+ */
+public class ColumnarFrameFormat 
+{
+	public static final int MAGIC = 0x53445343; //"SDSC"
+	public static final byte VERSION = 1;
+	
+	//target size in bytes and min number of rows per row group
+	public static long ROW_GROUP_SIZE = 16L * 1024 * 1024;
+	public static final int ROW_GROUP_MIN_ROWS = 1024;
+	
+	//chunk encodings
+	public static final byte ENC_PLAIN = 0;
+	public static final byte ENC_DICT = 1;
+	
+	//trailer: footer offset, magic
+	private static final int TRAILER_SIZE = 12;
+	
+	/**
+	 * Meta data of a columnar frame file, obtained from its header and footer.
+	 */
+	public static class FileMetadata {
+		public final ValueType[] schema;
+		public final String[] names;
+		public final ColumnMetadata[] colmeta;
+		public final int[] groupRows;    //number of rows per row group
+		public final long[] groupStart;  //row offset per row group
+		public final long[][] chunkOff;  //chunk offsets [group][col]
+		public final int[][] chunkLen;   //chunk lengths [group][col]
+		
+		private FileMetadata(ValueType[] schema, String[] names, ColumnMetadata[] colmeta, int ngroups) {
+			this.schema = schema;
+			this.names = names;
+			this.colmeta = colmeta;
+			groupRows = new int[ngroups];
+			groupStart = new long[ngroups];
+			chunkOff = new long[ngroups][schema.length];
+			chunkLen = new int[ngroups][schema.length];
+		}
+		
+		public int getNumColumns() {
+			return schema.length;
+		}
+		
+		public int getNumRowGroups() {
+			return groupRows.length;
+		}
+		
+		public long getNumRows() {
+			int ngroups = groupRows.length;
+			return (ngroups == 0) ? 0 : groupStart[ngroups-1] + groupRows[ngroups-1];
+		}
+	}
+	
+	/**
+	 * Obtain the number of rows per row group, which is chosen such that
+	 * a row group is roughly of size ROW_GROUP_SIZE in memory.
+	 * 
+	 * @param schema frame schema
+	 * @return number of rows per row group
+	 */
+	public static int getRowGroupSize(ValueType[] schema) {
+		long rowSize = 0;
+		for( ValueType vt : schema )
+			rowSize += getValueSize(vt);
+		return (int) Math.max(ROW_GROUP_MIN_ROWS, ROW_GROUP_SIZE / Math.max(rowSize, 1));
+	}
+	
+	private static int getValueSize(ValueType vt) {
+		switch( vt ) {
+			case BOOLEAN: return 1;
+			case INT32:
+			case FP32:    return 4;
+			case STRING:  return 16; //avg estimate
+			default:      return 8;
+		}
+	}
+	
+	public static void writeHeader(DataOutputStream out, FrameBlock src) 
+		throws IOException
+	{
+		ValueType[] schema = src.getSchema();
+		String[] names = src.getColumnNames();
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeInt(schema.length);
+		for( int j=0; j<schema.length; j++ ) {
+			ColumnMetadata meta = src.getColumnMetadata(j);
+			out.writeByte(schema[j].ordinal());
+			out.writeUTF(names[j]);
+			out.writeLong(meta.getNumDistinct());
+			out.writeBoolean(meta.getMvValue() != null);
+			if( meta.getMvValue() != null )
+				out.writeUTF(meta.getMvValue());
+		}
+	}
+	
+	public static void writeFooter(DataOutputStream out, long footerOff, int[] groupRows, long[][] chunkOff, int[][] chunkLen) 
+		throws IOException
+	{
+		out.writeInt(groupRows.length);
+		for( int g=0; g<groupRows.length; g++ ) {
+			out.writeInt(groupRows[g]);
+			for( int j=0; j<chunkOff[g].length; j++ ) {
+				out.writeLong(chunkOff[g][j]);
+				out.writeInt(chunkLen[g][j]);
+			}
+		}
+		out.writeLong(footerOff);
+		out.writeInt(MAGIC);
+	}
+	
+	public static FileMetadata readFileMetadata(FileSystem fs, Path path) 
+		throws IOException
+	{
+		long flen = fs.getFileStatus(path).getLen();
+		FSDataInputStream in = fs.open(path);
+		try {
+			//read header
+			DataInputStream din = new DataInputStream(in);
+			if( flen < TRAILER_SIZE || din.readInt() != MAGIC )
+				throw new IOException("Invalid columnar frame file: "+path.toString());
+			byte version = din.readByte();
+			if( version != VERSION )
+				throw new IOException("Unsupported columnar frame format version: "+version);
+			int ncol = din.readInt();
+			ValueType[] schema = new ValueType[ncol];
+			String[] names = new String[ncol];
+			ColumnMetadata[] colmeta = new ColumnMetadata[ncol];
+			for( int j=0; j<ncol; j++ ) {
+				schema[j] = ValueType.values()[din.readByte()];
+				names[j] = din.readUTF();
+				long ndistinct = din.readLong();
+				colmeta[j] = new ColumnMetadata(ndistinct, din.readBoolean() ? din.readUTF() : null);
+			}
+			
+			//read trailer and footer
+			in.seek(flen - TRAILER_SIZE);
+			long footerOff = din.readLong();
+			if( din.readInt() != MAGIC )
+				throw new IOException("Invalid columnar frame file trailer: "+path.toString());
+			in.seek(footerOff);
+			FileMetadata ret = new FileMetadata(schema, names, colmeta, din.readInt());
+			for( int g=0; g<ret.getNumRowGroups(); g++ ) {
+				ret.groupRows[g] = din.readInt();
+				ret.groupStart[g] = (g==0) ? 0 : ret.groupStart[g-1] + ret.groupRows[g-1];
+				for( int j=0; j<ncol; j++ ) {
+					ret.chunkOff[g][j] = din.readLong();
+					ret.chunkLen[g][j] = din.readInt();
+				}
+			}
+			return ret;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+	
+	/**
+	 * Encodes the rows [rl,ru) of column c into a self-contained chunk.
+	 * 
+	 * @param src frame block
+	 * @param c column index
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 * @return encoded chunk
+	 */
+	public static byte[] encodeChunk(FrameBlock src, int c, int rl, int ru) {
+		Object data = src.getColumnData(c);
+		int n = ru - rl;
+		ByteBuffer bb = null;
+		switch( src.getSchema()[c] ) {
+			case FP64:
+				bb = ByteBuffer.allocate(1 + 8*n).put(ENC_PLAIN);
+				bb.asDoubleBuffer().put((double[])data, rl, n);
+				return bb.array();
+			case INT64:
+				bb = ByteBuffer.allocate(1 + 8*n).put(ENC_PLAIN);
+				bb.asLongBuffer().put((long[])data, rl, n);
+				return bb.array();
+			case FP32:
+				bb = ByteBuffer.allocate(1 + 4*n).put(ENC_PLAIN);
+				bb.asFloatBuffer().put((float[])data, rl, n);
+				return bb.array();
+			case INT32:
+				bb = ByteBuffer.allocate(1 + 4*n).put(ENC_PLAIN);
+				bb.asIntBuffer().put((int[])data, rl, n);
+				return bb.array();
+			case BOOLEAN: {
+				boolean[] a = (boolean[]) data;
+				byte[] ret = new byte[1 + (n+7)/8];
+				ret[0] = ENC_PLAIN;
+				for( int i=0; i<n; i++ )
+					if( a[rl+i] )
+						ret[1 + (i>>>3)] |= (byte)(1 << (i & 7));
+				return ret;
+			}
+			case STRING:
+				return encodeStringChunk((String[])data, rl, ru);
+			default:
+				throw new DMLRuntimeException("Unsupported value type: "+src.getSchema()[c]);
+		}
+	}
+	
+	private static byte[] encodeStringChunk(String[] a, int rl, int ru) {
+		//build dictionary w/ early abort if not beneficial
+		int n = ru - rl;
+		int maxDict = n / 2;
+		HashMap<String, Integer> dict = new HashMap<>();
+		String[] dvals = new String[Math.min(maxDict, 1024) + 1];
+		for( int i=rl; i<ru && dict.size() <= maxDict; i++ )
+			if( a[i] != null && !dict.containsKey(a[i]) ) {
+				if( dict.size() == dvals.length )
+					dvals = Arrays.copyOf(dvals, dvals.length*2);
+				dvals[dict.size()] = a[i];
+				dict.put(a[i], dict.size());
+			}
+		
+		//dictionary encoding: dict size, dict entries, code width, codes
+		if( dict.size() <= maxDict ) {
+			int dsize = dict.size();
+			byte[][] dbytes = new byte[dsize][];
+			int len = 1 + 4 + 1;
+			for( int k=0; k<dsize; k++ ) {
+				dbytes[k] = dvals[k].getBytes(StandardCharsets.UTF_8);
+				len += 4 + dbytes[k].length;
+			}
+			int width = (dsize <= 255) ? 1 : (dsize <= 65535) ? 2 : 4;
+			ByteBuffer bb = ByteBuffer.allocate(len + width*n);
+			bb.put(ENC_DICT).putInt(dsize);
+			for( int k=0; k<dsize; k++ )
+				bb.putInt(dbytes[k].length).put(dbytes[k]);
+			bb.put((byte)width);
+			for( int i=rl; i<ru; i++ ) {
+				int code = (a[i] == null) ? 0 : dict.get(a[i]) + 1;
+				switch( width ) {
+					case 1: bb.put((byte)code); break;
+					case 2: bb.putShort((short)code); break;
+					default: bb.putInt(code);
+				}
+			}
+			return bb.array();
+		}
+		
+		//plain encoding: length (-1 for null), UTF-8 bytes
+		byte[][] vbytes = new byte[n][];
+		int len = 1;
+		for( int i=0; i<n; i++ ) {
+			vbytes[i] = (a[rl+i] != null) ? a[rl+i].getBytes(StandardCharsets.UTF_8) : null;
+			len += 4 + ((vbytes[i] != null) ? vbytes[i].length : 0);
+		}
+		ByteBuffer bb = ByteBuffer.allocate(len).put(ENC_PLAIN);
+		for( int i=0; i<n; i++ ) {
+			bb.putInt((vbytes[i] != null) ? vbytes[i].length : -1);
+			if( vbytes[i] != null )
+				bb.put(vbytes[i]);
+		}
+		return bb.array();
+	}
+	
+	/**
+	 * Decodes the chunk rows [srl,srl+n) into the given column array, 
+	 * starting at row drl.
+	 * 
+	 * @param buf chunk buffer
+	 * @param len chunk length
+	 * @param vt value type of the column
+	 * @param dest destination column array (as obtained via getColumnData)
+	 * @param srl source row lower index in the chunk
+	 * @param n number of rows
+	 * @param drl destination row lower index
+	 * @throws IOException if IOException occurs
+	 */
+	public static void decodeChunk(byte[] buf, int len, ValueType vt, Object dest, int srl, int n, int drl) 
+		throws IOException
+	{
+		ByteBuffer bb = ByteBuffer.wrap(buf, 0, len);
+		byte enc = buf[0];
+		bb.position(1);
+		switch( vt ) {
+			case FP64: {
+				DoubleBuffer db = bb.asDoubleBuffer();
+				db.position(srl);
+				db.get((double[])dest, drl, n);
+				break;
+			}
+			case INT64: {
+				LongBuffer lb = bb.asLongBuffer();
+				lb.position(srl);
+				lb.get((long[])dest, drl, n);
+				break;
+			}
+			case FP32: {
+				FloatBuffer fb = bb.asFloatBuffer();
+				fb.position(srl);
+				fb.get((float[])dest, drl, n);
+				break;
+			}
+			case INT32: {
+				IntBuffer ib = bb.asIntBuffer();
+				ib.position(srl);
+				ib.get((int[])dest, drl, n);
+				break;
+			}
+			case BOOLEAN: {
+				boolean[] a = (boolean[]) dest;
+				for( int i=srl; i<srl+n; i++ )
+					a[drl+i-srl] = (buf[1 + (i>>>3)] & (1 << (i & 7))) != 0;
+				break;
+			}
+			case STRING:
+				if( enc == ENC_DICT )
+					decodeStringChunkDict(bb, (String[])dest, srl, n, drl);
+				else
+					decodeStringChunkPlain(bb, (String[])dest, srl, n, drl);
+				break;
+			default:
+				throw new IOException("Unsupported value type: "+vt);
+		}
+	}
+	
+	private static void decodeStringChunkDict(ByteBuffer bb, String[] a, int srl, int n, int drl) {
+		byte[] buf = bb.array();
+		int dsize = bb.getInt();
+		String[] dict = new String[dsize];
+		for( int k=0; k<dsize; k++ ) {
+			int len = bb.getInt();
+			dict[k] = new String(buf, bb.position(), len, StandardCharsets.UTF_8);
+			bb.position(bb.position() + len);
+		}
+		int width = bb.get();
+		int pos = bb.position() + srl * width;
+		for( int i=0; i<n; i++, pos+=width ) {
+			int code = (width == 1) ? buf[pos] & 0xFF :
+				(width == 2) ? bb.getShort(pos) & 0xFFFF : bb.getInt(pos);
+			a[drl+i] = (code == 0) ? null : dict[code-1];
+		}
+	}
+	
+	private static void decodeStringChunkPlain(ByteBuffer bb, String[] a, int srl, int n, int drl) {
+		byte[] buf = bb.array();
+		int pos = bb.position();
+		for( int i=0; i<srl+n; i++ ) {
+			int len = bb.getInt(pos);
+			pos += 4;
+			if( i >= srl )
+				a[drl+i-srl] = (len < 0) ? null : new String(buf, pos, len, StandardCharsets.UTF_8);
+			pos += Math.max(len, 0);
+		}
+	}
+}
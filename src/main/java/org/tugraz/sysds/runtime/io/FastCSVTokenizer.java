@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.hadoop.io.Text;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Byte-level tokenizer for delimited text lines, which scans the raw bytes of a 
+ * line (e.g., the backing array of a Hadoop {@link Text}) in place and parses 
+ * numeric cells without creating intermediate string objects. Similar to 
+ * {@link IOUtilFunctions#split(String, String)}, lines are trimmed, multi-character 
+ * delimiters are supported, and all tokens (including empty tokens) are preserved.
+ * 
+ * The tokenizer is reused across lines via {@link #reset(Text)} and is not thread-safe.
+ */
+public class FastCSVTokenizer 
+{
+	//exactly representable powers of ten for the fast number parsing path
+	private static final double[] POW10 = new double[] {1e0, 1e1, 1e2, 1e3, 1e4, 
+		1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 
+		1e18, 1e19, 1e20, 1e21, 1e22};
+	//max number of significant digits of exactly representable mantissas
+	private static final int MAX_FAST_DIGITS = 15;
+	
+	private final byte[] _delim;
+	private byte[] _buff = null;
+	private int _pos = 0;      //start of next token
+	private int _end = 0;      //end of trimmed line
+	private int _tstart = 0;   //start of current trimmed token
+	private int _tend = 0;     //end of current trimmed token
+	private boolean _hasNext = false;
+	
+	public FastCSVTokenizer(String delim) {
+		_delim = delim.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	public void reset(Text line) {
+		reset(line.getBytes(), 0, line.getLength());
+	}
+	
+	public void reset(byte[] buff, int off, int len) {
+		int start = off, end = off + len;
+		while( start < end && isWhitespace(buff[start]) )
+			start++;
+		while( end > start && isWhitespace(buff[end-1]) )
+			end--;
+		_buff = buff;
+		_pos = start;
+		_end = end;
+		_hasNext = (start < end); //empty line w/o tokens
+	}
+	
+	public boolean hasNext() {
+		return _hasNext;
+	}
+	
+	/**
+	 * Advances to the next token, which is afterwards accessible via 
+	 * {@link #isEmpty()}, {@link #getDouble()}, and {@link #getString()}.
+	 */
+	public void next() {
+		int start = _pos;
+		int end = findDelim(start);
+		if( end < 0 ) { //last token
+			end = _end;
+			_hasNext = false;
+		}
+		else
+			_pos = end + _delim.length;
+		
+		//trim current token
+		while( start < end && isWhitespace(_buff[start]) )
+			start++;
+		while( end > start && isWhitespace(_buff[end-1]) )
+			end--;
+		_tstart = start;
+		_tend = end;
+	}
+	
+	public boolean isEmpty() {
+		return _tstart == _tend;
+	}
+	
+	public double getDouble() {
+		return parseDouble(_buff, _tstart, _tend);
+	}
+	
+	public String getString() {
+		return new String(_buff, _tstart, _tend-_tstart, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Parses a double value from the given byte range without intermediate 
+	 * string objects. Decimal numbers with up to 15 significant digits and 
+	 * decimal exponents in [-22, 22] are converted exactly (correctly rounded)
+	 * via a single multiplication or division of exactly representable values.
+	 * All other inputs (e.g., NA, NaN, Infinity, long mantissas, or invalid 
+	 * numbers) fall back to {@link UtilFunctions#parseToDouble(String)}.
+	 * 
+	 * @param buff byte buffer
+	 * @param start start position (inclusive)
+	 * @param end end position (exclusive)
+	 * @return parsed double value
+	 */
+	public static double parseDouble(byte[] buff, int start, int end) {
+		int i = start;
+		boolean neg = false;
+		if( i < end && (buff[i] == '-' || buff[i] == '+') )
+			neg = (buff[i++] == '-');
+		
+		//parse mantissa digits and decimal point
+		long mant = 0;
+		int ndigits = 0, exp = 0;
+		boolean digits = false, dot = false;
+		for( ; i < end; i++ ) {
+			byte b = buff[i];
+			if( b >= '0' && b <= '9' ) {
+				mant = mant * 10 + (b - '0');
+				ndigits += (mant != 0) ? 1 : 0;
+				exp -= dot ? 1 : 0;
+				digits = true;
+			}
+			else if( b == '.' && !dot )
+				dot = true;
+			else
+				break;
+		}
+		
+		//parse optional exponent
+		if( digits && i < end && (buff[i] == 'e' || buff[i] == 'E') ) {
+			i++;
+			boolean eneg = false;
+			if( i < end && (buff[i] == '-' || buff[i] == '+') )
+				eneg = (buff[i++] == '-');
+			int e = 0;
+			boolean edigits = false;
+			for( ; i < end && buff[i] >= '0' && buff[i] <= '9'; i++ ) {
+				e = Math.min(e * 10 + (buff[i] - '0'), 100000);
+				edigits = true;
+			}
+			exp += eneg ? -e : e;
+			digits &= edigits;
+		}
+		
+		//fast path for exactly representable mantissa and power of ten
+		if( digits && i == end && ndigits <= MAX_FAST_DIGITS ) {
+			if( mant == 0 )
+				return neg ? -0d : 0d;
+			if( exp >= -22 && exp <= 22 ) {
+				double val = (exp < 0) ? mant / POW10[-exp] : mant * POW10[exp];
+				return neg ? -val : val;
+			}
+		}
+		
+		//slow path for special values and all other cases
+		return UtilFunctions.parseToDouble(
+			new String(buff, start, end-start, StandardCharsets.UTF_8));
+	}
+	
+	private int findDelim(int start) {
+		final byte[] buff = _buff;
+		final byte[] delim = _delim;
+		final byte d0 = delim[0];
+		final int dlen = delim.length;
+		for( int i = start; i <= _end - dlen; i++ ) {
+			if( buff[i] != d0 )
+				continue;
+			int j = 1;
+			while( j < dlen && buff[i+j] == delim[j] )
+				j++;
+			if( j == dlen )
+				return i;
+		}
+		return -1;
+	}
+	
+	private static boolean isWhitespace(byte b) {
+		//consistent with String.trim(), unsigned for UTF-8 multi-byte chars
+		return (b & 0xFF) <= ' ';
+	}
+}
@@ -29,6 +29,7 @@ import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock.ColumnMetadata;
 import org.tugraz.sysds.runtime.util.HDFSTool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
@@ -71,6 +72,27 @@ public abstract class FrameReader
 		return readFrameFromInputStream(is, getDefSchema(clen), getDefColNames(clen), rlen, clen);
 	}
 
+	/**
+	 * Reads the given frame in chunks of rows and passes each chunk to the given
+	 * consumer, which allows streaming operations over frames larger than memory.
+	 * Chunks are passed in file order, with at most chunkSize rows each and row
+	 * offsets that are multiples of the block size. By default, chunked reads are
+	 * not supported.
+	 * 
+	 * @param fname file name
+	 * @param schema schema as array of ValueTypes
+	 * @param names column names
+	 * @param clen number of columns
+	 * @param chunkSize maximum number of rows per chunk, a multiple of the block size
+	 * @param consumer consumer of frame chunks and their row offsets
+	 * @throws IOException if IOException occurs
+	 */
+	public void readFrameChunksFromHDFS( String fname, ValueType[] schema, String[] names, long clen, int chunkSize, FrameChunkConsumer consumer )
+		throws IOException
+	{
+		throw new DMLRuntimeException("Chunked read not supported by "+getClass().getSimpleName()+".");
+	}
+	
 	public ValueType[] getDefSchema( long clen )
 		throws DMLRuntimeException
 	{
@@ -108,6 +130,25 @@ public abstract class FrameReader
 		return ret;
 	}
 
+	/**
+	 * Creates the next frame chunk of a chunked read with the schema, column
+	 * names, and column meta data (missing values / num distinct) of the previous
+	 * chunk, because this meta data is only stored once per input.
+	 * 
+	 * @param prev previous frame chunk
+	 * @param nrow number of rows
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	protected static FrameBlock createOutputChunk(FrameBlock prev, long nrow)
+		throws IOException
+	{
+		FrameBlock ret = createOutputFrameBlock(prev.getSchema(), prev.getColumnNames(), nrow);
+		for( int j=0; j<ret.getNumColumns(); j++ )
+			ret.setColumnMetadata(j, new ColumnMetadata(prev.getColumnMetadata(j)));
+		return ret;
+	}
+
 	protected static ValueType[] createOutputSchema(ValueType[] schema, long ncol) {
 		if( schema.length==1 && ncol > 1 )
 			return UtilFunctions.nCopies((int)ncol, schema[0]);
@@ -131,4 +172,18 @@ public abstract class FrameReader
 		if( HDFSTool.isFileEmpty(fs, path) )
 			throw new EOFException("Empty input file "+ path.toString() +".");		
 	}
+	
+	/**
+	 * Consumer of frame chunks for chunked reads.
+	 */
+	public interface FrameChunkConsumer {
+		/**
+		 * Processes the given frame chunk.
+		 * 
+		 * @param chunk frame chunk
+		 * @param rl row offset of the chunk, 0-based
+		 * @throws IOException if IOException occurs
+		 */
+		public void accept(FrameBlock chunk, long rl) throws IOException;
+	}
 }
@@ -21,6 +21,9 @@ package org.tugraz.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -69,6 +72,103 @@ public class FrameReaderBinaryBlock extends FrameReader
 		throw new DMLRuntimeException("Not implemented yet.");
 	}
 
+	@Override
+	@SuppressWarnings({ "deprecation" })
+	public void readFrameChunksFromHDFS(String fname, ValueType[] schema, String[] names,
+			long clen, int chunkSize, FrameChunkConsumer consumer)
+		throws IOException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( fname ); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		checkValidInputFile(fs, path); 
+		
+		Path[] files = IOUtilFunctions.getSequenceFilePaths(fs, path);
+		SequenceFile.Reader[] readers = new SequenceFile.Reader[files.length];
+		try {
+			//index pass: collect the row offsets and file positions of all blocks
+			//(keys only), sorted by row offset because neither the order of part
+			//files nor the block sizes are aligned for all writers (e.g., spark)
+			List<BlockPosition> index = new ArrayList<>();
+			LongWritable key = new LongWritable(-1L);
+			for( int i=0; i<files.length; i++ ) { //1..N files 
+				readers[i] = new SequenceFile.Reader(fs, files[i], job);
+				long pos = readers[i].getPosition();
+				while( readers[i].next(key) ) {
+					index.add(new BlockPosition(key.get()-1, i, pos));
+					pos = readers[i].getPosition();
+				}
+			}
+			Collections.sort(index);
+			
+			//ordered read of blocks, where blocks are split at chunk boundaries
+			//in order to pass chunks at row offsets that are multiples of the chunk size
+			FrameBlock chunk = null;
+			long rl = 0;
+			int row = 0;
+			for( BlockPosition bpos : index ) {
+				FrameBlock value = new FrameBlock();
+				readers[bpos._file].seek(bpos._pos);
+				readers[bpos._file].next(key, value);
+				int rows = value.getNumRows();
+				int cols = value.getNumColumns();
+				if( rows == 0 || cols == 0 )
+					continue; //empty block, ignore it
+				if( bpos._rl != rl + row )
+					throw new IOException("Frame block ["+(bpos._rl+1)+":"+(bpos._rl+rows)+",:] "
+						+ "not contiguous to the previous rows [1:"+(rl+row)+",:].");
+				if( chunk == null )
+					chunk = createOutputFrameBlock(createOutputSchema(schema, clen),
+						value.getColumnNames(), chunkSize);
+				if( bpos._rl == 0 )
+					chunk.setColumnMetadata(value.getColumnMetadata());
+				for( int off=0; off<rows; ) {
+					int len = Math.min(rows-off, chunkSize-row);
+					FrameBlock tmp = (len == rows) ? value :
+						value.slice(off, off+len-1, 0, cols-1, new FrameBlock());
+					chunk.copy(row, row+len-1, 0, cols-1, tmp);
+					off += len;
+					if( (row += len) == chunkSize ) {
+						consumer.accept(chunk, rl);
+						chunk = createOutputChunk(chunk, chunkSize);
+						rl += row;
+						row = 0;
+					}
+				}
+			}
+			
+			//pass last partial chunk
+			if( row > 0 ) {
+				FrameBlock last = chunk.slice(0, row-1, 0, chunk.getNumColumns()-1, new FrameBlock());
+				last.setColumnNames(chunk.getColumnNames());
+				consumer.accept(last, rl);
+			}
+		}
+		finally {
+			for( SequenceFile.Reader reader : readers )
+				IOUtilFunctions.closeSilently(reader);
+		}
+	}
+	
+	private static class BlockPosition implements Comparable<BlockPosition>
+	{
+		private final long _rl; //row offset of the block
+		private final int _file; //index of the part file
+		private final long _pos; //position in the part file
+		
+		public BlockPosition(long rl, int file, long pos) {
+			_rl = rl;
+			_file = file;
+			_pos = pos;
+		}
+		
+		@Override
+		public int compareTo(BlockPosition that) {
+			return Long.compare(_rl, that._rl);
+		}
+	}
+
 	protected void readBinaryBlockFrameFromHDFS( Path path, JobConf job, FileSystem fs, FrameBlock dest, long rlen, long clen )
 		throws IOException, DMLRuntimeException
 	{
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.io.ColumnarFrameFormat.FileMetadata;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+
+/**
+ * Single-threaded frame reader for the native columnar format (see {@link ColumnarFrameFormat}).
+ * Besides full reads, this reader supports reads of a row range and column projection, which
+ * only fetch and decode the chunks of selected columns in overlapping row groups. Full reads
+ * validate the given dimensions and schema against the file (where string value types act as
+ * default schema), and apply the given column names unless they are default column names.
+ * 
+ */
+public class FrameReaderColumnar extends FrameReader
+{
+	@Override
+	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen) 
+		throws IOException, DMLRuntimeException 
+	{
+		FrameBlock ret = readFrameFromHDFS(fname, 0, -1, null);
+		
+		//validate dimensions and schema against the file meta data
+		if( (rlen > 0 && rlen != ret.getNumRows()) || (clen > 0 && clen != ret.getNumColumns()) )
+			throw new DMLRuntimeException("Mismatching dimensions ["+rlen+"x"+clen+"] and ["
+				+ret.getNumRows()+"x"+ret.getNumColumns()+"] of columnar frame file "+fname+".");
+		if( schema != null && schema.length != ret.getNumColumns() && (clen > 0 || schema.length > 1) )
+			throw new DMLRuntimeException("Mismatching schema length "+schema.length+" and number of "
+				+ "columns "+ret.getNumColumns()+" of columnar frame file "+fname+".");
+		for( int j=0; schema != null && j<Math.min(schema.length, ret.getNumColumns()); j++ )
+			if( schema[j] != ValueType.STRING && schema[j] != ret.getSchema()[j] )
+				throw new DMLRuntimeException("Mismatching value type "+schema[j]+" and "
+					+ret.getSchema()[j]+" of column "+(j+1)+" in columnar frame file "+fname+".");
+		
+		//apply given non-default column names
+		if( names != null && names.length == ret.getNumColumns()
+			&& !Arrays.equals(names, FrameBlock.createColNames(names.length)) )
+			ret.setColumnNames(names);
+		
+		return ret;
+	}
+	
+	/**
+	 * Reads a row range and column projection of a columnar frame file.
+	 * 
+	 * @param fname file name
+	 * @param rl row lower index, 0-based inclusive
+	 * @param ru row upper index, 0-based inclusive (-1 for all remaining rows)
+	 * @param cols 0-based indexes of projected columns in output order (null for all columns)
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public final FrameBlock readFrameFromHDFS(String fname, long rl, long ru, int[] cols) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( fname ); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path); 
+		
+		//read header and footer, and validate the selection
+		FileMetadata meta = ColumnarFrameFormat.readFileMetadata(fs, path);
+		long lru = (ru < 0) ? meta.getNumRows()-1 : ru;
+		if( rl < 0 || lru >= meta.getNumRows() || rl > lru+1 )
+			throw new IOException("Row range ["+(rl+1)+":"+(lru+1)+"] out of "
+				+ "frame range [1:"+meta.getNumRows()+"] in file "+fname+".");
+		int[] lcols = (cols != null) ? cols : 
+			UtilFunctions.getSeqArray(0, meta.getNumColumns()-1, 1);
+		ValueType[] lschema = new ValueType[lcols.length];
+		String[] lnames = new String[lcols.length];
+		for( int j=0; j<lcols.length; j++ ) {
+			if( lcols[j] < 0 || lcols[j] >= meta.getNumColumns() )
+				throw new IOException("Column index "+(lcols[j]+1)+" out of "
+					+ "frame range [1:"+meta.getNumColumns()+"] in file "+fname+".");
+			lschema[j] = meta.schema[lcols[j]];
+			lnames[j] = meta.names[lcols[j]];
+		}
+		
+		//allocate output frame block, incl column meta data
+		FrameBlock ret = createOutputFrameBlock(lschema, lnames, lru-rl+1);
+		for( int j=0; j<lcols.length; j++ )
+			ret.setColumnMetadata(j, meta.colmeta[lcols[j]]);
+		
+		//core read (sequential/parallel)
+		readColumnarFrameFromHDFS(path, fs, meta, ret, rl, lru, lcols);
+		
+		return ret;
+	}
+	
+	/**
+	 * Reads the header and footer of a columnar frame file, e.g., for
+	 * obtaining the schema without reading any column chunks.
+	 * 
+	 * @param fname file name
+	 * @return file meta data
+	 * @throws IOException if IOException occurs
+	 */
+	public static FileMetadata readFileMetadata(String fname) 
+		throws IOException
+	{
+		Path path = new Path( fname ); 
+		FileSystem fs = IOUtilFunctions.getFileSystem(path);
+		return ColumnarFrameFormat.readFileMetadata(fs, path);
+	}
+	
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException 
+	{
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+
+	protected void readColumnarFrameFromHDFS( Path path, FileSystem fs, FileMetadata meta, FrameBlock dest, long rl, long ru, int[] cols )
+		throws IOException
+	{
+		//sequential read of overlapping row groups
+		FSDataInputStream in = fs.open(path);
+		try {
+			for( int g=0; g<meta.getNumRowGroups(); g++ )
+				if( isOverlapping(meta, g, rl, ru) )
+					readRowGroup(in, meta, g, dest, rl, ru, cols);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+	
+	protected static boolean isOverlapping( FileMetadata meta, int g, long rl, long ru ) {
+		return meta.groupStart[g] <= ru
+			&& meta.groupStart[g] + meta.groupRows[g] > rl;
+	}
+	
+	protected static void readRowGroup( FSDataInputStream in, FileMetadata meta, int g, FrameBlock dest, long rl, long ru, int[] cols )
+		throws IOException
+	{
+		//determine overlapping rows in the row group
+		long gstart = meta.groupStart[g];
+		int srl = (int) Math.max(rl - gstart, 0);
+		int n = (int) (Math.min(gstart + meta.groupRows[g] - 1, ru) - gstart - srl + 1);
+		int drl = (int) (gstart + srl - rl);
+		
+		//fetch and decode chunks of projected columns (w/ buffer reuse)
+		byte[] buf = new byte[0];
+		for( int j=0; j<cols.length; j++ ) {
+			int len = meta.chunkLen[g][cols[j]];
+			if( buf.length < len )
+				buf = new byte[len];
+			in.readFully(meta.chunkOff[g][cols[j]], buf, 0, len);
+			ColumnarFrameFormat.decodeChunk(buf, len,
+				dest.getSchema()[j], dest.getColumnData(j), srl, n, drl);
+		}
+	}
+}
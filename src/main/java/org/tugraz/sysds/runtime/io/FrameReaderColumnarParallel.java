@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.io.ColumnarFrameFormat.FileMetadata;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+
+
+/**
+ * Multi-threaded frame reader for the native columnar format, which reads 
+ * and decodes the overlapping row groups in parallel.
+ * 
+ */
+public class FrameReaderColumnarParallel extends FrameReaderColumnar
+{
+	@Override
+	protected void readColumnarFrameFromHDFS( Path path, FileSystem fs, FileMetadata meta, FrameBlock dest, long rl, long ru, int[] cols )
+		throws IOException
+	{
+		//collect overlapping row groups
+		ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+		for( int g=0; g<meta.getNumRowGroups(); g++ )
+			if( isOverlapping(meta, g, rl, ru) )
+				tasks.add(new ReadRowGroupTask(path, fs, meta, g, dest, rl, ru, cols));
+		
+		//fall back to sequential read if single row group
+		int numThreads = Math.min(OptimizerUtils.getParallelBinaryReadParallelism(), tasks.size());
+		if( numThreads <= 1 ) {
+			super.readColumnarFrameFromHDFS(path, fs, meta, dest, rl, ru, cols);
+			return;
+		}
+		
+		try 
+		{
+			//wait until all tasks have been executed
+			ExecutorService pool = CommonThreadPool.get(numThreads);
+			List<Future<Object>> rt = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//check for exceptions
+			for( Future<Object> task : rt )
+				task.get();
+		} 
+		catch (Exception e) {
+			throw new IOException("Failed parallel read of columnar frame.", e);
+		}
+	}
+
+	private static class ReadRowGroupTask implements Callable<Object> 
+	{
+		private final Path _path;
+		private final FileSystem _fs;
+		private final FileMetadata _meta;
+		private final int _g;
+		private final FrameBlock _dest;
+		private final long _rl;
+		private final long _ru;
+		private final int[] _cols;
+		
+		public ReadRowGroupTask(Path path, FileSystem fs, FileMetadata meta, int g, FrameBlock dest, long rl, long ru, int[] cols) {
+			_path = path;
+			_fs = fs;
+			_meta = meta;
+			_g = g;
+			_dest = dest;
+			_rl = rl;
+			_ru = ru;
+			_cols = cols;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			//separate stream per task for independent positional reads
+			FSDataInputStream in = _fs.open(_path);
+			try {
+				readRowGroup(in, _meta, _g, _dest, _rl, _ru, _cols);
+			}
+			finally {
+				IOUtilFunctions.closeSilently(in);
+			}
+			return null;
+		}
+	}
+}
@@ -122,9 +122,6 @@ public class FrameReaderTextCSV extends FrameReader
 		throws IOException
 	{
 		boolean hasHeader = _props.hasHeader();
-		boolean isFill = _props.isFill();
-		double dfillValue = _props.getFillValue();
-		String sfillValue = String.valueOf(_props.getFillValue());
 		String delim = _props.getDelim();
 		
 		//create record reader
@@ -132,7 +129,6 @@ public class FrameReaderTextCSV extends FrameReader
 		LongWritable key = new LongWritable();
 		Text value = new Text();
 		int row = rl;
-		int col = -1;
 		
 		//handle header if existing
 		if(first && hasHeader ) {
@@ -141,51 +137,132 @@ public class FrameReaderTextCSV extends FrameReader
 		}
 			
 		// Read the data
-		boolean emptyValuesFound = false;
 		try
 		{
 			while( reader.next(key, value) ) //foreach line
-			{
-				String cellStr = value.toString().trim();
-				emptyValuesFound = false; col = 0;
-				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
-				
-				//parse frame meta data (missing values / num distinct)
-				if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX) ) {
-					if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) )
-						for( int j=0; j<dest.getNumColumns(); j++ )
-							dest.getColumnMetadata(j).setMvValue(parts[j+1]);
-					else if( parts[0].equals(TfUtils.TXMTD_NDPREFIX) )
-						for( int j=0; j<dest.getNumColumns(); j++ )
-							dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j+1]));
-					continue;
+				if( parseCSVLine(value.toString(), dest, schema, clen, row) )
+					row++;
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+		
+		return row;
+	}
+	
+	@Override
+	public void readFrameChunksFromHDFS(String fname, ValueType[] schema, String[] names,
+			long clen, int chunkSize, FrameChunkConsumer consumer)
+		throws IOException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());	
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		FileInputFormat.addInputPath(job, path);
+		checkValidInputFile(fs, path); 
+		
+		//compute number of columns if necessary
+		TextInputFormat informat = new TextInputFormat();
+		informat.configure(job);
+		InputSplit[] splits = informat.getSplits(job, 1);
+		splits = IOUtilFunctions.sortInputSplits(splits);
+		if( clen <= 0 )
+			clen = IOUtilFunctions.countNumColumnsCSV(splits, informat, job, _props.getDelim());
+		ValueType[] lschema = createOutputSchema(schema, clen);
+		String[] lnames = createOutputNames(names, clen);
+		
+		//sequential read of splits into chunks of rows
+		FrameBlock chunk = createOutputFrameBlock(lschema, lnames, chunkSize);
+		LongWritable key = new LongWritable();
+		Text value = new Text();
+		long rl = 0;
+		int row = 0;
+		for( int i=0; i<splits.length; i++ ) {
+			RecordReader<LongWritable, Text> reader = 
+				informat.getRecordReader(splits[i], job, Reporter.NULL);
+			try {
+				//handle header if existing
+				if( i==0 && _props.hasHeader() && reader.next(key, value) ) {
+					lnames = value.toString().split(_props.getDelim());
+					chunk.setColumnNames(lnames);
 				}
-				
-				for( String part : parts ) //foreach cell
-				{
-					part = part.trim();
-					if ( part.isEmpty() ) {
-						if( isFill && dfillValue!=0 )
-							dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
-						emptyValuesFound = true;
-					}
-					else {
-						dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
+				while( reader.next(key, value) ) {
+					if( !parseCSVLine(value.toString(), chunk, lschema, clen, row) )
+						continue;
+					if( ++row == chunkSize ) {
+						consumer.accept(chunk, rl);
+						chunk = createOutputChunk(chunk, chunkSize);
+						rl += row;
+						row = 0;
 					}
-					col++;
 				}
-				
-				//sanity checks for empty values and number of columns
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
-				row++;
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
 			}
 		}
-		finally {
-			IOUtilFunctions.closeSilently(reader);
+		
+		//pass last partial chunk
+		if( row > 0 ) {
+			FrameBlock last = chunk.slice(0, row-1, 0, (int)clen-1, new FrameBlock());
+			last.setColumnNames(lnames);
+			consumer.accept(last, rl);
 		}
+	}
+	
+	/**
+	 * Parses a single csv line into the given row of the target frame block,
+	 * except for lines of frame meta data (missing values / num distinct)
+	 * which are directly applied to the column meta data.
+	 * 
+	 * @param line csv line
+	 * @param dest target frame block
+	 * @param schema schema as array of ValueTypes
+	 * @param clen number of columns
+	 * @param row target row index
+	 * @return true if the line was parsed into the given row, false for meta data lines
+	 */
+	private boolean parseCSVLine(String line, FrameBlock dest, ValueType[] schema, long clen, int row) {
+		boolean isFill = _props.isFill();
+		double dfillValue = _props.getFillValue();
+		String sfillValue = String.valueOf(_props.getFillValue());
+		String delim = _props.getDelim();
 		
-		return row;
+		String cellStr = line.trim();
+		boolean emptyValuesFound = false;
+		int col = 0;
+		String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
+		
+		//parse frame meta data (missing values / num distinct)
+		if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX) ) {
+			if( parts[0].equals(TfUtils.TXMTD_MVPREFIX) )
+				for( int j=0; j<dest.getNumColumns(); j++ )
+					dest.getColumnMetadata(j).setMvValue(parts[j+1]);
+			else if( parts[0].equals(TfUtils.TXMTD_NDPREFIX) )
+				for( int j=0; j<dest.getNumColumns(); j++ )
+					dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j+1]));
+			return false;
+		}
+		
+		for( String part : parts ) //foreach cell
+		{
+			part = part.trim();
+			if ( part.isEmpty() ) {
+				if( isFill && dfillValue!=0 )
+					dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
+				emptyValuesFound = true;
+			}
+			else {
+				dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
+			}
+			col++;
+		}
+		
+		//sanity checks for empty values and number of columns
+		IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
+		IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
+		return true;
 	}
 
 	protected Pair<Integer,Integer> computeCSVSize( Path path, JobConf job, FileSystem fs) 
@@ -84,13 +84,13 @@ public class FrameWriterBinaryBlock extends FrameWriter
 	 * @param ru upper row
 	 * @throws IOException if IOException occurs
 	 */
-	@SuppressWarnings("deprecation")
 	protected static void writeBinaryBlockFrameToSequenceFile( Path path, JobConf job, FileSystem fs, FrameBlock src, int blen, int rl, int ru ) 
 		throws IOException
 	{
-		//1) create sequence file writer 
+		//1) create sequence file writer (w/ configured compression)
 		SequenceFile.Writer writer = null;
-		writer = new SequenceFile.Writer(fs, job, path, LongWritable.class, FrameBlock.class);
+		writer = IOUtilFunctions.createSequenceFileWriter(
+			job, fs, path, LongWritable.class, FrameBlock.class, -1);
 		
 		try
 		{
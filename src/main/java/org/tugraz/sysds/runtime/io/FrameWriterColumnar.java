@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+
+
+/**
+ * Single-threaded frame writer for the native columnar format (see {@link ColumnarFrameFormat}).
+ * 
+ */
+public class FrameWriterColumnar extends FrameWriter
+{
+	@Override
+	public final void writeFrameToHDFS( FrameBlock src, String fname, long rlen, long clen )
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+
+		//bound check for src block
+		if( src.getNumRows() > rlen || src.getNumColumns() > clen ) {
+			throw new IOException("Frame block [1:"+src.getNumRows()+",1:"+src.getNumColumns()+"] " +
+					              "out of overall frame range [1:"+rlen+",1:"+clen+"].");
+		}
+		
+		//write columnar file to hdfs (sequential/parallel row group encoding)
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		writeColumnarFrameToHDFS( path, fs, src );
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	protected void writeColumnarFrameToHDFS( Path path, FileSystem fs, FrameBlock src )
+		throws IOException
+	{
+		int rgsize = ColumnarFrameFormat.getRowGroupSize(src.getSchema());
+		int ngroups = (src.getNumRows() + rgsize - 1) / rgsize;
+		int[] groupRows = new int[ngroups];
+		long[][] chunkOff = new long[ngroups][];
+		int[][] chunkLen = new int[ngroups][];
+		
+		FSDataOutputStream out = fs.create(path, true);
+		try {
+			ColumnarFrameFormat.writeHeader(out, src);
+			writeRowGroups(out, src, rgsize, groupRows, chunkOff, chunkLen);
+			ColumnarFrameFormat.writeFooter(out, out.getPos(), groupRows, chunkOff, chunkLen);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+	
+	protected void writeRowGroups( FSDataOutputStream out, FrameBlock src, int rgsize, int[] groupRows, long[][] chunkOff, int[][] chunkLen )
+		throws IOException
+	{
+		//sequential encode and append of row groups
+		for( int g=0; g<groupRows.length; g++ ) {
+			int rl = g * rgsize;
+			int ru = Math.min(rl + rgsize, src.getNumRows());
+			appendRowGroup(out, encodeRowGroup(src, rl, ru), g, ru-rl, groupRows, chunkOff, chunkLen);
+		}
+	}
+	
+	protected static byte[][] encodeRowGroup( FrameBlock src, int rl, int ru ) {
+		byte[][] chunks = new byte[src.getNumColumns()][];
+		for( int j=0; j<chunks.length; j++ )
+			chunks[j] = ColumnarFrameFormat.encodeChunk(src, j, rl, ru);
+		return chunks;
+	}
+	
+	protected static void appendRowGroup( FSDataOutputStream out, byte[][] chunks, int g, int nrows, int[] groupRows, long[][] chunkOff, int[][] chunkLen )
+		throws IOException
+	{
+		groupRows[g] = nrows;
+		chunkOff[g] = new long[chunks.length];
+		chunkLen[g] = new int[chunks.length];
+		for( int j=0; j<chunks.length; j++ ) {
+			chunkOff[g][j] = out.getPos();
+			chunkLen[g][j] = chunks[j].length;
+			out.write(chunks[j]);
+		}
+	}
+}
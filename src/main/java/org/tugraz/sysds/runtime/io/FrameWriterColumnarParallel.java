@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+
+
+/**
+ * Multi-threaded frame writer for the native columnar format. Row groups are 
+ * encoded in parallel, in batches of one row group per thread to bound the
+ * memory of encoded chunks, and appended in order to the single output file.
+ * 
+ */
+public class FrameWriterColumnarParallel extends FrameWriterColumnar
+{
+	@Override
+	protected void writeRowGroups( FSDataOutputStream out, FrameBlock src, int rgsize, int[] groupRows, long[][] chunkOff, int[][] chunkLen )
+		throws IOException
+	{
+		//determine degree of parallelism
+		int numThreads = OptimizerUtils.getParallelBinaryWriteParallelism();
+		numThreads = Math.min(numThreads, groupRows.length);
+		
+		//fall back to sequential write if dop is 1 (e.g., single row group)
+		if( numThreads <= 1 ) {
+			super.writeRowGroups(out, src, rgsize, groupRows, chunkOff, chunkLen);
+			return;
+		}
+		
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try 
+		{
+			for( int g0=0; g0<groupRows.length; g0+=numThreads ) {
+				//encode batch of row groups in parallel
+				ArrayList<EncodeRowGroupTask> tasks = new ArrayList<>();
+				for( int g=g0; g<Math.min(g0+numThreads, groupRows.length); g++ )
+					tasks.add(new EncodeRowGroupTask(src, g*rgsize, Math.min((g+1)*rgsize, src.getNumRows())));
+				List<Future<byte[][]>> rt = pool.invokeAll(tasks);
+				
+				//append encoded row groups in order
+				for( int i=0; i<rt.size(); i++ ) {
+					EncodeRowGroupTask task = tasks.get(i);
+					appendRowGroup(out, rt.get(i).get(), g0+i, task._ru-task._rl, groupRows, chunkOff, chunkLen);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw new IOException("Failed parallel write of columnar frame.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static class EncodeRowGroupTask implements Callable<byte[][]> 
+	{
+		private final FrameBlock _src;
+		private final int _rl;
+		private final int _ru;
+		
+		public EncodeRowGroupTask(FrameBlock src, int rl, int ru) {
+			_src = src;
+			_rl = rl;
+			_ru = ru;
+		}
+	
+		@Override
+		public byte[][] call() {
+			return encodeRowGroup(_src, _rl, _ru);
+		}
+	}
+}
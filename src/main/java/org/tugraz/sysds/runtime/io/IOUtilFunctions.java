@@ -26,6 +26,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -45,7 +47,14 @@ import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
 import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.SequenceFile.CompressionType;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.io.compress.Lz4Codec;
+import org.apache.hadoop.io.compress.SnappyCodec;
 import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.InputSplit;
@@ -53,9 +62,13 @@ import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
 import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.util.NativeCodeLoader;
+import org.apache.hadoop.util.ReflectionUtils;
 import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.transform.TfUtils;
+import org.tugraz.sysds.runtime.util.HDFSTool;
 import org.tugraz.sysds.runtime.util.LocalFileUtils;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
@@ -146,6 +159,38 @@ public class IOUtilFunctions
 		}
 	}
 	
+	/**
+	 * Releases the memory mapping of the given buffer eagerly instead of on
+	 * garbage collection, which frees the mapped pages and the disk space of
+	 * deleted files. The buffer must not be accessed afterwards. If the JVM 
+	 * does not support explicit unmapping, the mapping is released on GC.
+	 * 
+	 * @param buff memory-mapped buffer
+	 */
+	public static void unmapSilently( ByteBuffer buff ) {
+		if( buff == null || !buff.isDirect() )
+			return;
+		try {
+			try { //Java 9+
+				Class<?> clazz = Class.forName("sun.misc.Unsafe");
+				Field f = clazz.getDeclaredField("theUnsafe");
+				f.setAccessible(true);
+				clazz.getMethod("invokeCleaner", ByteBuffer.class)
+					.invoke(f.get(null), buff);
+			}
+			catch(NoSuchMethodException ex) { //Java 8
+				Method m = buff.getClass().getMethod("cleaner");
+				m.setAccessible(true);
+				Object cleaner = m.invoke(buff);
+				if( cleaner != null )
+					cleaner.getClass().getMethod("clean").invoke(cleaner);
+			}
+		}
+		catch (Exception ex) {
+			LOG.debug("Failed to unmap buffer, released on GC.", ex);
+		}
+	}
+	
 	public static void checkAndRaiseErrorCSVEmptyField(String row, boolean fill, boolean emptyFound) 
 		throws IOException
 	{
@@ -166,6 +211,24 @@ public class IOUtilFunctions
 		}
 	}
 	
+	public static void checkAndRaiseErrorCSVEmptyField(Text row, boolean fill, boolean emptyFound) 
+		throws IOException
+	{
+		//lazy string conversion for error message only
+		if ( !fill && emptyFound)
+			checkAndRaiseErrorCSVEmptyField(row.toString().trim(), fill, emptyFound);
+	}
+	
+	public static void checkAndRaiseErrorCSVNumColumns(String fname, Text line, int realncol, long ncol) 
+		throws IOException
+	{
+		//lazy string conversion for error message only
+		if( realncol != ncol ) {
+			throw new IOException("Invalid number of columns (" + realncol + ", expected=" + ncol + ") "
+					+ "found in delimited file (" + fname + ") for line: " + line.toString().trim());
+		}
+	}
+	
 	/**
 	 * Splits a string by a specified delimiter into all tokens, including empty.
 	 * NOTE: This method is meant as a faster drop-in replacement of the regular 
@@ -525,6 +588,68 @@ public class IOUtilFunctions
 		return ncol;
 	}
 
+	/**
+	 * Creates a sequence file writer for the given key and value classes. If a 
+	 * compression codec is configured via sysds.io.compression.codec, the records
+	 * are block-compressed, otherwise they are written uncompressed. Readers based
+	 * on {@link SequenceFile.Reader} decompress the records transparently.
+	 * 
+	 * @param job job configuration
+	 * @param fs file system
+	 * @param path file path
+	 * @param keyClass key class
+	 * @param valueClass value class
+	 * @param replication replication factor, or -1 for default replication
+	 * @return sequence file writer
+	 * @throws IOException if IOException occurs
+	 */
+	public static SequenceFile.Writer createSequenceFileWriter(JobConf job, FileSystem fs, Path path,
+		Class<?> keyClass, Class<?> valueClass, int replication) throws IOException
+	{
+		CompressionCodec codec = getCompressionCodec(job, 
+			ConfigurationManager.getDMLConfig().getTextValue(DMLConfig.IO_COMPRESSION_CODEC));
+		ArrayList<SequenceFile.Writer.Option> opts = new ArrayList<>();
+		opts.add(SequenceFile.Writer.file(path));
+		opts.add(SequenceFile.Writer.keyClass(keyClass));
+		opts.add(SequenceFile.Writer.valueClass(valueClass));
+		opts.add(SequenceFile.Writer.bufferSize(job.getInt(HDFSTool.IO_FILE_BUFFER_SIZE, 4096)));
+		opts.add( (codec != null) ? 
+			SequenceFile.Writer.compression(CompressionType.BLOCK, codec) :
+			SequenceFile.Writer.compression(CompressionType.NONE));
+		if( replication > 0 ) { //if replication specified (otherwise default)
+			opts.add(SequenceFile.Writer.replication((short)replication));
+			opts.add(SequenceFile.Writer.blockSize(fs.getDefaultBlockSize(path)));
+		}
+		return SequenceFile.createWriter(job, opts.toArray(new SequenceFile.Writer.Option[0]));
+	}
+	
+	/**
+	 * Obtains the compression codec for the given name (e.g., none, default, gzip,
+	 * snappy, lz4, bzip2, or a codec class name). Codecs that require the native 
+	 * hadoop library fall back to the default (zlib) codec if it is not available.
+	 * 
+	 * @param job job configuration
+	 * @param name codec name
+	 * @return compression codec, or null for no compression
+	 * @throws IOException if the codec is unknown
+	 */
+	public static CompressionCodec getCompressionCodec(Configuration job, String name) 
+		throws IOException
+	{
+		if( name == null || name.isEmpty() || name.equalsIgnoreCase("none") )
+			return null;
+		CompressionCodec codec = new CompressionCodecFactory(job).getCodecByName(name);
+		if( codec == null )
+			throw new IOException("Unsupported compression codec: "+name);
+		if( (codec instanceof SnappyCodec || codec instanceof Lz4Codec) 
+			&& !NativeCodeLoader.isNativeCodeLoaded() ) {
+			LOG.warn("Native hadoop library not available for compression codec '"
+				+ name + "', falling back to default codec.");
+			codec = ReflectionUtils.newInstance(DefaultCodec.class, job);
+		}
+		return codec;
+	}
+	
 	public static Path[] getSequenceFilePaths( FileSystem fs, Path file ) 
 		throws IOException
 	{
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
+import org.tugraz.sysds.runtime.util.ByteBufferDataInput;
+import org.tugraz.sysds.runtime.util.LocalFileUtils;
+
+/**
+ * Reader of binary block sequence files on the local file system, which 
+ * memory-maps the entire file and deserializes the matrix indexes and blocks
+ * directly from the mapped buffer, i.e., without the stream, checksum, and 
+ * buffer copy overheads of {@link SequenceFile.Reader}. The on-disk format is 
+ * unchanged; the header is parsed via {@link SequenceFile.Reader} and only 
+ * uncompressed files of {@link MatrixIndexes}/{@link MatrixBlock} pairs 
+ * smaller than 2GB are supported (see {@link #open(FileSystem, Path, Configuration)}).
+ * 
+ * Record layout (after the header): [record length][key length][key][value], 
+ * interleaved with sync markers [-1][16 bytes sync].
+ */
+public class MappedBinaryBlockReader implements Closeable
+{
+	private static final int SYNC_ESCAPE = -1;
+	private static final int SYNC_HASH_SIZE = 16;
+	
+	private final ByteBuffer _buff;
+	private final ByteBufferDataInput _in;
+	
+	private MappedBinaryBlockReader(ByteBuffer buff) {
+		_buff = buff;
+		_in = new ByteBufferDataInput(buff);
+	}
+	
+	/**
+	 * Opens a memory-mapped reader for the given sequence file if supported, 
+	 * otherwise returns null and callers fall back to {@link SequenceFile.Reader}.
+	 * 
+	 * @param fs file system
+	 * @param path file path (single part file)
+	 * @param job job configuration
+	 * @return mapped reader or null
+	 * @throws IOException if IOException occurs
+	 */
+	public static MappedBinaryBlockReader open(FileSystem fs, Path path, Configuration job) 
+		throws IOException 
+	{
+		if( !LocalFileUtils.USE_MMAP_READ || !(fs instanceof LocalFileSystem) )
+			return null;
+		File file = ((LocalFileSystem)fs).pathToFile(path);
+		long len = file.length();
+		if( len > Integer.MAX_VALUE )
+			return null;
+		
+		//parse and validate header via regular reader
+		long hlen = -1;
+		SequenceFile.Reader reader = new SequenceFile
+			.Reader(job, SequenceFile.Reader.file(path));
+		try {
+			if( !reader.isCompressed() 
+				&& reader.getKeyClass() == MatrixIndexes.class
+				&& reader.getValueClass() == MatrixBlock.class )
+				hlen = reader.getPosition();
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+		if( hlen < 0 )
+			return null;
+		
+		//map the entire file read-only (mapping remains valid after close)
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			ByteBuffer buff = channel.map(FileChannel.MapMode.READ_ONLY, 0, len);
+			buff.position((int)hlen);
+			return new MappedBinaryBlockReader(buff);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
+	
+	/**
+	 * Reads the next key/value pair into the given (reusable) objects.
+	 * 
+	 * @param key matrix indexes
+	 * @param value matrix block
+	 * @return true if a pair was read, false at end of file
+	 * @throws IOException if IOException occurs
+	 */
+	public boolean next(MatrixIndexes key, MatrixBlock value) 
+		throws IOException 
+	{
+		if( _buff.remaining() < 4 )
+			return false;
+		int length = _buff.getInt();
+		if( length == SYNC_ESCAPE ) {
+			_buff.position(_buff.position() + SYNC_HASH_SIZE);
+			if( _buff.remaining() < 4 )
+				return false;
+			length = _buff.getInt();
+		}
+		int start = _buff.position() + 4; //after key length
+		if( length < 0 || start + length > _buff.limit() )
+			throw new IOException("Invalid record length: "+length+" at position "+(start-8)+".");
+		_buff.getInt(); //key length
+		key.readFields(_in);
+		value.readFields(_in);
+		
+		//sanity check consumed bytes of serialized record
+		if( _buff.position() != start + length )
+			throw new IOException("Invalid record size: "+(_buff.position()-start)+" vs "+length+".");
+		return true;
+	}
+	
+	@Override
+	public void close() {
+		//explicit unmap (read blocks do not reference the buffer)
+		_buff.position(_buff.limit());
+		IOUtilFunctions.unmapSilently(_buff);
+	}
+}
@@ -153,14 +153,16 @@ public class ReaderBinaryBlock extends MatrixReader
 		
 		for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ) //1..N files 
 		{
-			//directly read from sequence files (individual partfiles)
-			SequenceFile.Reader reader = new SequenceFile
-				.Reader(job, SequenceFile.Reader.file(lpath));
+			//directly read from sequence files (individual partfiles),
+			//w/ memory-mapped fast path for uncompressed local files
+			MappedBinaryBlockReader mreader = MappedBinaryBlockReader.open(fs, lpath, job);
+			SequenceFile.Reader reader = (mreader == null) ? new SequenceFile
+				.Reader(job, SequenceFile.Reader.file(lpath)) : null;
 			
 			try
 			{
 				//note: next(key, value) does not yet exploit the given serialization classes, record reader does but is generally slower.
-				while( reader.next(key, value) )
+				while( (mreader != null) ? mreader.next(key, value) : reader.next(key, value) )
 				{	
 					//empty block filter (skip entire block)
 					if( value.isEmptyBlock(false) )
@@ -199,6 +201,7 @@ public class ReaderBinaryBlock extends MatrixReader
 			finally
 			{
 				IOUtilFunctions.closeSilently(reader);
+				IOUtilFunctions.closeSilently(mreader);
 			}
 		}
 		
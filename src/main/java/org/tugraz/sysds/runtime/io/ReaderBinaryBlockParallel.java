@@ -98,7 +98,7 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			ExecutorService pool = CommonThreadPool.get(_numThreads);
 			ArrayList<ReadFileTask> tasks = new ArrayList<>();
 			for( Path lpath : IOUtilFunctions.getSequenceFilePaths(fs, path) ){
-				ReadFileTask t = new ReadFileTask(lpath, job, dest, rlen, clen, blen, syncBlock);
+				ReadFileTask t = new ReadFileTask(lpath, job, fs, dest, rlen, clen, blen, syncBlock);
 				tasks.add(t);
 			}
 
@@ -126,14 +126,16 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 	{
 		private final Path _path;
 		private final JobConf _job;
+		private final FileSystem _fs;
 		private final MatrixBlock _dest;
 		private final long _rlen, _clen;
 		private final int _blen;
 		private final boolean _syncBlocks;
 		
-		public ReadFileTask(Path path, JobConf job, MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks) {
+		public ReadFileTask(Path path, JobConf job, FileSystem fs, MatrixBlock dest, long rlen, long clen, int blen, boolean syncBlocks) {
 			_path = path;
 			_job = job;
+			_fs = fs;
 			_dest = dest;
 			_rlen = rlen;
 			_clen = clen;
@@ -149,14 +151,16 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			MatrixBlock value = getReuseBlock(_blen, sparse);
 			long lnnz = 0; //aggregate block nnz
 			
-			//directly read from sequence files (individual partfiles)
-			SequenceFile.Reader reader = new SequenceFile
-				.Reader(_job, SequenceFile.Reader.file(_path));
+			//directly read from sequence files (individual partfiles),
+			//w/ memory-mapped fast path for uncompressed local files
+			MappedBinaryBlockReader mreader = MappedBinaryBlockReader.open(_fs, _path, _job);
+			SequenceFile.Reader reader = (mreader == null) ? new SequenceFile
+				.Reader(_job, SequenceFile.Reader.file(_path)) : null;
 			
 			try
 			{
 				//note: next(key, value) does not yet exploit the given serialization classes, record reader does but is generally slower.
-				while( reader.next(key, value) )
+				while( (mreader != null) ? mreader.next(key, value) : reader.next(key, value) )
 				{	
 					//empty block filter (skip entire block)
 					if( value.isEmptyBlock(false) )
@@ -218,6 +222,7 @@ public class ReaderBinaryBlockParallel extends ReaderBinaryBlock
 			}
 			finally {
 				IOUtilFunctions.closeSilently(reader);
+				IOUtilFunctions.closeSilently(mreader);
 			}
 			
 			return lnnz;
@@ -32,12 +32,13 @@ import org.apache.commons.lang.mutable.MutableInt;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
 import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.util.LineReader;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
-import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 public class ReaderTextCSV extends MatrixReader
 {
@@ -133,14 +134,16 @@ public class ReaderTextCSV extends MatrixReader
 		throws IOException
 	{
 		boolean sparse = dest.isInSparseFormat();
-		String value = null;
+		Text value = new Text();
 		int row = rowPos.intValue();
 		double cellValue = 0;
 		long lnnz = 0;
 		
-		BufferedReader br = new BufferedReader(new InputStreamReader(is));
+		//byte-level line reader and tokenizer w/o intermediate strings
+		LineReader br = new LineReader(is);
+		FastCSVTokenizer st = new FastCSVTokenizer(delim);
 		if(first && hasHeader ) 
-			br.readLine(); //ignore header
+			br.readLine(value); //ignore header
 		
 		// Read the data
 		boolean emptyValuesFound = false;
@@ -148,24 +151,23 @@ public class ReaderTextCSV extends MatrixReader
 		{
 			if( sparse ) //SPARSE<-value
 			{
-				while( (value=br.readLine())!=null ) //foreach line
+				while( br.readLine(value) > 0 ) //foreach line
 				{
-					String cellStr = value.toString().trim();
+					st.reset(value);
 					emptyValuesFound = false;
-					String[] parts = IOUtilFunctions.split(cellStr, delim);
 					int col = 0;
 					
-					for(String part : parts) //foreach cell
+					while( st.hasNext() ) //foreach cell
 					{
-						part = part.trim();
-						if ( part.isEmpty() ) {
+						st.next();
+						if ( st.isEmpty() ) {
 							emptyValuesFound = true;
 							cellValue = fillValue;
 						}
 						else {
-							cellValue = UtilFunctions.parseToDouble(part);
+							cellValue = st.getDouble();
 						}
-						if ( cellValue != 0 ) {
+						if ( cellValue != 0 && col < clen ) {
 							dest.appendValue(row, col, cellValue);
 							lnnz++;
 						}
@@ -173,38 +175,39 @@ public class ReaderTextCSV extends MatrixReader
 					}
 					
 					//sanity checks for empty values and number of columns
-					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, fill, emptyValuesFound);
-					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, cellStr, parts, clen);
+					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, fill, emptyValuesFound);
+					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, clen);
 					row++;
 				}
 			} 
 			else //DENSE<-value
 			{
 				DenseBlock a = dest.getDenseBlock();
-				while( (value=br.readLine())!=null ) { //foreach line
-					String cellStr = value.toString().trim();
+				while( br.readLine(value) > 0 ) { //foreach line
+					st.reset(value);
 					emptyValuesFound = false;
-					String[] parts = IOUtilFunctions.split(cellStr, delim);
+					double[] avals = a.values(row);
+					int apos = a.pos(row);
 					int col = 0;
-					for( String part : parts ) { //foreach cell
-						part = part.trim();
-						if ( part.isEmpty() ) {
+					while( st.hasNext() ) { //foreach cell
+						st.next();
+						if ( st.isEmpty() ) {
 							emptyValuesFound = true;
 							cellValue = fillValue;
 						}
 						else {
-							cellValue = UtilFunctions.parseToDouble(part);
+							cellValue = st.getDouble();
 						}
-						if ( cellValue != 0 ) {
-							a.set(row, col, cellValue);
+						if ( cellValue != 0 && col < clen ) {
+							avals[apos+col] = cellValue;
 							lnnz++;
 						}
 						col++;
 					}
 					
 					//sanity checks for empty values and number of columns
-					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, fill, emptyValuesFound);
-					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, cellStr, parts, clen);
+					IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, fill, emptyValuesFound);
+					IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(srcInfo, value, col, clen);
 					row++;
 				}
 			}
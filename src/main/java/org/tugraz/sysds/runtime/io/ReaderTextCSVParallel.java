@@ -42,10 +42,10 @@ import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions.CountRowsTask;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.util.CommonThreadPool;
-import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 /**
  * Parallel version of ReaderTextCSV.java. To summarize, we do two passes in
@@ -340,37 +340,39 @@ public class ReaderTextCSVParallel extends MatrixReader
 
 				boolean noFillEmpty = false;
 				row = _splitoffsets.getOffsetPerSplit(_splitCount);
+				FastCSVTokenizer st = new FastCSVTokenizer(_delim);
+				final int clen = (int)_clen;
 
 				try {
 					if (_sparse) // SPARSE<-value
 					{
+						SparseBlock a = _dest.getSparseBlock();
 						while (reader.next(key, value)) // foreach line
 						{
-							String cellStr = value.toString().trim();
-							String[] parts = IOUtilFunctions.split(cellStr, _delim);
+							st.reset(value);
 							col = 0;
-
-							for (String part : parts) // foreach cell
-							{
-								part = part.trim();
-								if (part.isEmpty()) {
-									noFillEmpty |= !_fill;
+							boolean emptyFound = false;
+							while( st.hasNext() ) { // foreach cell
+								st.next();
+								if( st.isEmpty() ) {
+									emptyFound = true;
 									cellValue = _fillValue;
 								} 
 								else {
-									cellValue = UtilFunctions.parseToDouble(part);
+									cellValue = st.getDouble();
 								}
-
-								if( cellValue != 0 ) {
-									_dest.appendValue(row, col, cellValue);
+								//append directly into the row, w/o per-cell checks
+								if( cellValue != 0 && col < clen ) {
+									a.append(row, col, cellValue);
 									lnnz++;
 								}
 								col++;
 							}
 
 							// sanity checks (number of columns, fill values)
-							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _fill, noFillEmpty);
-							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _clen);
+							noFillEmpty |= emptyFound & !_fill;
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, _fill, noFillEmpty);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), value, col, _clen);
 							
 							row++;
 						}
@@ -379,28 +381,32 @@ public class ReaderTextCSVParallel extends MatrixReader
 					{
 						DenseBlock a = _dest.getDenseBlock();
 						while (reader.next(key, value)) { // foreach line
-							String cellStr = value.toString().trim();
-							String[] parts = IOUtilFunctions.split(cellStr, _delim);
+							st.reset(value);
+							//write directly into the row segment of the dense block
+							double[] avals = a.values(row);
+							int apos = a.pos(row);
 							col = 0;
-							for (String part : parts) { // foreach cell
-								part = part.trim();
-								if (part.isEmpty()) {
-									noFillEmpty |= !_fill;
+							boolean emptyFound = false;
+							while( st.hasNext() ) { // foreach cell
+								st.next();
+								if( st.isEmpty() ) {
+									emptyFound = true;
 									cellValue = _fillValue;
 								} 
 								else {
-									cellValue = UtilFunctions.parseToDouble(part);
+									cellValue = st.getDouble();
 								}
-								if( cellValue != 0 ) {
-									a.set(row, col, cellValue);
+								if( cellValue != 0 && col < clen ) {
+									avals[apos+col] = cellValue;
 									lnnz++;
 								}
 								col++;
 							}
 
 							// sanity checks (number of columns, fill values)
-							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, _fill, noFillEmpty);
-							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), cellStr, parts, _clen);
+							noFillEmpty |= emptyFound & !_fill;
+							IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(value, _fill, noFillEmpty);
+							IOUtilFunctions.checkAndRaiseErrorCSVNumColumns(_split.toString(), value, col, _clen);
 							
 							row++;
 						}
@@ -58,12 +58,12 @@ public class TensorWriterBinaryBlock extends TensorWriter {
 		writeBinaryBlockTensorToSequenceFile(path, job, fs, src, blen, 0, src.getNumRows());
 	}
 
-	@SuppressWarnings("deprecation")
 	protected static void writeBinaryBlockTensorToSequenceFile(Path path, JobConf job, FileSystem fs, TensorBlock src,
 			int blen, int rl, int ru)
 			throws IOException
 	{
-		try(SequenceFile.Writer writer = new SequenceFile.Writer(fs, job, path, TensorIndexes.class, TensorBlock.class)) {
+		try(SequenceFile.Writer writer = IOUtilFunctions.createSequenceFileWriter(
+			job, fs, path, TensorIndexes.class, TensorBlock.class, -1)) {
 			int[] dims = src.getDims();
 			// bound check
 			for (int i = 0; i < dims.length; i++) {
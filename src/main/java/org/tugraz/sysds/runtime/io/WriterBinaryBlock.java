@@ -65,7 +65,6 @@ public class WriterBinaryBlock extends MatrixWriter
 	}
 
 	@Override
-	@SuppressWarnings("deprecation")
 	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen) 
 		throws IOException, DMLRuntimeException 
 	{
@@ -74,8 +73,8 @@ public class WriterBinaryBlock extends MatrixWriter
 		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
 		SequenceFile.Writer writer = null;
 		try {
-			writer = new SequenceFile.Writer(fs, job, path,
-				MatrixIndexes.class, MatrixBlock.class);
+			writer = IOUtilFunctions.createSequenceFileWriter(
+				job, fs, path, MatrixIndexes.class, MatrixBlock.class, -1);
 			MatrixIndexes index = new MatrixIndexes(1, 1);
 			MatrixBlock block = new MatrixBlock(
 				(int)Math.max(Math.min(rlen, blen),1),
@@ -96,7 +95,6 @@ public class WriterBinaryBlock extends MatrixWriter
 		writeBinaryBlockMatrixToSequenceFile(path, job, fs, src, blen, 0, (int)rlen);
 	}
 
-	@SuppressWarnings("deprecation")
 	protected final void writeBinaryBlockMatrixToSequenceFile( Path path, JobConf job, FileSystem fs, MatrixBlock src, int blen, int rl, int ru ) 
 		throws IOException
 	{
@@ -104,20 +102,10 @@ public class WriterBinaryBlock extends MatrixWriter
 		int rlen = src.getNumRows();
 		int clen = src.getNumColumns();
 		
-		// 1) create sequence file writer, with right replication factor 
+		// 1) create sequence file writer, with right replication factor and configured compression
 		// (config via MRConfigurationNames.DFS_REPLICATION not possible since sequence file internally calls fs.getDefaultReplication())
-		SequenceFile.Writer writer = null;
-		if( _replication > 0 ) //if replication specified (otherwise default)
-		{
-			//copy of SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class), except for replication
-			writer = new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class,
-				job.getInt(HDFSTool.IO_FILE_BUFFER_SIZE, 4096),
-				(short)_replication, fs.getDefaultBlockSize(), null, new SequenceFile.Metadata());	
-		}
-		else	
-		{
-			writer = new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class);
-		}
+		SequenceFile.Writer writer = IOUtilFunctions.createSequenceFileWriter(
+			job, fs, path, MatrixIndexes.class, MatrixBlock.class, _replication);
 		
 		try
 		{
@@ -173,26 +161,15 @@ public class WriterBinaryBlock extends MatrixWriter
 		}
 	}
 
-	@SuppressWarnings("deprecation")
 	protected final void writeDiagBinaryBlockMatrixToHDFS( Path path, JobConf job, FileSystem fs, MatrixBlock src, long rlen, long clen, int blen ) 
 		throws IOException, DMLRuntimeException
 	{
 		boolean sparse = src.isInSparseFormat();
 		
-		// 1) create sequence file writer, with right replication factor 
+		// 1) create sequence file writer, with right replication factor and configured compression
 		// (config via MRConfigurationNames.DFS_REPLICATION not possible since sequence file internally calls fs.getDefaultReplication())
-		SequenceFile.Writer writer = null;
-		if( _replication > 0 ) //if replication specified (otherwise default)
-		{
-			//copy of SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class), except for replication
-			writer = new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class,
-				job.getInt(HDFSTool.IO_FILE_BUFFER_SIZE, 4096),
-				(short)_replication, fs.getDefaultBlockSize(), null, new SequenceFile.Metadata());
-		}
-		else	
-		{
-			writer = new SequenceFile.Writer(fs, job, path, MatrixIndexes.class, MatrixBlock.class);
-		}
+		SequenceFile.Writer writer = IOUtilFunctions.createSequenceFileWriter(
+			job, fs, path, MatrixIndexes.class, MatrixBlock.class, _replication);
 		
 		try
 		{
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixIndexes;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+
+/**
+ * Incremental binary block matrix writer, which appends row chunks of a matrix
+ * with a fixed number of columns to a single sequence file. In contrast to the
+ * default writers, the full matrix never needs to be materialized in memory,
+ * which allows streaming operations to write outputs larger than memory.
+ *
+ */
+public class WriterBinaryBlockStreaming implements Closeable
+{
+	private final JobConf _job;
+	private final FileSystem _fs;
+	private final Path _path;
+	private final long _clen;
+	private final int _blen;
+	private final SequenceFile.Writer _writer;
+
+	private long _rlen = 0;
+	private long _nnz = 0;
+	private boolean _empty = true;
+
+	public WriterBinaryBlockStreaming(String fname, long clen, int blen, int replication)
+		throws IOException
+	{
+		_job = new JobConf(ConfigurationManager.getCachedJobConf());
+		_path = new Path( fname );
+		_fs = IOUtilFunctions.getFileSystem(_path, _job);
+		_clen = clen;
+		_blen = blen;
+
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+
+		//set up preferred custom serialization framework for binary block format
+		if( HDFSTool.USE_BINARYBLOCK_SERIALIZATION )
+			HDFSTool.addBinaryBlockSerializationFramework( _job );
+
+		_writer = IOUtilFunctions.createSequenceFileWriter(
+			_job, _fs, _path, MatrixIndexes.class, MatrixBlock.class, replication);
+	}
+
+	/**
+	 * Appends the given row chunk at the given row offset, where the row
+	 * offset is required to be aligned with the block size.
+	 *
+	 * @param src row chunk of the matrix
+	 * @param rl row offset, 0-based
+	 * @throws IOException if IOException occurs
+	 */
+	public void appendRows(MatrixBlock src, long rl)
+		throws IOException
+	{
+		int rlen = src.getNumRows();
+		if( rlen == 0 )
+			return;
+		if( rl % _blen != 0 || src.getNumColumns() != _clen ) {
+			throw new IOException("Row chunk [" + (rl+1) + ":" + (rl+rlen) + ",1:" + src.getNumColumns()
+				+ "] not aligned with blocks of size " + _blen + " and " + _clen + " columns.");
+		}
+
+		//initialize blocks for reuse (at most 4 different blocks required)
+		MatrixBlock[] blocks = MatrixWriter.createMatrixBlocksForReuse(
+			rlen, _clen, _blen, src.isInSparseFormat(), src.getNonZeros());
+		MatrixIndexes indexes = new MatrixIndexes();
+
+		//create and write subblocks of row chunk
+		for(int blockRow = 0; blockRow < (int)Math.ceil(rlen/(double)_blen); blockRow++)
+			for(int blockCol = 0; blockCol < (int)Math.ceil(_clen/(double)_blen); blockCol++)
+			{
+				int maxRow = Math.min(_blen, rlen - blockRow*_blen);
+				int maxCol = (int)Math.min(_blen, _clen - blockCol*_blen);
+				int row_offset = blockRow*_blen;
+				int col_offset = blockCol*_blen;
+
+				//get reuse matrix block and copy submatrix to block
+				MatrixBlock block = MatrixWriter.getMatrixBlockForReuse(blocks, maxRow, maxCol, _blen);
+				src.slice( row_offset, row_offset+maxRow-1,
+					col_offset, col_offset+maxCol-1, block );
+
+				//append block to sequence file
+				indexes.setIndexes(rl/_blen+blockRow+1, blockCol+1);
+				_writer.append(indexes, block);
+				_nnz += block.getNonZeros();
+
+				//reset block for later reuse
+				block.reset();
+			}
+
+		_rlen = Math.max(_rlen, rl + rlen);
+		_empty = false;
+	}
+
+	public long getNumRows() {
+		return _rlen;
+	}
+
+	public long getNonZeros() {
+		return _nnz;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			//write empty block for valid empty outputs
+			if( _empty ) {
+				_writer.append(new MatrixIndexes(1, 1), new MatrixBlock(
+					1, (int)Math.max(Math.min(_clen, _blen),1), true));
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(_writer);
+		}
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(_fs, _path);
+	}
+}
@@ -16,6 +16,7 @@
 
 package org.tugraz.sysds.runtime.lineage;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.hops.OptimizerUtils;
@@ -35,30 +36,51 @@ import org.tugraz.sysds.runtime.instructions.cp.Data;
 import org.tugraz.sysds.runtime.instructions.cp.MMTSJCPInstruction;
 import org.tugraz.sysds.runtime.instructions.cp.ParameterizedBuiltinCPInstruction;
 import org.tugraz.sysds.runtime.instructions.cp.ScalarObject;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.tugraz.sysds.runtime.matrix.data.InputInfo;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.matrix.data.Pair;
 import org.tugraz.sysds.runtime.meta.MetaDataFormat;
 import org.tugraz.sysds.runtime.util.LocalFileUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class LineageCache {
-	private static final Map<LineageItem, Entry> _cache = new HashMap<>();
-	private static final Map<LineageItem, SpilledItem> _spillList = new HashMap<>();
-	private static final HashSet<LineageItem> _removelist = new HashSet<>();
+	//NOTE: concurrent index for lock-free probes of parfor workers; entries are
+	// ordered by a logical access clock (instead of a global LRU list), which
+	// allows hits without locking and eviction under a dedicated lock only
+	private static final Map<LineageItem, Entry> _cache = new ConcurrentHashMap<>();
+	private static final Map<LineageItem, SpilledItem> _spillList = new ConcurrentHashMap<>();
+	private static final Set<LineageItem> _removelist = ConcurrentHashMap.newKeySet();
 	private static final double CACHE_FRAC = 0.05; // 5% of JVM mem
 	private static final long CACHE_LIMIT; //limit in bytes
+	private static final AtomicLong _cachesize = new AtomicLong(0);
+	private static final AtomicLong _clock = new AtomicLong(0);
+	private static final Object _evictLock = new Object();
+	private static final int SPILL_QUEUE_SIZE = 16; //max pending async writes
 	private static String outdir = null;
-	private static long _cachesize = 0;
-	private static Entry _head = null;
-	private static Entry _end = null;
+	private static ExecutorService _spillWriter = null;
+	private static ExecutorService _spillReader = null;
 
 	static {
 		long maxMem = InfrastructureAnalyzer.getLocalMaxMemory();
@@ -77,21 +99,21 @@ public class LineageCache {
 		if (inst instanceof ComputationCPInstruction && LineageCache.isReusable(inst, ec)) {
 			LineageItem item = ((ComputationCPInstruction) inst).getLineageItems(ec)[0];
 			
-			synchronized( _cache ) {
-				//try to reuse full or partial intermediates
-				if (LineageCacheConfig.getCacheType().isFullReuse())
-					reuse = fullReuse(item, (ComputationCPInstruction)inst, ec); 
-				if (LineageCacheConfig.getCacheType().isPartialReuse())
-					reuse |= LineageRewriteReuse.executeRewrites(inst, ec);
-				
-				if (reuse && DMLScript.STATISTICS)
-					LineageCacheStatistics.incrementInstHits();
-				
-				//create a placeholder if no reuse to avoid redundancy
-				//(e.g., concurrent threads that try to start the computation)
-				if(!reuse && isMarkedForCaching(inst, ec))
-					putIntern(item, null, 0);
-			}
+			//try to reuse full or partial intermediates
+			if (LineageCacheConfig.getCacheType().isFullReuse())
+				reuse = fullReuse(item, (ComputationCPInstruction)inst, ec); 
+			if (LineageCacheConfig.getCacheType().isPartialReuse())
+				reuse |= LineageRewriteReuse.executeRewrites(inst, ec);
+			
+			//create a placeholder if no reuse to avoid redundancy
+			//(e.g., concurrent threads that try to start the computation),
+			//or reuse the placeholder of a concurrently registered computation
+			if(!reuse && isMarkedForCaching(inst, ec) && !putIntern(item, null, 0)
+				&& LineageCacheConfig.getCacheType().isFullReuse())
+				reuse = fullReuse(item, (ComputationCPInstruction)inst, ec);
+			
+			if (reuse && DMLScript.STATISTICS)
+				LineageCacheStatistics.incrementInstHits();
 		}
 		
 		return reuse;
@@ -102,15 +124,13 @@ public class LineageCache {
 			return null;
 
 		MatrixBlock d = null;
-		synchronized( _cache ) {
-			if (LineageCache.probe(item)) 
-				d = LineageCache.get(item);
-			else
-				//create a placeholder if no reuse to avoid redundancy
-				//(e.g., concurrent threads that try to start the computation)
-				putIntern(item, null, 0);
-				//FIXME: parfor - every thread gets different function names
-		}
+		if (LineageCache.probe(item)) 
+			d = LineageCache.get(item);
+		//create a placeholder if no reuse to avoid redundancy
+		//(e.g., concurrent threads that try to start the computation)
+		if (d == null && !putIntern(item, null, 0))
+			d = LineageCache.get(item);
+			//FIXME: parfor - every thread gets different function names
 		return d;
 	}
 	
@@ -120,9 +140,17 @@ public class LineageCache {
 			return false;
 
 		boolean reuse = (numOutputs != 0);
+		LineageItem[] lis = new LineageItem[numOutputs];
 		for (int i=0; i<numOutputs; i++) {
 			String opcode = name + String.valueOf(i+1);
-			LineageItem li = new LineageItem(outputs.get(i), opcode, liInputs);
+			lis[i] = new LineageItem(outputs.get(i), opcode, liInputs);
+			//read-ahead of spilled outputs, which overlaps their reads
+			//with the restore of preceding outputs
+			if (numOutputs > 1)
+				prefetch(lis[i]);
+		}
+		for (int i=0; i<numOutputs; i++) {
+			LineageItem li = lis[i];
 			MatrixBlock cachedValue = LineageCache.reuse(li); 
 			//TODO: handling of recursive calls
 			
@@ -144,8 +172,8 @@ public class LineageCache {
 				ec.setVariable(boundVarName, boundValue);
 				
 				// map original lineage of function return to the calling site
-				LineageItem orig = _cache.get(li)._origItem; //FIXME: synchronize
-				ec.getLineage().set(boundVarName, orig);
+				Entry e = _cache.get(li);
+				ec.getLineage().set(boundVarName, (e != null && e._origItem != null) ? e._origItem : li);
 			}
 			else {
 				// if one output cannot be reused, we need to execute the function
@@ -154,6 +182,11 @@ public class LineageCache {
 				reuse = false;
 			}
 		}
+		//release the read-ahead of outputs that were not restored
+		//(e.g., concurrently restored or removed entries)
+		if (numOutputs > 1)
+			for (LineageItem li : lis)
+				releasePrefetch(li);
 		return reuse;
 	}
 	
@@ -162,9 +195,7 @@ public class LineageCache {
 		if (inst instanceof ComputationCPInstruction && isReusable(inst, ec) ) {
 			LineageItem item = ((LineageTraceable) inst).getLineageItems(ec)[0];
 			MatrixObject mo = ec.getMatrixObject(((ComputationCPInstruction) inst).output);
-			synchronized( _cache ) {
-				putIntern(item, mo.acquireReadAndRelease(), getRecomputeEstimate(inst, ec));
-			}
+			putIntern(item, mo.acquireReadAndRelease(), getRecomputeEstimate(inst, ec));
 		}
 	}
 	
@@ -176,12 +207,15 @@ public class LineageCache {
 			LineageItem item = ((LineageTraceable) inst).getLineageItems(ec)[0];
 			MatrixObject mo = ec.getMatrixObject(((ComputationCPInstruction) inst).output);
 			MatrixBlock value = mo.acquireReadAndRelease();
-			_cache.get(item).setValue(value, getRecomputeEstimate(inst, ec)); //outside sync to prevent deadlocks
-			
-			synchronized( _cache ) {
-				if( !isBelowThreshold(value) ) 
-					makeSpace(value);
-				updateSize(value, true);
+			Entry e = _cache.get(item);
+			if (e == null) //placeholder concurrently removed (e.g., reset)
+				putIntern(item, value, getRecomputeEstimate(inst, ec));
+			else if (e.isNullVal()) {
+				e.setValue(value, getRecomputeEstimate(inst, ec)); //before eviction to unblock waiting threads
+				if (value.getInMemorySize() > CACHE_LIMIT)
+					_cache.remove(item, e); //not applicable, but still handed to waiting threads
+				else
+					reserveSpace(value);
 			}
 		}
 	}
@@ -189,22 +223,43 @@ public class LineageCache {
 	public static void putValue(LineageItem item, LineageItem probeItem) {
 		if (ReuseCacheType.isNone())
 			return;
-		if (LineageCache.probe(probeItem)) {
-			MatrixBlock value = LineageCache.get(probeItem);
-			Entry e = _cache.get(item);
-			e.setValue(value, 0); //TODO: compute estimate for function
+		MatrixBlock value = LineageCache.probe(probeItem) ?
+			LineageCache.get(probeItem) : null;
+		Entry e = _cache.get(item);
+		if (value != null && e != null && e.isNullVal()) {
 			e._origItem = probeItem; 
-
-			synchronized( _cache ) {
-				if(!isBelowThreshold(value)) 
-					makeSpace(value);
-				updateSize(value, true);
-			}
+			e.setValue(value, 0); //TODO: compute estimate for function
+			reserveSpace(value);
 		}
 		else
 			removeEntry(item);  //remove the placeholder
 
 	}
+	
+	//NOTE: removing the placeholder of a failed computation unblocks concurrent
+	// threads waiting for the in-flight result, which then compute it themselves
+	public static void abort(Instruction inst, ExecutionContext ec) {
+		if (ReuseCacheType.isNone() || !(inst instanceof ComputationCPInstruction))
+			return;
+		try {
+			if (!isReusable(inst, ec))
+				return;
+			removePlaceholder(((ComputationCPInstruction) inst).getLineageItems(ec)[0]);
+		}
+		catch(Exception ex) {
+			//ignore: the inputs of the failed instruction might not exist,
+			//in which case no placeholder was created in the first place
+		}
+	}
+	
+	public static void abort(List<String> outputs, int numOutputs, LineageItem[] liInputs, String name) {
+		if (ReuseCacheType.isNone() || liInputs == null)
+			return;
+		for (int i=0; i<numOutputs; i++) {
+			String opcode = name + String.valueOf(i+1);
+			removePlaceholder(new LineageItem(outputs.get(i), opcode, liInputs));
+		}
+	}
 
 	public static void putValue(List<String> outputs, int numOutputs, LineageItem[] liInputs, String name, ExecutionContext ec)
 	{
@@ -240,34 +295,38 @@ public class LineageCache {
 		return;
 	}
 	
-	private static void putIntern(LineageItem key, MatrixBlock value, double compcost) {
-		if (_cache.containsKey(key))
-			//can come here if reuse_partial option is enabled
-			return; 
-			//throw new DMLRuntimeException("Redundant lineage caching detected: "+inst);
-		
-		// Create a new entry.
-		Entry newItem = new Entry(key, value, compcost);
+	private static boolean putIntern(LineageItem key, MatrixBlock value, double compcost) {
+		if( value != null && value.getInMemorySize() > CACHE_LIMIT )
+			return false; //not applicable
 		
 		// Make space by removing or spilling LRU entries.
-		if( value != null ) {
-			if( value.getInMemorySize() > CACHE_LIMIT )
-				return; //not applicable
-			if( !isBelowThreshold(value) ) 
-				makeSpace(value);
-			updateSize(value, true);
-		}
+		if( value != null )
+			reserveSpace(value);
 		
-		// Place the entry at head position.
-		setHead(newItem);
+		// Create a new entry, which is atomically registered, if not existing.
+		Entry newItem = new Entry(key, value, compcost);
+		if( _cache.putIfAbsent(key, newItem) != null ) {
+			//can come here if reuse_partial option is enabled,
+			//or if a concurrent thread registered the same item
+			if( value != null )
+				updateSize(value, false);
+			return false;
+			//throw new DMLRuntimeException("Redundant lineage caching detected: "+inst);
+		}
 		
-		_cache.put(key, newItem);
 		if (DMLScript.STATISTICS)
 			LineageCacheStatistics.incrementMemWrites();
+		return true;
 	}
 	
 	protected static boolean probe(LineageItem key) {
-		boolean p = (_cache.containsKey(key) || _spillList.containsKey(key));
+		boolean p = _cache.containsKey(key);
+		if (!p) {
+			SpilledItem sp = _spillList.get(key);
+			p = (sp != null && !sp._failed);
+		}
+		if (!p && LineagePersistentStore.isEnabled())
+			p = restoreFromPersistentStore(key);
 		if (!p && DMLScript.STATISTICS && _removelist.contains(key))
 			// The sought entry was in cache but removed later 
 			LineageCacheStatistics.incrementDelHits();
@@ -275,18 +334,28 @@ public class LineageCache {
 	}
 	
 	public static void resetCache() {
-		_cache.clear();
-		_spillList.clear();
-		_head = null;
-		_end = null;
-		if (DMLScript.STATISTICS)
-			_removelist.clear();
+		//wait for pending read-ahead (outside the eviction lock),
+		//which otherwise accounts prefetched blocks after the reset
+		for (SpilledItem sp : _spillList.values())
+			if (sp._prefetch != null) {
+				try { sp._prefetch.get(); }
+				catch(Exception ex) {} //ignore failed reads
+			}
+		synchronized( _evictLock ) {
+			_cache.clear();
+			//skip or cleanup pending asynchronous writes
+			_spillList.values().forEach(sp -> sp._restored = true);
+			_spillList.clear();
+			_cachesize.set(0);
+			if (DMLScript.STATISTICS)
+				_removelist.clear();
+		}
 	}
 	
 
 	private static boolean fullReuse (LineageItem item, ComputationCPInstruction inst, ExecutionContext ec) {
-		if (LineageCache.probe(item)) {
-			MatrixBlock d = LineageCache.get(item);
+		MatrixBlock d = LineageCache.probe(item) ? LineageCache.get(item) : null;
+		if (d != null) {
 			ec.setMatrixOutput(inst.output.getName(), d);
 			return true;
 		}
@@ -294,15 +363,18 @@ public class LineageCache {
 	}
 	
 	protected static MatrixBlock get(LineageItem key) {
-		// This method is called only when entry is present either in cache or in local FS.
-		if (_cache.containsKey(key)) {
-			// Read and put the entry at head.
-			Entry e = _cache.get(key);
-			delete(e);
-			setHead(e);
-			if (DMLScript.STATISTICS)
+		// This method is called only when entry is present either in cache or in local FS,
+		// but returns null if the entry got concurrently evicted after the probe.
+		Entry e = _cache.get(key);
+		if (e != null) {
+			// Read and move the entry to the most-recently-used position.
+			e.touch();
+			MatrixBlock mb = e.getValue();
+			if (DMLScript.STATISTICS && mb != null) {
 				LineageCacheStatistics.incrementMemHits();
-			return e.getValue();
+				LineageCacheStatistics.incrementSavedComputeTime(e._compEst);
+			}
+			return mb;
 		}
 		else
 			return readFromLocalFS(key);
@@ -344,42 +416,100 @@ public class LineageCache {
 	
 	//---------------- CACHE SPACE MANAGEMENT METHODS -----------------
 	
+	private static void reserveSpace(MatrixBlock value) {
+		// lock-free fast path if the value fits into the remaining space
+		long size = value.getInMemorySize();
+		long cur = _cachesize.get();
+		while( cur + size <= CACHE_LIMIT ) {
+			if( _cachesize.compareAndSet(cur, cur + size) )
+				return;
+			cur = _cachesize.get();
+		}
+		// serialized eviction of cache entries under memory pressure
+		List<Entry> persist = null;
+		synchronized( _evictLock ) {
+			if( !isBelowThreshold(value) ) 
+				persist = makeSpace(value);
+			updateSize(value, true);
+		}
+		// submit writes to the persistent store after releasing the lock,
+		// because the bounded writer runs them in the caller if saturated
+		if( persist != null )
+			for( Entry e : persist )
+				persistAsync(e);
+	}
+	
 	private static boolean isBelowThreshold(MatrixBlock value) {
-		return ((value.getInMemorySize() + _cachesize) <= CACHE_LIMIT);
+		return ((value.getInMemorySize() + _cachesize.get()) <= CACHE_LIMIT);
 	}
 	
-	private static void makeSpace(MatrixBlock value) {
+	private static List<Entry> makeSpace(MatrixBlock value) {
 		double valSize = value.getInMemorySize();
+		// obtain eviction order according to the configured policy, i.e.,
+		// entries with smallest score first and least recently used on ties
+		// (placeholders of ongoing computations are not evictable). Scores
+		// and timestamps are snapshot before sorting because concurrent hits
+		// modify them, which would violate the comparator contract.
+		LineageCachePolicy policy = LineageCacheConfig.getCachePolicy();
+		long now = _clock.get();
+		int n = _cache.size();
+		EvictionCandidate[] order = _cache.values().stream()
+			.filter(e -> !e.isNullVal())
+			.map(e -> new EvictionCandidate(e, getEvictionScore(e, policy, now, n)))
+			.sorted(Comparator.comparingDouble((EvictionCandidate c) -> c._score)
+				.thenComparingLong(c -> c._timestamp))
+			.toArray(EvictionCandidate[]::new);
 		// cost based eviction
-		while ((valSize+_cachesize) > CACHE_LIMIT)
+		List<Entry> persist = new ArrayList<>();
+		for( int i=0; i<order.length && (valSize+_cachesize.get()) > CACHE_LIMIT; i++ )
 		{
-			if (_cache.get(_end._key).isNullVal()) {
-				setEnd2Head(_end);  // Must be null function entry. Move to next.
-				continue;
-			}
-				
-			double reduction = _cache.get(_end._key).getValue().getInMemorySize();
-			if (_cache.get(_end._key)._compEst > getDiskSpillEstimate() 
-					&& LineageCacheConfig.isSetSpill())
-				spillToLocalFS(); // If re-computation is more expensive, spill data to disk.
+			Entry e = order[i]._entry;
+			boolean spill = e._compEst > getDiskSpillEstimate(e) 
+					&& LineageCacheConfig.isSetSpill();
+			if (spill)
+				spillToLocalFS(e); // If re-computation is more expensive, spill data to disk.
+			else if (LineagePersistentStore.isEnabled())
+				persist.add(e); // Otherwise, keep for future sessions (if configured).
 
-			removeEntry(reduction);
-		} 
+			removeEntry(e);
+			if (DMLScript.STATISTICS)
+				LineageCacheStatistics.incrementEvictions(
+					e.getValue().getInMemorySize(), e._compEst, spill);
+		}
+		return persist;
+	}
+	
+	private static double getEvictionScore(Entry e, LineageCachePolicy policy, long now, int n) {
+		// exponential aging that halves the score whenever the
+		// number of accesses since the last hit reaches the cache size
+		double aging = Math.pow(0.5, (double)(now - e._timestamp) / Math.max(n, 1));
+		switch( policy ) {
+			case LRU:
+				return e._timestamp;
+			case COSTNSIZE:
+				return e._compEst / Math.max(e.getValue().getInMemorySize(), 1);
+			case LFU:
+				return e._freq.get() * aging;
+			case DAGHEIGHT:
+				return e._key.getHeight() * aging;
+			default:
+				throw new DMLRuntimeException("Lineage Cache: unsupported eviction policy: "+policy);
+		}
 	}
 	
 	private static void updateSize(MatrixBlock value, boolean addspace) {
 		if (addspace)
-			_cachesize += value.getInMemorySize();
+			_cachesize.addAndGet(value.getInMemorySize());
 		else
-			_cachesize -= value.getInMemorySize();
+			_cachesize.addAndGet(-value.getInMemorySize());
 	}
 
 	//---------------- COSTING RELATED METHODS -----------------
 
-	private static double getDiskSpillEstimate() {
+	private static double getDiskSpillEstimate(Entry e) {
 		// This includes sum of writing to and reading from disk
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-		MatrixBlock mb = _cache.get(_end._key).getValue();
+		MatrixBlock mb = e.getValue();
 		long r = mb.getNumRows();
 		long c = mb.getNumColumns();
 		long nnz = mb.getNonZeros();
@@ -534,115 +664,298 @@ public class LineageCache {
 
 	// ---------------- I/O METHODS TO LOCAL FS -----------------
 	
-	private static void spillToLocalFS() {
-		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+	private static void spillToLocalFS(Entry e) {
 		if (outdir == null) {
 			outdir = LocalFileUtils.getUniqueWorkingDir(LocalFileUtils.CATEGORY_LINEAGE);
 			LocalFileUtils.createLocalFileIfNotExist(outdir);
 		}
-		String outfile = outdir+"/"+_cache.get(_end._key)._key.getId();
+		String outfile = outdir+"/"+e._key.getId();
+		SpilledItem sp = new SpilledItem(outfile, e._compEst, e.getValue());
+		_spillList.put(e._key, sp);
+		
+		// Write asynchronously, where the spilled item serves the in-memory
+		// block until the write completes (with synchronous writes by the
+		// evicting thread once the bounded queue of pending writes is full)
+		if (LineageCacheConfig.isSetAsyncSpill())
+			getSpillWriter().execute(() -> writeToLocalFS(e._key, sp));
+		else
+			writeToLocalFS(e._key, sp);
+	}
+	
+	private static void writeToLocalFS(LineageItem key, SpilledItem sp) {
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		MatrixBlock mb = sp._value;
+		if (sp._restored || mb == null)
+			return; //restored before write
 		try {
-			LocalFileUtils.writeMatrixBlockToLocal(outfile, _cache.get(_end._key).getValue());
-		} catch (IOException e) {
-			throw new DMLRuntimeException ("Write to " + outfile + " failed.", e);
+			LocalFileUtils.writeMatrixBlockToLocal(sp._outfile, mb);
+		} catch (IOException ex) {
+			// Record the failure instead of throwing in the (asynchronous)
+			// writer, and drop the item, which is then recomputed on reuse
+			synchronized( sp ) {
+				sp._failed = true;
+				sp._value = null;
+			}
+			_spillList.remove(key, sp);
+			LocalFileUtils.deleteFileIfExists(sp._outfile, true);
+			return;
+		}
+		synchronized( sp ) {
+			if (sp._restored) //restored during write
+				LocalFileUtils.deleteFileIfExists(sp._outfile, true);
+			sp._value = null; //release memory
 		}
 		if (DMLScript.STATISTICS) {
 			long t1 = System.nanoTime();
 			LineageCacheStatistics.incrementFSWriteTime(t1-t0);
 			LineageCacheStatistics.incrementFSWrites();
 		}
-
-		_spillList.put(_end._key, new SpilledItem(outfile, _end._compEst));
+	}
+	
+	private static void prefetch(LineageItem key) {
+		SpilledItem sp = _spillList.get(key);
+		if (sp != null)
+			prefetchFromLocalFS(sp);
+	}
+	
+	private static void releasePrefetch(LineageItem key) {
+		SpilledItem sp = _spillList.get(key);
+		if (sp == null || sp._prefetch == null)
+			return;
+		synchronized( sp ) {
+			if (sp._restored || sp._prefetch == null)
+				return; //consumed by restore
+			// Release the accounted size of the prefetched block,
+			// which is read again on a subsequent restore
+			try {
+				updateSize(sp._prefetch.get(), false);
+			} catch (Exception e) {
+				//ignore failed read-ahead (nothing reserved)
+			}
+			sp._prefetch = null;
+		}
+	}
+	
+	private static void prefetchFromLocalFS(SpilledItem sp) {
+		if (!LineageCacheConfig.isSetAsyncSpill() || sp._value != null || sp._prefetch != null)
+			return;
+		synchronized( sp ) {
+			if (sp._value == null && sp._prefetch == null && !sp._restored && !sp._failed)
+				sp._prefetch = getSpillReader().submit(() -> {
+					MatrixBlock mb = LocalFileUtils.readMatrixBlockFromLocal(sp._outfile);
+					// Account the prefetched block in the cache size
+					// until it is restored into the cache
+					reserveSpace(mb);
+					return mb;
+				});
+		}
 	}
 	
 	private static MatrixBlock readFromLocalFS(LineageItem key) {
+		SpilledItem sp = _spillList.get(key);
+		if (sp != null) {
+			// Only one thread restores the spilled item, all others
+			// obtain the restored entry from the cache afterwards.
+			synchronized( sp ) {
+				if (_spillList.get(key) == sp)
+					return readFromLocalFS(key, sp);
+			}
+		}
+		Entry e = _cache.get(key);
+		return (e != null) ? e.getValue() : null;
+	}
+	
+	private static MatrixBlock readFromLocalFS(LineageItem key, SpilledItem sp) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
-		MatrixBlock mb = null;
-		// Read from local FS
-		try {
-			mb = LocalFileUtils.readMatrixBlockFromLocal(_spillList.get(key)._outfile);
-		} catch (IOException e) {
-			throw new DMLRuntimeException ("Read from " + _spillList.get(key)._outfile + " failed.", e);
+		if (sp._failed) {
+			// Failed asynchronous write, recompute on reuse
+			_spillList.remove(key, sp);
+			return null;
+		}
+		MatrixBlock mb = sp._value;
+		sp._restored = true;
+		if (mb == null && sp._prefetch != null) {
+			// Obtain the prefetched block, and release its accounted
+			// size, which is reserved again on restore into the cache
+			try {
+				mb = sp._prefetch.get();
+				updateSize(mb, false);
+			} catch (Exception e) {
+				mb = null; //failed read-ahead, read again below
+			}
 		}
-		// Restore to cache
-		LocalFileUtils.deleteFileIfExists(_spillList.get(key)._outfile, true);
-		putIntern(key, mb, _spillList.get(key)._compEst);
+		if (mb == null) {
+			// Read from local FS
+			try {
+				mb = LocalFileUtils.readMatrixBlockFromLocal(sp._outfile);
+			} catch (Exception e) {
+				throw new DMLRuntimeException ("Read from " + sp._outfile + " failed.", e);
+			}
+		}
+		if (sp._value == null)
+			LocalFileUtils.deleteFileIfExists(sp._outfile, true);
+		// Restore to cache (pending writes are skipped or cleaned up)
+		putIntern(key, mb, sp._compEst);
 		_spillList.remove(key);
 		if (DMLScript.STATISTICS) {
 			long t1 = System.nanoTime();
 			LineageCacheStatistics.incrementFSReadTime(t1-t0);
 			LineageCacheStatistics.incrementFSHits();
+			LineageCacheStatistics.incrementSavedComputeTime(sp._compEst);
 		}
 		return mb;
 	}
-
-	//------------------ LINKEDLIST MAINTENANCE METHODS -------------------
 	
-	private static void delete(Entry entry) {
-		if (entry._prev != null)
-			entry._prev._next = entry._next;
-		else
-			_head = entry._next;
-		if (entry._next != null)
-			entry._next._prev = entry._prev;
-		else
-			_end = entry._prev;
+	// ---------------- PERSISTENT STORE METHODS -----------------
+	
+	private static boolean restoreFromPersistentStore(LineageItem key) {
+		Pair<MatrixBlock, Double> tmp = LineagePersistentStore.get(key);
+		if (tmp == null)
+			return false;
+		// Restore to cache, where a concurrent restore or computation
+		// of the same item is equally fine for subsequent gets
+		putIntern(key, tmp.getKey(), tmp.getValue());
+		return _cache.containsKey(key);
+	}
+	
+	private static void persistAsync(Entry e) {
+		MatrixBlock mb = e.getValue();
+		getSpillWriter().execute(() -> 
+			LineagePersistentStore.put(e._key, mb, e._compEst));
+	}
+	
+	/**
+	 * Writes all cached and spilled entries to the persistent lineage
+	 * cache (if configured), which makes them available for reuse in
+	 * subsequent sessions, and closes the persistent store.
+	 */
+	public static void persist() {
+		if (!LineagePersistentStore.isEnabled())
+			return;
+		// Wait for pending asynchronous writes (single writer thread)
+		try {
+			getSpillWriter().submit(() -> {}).get();
+		} catch (Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		for (Entry e : _cache.values())
+			if (!e.isNullVal())
+				LineagePersistentStore.put(e._key, e.getValue(), e._compEst);
+		for (Map.Entry<LineageItem, SpilledItem> e : _spillList.entrySet()) {
+			SpilledItem sp = e.getValue();
+			MatrixBlock mb = null;
+			synchronized( sp ) {
+				if (sp._restored)
+					continue;
+				try {
+					mb = (sp._value != null) ? sp._value :
+						LocalFileUtils.readMatrixBlockFromLocal(sp._outfile);
+				} catch (IOException ex) {
+					throw new DMLRuntimeException ("Read from " + sp._outfile + " failed.", ex);
+				}
+			}
+			LineagePersistentStore.put(e.getKey(), mb, sp._compEst);
+		}
+		LineagePersistentStore.close();
 	}
 	
-	private static void setHead(Entry entry) {
-		entry._next = _head;
-		entry._prev = null;
-		if (_head != null)
-			_head._prev = entry;
-		_head = entry;
-		if (_end == null)
-			_end = _head;
+	private static synchronized ExecutorService getSpillWriter() {
+		if (_spillWriter == null) {
+			BasicThreadFactory factory = new BasicThreadFactory.Builder()
+				.namingPattern("lineage-spill-writer-%d").daemon(true).build();
+			_spillWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(SPILL_QUEUE_SIZE), factory, new CallerRunsPolicy());
+		}
+		return _spillWriter;
 	}
 	
-	private static void setEnd2Head(Entry entry) {
-		delete(entry);
-		setHead(entry);
+	private static synchronized ExecutorService getSpillReader() {
+		if (_spillReader == null) {
+			BasicThreadFactory factory = new BasicThreadFactory.Builder()
+				.namingPattern("lineage-spill-reader-%d").daemon(true).build();
+			_spillReader = Executors.newCachedThreadPool(factory);
+		}
+		return _spillReader;
 	}
 
-	private static void removeEntry(double space) {
+	//------------------ CACHE MAINTENANCE METHODS -------------------
+
+	private static void removeEntry(Entry e) {
+		if( !_cache.remove(e._key, e) )
+			return; //concurrently removed
 		if (DMLScript.STATISTICS)
-			_removelist.add(_end._key);
-		_cache.remove(_end._key);
-		_cachesize -= space;
-		delete(_end);
+			_removelist.add(e._key);
+		if (!e.isNullVal())
+			updateSize(e.getValue(), false);
 	}
 	
 	public static void removeEntry(LineageItem key) {
 		// Remove the entry for key
-		if (!_cache.containsKey(key))
+		Entry e = _cache.remove(key);
+		if (e == null)
 			return;
-		delete(_cache.get(key));
-		_cache.remove(key);
+		if (!e.isNullVal())
+			updateSize(e.getValue(), false);
+		else
+			e.abort(); //unblock waiting threads
+	}
+	
+	private static void removePlaceholder(LineageItem key) {
+		// Remove the entry for key only if still in-flight
+		Entry e = _cache.get(key);
+		if (e != null && e.isNullVal() && _cache.remove(key, e))
+			e.abort();
+	}
+	
+	private static class EvictionCandidate {
+		private final Entry _entry;
+		private final double _score;
+		private final long _timestamp;
+		
+		public EvictionCandidate(Entry entry, double score) {
+			_entry = entry;
+			_score = score;
+			_timestamp = entry._timestamp;
+		}
 	}
 	
 	private static class Entry {
 		private final LineageItem _key;
-		private MatrixBlock _val;
-		double _compEst;
-		private Entry _prev;
-		private Entry _next;
-		private LineageItem _origItem;
+		private volatile MatrixBlock _val;
+		volatile double _compEst;
+		private volatile long _timestamp;
+		private final AtomicInteger _freq = new AtomicInteger(0);
+		private volatile LineageItem _origItem;
+		private boolean _aborted;
 		
 		public Entry(LineageItem key, MatrixBlock value, double computecost) {
 			_key = key;
 			_val = value;
 			_compEst = computecost;
 			_origItem = null;
+			touch();
+		}
+		
+		public void touch() {
+			//benign race on the timestamp: concurrent hits only need
+			//an approximate order, but no hit is lost for the frequency
+			_timestamp = _clock.incrementAndGet();
+			_freq.incrementAndGet();
 		}
 
 		public synchronized MatrixBlock getValue() {
+			if( _val != null )
+				return _val;
 			try {
 				//wait until other thread completes operation
 				//in order to avoid redundant computation
-				while( _val == null ) {
+				long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+				while( _val == null && !_aborted ) {
 					wait();
 				}
-				return _val;
+				if (DMLScript.STATISTICS && _val != null)
+					LineageCacheStatistics.incrementPendingHits(System.nanoTime() - t0);
+				return _val; //null if computation aborted
 			}
 			catch( InterruptedException ex ) {
 				throw new DMLRuntimeException(ex);
@@ -656,17 +969,28 @@ public class LineageCache {
 		public synchronized void setValue(MatrixBlock val, double compEst) {
 			_val = val;
 			_compEst = compEst;
+			touch();
+			notifyAll();
+		}
+		
+		public synchronized void abort() {
+			_aborted = true;
 			notifyAll();
 		}
 	}
 	
 	private static class SpilledItem {
-		String _outfile;
-		double _compEst;
+		final String _outfile;
+		final double _compEst;
+		volatile MatrixBlock _value; //in-memory block until async write completes
+		volatile Future<MatrixBlock> _prefetch;
+		volatile boolean _restored;
+		volatile boolean _failed; //failed asynchronous write
 
-		public SpilledItem(String outfile, double computecost) {
+		public SpilledItem(String outfile, double computecost, MatrixBlock value) {
 			this._outfile = outfile;
 			this._compEst = computecost;
+			this._value = value;
 		}
 	}
 }
@@ -38,6 +38,13 @@ public class LineageCacheConfig {
 		}
 	}
 	
+	public enum LineageCachePolicy {
+		LRU,       //least recently used
+		COSTNSIZE, //estimated compute time per byte
+		LFU,       //least frequently used, with aging
+		DAGHEIGHT; //height of the lineage DAG, with aging
+	}
+	
 	public enum CachedItemHead {
 		TSMM,
 		ALL
@@ -52,11 +59,15 @@ public class LineageCacheConfig {
 	
 	public ArrayList<String> _MMult = new ArrayList<>();
 	public static boolean _allowSpill = true;
+	public static boolean _asyncSpill = true;
 
 	private static ReuseCacheType _cacheType = null;
 	private static CachedItemHead _itemH = null;
 	private static CachedItemTail _itemT = null;
 	private static boolean _compilerAssistedRW = true;
+	private static LineageCachePolicy _cachepolicy = LineageCachePolicy.LRU;
+	private static String _persistDir = null;
+	private static long _persistQuota = 1024L*1024*1024;
 	static {
 		//setup static configuration parameters
 		setSpill(false); //disable spilling of cache entries to disk
@@ -92,6 +103,27 @@ public class LineageCacheConfig {
 		DMLScript.LINEAGE_REUSE = rop;
 	}
 	
+	public static void setCachePolicy(LineageCachePolicy policy) {
+		_cachepolicy = policy;
+	}
+	
+	public static LineageCachePolicy getCachePolicy() {
+		return _cachepolicy;
+	}
+	
+	/**
+	 * Parses the given name of an eviction policy (case-insensitive).
+	 * 
+	 * @param policy name of the eviction policy, e.g., costnsize
+	 * @return eviction policy, or null if the name is invalid
+	 */
+	public static LineageCachePolicy parseCachePolicy(String policy) {
+		for( LineageCachePolicy p : LineageCachePolicy.values() )
+			if( p.name().equalsIgnoreCase(policy) )
+				return p;
+		return null;
+	}
+	
 	public static void setSpill(boolean toSpill) {
 		_allowSpill = toSpill;
 	}
@@ -100,6 +132,30 @@ public class LineageCacheConfig {
 		return _allowSpill;
 	}
 	
+	public static void setAsyncSpill(boolean async) {
+		_asyncSpill = async;
+	}
+	
+	public static boolean isSetAsyncSpill() {
+		return _asyncSpill;
+	}
+	
+	public static void setPersistentStore(String dir, long quota) {
+		//close open store if redirected to a different directory
+		if( _persistDir != null && !_persistDir.equals(dir) )
+			LineagePersistentStore.close();
+		_persistDir = (dir == null || dir.equalsIgnoreCase("none")) ? null : dir;
+		_persistQuota = quota;
+	}
+	
+	public static String getPersistentDir() {
+		return _persistDir;
+	}
+	
+	public static long getPersistentQuota() {
+		return _persistQuota;
+	}
+	
 	public static ReuseCacheType getCacheType() {
 		return _cacheType;
 	}
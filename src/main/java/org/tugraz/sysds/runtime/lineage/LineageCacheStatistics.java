@@ -16,6 +16,7 @@
 
 package org.tugraz.sysds.runtime.lineage;
 
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -29,14 +30,23 @@ public class LineageCacheStatistics {
 	private static final LongAdder _numHitsInst     = new LongAdder();
 	private static final LongAdder _numHitsSB       = new LongAdder();
 	private static final LongAdder _numHitsFunc     = new LongAdder();
+	private static final LongAdder _numHitsPending  = new LongAdder();
+	private static final LongAdder _numHitsPersist  = new LongAdder();
 	private static final LongAdder _numWritesMem    = new LongAdder();
 	private static final LongAdder _numWritesFS     = new LongAdder();
+	private static final LongAdder _numWritesPersist = new LongAdder();
 	private static final LongAdder _numRewrites     = new LongAdder();
+	private static final LongAdder _numEvictions    = new LongAdder();
+	private static final LongAdder _sizeEvictions   = new LongAdder(); //in bytes
+	private static final DoubleAdder _ctimeSaved    = new DoubleAdder(); //in sec (estimated)
+	private static final DoubleAdder _ctimeLost     = new DoubleAdder(); //in sec (estimated)
 	private static final LongAdder _ctimeFSRead     = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeFSWrite    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeCosting    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeRewrite    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeRewriteEx  = new LongAdder(); //in nano sec
+	private static final LongAdder _ctimePending    = new LongAdder(); //in nano sec
+	private static final LongAdder _ctimePersist    = new LongAdder(); //in nano sec
 
 	public static void reset() {
 		_numHitsMem.reset();
@@ -45,14 +55,23 @@ public class LineageCacheStatistics {
 		_numHitsInst.reset();
 		_numHitsSB.reset();
 		_numHitsFunc.reset();
+		_numHitsPending.reset();
+		_numHitsPersist.reset();
 		_numWritesMem.reset();
 		_numWritesFS.reset();
+		_numWritesPersist.reset();
 		_numRewrites.reset();
+		_numEvictions.reset();
+		_sizeEvictions.reset();
+		_ctimeSaved.reset();
+		_ctimeLost.reset();
 		_ctimeFSRead.reset();
 		_ctimeFSWrite.reset();
 		_ctimeCosting.reset();
 		_ctimeRewrite.reset();
 		_ctimeRewriteEx.reset();
+		_ctimePending.reset();
+		_ctimePersist.reset();
 	}
 	
 	public static void incrementMemHits() {
@@ -85,6 +104,42 @@ public class LineageCacheStatistics {
 		_numHitsFunc.increment();
 	}
 
+	public static void incrementPendingHits(long delta) {
+		// Number of times and total time waiting for in-flight computations of concurrent threads.
+		_numHitsPending.increment();
+		_ctimePending.add(delta);
+	}
+
+	public static void incrementPersistentHits(long delta) {
+		// Number of times and total time restoring entries from the persistent store.
+		_numHitsPersist.increment();
+		_ctimePersist.add(delta);
+	}
+
+	public static void incrementPersistentWrites(long delta) {
+		// Number of times and total time writing entries to the persistent store.
+		_numWritesPersist.increment();
+		_ctimePersist.add(delta);
+	}
+
+	public static long getPersistentHits() {
+		return _numHitsPersist.longValue();
+	}
+
+	public static void incrementSavedComputeTime(double delta) {
+		// Total estimated compute time saved by reusing cached entries.
+		_ctimeSaved.add(delta);
+	}
+
+	public static void incrementEvictions(long size, double delta, boolean spilled) {
+		// Number of evicted entries, their size, and the estimated compute
+		// time lost by evicting entries without spilling them to local FS.
+		_numEvictions.increment();
+		_sizeEvictions.add(size);
+		if (!spilled)
+			_ctimeLost.add(delta);
+	}
+
 	public static void incrementMemWrites() {
 		// Number of times written in cache.
 		_numWritesMem.increment();
@@ -145,6 +200,24 @@ public class LineageCacheStatistics {
 		return sb.toString();
 	}
 
+	public static String displayPendingHits() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsPending.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimePending.longValue())/1000000000)); //in sec
+		return sb.toString();
+	}
+
+	public static String displayPersistent() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsPersist.longValue());
+		sb.append("/");
+		sb.append(_numWritesPersist.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimePersist.longValue())/1000000000)); //in sec
+		return sb.toString();
+	}
+
 	public static String displayWtrites() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numWritesMem.longValue());
@@ -153,6 +226,22 @@ public class LineageCacheStatistics {
 		return sb.toString();
 	}
 
+	public static String displayEvictions() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numEvictions.longValue());
+		sb.append("/");
+		sb.append(_sizeEvictions.longValue()/(1024*1024)); //in MB
+		return sb.toString();
+	}
+
+	public static String displayComputeTime() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%.3f", _ctimeSaved.doubleValue())); //in sec
+		sb.append("/");
+		sb.append(String.format("%.3f", _ctimeLost.doubleValue())); //in sec
+		return sb.toString();
+	}
+
 	public static String displayRewrites() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(_numRewrites.longValue());
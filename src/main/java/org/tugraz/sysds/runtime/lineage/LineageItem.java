@@ -16,6 +16,10 @@
 
 package org.tugraz.sysds.runtime.lineage;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.controlprogram.parfor.util.IDSequence;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -28,6 +32,7 @@ public class LineageItem {
 	private String _name;
 	private final String _data;
 	private final LineageItem[] _inputs;
+	private final int _height;
 	private int _hash = 0;
 	// init visited to true to ensure visited items are
 	// not hidden when used as inputs to new items
@@ -56,6 +61,7 @@ public class LineageItem {
 		_name = name;
 		_data = data;
 		_inputs = inputs;
+		_height = computeHeight(inputs);
 	}
 	
 	public LineageItem(long id, LineageItem li) {
@@ -64,6 +70,7 @@ public class LineageItem {
 		_name = li._name;
 		_data = li._data;
 		_inputs = li._inputs;
+		_height = li._height;
 	}
 	
 	public LineageItem(LineageItem other) {
@@ -74,6 +81,7 @@ public class LineageItem {
 		_visited = other._visited;
 		_hash = other._hash;
 		_inputs = other._inputs;
+		_height = other._height;
 	}
 	
 	public LineageItem[] getInputs() {
@@ -112,6 +120,10 @@ public class LineageItem {
 		return _opcode;
 	}
 	
+	public int getHeight() {
+		return _height;
+	}
+	
 	public LineageItemType getType() {
 		if (_opcode.equals(dedupItemOpcode))
 			return LineageItemType.Dedup;
@@ -135,14 +147,14 @@ public class LineageItem {
 		if (!(o instanceof LineageItem))
 			return false;
 		
-		resetVisitStatus();
-		boolean ret = equalsLI((LineageItem) o);
-		resetVisitStatus();
-		return ret;
+		//NOTE: we use a local set of visited items instead of the visit status
+		//because concurrent threads (e.g., parfor workers probing the lineage
+		//cache) compare lineage DAGs with shared inputs
+		return equalsLI((LineageItem) o, Collections.newSetFromMap(new IdentityHashMap<>()));
 	}
 	
-	private boolean equalsLI(LineageItem that) {
-		if (isVisited() || this == that)
+	private boolean equalsLI(LineageItem that, Set<LineageItem> visited) {
+		if (this == that || !visited.add(this))
 			return true;
 		
 		boolean ret = _opcode.equals(that._opcode);
@@ -157,9 +169,8 @@ public class LineageItem {
 		
 		if (_inputs != null && ret && (_inputs.length == that._inputs.length))
 			for (int i = 0; i < _inputs.length; i++)
-				ret &= _inputs[i].equalsLI(that._inputs[i]);
+				ret &= _inputs[i].equalsLI(that._inputs[i], visited);
 		
-		setVisited();
 		return ret;
 	}
 	
@@ -214,6 +225,16 @@ public class LineageItem {
 				liRoot.resetVisitStatus();
 	}
 	
+	private static int computeHeight(LineageItem[] inputs) {
+		//height of the lineage DAG rooted at this item (leafs have height 1)
+		int maxHeight = 0;
+		if (inputs != null)
+			for (LineageItem li : inputs)
+				if (li != null) //inputs might be bound later
+					maxHeight = Math.max(maxHeight, li._height);
+		return maxHeight + 1;
+	}
+	
 	public static void resetIDSequence() {
 		_idSeq.reset(-1);
 	}
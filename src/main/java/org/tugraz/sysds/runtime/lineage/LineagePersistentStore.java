@@ -0,0 +1,503 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.tugraz.sysds.runtime.lineage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.tugraz.sysds.api.DMLScript;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.instructions.Instruction;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+import org.tugraz.sysds.runtime.lineage.LineageItem.LineageItemType;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.Pair;
+import org.tugraz.sysds.runtime.util.LocalFileUtils;
+import org.tugraz.sysds.utils.Explain;
+
+/**
+ * Optional persistent store of lineage cache entries, which allows new
+ * processes (e.g., subsequent JMLC, MLContext or command line invocations)
+ * to warm-start lineage-based reuse from the results of earlier runs.
+ * 
+ * Entries are keyed by the structural hash of their lineage items and
+ * verified against the serialized lineage trace on lookup, as well as against
+ * a fingerprint (name, size, modification time) of all persistent read inputs
+ * of the trace, which invalidates entries whose input files changed. Traces
+ * with untraced inputs (i.e., variables of unknown content) are neither
+ * persisted nor probed. The store
+ * maintains an append-only on-disk index of add/access/delete records,
+ * which is compacted on load, and enforces a size quota by evicting the
+ * least recently used entries across sessions.
+ * 
+ * NOTE: the store directory is used by a single process at a time.
+ */
+public class LineagePersistentStore 
+{
+	private static final Log LOG = LogFactory.getLog(LineagePersistentStore.class.getName());
+	
+	private static final String INDEX_FNAME = "lineage.idx";
+	private static final String DATA_SUFFIX = ".bin";
+	private static final int INDEX_MAGIC = 0x4c494459;
+	private static final byte REC_ADD    = 1;
+	private static final byte REC_ACCESS = 2;
+	private static final byte REC_DELETE = 3;
+	
+	//in-memory index (by id in insertion order, and by lineage hash),
+	//where the hashes allow for lock-free negative probes
+	private static Map<Long, StoreEntry> _entries = null;
+	private static volatile Map<Integer, List<StoreEntry>> _hashes = null;
+	private static DataOutputStream _log = null;
+	private static volatile String _dir = null;
+	private static long _size = 0;
+	private static long _nextID = 0;
+	private static int _numRecords = 0;
+	
+	public static boolean isEnabled() {
+		return LineageCacheConfig.getPersistentDir() != null;
+	}
+	
+	public static boolean contains(LineageItem key) {
+		if( !isEnabled() || !probeHash(key) )
+			return false;
+		String fprint = getInputFingerprint(key);
+		if( fprint == null )
+			return false;
+		synchronized( LineagePersistentStore.class ) {
+			return lookup(key, fprint) != null;
+		}
+	}
+	
+	/**
+	 * Obtains the persisted matrix block and its estimated compute time,
+	 * or null if the given lineage item does not exist in the store.
+	 * 
+	 * @param key lineage item
+	 * @return pair of matrix block and compute estimate, or null
+	 */
+	public static Pair<MatrixBlock, Double> get(LineageItem key) {
+		if( !isEnabled() || !probeHash(key) )
+			return null;
+		String fprint = getInputFingerprint(key);
+		if( fprint == null )
+			return null;
+		StoreEntry e = null;
+		synchronized( LineagePersistentStore.class ) {
+			e = lookup(key, fprint);
+			if( e == null )
+				return null;
+			e._timestamp = System.currentTimeMillis();
+			appendRecord(REC_ACCESS, e);
+		}
+		
+		//read outside critical section (files of evicted entries
+		//are deleted, which is handled by the read failure)
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		try {
+			MatrixBlock mb = LocalFileUtils.readMatrixBlockFromLocal(getDataFile(e._id));
+			if( DMLScript.STATISTICS )
+				LineageCacheStatistics.incrementPersistentHits(System.nanoTime() - t0);
+			return new Pair<>(mb, e._compEst);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to read persisted lineage cache entry "+e._id+".", ex);
+			return null;
+		}
+	}
+	
+	public static void put(LineageItem key, MatrixBlock mb, double compEst) {
+		if( !isEnabled() || DMLScript.LINEAGE_DEDUP )
+			return; //dedup items are not supported by the lineage parser
+		long size = mb.getExactSizeOnDisk();
+		if( size > getQuota() )
+			return; //not applicable
+		String fprint = getInputFingerprint(key);
+		if( fprint == null )
+			return; //untraced or inaccessible inputs
+		
+		String trace = null;
+		StoreEntry e = null;
+		synchronized( LineagePersistentStore.class ) {
+			if( lookup(key, fprint) != null )
+				return; //already persisted
+			trace = Explain.explain(key);
+			e = new StoreEntry(_nextID++, key.hashCode(), size, compEst, System.currentTimeMillis(), trace, fprint);
+			e._item = key;
+			//make space according to quota (least recently used first)
+			if( _size + size > getQuota() )
+				makeSpace(size);
+			_size += size;
+		}
+		
+		//write data outside critical section before publishing the entry
+		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
+		try {
+			LocalFileUtils.writeMatrixBlockToLocal(getDataFile(e._id), mb);
+		}
+		catch(IOException ex) {
+			LOG.warn("Failed to persist lineage cache entry "+e._id+".", ex);
+			synchronized( LineagePersistentStore.class ) {
+				_size -= size;
+			}
+			return;
+		}
+		synchronized( LineagePersistentStore.class ) {
+			addEntry(e);
+			appendRecord(REC_ADD, e);
+		}
+		if( DMLScript.STATISTICS )
+			LineageCacheStatistics.incrementPersistentWrites(System.nanoTime() - t0);
+	}
+	
+	public static synchronized void close() {
+		IOUtilFunctions.closeSilently(_log);
+		_log = null;
+		_entries = null;
+		_hashes = null;
+		_dir = null;
+	}
+	
+	public static synchronized void clear() {
+		if( !isEnabled() )
+			return;
+		init();
+		for( StoreEntry e : new ArrayList<>(_entries.values()) )
+			removeEntry(e);
+		compact();
+	}
+	
+	private static boolean probeHash(LineageItem key) {
+		//lock-free negative probe after the index has been loaded
+		Map<Integer, List<StoreEntry>> hashes = _hashes;
+		if( hashes == null || !LineageCacheConfig.getPersistentDir().equals(_dir) ) {
+			synchronized( LineagePersistentStore.class ) {
+				init();
+				hashes = _hashes;
+			}
+		}
+		return hashes.containsKey(key.hashCode());
+	}
+	
+	private static StoreEntry lookup(LineageItem key, String fprint) {
+		init();
+		List<StoreEntry> list = _hashes.get(key.hashCode());
+		if( list == null )
+			return null;
+		for( StoreEntry e : new ArrayList<>(list) ) {
+			if( e._item == null ) {
+				try {
+					e._item = LineageParser.parseLineageTrace(e._trace);
+				}
+				catch(Exception ex) {
+					//unparseable traces never match
+					e._item = new LineageItem("", "", "invalid", new LineageItem[0]);
+				}
+			}
+			if( e._item.equals(key) ) {
+				if( e._fprint.equals(fprint) )
+					return e;
+				//drop stale entry of changed inputs
+				removeEntry(e);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Obtains a fingerprint of all persistent read inputs of the given lineage
+	 * trace, composed of their file names, sizes, and modification times.
+	 * 
+	 * @param root lineage item
+	 * @return input fingerprint, or null if the trace has untraced inputs
+	 *   or its input files are inaccessible
+	 */
+	protected static String getInputFingerprint(LineageItem root) {
+		//collect input files of all leaf nodes (w/o repeated visits)
+		TreeSet<String> fnames = new TreeSet<>();
+		Set<LineageItem> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<LineageItem> stack = new ArrayDeque<>();
+		stack.push(root);
+		while( !stack.isEmpty() ) {
+			LineageItem li = stack.pop();
+			if( !visited.add(li) )
+				continue;
+			if( !li.isLeaf() ) {
+				for( LineageItem in : li.getInputs() )
+					stack.push(in);
+			}
+			else if( li.getType() == LineageItemType.Creation
+				&& (li.getOpcode().equals("createvar") || li.getOpcode().equals("read")) ) {
+				fnames.add(InstructionUtils.getInstructionPartsWithValueType(li.getData())[2]);
+			}
+			else if( li.getType() == LineageItemType.Literal
+				&& li.getData().endsWith(Instruction.VALUETYPE_PREFIX + false) ) {
+				return null; //untraced variable of unknown content
+			}
+		}
+		
+		//create fingerprint from file sizes and modification times
+		StringBuilder sb = new StringBuilder();
+		try {
+			for( String fname : fnames ) {
+				Path path = new Path(fname);
+				FileSystem fs = IOUtilFunctions.getFileSystem(path);
+				long len = 0, mtime = 0;
+				FileStatus[] stats = fs.isDirectory(path) ?
+					fs.listStatus(path) : new FileStatus[]{fs.getFileStatus(path)};
+				for( FileStatus stat : stats ) {
+					len += stat.getLen();
+					mtime = Math.max(mtime, stat.getModificationTime());
+				}
+				sb.append(fname).append(':').append(len).append(':').append(mtime).append(';');
+			}
+		}
+		catch(IOException ex) {
+			return null;
+		}
+		return sb.toString();
+	}
+	
+	private static void makeSpace(long size) {
+		StoreEntry[] lru = _entries.values().stream()
+			.sorted(Comparator.comparingLong(e -> e._timestamp))
+			.toArray(StoreEntry[]::new);
+		for( int i=0; i<lru.length && _size + size > getQuota(); i++ )
+			removeEntry(lru[i]);
+	}
+	
+	private static void addEntry(StoreEntry e) {
+		addEntry(_hashes, e);
+	}
+	
+	private static void addEntry(Map<Integer, List<StoreEntry>> hashes, StoreEntry e) {
+		_entries.put(e._id, e);
+		hashes.computeIfAbsent(e._hash, h -> new ArrayList<>()).add(e);
+	}
+	
+	private static void removeHash(Map<Integer, List<StoreEntry>> hashes, StoreEntry e) {
+		List<StoreEntry> list = hashes.get(e._hash);
+		if( list != null ) {
+			list.remove(e);
+			if( list.isEmpty() )
+				hashes.remove(e._hash);
+		}
+	}
+	
+	private static void removeEntry(StoreEntry e) {
+		_entries.remove(e._id);
+		removeHash(_hashes, e);
+		_size -= e._size;
+		LocalFileUtils.deleteFileIfExists(getDataFile(e._id), true);
+		appendRecord(REC_DELETE, e);
+	}
+	
+	private static long getQuota() {
+		return LineageCacheConfig.getPersistentQuota();
+	}
+	
+	private static String getDataFile(long id) {
+		return _dir + File.separator + id + DATA_SUFFIX;
+	}
+	
+	//------------------ ON-DISK INDEX MAINTENANCE -------------------
+	
+	private static void init() {
+		String dir = LineageCacheConfig.getPersistentDir();
+		if( _entries != null && dir.equals(_dir) )
+			return;
+		close();
+		_dir = dir;
+		_entries = new LinkedHashMap<>();
+		Map<Integer, List<StoreEntry>> hashes = new ConcurrentHashMap<>();
+		_size = 0;
+		_nextID = 0;
+		LocalFileUtils.createLocalFileIfNotExist(_dir);
+		
+		//replay existing index (ignoring incomplete trailing records)
+		File index = new File(_dir, INDEX_FNAME);
+		if( index.exists() ) {
+			try( DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(index))) ) {
+				if( in.readInt() != INDEX_MAGIC )
+					throw new IOException("Invalid lineage cache index: "+index);
+				while( true ) {
+					byte type = in.readByte();
+					long id = in.readLong();
+					StoreEntry e = _entries.get(id);
+					switch( type ) {
+						case REC_ADD:
+							e = new StoreEntry(id, in.readInt(), in.readLong(),
+								in.readDouble(), in.readLong(), readString(in), readString(in));
+							addEntry(hashes, e);
+							_size += e._size;
+							_nextID = Math.max(_nextID, id + 1);
+							break;
+						case REC_ACCESS:
+							long ts = in.readLong();
+							if( e != null )
+								e._timestamp = ts;
+							break;
+						case REC_DELETE:
+							if( e != null ) {
+								_entries.remove(id);
+								removeHash(hashes, e);
+								_size -= e._size;
+							}
+							break;
+						default:
+							throw new IOException("Invalid lineage cache index record: "+type);
+					}
+				}
+			}
+			catch(EOFException ex) {
+				//end of index
+			}
+			catch(IOException ex) {
+				LOG.warn("Failed to read lineage cache index, starting with empty store.", ex);
+				_entries.clear();
+				hashes.clear();
+				_size = 0;
+			}
+		}
+		
+		//drop entries without data, and compact index
+		for( StoreEntry e : new ArrayList<>(_entries.values()) )
+			if( !new File(getDataFile(e._id)).exists() ) {
+				_entries.remove(e._id);
+				removeHash(hashes, e);
+				_size -= e._size;
+			}
+		_hashes = hashes;
+		compact();
+	}
+	
+	private static void compact() {
+		//rewrite index with a single record per live entry, and atomically replace
+		IOUtilFunctions.closeSilently(_log);
+		File index = new File(_dir, INDEX_FNAME);
+		File tmp = new File(_dir, INDEX_FNAME + ".tmp");
+		try {
+			try( DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(tmp))) ) {
+				out.writeInt(INDEX_MAGIC);
+				for( StoreEntry e : _entries.values() )
+					writeRecord(out, REC_ADD, e);
+			}
+			Files.move(tmp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			_log = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(index, true)));
+			_numRecords = _entries.size();
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to write lineage cache index: "+index, ex);
+		}
+	}
+	
+	private static void appendRecord(byte type, StoreEntry e) {
+		try {
+			writeRecord(_log, type, e);
+			_log.flush();
+			//compact if dominated by access and delete records
+			if( ++_numRecords > 2 * _entries.size() + 64 )
+				compact();
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to append to lineage cache index.", ex);
+		}
+	}
+	
+	private static void writeRecord(DataOutputStream out, byte type, StoreEntry e) throws IOException {
+		out.writeByte(type);
+		out.writeLong(e._id);
+		switch( type ) {
+			case REC_ADD:
+				out.writeInt(e._hash);
+				out.writeLong(e._size);
+				out.writeDouble(e._compEst);
+				out.writeLong(e._timestamp);
+				writeString(out, e._trace);
+				writeString(out, e._fprint);
+				break;
+			case REC_ACCESS:
+				out.writeLong(e._timestamp);
+				break;
+			default: //REC_DELETE
+		}
+	}
+	
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		//note: no writeUTF because lineage traces might exceed 64KB
+		byte[] tmp = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(tmp.length);
+		out.write(tmp);
+	}
+	
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] tmp = new byte[in.readInt()];
+		in.readFully(tmp);
+		return new String(tmp, StandardCharsets.UTF_8);
+	}
+	
+	private static class StoreEntry {
+		private final long _id;
+		private final int _hash;
+		private final long _size;
+		private final double _compEst;
+		private final String _trace;
+		private final String _fprint;
+		private long _timestamp;
+		private LineageItem _item; //lazily parsed
+		
+		public StoreEntry(long id, int hash, long size, double compEst, long timestamp, String trace, String fprint) {
+			_id = id;
+			_hash = hash;
+			_size = size;
+			_compEst = compEst;
+			_timestamp = timestamp;
+			_trace = trace;
+			_fprint = fprint;
+		}
+	}
+}
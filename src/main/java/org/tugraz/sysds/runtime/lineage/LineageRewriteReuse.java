@@ -62,7 +62,8 @@ public class LineageRewriteReuse
 	private static ExecutionContext _lrEC = null;
 	private static final Log LOG = LogFactory.getLog(LineageRewriteReuse.class.getName());
 	
-	public static boolean executeRewrites (Instruction curr, ExecutionContext ec)
+	//NOTE: synchronized because all rewrites share the static execution context
+	public static synchronized boolean executeRewrites (Instruction curr, ExecutionContext ec)
 	{
 		ExecutionContext lrwec = getExecutionContext();
 		ExplainType et = DMLScript.EXPLAIN;
@@ -570,11 +571,9 @@ public class LineageRewriteReuse
 				// create tsmm lineage on top of the input of last append
 				LineageItem input1 = source.getInputs()[0];
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {input1});
-				if (LineageCache.probe(tmp)) 
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended column in cache
-				if (LineageCache.probe(source.getInputs()[1])) 
-					inCache.put("deltaX", LineageCache.get(source.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", source.getInputs()[1]);
 			}
 		// return true only if the last tsmm is found
 		return inCache.containsKey("lastMatrix") ? true : false;
@@ -593,11 +592,9 @@ public class LineageRewriteReuse
 				// create tsmm lineage on top of the input of last append
 				LineageItem input1 = source.getInputs()[0];
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {input1});
-				if (LineageCache.probe(tmp)) 
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended column in cache
-				if (LineageCache.probe(source.getInputs()[1])) 
-					inCache.put("deltaX", LineageCache.get(source.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", source.getInputs()[1]);
 			}
 		// return true only if the last tsmm is found
 		return inCache.containsKey("lastMatrix") ? true : false;
@@ -620,11 +617,9 @@ public class LineageRewriteReuse
 					LineageItem L2appin1 = input.getInputs()[0]; 
 					LineageItem tmp = new LineageItem("comb", "cbind", new LineageItem[] {L2appin1, source.getInputs()[1]});
 					LineageItem toProbe = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {tmp});
-					if (LineageCache.probe(toProbe)) 
-						inCache.put("lastMatrix", LineageCache.get(toProbe));
+					probeAndPut(inCache, "lastMatrix", toProbe);
 					// look for the appended column in cache
-					if (LineageCache.probe(input.getInputs()[1])) 
-						inCache.put("deltaX", LineageCache.get(input.getInputs()[1]));
+					probeAndPut(inCache, "deltaX", input.getInputs()[1]);
 				}
 			}
 		// return true only if the last tsmm is found
@@ -645,11 +640,9 @@ public class LineageRewriteReuse
 				LineageItem leftSource = left.getInputs()[0]; //left inpur of rbind = X
 				// create ba+* lineage on top of the input of last append
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {leftSource, right});
-				if (LineageCache.probe(tmp))
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended column in cache
-				if (LineageCache.probe(left.getInputs()[1])) 
-					inCache.put("deltaX", LineageCache.get(left.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", left.getInputs()[1]);
 			}
 		}
 		// return true only if the last tsmm is found
@@ -670,11 +663,9 @@ public class LineageRewriteReuse
 				LineageItem rightSource = right.getInputs()[0]; //left inpur of rbind = X
 				// create ba+* lineage on top of the input of last append
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {left, rightSource});
-				if (LineageCache.probe(tmp))
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended column in cache
-				if (LineageCache.probe(right.getInputs()[1])) 
-					inCache.put("deltaY", LineageCache.get(right.getInputs()[1]));
+				probeAndPut(inCache, "deltaY", right.getInputs()[1]);
 			}
 		}
 		return inCache.containsKey("lastMatrix") ? true : false;
@@ -695,13 +686,10 @@ public class LineageRewriteReuse
 				LineageItem rightSource = right.getInputs()[0]; //right inpur of rbind = Y 
 				// create * lineage on top of the input of last append
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {leftSource, rightSource});
-				if (LineageCache.probe(tmp))
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended rows in cache
-				if (LineageCache.probe(left.getInputs()[1]))
-					inCache.put("deltaX", LineageCache.get(left.getInputs()[1]));
-				if (LineageCache.probe(right.getInputs()[1]))
-					inCache.put("deltaY", LineageCache.get(right.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", left.getInputs()[1]);
+				probeAndPut(inCache, "deltaY", right.getInputs()[1]);
 			}
 		}
 		return inCache.containsKey("lastMatrix") ? true : false;
@@ -722,13 +710,10 @@ public class LineageRewriteReuse
 				LineageItem rightSource = right.getInputs()[0]; //right inpur of cbind = Y 
 				// create * lineage on top of the input of last append
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), new LineageItem[] {leftSource, rightSource});
-				if (LineageCache.probe(tmp))
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended columns in cache
-				if (LineageCache.probe(left.getInputs()[1]))
-					inCache.put("deltaX", LineageCache.get(left.getInputs()[1]));
-				if (LineageCache.probe(right.getInputs()[1]))
-					inCache.put("deltaY", LineageCache.get(right.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", left.getInputs()[1]);
+				probeAndPut(inCache, "deltaY", right.getInputs()[1]);
 			}
 		}
 		return inCache.containsKey("lastMatrix") ? true : false;
@@ -753,11 +738,9 @@ public class LineageRewriteReuse
 				LineageItem input1 = target.getInputs()[0];
 				LineageItem tmp = new LineageItem("toProbe", curr.getOpcode(), 
 						new LineageItem[] {input1, groups, weights, fn, ngroups});
-				if (LineageCache.probe(tmp)) 
-					inCache.put("lastMatrix", LineageCache.get(tmp));
+				probeAndPut(inCache, "lastMatrix", tmp);
 				// look for the appended column in cache
-				if (LineageCache.probe(target.getInputs()[1])) 
-					inCache.put("deltaX", LineageCache.get(target.getInputs()[1]));
+				probeAndPut(inCache, "deltaX", target.getInputs()[1]);
 			}
 		}
 		// return true only if the last tsmm is found
@@ -801,6 +784,13 @@ public class LineageRewriteReuse
 
 	/*-------------------------------UTILITY METHODS----------------------------------*/
 	
+	private static void probeAndPut(Map<String, MatrixBlock> inCache, String name, LineageItem li) {
+		//note: concurrent threads might evict the entry between probe and get
+		MatrixBlock mb = LineageCache.probe(li) ? LineageCache.get(li) : null;
+		if( mb != null )
+			inCache.put(name, mb);
+	}
+	
 	private static MatrixObject convMBtoMO (MatrixBlock cachedEntry) {
 		MetaData md = new MetaData(cachedEntry.getDataCharacteristics());
 		MatrixObject mo = new MatrixObject(ValueType.FP64, "cachedEntry", md);
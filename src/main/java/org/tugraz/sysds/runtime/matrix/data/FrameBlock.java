@@ -29,6 +29,7 @@ import org.tugraz.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.transform.encode.EncoderRecode;
 import org.tugraz.sysds.runtime.util.IndexRange;
+import org.tugraz.sysds.runtime.util.StringIntHashMap;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 import java.io.*;
@@ -267,6 +268,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 				case BOOLEAN: _coldata[j] = new BooleanArray(new boolean[numRows]); break;
 				case INT32:   _coldata[j] = new IntegerArray(new int[numRows]); break;
 				case INT64:   _coldata[j] = new LongArray(new long[numRows]); break;
+				case FP32:   _coldata[j] = new FloatArray(new float[numRows]); break;
 				case FP64:   _coldata[j] = new DoubleArray(new double[numRows]); break;
 				default: throw new RuntimeException("Unsupported value type: "+_schema[j]);
 			}
@@ -519,7 +521,9 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		switch(_schema[c]) {
 			case STRING:  return ((StringArray)_coldata[c])._data; 
 			case BOOLEAN: return ((BooleanArray)_coldata[c])._data;
+			case INT32:     return ((IntegerArray)_coldata[c])._data;
 			case INT64:     return ((LongArray)_coldata[c])._data;
+			case FP32:  return ((FloatArray)_coldata[c])._data;
 			case FP64:  return ((DoubleArray)_coldata[c])._data;
 			default:      return null;
 	 	}
@@ -1110,6 +1114,40 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 		
 		return map;
 	}
+	
+	/**
+	 * Obtain the recode map of the given column as a primitive string-int
+	 * dictionary, which avoids entry objects and boxed codes for high-cardinality
+	 * columns. The meta data format is the same as for {@link #getRecodeMap(int)}.
+	 * 
+	 * @param col is the column # from frame data which contains Recode map generated earlier.
+	 * @return dictionary of token and code for every element in the input column of a frame containing Recode map
+	 */
+	public StringIntHashMap getRecodeDictionary(int col) {
+		//probe cache for existing dictionary
+		if( REUSE_RECODE_MAPS ) {
+			SoftReference<StringIntHashMap> tmp = _coldata[col]._rcdDictCache;
+			StringIntHashMap map = (tmp!=null) ? tmp.get() : null;
+			if( map != null ) return map;
+		}
+		
+		//construct recode dictionary
+		StringIntHashMap map = new StringIntHashMap();
+		Array ldata = _coldata[col]; 
+		for( int i=0; i<getNumRows(); i++ ) {
+			Object val = ldata.get(i);
+			if( val != null ) {
+				String[] tmp = EncoderRecode.splitRecodeMapEntry(val.toString());
+				map.put(tmp[0], Integer.parseInt(tmp[1]));
+			}
+		}
+		
+		//put created dictionary into cache
+		if( REUSE_RECODE_MAPS )
+			_coldata[col]._rcdDictCache = new SoftReference<>(map);
+		
+		return map;
+	}
 
 	@Override
 	public void merge(CacheBlock that, boolean bDummy) {
@@ -1317,6 +1355,7 @@ public class FrameBlock implements Writable, CacheBlock, Externalizable
 	 */
 	private abstract static class Array<T> implements Writable {
 		protected SoftReference<HashMap<String,Long>> _rcdMapCache = null;
+		protected SoftReference<StringIntHashMap> _rcdDictCache = null;
 		
 		protected int _size = 0;
 		protected int newSize() {
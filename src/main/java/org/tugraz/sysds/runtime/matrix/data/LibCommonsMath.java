@@ -37,6 +37,9 @@ import org.tugraz.sysds.runtime.util.DataConverter;
  * 
  * This library currently supports following operations:
  * matrix inverse, matrix decompositions (QR, LU, Eigen), solve 
+ * 
+ * For large dense inputs, inverse, cholesky, QR, LU, and solve are
+ * delegated to the blocked, multi-threaded kernels of {@link LibMatrixLinAlg}.
  */
 public class LibCommonsMath 
 {	
@@ -57,19 +60,26 @@ public class LibCommonsMath
 	}
 		
 	public static MatrixBlock unaryOperations(MatrixBlock inj, String opcode) {
-		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(inj);
+		return unaryOperations(inj, opcode, 1);
+	}
+	
+	public static MatrixBlock unaryOperations(MatrixBlock inj, String opcode, int k) {
 		if(opcode.equals("inverse"))
-			return computeMatrixInverse(matrixInput);
+			return computeMatrixInverse(inj, k);
 		else if (opcode.equals("cholesky"))
-			return computeCholesky(matrixInput);
+			return computeCholesky(inj, k);
 		return null;
 	}
 	
 	public static MatrixBlock[] multiReturnOperations(MatrixBlock in, String opcode) {
+		return multiReturnOperations(in, opcode, 1);
+	}
+	
+	public static MatrixBlock[] multiReturnOperations(MatrixBlock in, String opcode, int k) {
 		if(opcode.equals("qr"))
-			return computeQR(in);
+			return computeQR(in, k);
 		else if (opcode.equals("lu"))
-			return computeLU(in);
+			return computeLU(in, k);
 		else if (opcode.equals("eigen"))
 			return computeEigen(in);
 		else if ( opcode.equals("svd"))
@@ -78,10 +88,14 @@ public class LibCommonsMath
 	}
 	
 	public static MatrixBlock matrixMatrixOperations(MatrixBlock in1, MatrixBlock in2, String opcode) {
+		return matrixMatrixOperations(in1, in2, opcode, 1);
+	}
+	
+	public static MatrixBlock matrixMatrixOperations(MatrixBlock in1, MatrixBlock in2, String opcode, int k) {
 		if(opcode.equals("solve")) {
 			if (in1.getNumRows() != in1.getNumColumns())
 				throw new DMLRuntimeException("The A matrix, in solve(A,b) should have squared dimensions.");
-			return computeSolve(in1, in2);
+			return computeSolve(in1, in2, k);
 		}
 		return null;
 	}
@@ -91,9 +105,15 @@ public class LibCommonsMath
 	 * 
 	 * @param in1 matrix object 1
 	 * @param in2 matrix object 2
+	 * @param k degree of parallelism
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeSolve(MatrixBlock in1, MatrixBlock in2) {
+	private static MatrixBlock computeSolve(MatrixBlock in1, MatrixBlock in2, int k) {
+		//blocked cholesky or LU for large inputs
+		if( LibMatrixLinAlg.isSupportedInput(in1)
+			&& (long)in2.getNumRows() * in2.getNumColumns() < Integer.MAX_VALUE )
+			return LibMatrixLinAlg.solve(in1, in2, k);
+		
 		//convert to commons math BlockRealMatrix instead of Array2DRowRealMatrix
 		//to avoid unnecessary conversion as QR internally creates a BlockRealMatrix
 		BlockRealMatrix matrixInput = DataConverter.convertToBlockRealMatrix(in1);
@@ -116,9 +136,13 @@ public class LibCommonsMath
 	 * Function to perform QR decomposition on a given matrix.
 	 * 
 	 * @param in matrix object
+	 * @param k degree of parallelism
 	 * @return array of matrix blocks
 	 */
-	private static MatrixBlock[] computeQR(MatrixBlock in) {
+	private static MatrixBlock[] computeQR(MatrixBlock in, int k) {
+		if( LibMatrixLinAlg.isSupportedInput(in) )
+			return LibMatrixLinAlg.qr(in, k);
+		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
 		
 		// Perform QR decomposition
@@ -137,12 +161,15 @@ public class LibCommonsMath
 	 * Function to perform LU decomposition on a given matrix.
 	 * 
 	 * @param in matrix object
+	 * @param k degree of parallelism
 	 * @return array of matrix blocks
 	 */
-	private static MatrixBlock[] computeLU(MatrixBlock in) {
+	private static MatrixBlock[] computeLU(MatrixBlock in, int k) {
 		if ( in.getNumRows() != in.getNumColumns() ) {
 			throw new DMLRuntimeException("LU Decomposition can only be done on a square matrix. Input matrix is rectangular (rows=" + in.getNumRows() + ", cols="+ in.getNumColumns() +")");
 		}
+		if( LibMatrixLinAlg.isSupportedInput(in) )
+			return LibMatrixLinAlg.lu(in, k);
 		
 		Array2DRowRealMatrix matrixInput = DataConverter.convertToArray2DRowRealMatrix(in);
 		
@@ -236,13 +263,17 @@ public class LibCommonsMath
 	/**
 	 * Function to compute matrix inverse via matrix decomposition.
 	 * 
-	 * @param in commons-math3 Array2DRowRealMatrix
+	 * @param inj matrix object
+	 * @param k degree of parallelism
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeMatrixInverse(Array2DRowRealMatrix in) {
-		if ( !in.isSquare() )
-			throw new DMLRuntimeException("Input to inv() must be square matrix -- given: a " + in.getRowDimension() + "x" + in.getColumnDimension() + " matrix.");
+	private static MatrixBlock computeMatrixInverse(MatrixBlock inj, int k) {
+		if ( inj.getNumRows() != inj.getNumColumns() )
+			throw new DMLRuntimeException("Input to inv() must be square matrix -- given: a " + inj.getNumRows() + "x" + inj.getNumColumns() + " matrix.");
+		if( LibMatrixLinAlg.isSupportedInput(inj) )
+			return LibMatrixLinAlg.inverse(inj, k);
 		
+		Array2DRowRealMatrix in = DataConverter.convertToArray2DRowRealMatrix(inj);
 		QRDecomposition qrdecompose = new QRDecomposition(in);
 		DecompositionSolver solver = qrdecompose.getSolver();
 		RealMatrix inverseMatrix = solver.getInverse();
@@ -254,12 +285,17 @@ public class LibCommonsMath
 	 * Function to compute Cholesky decomposition of the given input matrix. 
 	 * The input must be a real symmetric positive-definite matrix.
 	 * 
-	 * @param in commons-math3 Array2DRowRealMatrix
+	 * @param inj matrix object
+	 * @param k degree of parallelism
 	 * @return matrix block
 	 */
-	private static MatrixBlock computeCholesky(Array2DRowRealMatrix in) {
-		if ( !in.isSquare() )
-			throw new DMLRuntimeException("Input to cholesky() must be square matrix -- given: a " + in.getRowDimension() + "x" + in.getColumnDimension() + " matrix.");
+	private static MatrixBlock computeCholesky(MatrixBlock inj, int k) {
+		if ( inj.getNumRows() != inj.getNumColumns() )
+			throw new DMLRuntimeException("Input to cholesky() must be square matrix -- given: a " + inj.getNumRows() + "x" + inj.getNumColumns() + " matrix.");
+		if( LibMatrixLinAlg.isSupportedInput(inj) )
+			return LibMatrixLinAlg.cholesky(inj, k);
+		
+		Array2DRowRealMatrix in = DataConverter.convertToArray2DRowRealMatrix(inj);
 		CholeskyDecomposition cholesky = new CholeskyDecomposition(in, 1e-14,
 			CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
 		RealMatrix rmL = cholesky.getL();
@@ -19,7 +19,12 @@
 
 package org.tugraz.sysds.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.tugraz.sysds.runtime.DMLRuntimeException;
 import org.tugraz.sysds.runtime.data.DenseBlock;
@@ -47,7 +52,9 @@ import org.tugraz.sysds.runtime.functionobjects.Power2;
 import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
 import org.tugraz.sysds.runtime.functionobjects.Builtin.BuiltinCode;
 import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.Operator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.DataConverter;
 import org.tugraz.sysds.runtime.util.SortUtils;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -61,7 +68,9 @@ import org.tugraz.sysds.runtime.util.UtilFunctions;
  */
 public class LibMatrixBincell 
 {
-
+	//minimum number of cells for multi-threaded execution
+	public static final long PAR_NUMCELL_THRESHOLD = 1024*1024; //1M
+	
 	public enum BinaryAccessType {
 		MATRIX_MATRIX,
 		MATRIX_COL_VECTOR,
@@ -70,6 +79,17 @@ public class LibMatrixBincell
 		INVALID,
 	}
 	
+	//row-partitionable kernels for multi-threaded execution
+	private enum BinaryKernel {
+		MM_DENSE_DENSE,   //dense-dense, dense output, any op
+		MM_SPARSE_DENSE,  //sparse-dense, dense output, safe +,-,+*,-*,*
+		MM_SPARSE_SPARSE, //sparse-sparse, sparse output, safe ops
+		MV_DENSE,         //dense matrix-vector, dense output, any op
+		SCALAR_DENSE,     //dense matrix-scalar, dense output, any op
+		SCALAR_SPARSE,    //sparse matrix-scalar, sparse output, safe ops
+		SCALAR_SPARSE_UNSAFE, //sparse matrix-scalar, dense output, unsafe ops
+	}
+	
 	private LibMatrixBincell() {
 		//prevent instantiation via private constructor
 	}
@@ -104,6 +124,42 @@ public class LibMatrixBincell
 			ret.examSparsity();
 	}
 	
+	/**
+	 * Multi-threaded matrix-scalar, scalar-matrix binary operations,
+	 * which partitions the rows of the input matrix across threads.
+	 * 
+	 * @param m1 input matrix
+	 * @param ret result matrix
+	 * @param op scalar operator
+	 * @param k maximum parallelism
+	 */
+	public static void bincellOp(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int k) {
+		//redirect small or special cases to sequential execution
+		BinaryKernel kernel = getParallelKernel(m1, ret, op, k);
+		if( kernel == null ) {
+			bincellOp(m1, ret, op);
+			return;
+		}
+		
+		//allocate output (before tasks to prevent synchronization)
+		if( ret.sparse )
+			ret.allocateSparseRowsBlock();
+		else
+			ret.allocateDenseBlock();
+		
+		//execute binary cell operations, incl nnz maintenance
+		ArrayList<BincellTask> tasks = new ArrayList<>();
+		ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m1.rlen, k, false);
+		for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+			tasks.add(new BincellTask(kernel, m1, null, ret, op, lb, lb+blklens.get(i)));
+		ret.nonZeros = executeParallel(tasks, k);
+		
+		//ensure empty results sparse representation 
+		//(no additional memory requirements)
+		if( ret.isEmptyBlock(false) )
+			ret.examSparsity();
+	}
+	
 	/**
 	 * matrix-matrix binary operations, MM, MV
 	 * 
@@ -125,6 +181,43 @@ public class LibMatrixBincell
 			ret.examSparsity();
 	}
 	
+	/**
+	 * Multi-threaded matrix-matrix binary operations, MM, MV, which
+	 * partitions the rows of the left-hand-side input across threads.
+	 * 
+	 * @param m1 input matrix 1
+	 * @param m2 input matrix 2
+	 * @param ret result matrix
+	 * @param op binary operator
+	 * @param k maximum parallelism
+	 */
+	public static void bincellOp(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int k) {
+		//redirect small or special cases to sequential execution
+		BinaryKernel kernel = getParallelKernel(m1, m2, ret, op, k);
+		if( kernel == null ) {
+			bincellOp(m1, m2, ret, op);
+			return;
+		}
+		
+		//allocate output (before tasks to prevent synchronization)
+		if( ret.sparse )
+			ret.allocateSparseRowsBlock();
+		else
+			ret.allocateDenseBlock();
+		
+		//execute binary cell operations, incl nnz maintenance
+		ArrayList<BincellTask> tasks = new ArrayList<>();
+		ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(m1.rlen, k, false);
+		for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+			tasks.add(new BincellTask(kernel, m1, m2, ret, op, lb, lb+blklens.get(i)));
+		ret.nonZeros = executeParallel(tasks, k);
+		
+		//ensure empty results sparse representation 
+		//(no additional memory requirements)
+		if( ret.isEmptyBlock(false) )
+			ret.examSparsity();
+	}
+	
 	/**
 	 * NOTE: operations in place always require m1 and m2 to be of equal dimensions
 	 * 
@@ -275,52 +368,16 @@ public class LibMatrixBincell
 		DenseBlock dc = ret.getDenseBlock();
 		long nnz = 0;
 		
-		if( atype == BinaryAccessType.MATRIX_COL_VECTOR )
+		if( atype == BinaryAccessType.MATRIX_ROW_VECTOR && da==null )
 		{
 			double[] b = m2.getDenseBlockValues(); // always single block
 			
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] a = da.valuesAt(bi);
-				double[] c = dc.valuesAt(bi);
-				int len = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<len; i++, ix+=clen )
-				{
-					//replicate vector value
-					double v2 = (b==null) ? 0 : b[off+i];
-					if( skipEmpty && v2 == 0 ) //skip empty rows
-						continue;
-						
-					if( isMultiply && v2 == 1 ) { //ROW COPY
-						//a guaranteed to be non-null (see early abort)
-						System.arraycopy(a, ix, c, ix, clen);
-						nnz += m1.recomputeNonZeros(i, i, 0, clen-1);
-					}
-					else { //GENERAL CASE
-						if( a != null )
-							for( int j=0; j<clen; j++ ) {
-								c[ix+j] = op.fn.execute( a[ix+j], v2 );	
-								nnz += (c[ix+j] != 0) ? 1 : 0;
-							}
-						else {
-							double val = op.fn.execute( 0, v2 );
-							Arrays.fill(c, ix, ix+clen, val);
-							nnz += (val != 0) ? clen : 0;
-						}
-					}
-				}
-			}
-		}
-		else if( atype == BinaryAccessType.MATRIX_ROW_VECTOR )
-		{
-			double[] b = m2.getDenseBlockValues(); // always single block
-			
-			if( da==null && b==null ) { //both empty
+			if( b==null ) { //both empty
 				double v = op.fn.execute( 0, 0 );
 				dc.set(v);
 				nnz += (v != 0) ? (long)rlen*clen : 0;
 			}
-			else if( da==null ) //left empty
+			else //left empty
 			{
 				//compute first row
 				double[] c = dc.valuesAt(0);
@@ -332,22 +389,71 @@ public class LibMatrixBincell
 				for( int i=1; i<rlen; i++ )
 					dc.set(i, c);
 			}
-			else //default case (incl right empty) 
-			{
-				for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-					double[] a = da.valuesAt(bi);
-					double[] c = dc.valuesAt(bi);
-					int len = dc.blockSize(bi);
-					for( int i=0, ix=0; i<len; i++, ix+=clen )
-						for( int j=0; j<clen; j++ ) {
-							c[ix+j] = op.fn.execute( a[ix+j], ((b!=null) ? b[j] : 0) );	
-							nnz += (c[ix+j] != 0) ? 1 : 0;
-						}
+		}
+		else //default case (incl right empty)
+		{
+			nnz = safeBinaryMVDense(m1, m2, ret, op, 0, rlen);
+		}
+		
+		ret.nonZeros = nnz;
+	}
+	
+	private static long safeBinaryMVDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
+		boolean isMultiply = (op.fn instanceof Multiply);
+		boolean skipEmpty = (isMultiply);
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		int clen = m1.clen;
+		
+		DenseBlock da = m1.getDenseBlock();
+		DenseBlock dc = ret.getDenseBlock();
+		double[] b = m2.getDenseBlockValues(); // always single block
+		long nnz = 0;
+		
+		if( atype == BinaryAccessType.MATRIX_COL_VECTOR )
+		{
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = (da!=null) ? da.values(i) : null;
+				double[] c = dc.values(i);
+				int aix = (da!=null) ? da.pos(i) : 0;
+				int cix = dc.pos(i);
+				
+				//replicate vector value
+				double v2 = (b==null) ? 0 : b[i];
+				if( skipEmpty && v2 == 0 ) //skip empty rows
+					continue;
+					
+				if( isMultiply && v2 == 1 ) { //ROW COPY
+					//a guaranteed to be non-null (see early abort)
+					System.arraycopy(a, aix, c, cix, clen);
+					nnz += UtilFunctions.computeNnz(c, cix, clen);
+				}
+				else if( a != null ) { //GENERAL CASE
+					for( int j=0; j<clen; j++ ) {
+						c[cix+j] = op.fn.execute( a[aix+j], v2 );
+						nnz += (c[cix+j] != 0) ? 1 : 0;
+					}
+				}
+				else { //EMPTY LEFT
+					double val = op.fn.execute( 0, v2 );
+					Arrays.fill(c, cix, cix+clen, val);
+					nnz += (val != 0) ? clen : 0;
+				}
+			}
+		}
+		else if( atype == BinaryAccessType.MATRIX_ROW_VECTOR )
+		{
+			for( int i=rl; i<ru; i++ ) {
+				double[] a = da.values(i);
+				double[] c = dc.values(i);
+				int aix = da.pos(i), cix = dc.pos(i);
+				for( int j=0; j<clen; j++ ) {
+					c[cix+j] = op.fn.execute( a[aix+j], ((b!=null) ? b[j] : 0) );
+					nnz += (c[cix+j] != 0) ? 1 : 0;
 				}
 			}
 		}
 		
-		ret.nonZeros = nnz;
+		return nnz;
 	}
 
 	private static void safeBinaryMVSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
@@ -611,23 +717,9 @@ public class LibMatrixBincell
 			SparseBlock lsblock = m1.sparseBlock;
 			SparseBlock rsblock = m2.sparseBlock;
 			
-			if( ret.sparse && lsblock.isAligned(rsblock) )
+			if( ret.sparse ) //sparse output
 			{
-				SparseBlock c = ret.sparseBlock;
-				for(int r=0; r<rlen; r++) 
-					if( !lsblock.isEmpty(r) ) {
-						int alen = lsblock.size(r);
-						int apos = lsblock.pos(r);
-						int[] aix = lsblock.indexes(r);
-						double[] avals = lsblock.values(r);
-						double[] bvals = rsblock.values(r);
-						c.allocate(r, alen);
-						for( int j=apos; j<apos+alen; j++ ) {
-							double tmp = op.fn.execute(avals[j], bvals[j]);
-							c.append(r, aix[j], tmp);
-						}
-						ret.nonZeros += c.size(r);
-					}
+				ret.nonZeros = safeBinaryMMSparseSparse(m1, m2, ret, op, 0, rlen);
 			}
 			else //general case
 			{
@@ -670,108 +762,203 @@ public class LibMatrixBincell
 		}
 	}
 	
+	private static long safeBinaryMMSparseSparse(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
+		//note: both inputs non-empty and sparse output rows allocated
+		SparseBlock a = m1.sparseBlock;
+		SparseBlock b = m2.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		boolean isMultiply = (op.fn instanceof Multiply);
+		long lnnz = 0;
+		
+		for( int r=rl; r<ru; r++ ) {
+			boolean aempty = a.isEmpty(r);
+			boolean bempty = b.isEmpty(r);
+			if( aempty && bempty )
+				continue;
+			if( !aempty && a.isAligned(r, b) ) { //aligned rows
+				int alen = a.size(r);
+				int apos = a.pos(r);
+				int[] aix = a.indexes(r);
+				double[] avals = a.values(r);
+				double[] bvals = b.values(r);
+				c.allocate(r, alen);
+				for( int j=apos; j<apos+alen; j++ )
+					c.append(r, aix[j], op.fn.execute(avals[j], bvals[j]));
+			}
+			else if( !aempty && !bempty ) { //merge-join
+				int apos = a.pos(r), alen = a.size(r);
+				int bpos = b.pos(r), blen = b.size(r);
+				int[] aix = a.indexes(r);
+				int[] bix = b.indexes(r);
+				double[] avals = a.values(r);
+				double[] bvals = b.values(r);
+				int p1 = apos, p2 = bpos;
+				if( isMultiply ) { //inner join semantics, except non-finite values (NaN/Inf*0=NaN)
+					c.allocate(r, Math.min(alen, blen), ret.clen);
+					while( p1 < apos+alen && p2 < bpos+blen ) {
+						if( aix[p1] == bix[p2] )
+							c.append(r, aix[p1], op.fn.execute(avals[p1], bvals[p2]));
+						else if( aix[p1] < bix[p2] && !Double.isFinite(avals[p1]) )
+							c.append(r, aix[p1], op.fn.execute(avals[p1], 0));
+						else if( aix[p1] > bix[p2] && !Double.isFinite(bvals[p2]) )
+							c.append(r, bix[p2], op.fn.execute(0, bvals[p2]));
+						int tmp = aix[p1];
+						p1 += (tmp <= bix[p2]) ? 1 : 0;
+						p2 += (tmp >= bix[p2]) ? 1 : 0;
+					}
+					appendNonFiniteForSparseBinary(op, avals, aix, p1, apos+alen, true, r, c);
+					appendNonFiniteForSparseBinary(op, bvals, bix, p2, bpos+blen, false, r, c);
+				}
+				else { //outer join semantics
+					c.allocate(r, Math.max(alen, blen), ret.clen);
+					while( p1 < apos+alen && p2 < bpos+blen ) {
+						if( aix[p1] < bix[p2] ) {
+							c.append(r, aix[p1], op.fn.execute(avals[p1], 0));
+							p1++;
+						}
+						else if( aix[p1] == bix[p2] ) {
+							c.append(r, aix[p1], op.fn.execute(avals[p1], bvals[p2]));
+							p1++; p2++;
+						}
+						else {
+							c.append(r, bix[p2], op.fn.execute(0, bvals[p2]));
+							p2++;
+						}
+					}
+					for( ; p1 < apos+alen; p1++ )
+						c.append(r, aix[p1], op.fn.execute(avals[p1], 0));
+					for( ; p2 < bpos+blen; p2++ )
+						c.append(r, bix[p2], op.fn.execute(0, bvals[p2]));
+				}
+			}
+			else if( !aempty ) { //left only
+				int apos = a.pos(r), alen = a.size(r);
+				int[] aix = a.indexes(r);
+				double[] avals = a.values(r);
+				if( isMultiply )
+					appendNonFiniteForSparseBinary(op, avals, aix, apos, apos+alen, true, r, c);
+				else {
+					c.allocate(r, alen);
+					for( int j=apos; j<apos+alen; j++ )
+						c.append(r, aix[j], op.fn.execute(avals[j], 0));
+				}
+			}
+			else { //right only
+				int bpos = b.pos(r), blen = b.size(r);
+				int[] bix = b.indexes(r);
+				double[] bvals = b.values(r);
+				if( isMultiply )
+					appendNonFiniteForSparseBinary(op, bvals, bix, bpos, bpos+blen, false, r, c);
+				else {
+					c.allocate(r, blen);
+					for( int j=bpos; j<bpos+blen; j++ )
+						c.append(r, bix[j], op.fn.execute(0, bvals[j]));
+				}
+			}
+			lnnz += c.size(r);
+		}
+		return lnnz;
+	}
+	
+	private static void appendNonFiniteForSparseBinary(BinaryOperator op, double[] vals, int[] ix, int pos, int end, boolean left, int r, SparseBlock c) {
+		//unmatched entries of a multiply only produce non-zeros (NaN) if non-finite
+		for( int j=pos; j<end; j++ )
+			if( !Double.isFinite(vals[j]) )
+				c.append(r, ix[j], left ? op.fn.execute(vals[j], 0) : op.fn.execute(0, vals[j]));
+	}
+	
 	private static void safeBinaryMMSparseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
 		//specific case in order to prevent binary search on sparse inputs (see quickget and quickset)
 		ret.allocateDenseBlock();
+		ret.setNonZeros(safeBinaryMMSparseDenseDense(m1, m2, ret, op, 0, ret.rlen));
+	}
+	
+	private static long safeBinaryMMSparseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
 		final int n = ret.clen;
 		DenseBlock dc = ret.getDenseBlock();
+		boolean lempty = m1.isEmptyBlock(false);
+		boolean rempty = m2.isEmptyBlock(false);
+		long lnnz = 0;
 		
-		//1) process left input: assignment
-		
-		if( m1.sparse && m1.sparseBlock != null ) //SPARSE left
-		{
-			SparseBlock a = m1.sparseBlock;
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] c = dc.valuesAt(bi);
-				int blen = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<blen; i++, ix+=n ) {
-					int ai = off + i;
-					if( a.isEmpty(ai) ) continue;
-					int apos = a.pos(ai);
-					int alen = a.size(ai);
-					int[] aix = a.indexes(ai);
-					double[] avals = a.values(ai);
+		for( int i=rl; i<ru; i++ ) {
+			double[] c = dc.values(i);
+			int cix = dc.pos(i);
+			
+			//1) process left input: assignment
+			if( m1.sparse && m1.sparseBlock != null ) { //SPARSE left
+				SparseBlock a = m1.sparseBlock;
+				if( !a.isEmpty(i) ) {
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					double[] avals = a.values(i);
 					for(int k = apos; k < apos+alen; k++) 
-						c[ix+aix[k]] = avals[k];
+						c[cix+aix[k]] = avals[k];
 				}
 			}
-		}
-		else if( !m1.sparse ) //DENSE left
-		{
-			if( !m1.isEmptyBlock(false) ) 
-				dc.set(m1.getDenseBlock());
-			else
-				dc.set(0);
-		}
-		
-		//2) process right input: op.fn (+,-,*), * only if dense
-		long lnnz = 0;
-		if( m2.sparse && m2.sparseBlock!=null ) //SPARSE right
-		{
-			SparseBlock a = m2.sparseBlock;
-			for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-				double[] c = dc.valuesAt(bi);
-				int blen = dc.blockSize(bi);
-				int off = bi * dc.blockSize();
-				for( int i=0, ix=0; i<blen; i++, ix+=n ) {
-					int ai = off + i;
-					if( !a.isEmpty(ai) ) {
-						int apos = a.pos(ai);
-						int alen = a.size(ai);
-						int[] aix = a.indexes(ai);
-						double[] avals = a.values(ai);
-						for(int k = apos; k < apos+alen; k++) 
-							c[ix+aix[k]] = op.fn.execute(c[ix+aix[k]], avals[k]);
-					}
-					//exploit temporal locality of rows
-					lnnz += ret.recomputeNonZeros(ai, ai, 0, n-1);
+			else if( !m1.sparse ) { //DENSE left
+				if( !lempty )
+					System.arraycopy(m1.denseBlock.values(i), m1.denseBlock.pos(i), c, cix, n);
+				else
+					Arrays.fill(c, cix, cix+n, 0);
+			}
+			
+			//2) process right input: op.fn (+,-,*), * only if dense
+			if( m2.sparse && m2.sparseBlock!=null ) { //SPARSE right
+				SparseBlock b = m2.sparseBlock;
+				if( !b.isEmpty(i) ) {
+					int bpos = b.pos(i);
+					int blen = b.size(i);
+					int[] bix = b.indexes(i);
+					double[] bvals = b.values(i);
+					for(int k = bpos; k < bpos+blen; k++) 
+						c[cix+bix[k]] = op.fn.execute(c[cix+bix[k]], bvals[k]);
 				}
+				//exploit temporal locality of rows
+				lnnz += UtilFunctions.computeNnz(c, cix, n);
 			}
-		}
-		else if( !m2.sparse ) //DENSE right
-		{
-			if( !m2.isEmptyBlock(false) ) {
-				for( int bi=0; bi<dc.numBlocks(); bi++ ) {
-					double[] a = m2.getDenseBlock().valuesAt(bi);
-					double[] c = dc.valuesAt(bi);
-					int len = dc.size(bi);
-					for( int i=0; i<len; i++ ) {
-						c[i] = op.fn.execute(c[i], a[i]);
-						lnnz += (c[i]!=0) ? 1 : 0;
-					}
+			else if( !m2.sparse && !rempty ) { //DENSE right
+				double[] b = m2.denseBlock.values(i);
+				int bix = m2.denseBlock.pos(i);
+				for( int j=0; j<n; j++ ) {
+					c[cix+j] = op.fn.execute(c[cix+j], b[bix+j]);
+					lnnz += (c[cix+j]!=0) ? 1 : 0;
 				}
 			}
-			else if(op.fn instanceof Multiply)
-				ret.denseBlock.set(0);
+			else if( op.fn instanceof Multiply ) //EMPTY right
+				Arrays.fill(c, cix, cix+n, 0);
 			else
-				lnnz = m1.nonZeros;
+				lnnz += UtilFunctions.computeNnz(c, cix, n);
 		}
 		
-		//3) recompute nnz
-		ret.setNonZeros(lnnz);
+		return lnnz;
 	}
 	
 	private static void safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
 		ret.allocateDenseBlock();
+		ret.setNonZeros(safeBinaryMMDenseDenseDense(m1, m2, ret, op, 0, m1.rlen));
+	}
+	
+	private static long safeBinaryMMDenseDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int rl, int ru) {
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock db = m2.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
 		ValueFunction fn = op.fn;
+		int clen = m1.clen;
 		
 		//compute dense-dense binary, maintain nnz on-the-fly
 		long lnnz = 0;
-		for( int bi=0; bi<da.numBlocks(); bi++ ) {
-			double[] a = da.valuesAt(bi);
-			double[] b = db.valuesAt(bi);
-			double[] c = dc.valuesAt(bi);
-			int len = da.size(bi);
-			for( int i=0; i<len; i++ ) {
-				c[i] = fn.execute(a[i], b[i]);
-				lnnz += (c[i]!=0)? 1 : 0;
+		for( int i=rl; i<ru; i++ ) {
+			double[] a = da.values(i);
+			double[] b = db.values(i);
+			double[] c = dc.values(i);
+			int aix = da.pos(i), bix = db.pos(i), cix = dc.pos(i);
+			for( int j=0; j<clen; j++ ) {
+				c[cix+j] = fn.execute(a[aix+j], b[bix+j]);
+				lnnz += (c[cix+j]!=0) ? 1 : 0;
 			}
 		}
-		ret.setNonZeros(lnnz);
+		return lnnz;
 	}
 	
 	private static void safeBinaryMMSparseDenseSkip(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op) {
@@ -957,56 +1144,60 @@ public class LibMatrixBincell
 		if( m1.sparse != ret.sparse )
 			throw new DMLRuntimeException("Unsupported safe binary scalar operations over different input/output representation: "+m1.sparse+" "+ret.sparse);
 		
+		if( m1.sparse ) //SPARSE <- SPARSE
+		{
+			//allocate sparse row structure
+			ret.allocateSparseRowsBlock();
+			int rlen = Math.min(m1.rlen, m1.sparseBlock.numRows());
+			ret.nonZeros = safeBinaryScalarSparse(m1, ret, op, 0, rlen);
+		}
+		else { //DENSE <- DENSE
+			denseBinaryScalar(m1, ret, op);
+		}
+	}
+	
+	private static long safeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
 		boolean copyOnes = (op.fn instanceof NotEquals && op.getConstant()==0);
 		boolean allocExact = (op.fn instanceof Multiply || op.fn instanceof Multiply2 
 			|| op.fn instanceof Power2 || Builtin.isBuiltinCode(op.fn, BuiltinCode.MAX)
 			|| Builtin.isBuiltinCode(op.fn, BuiltinCode.MIN));
 		
-		if( m1.sparse ) //SPARSE <- SPARSE
-		{
-			//allocate sparse row structure
-			ret.allocateSparseRowsBlock();
-			SparseBlock a = m1.sparseBlock;
-			SparseBlock c = ret.sparseBlock;
-			int rlen = Math.min(m1.rlen, a.numRows());
+		SparseBlock a = m1.sparseBlock;
+		SparseBlock c = ret.sparseBlock;
+		
+		long nnz = 0;
+		for(int r=rl; r<ru; r++) {
+			if( a.isEmpty(r) ) continue;
 			
-			long nnz = 0;
-			for(int r=0; r<rlen; r++) {
-				if( a.isEmpty(r) ) continue;
+			int apos = a.pos(r);
+			int alen = a.size(r);
+			int[] aix = a.indexes(r);
+			double[] avals = a.values(r);
+			
+			if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
+				//create sparse row without repeated resizing
+				SparseRowVector crow = new SparseRowVector(alen);
+				crow.setSize(alen);
 				
-				int apos = a.pos(r);
-				int alen = a.size(r);
-				int[] aix = a.indexes(r);
-				double[] avals = a.values(r);
+				//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
+				System.arraycopy(aix, apos, crow.indexes(), 0, alen);
+				Arrays.fill(crow.values(), 0, alen, 1);
+				c.set(r, crow, false);
+				nnz += alen;
+			}
+			else { //GENERAL CASE
+				//create sparse row without repeated resizing for specific ops
+				if( allocExact )
+					c.allocate(r, alen);
 				
-				if( copyOnes ) { //SPECIAL CASE: e.g., (X != 0) 
-					//create sparse row without repeated resizing
-					SparseRowVector crow = new SparseRowVector(alen);
-					crow.setSize(alen);
-					
-					//memcopy/memset of indexes/values (sparseblock guarantees absence of 0s) 
-					System.arraycopy(aix, apos, crow.indexes(), 0, alen);
-					Arrays.fill(crow.values(), 0, alen, 1);
-					c.set(r, crow, false);
-					nnz += alen;
-				}
-				else { //GENERAL CASE
-					//create sparse row without repeated resizing for specific ops
-					if( allocExact )
-						c.allocate(r, alen);
-					
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c.append(r, aix[j], val);
-						nnz += (val != 0) ? 1 : 0; 
-					}
+				for(int j=apos; j<apos+alen; j++) {
+					double val = op.executeScalar(avals[j]);
+					c.append(r, aix[j], val);
+					nnz += (val != 0) ? 1 : 0; 
 				}
 			}
-			ret.nonZeros = nnz;
-		}
-		else { //DENSE <- DENSE
-			denseBinaryScalar(m1, ret, op);
 		}
+		return nnz;
 	}
 	
 	/**
@@ -1033,63 +1224,69 @@ public class LibMatrixBincell
 		if( m1.sparse ) //SPARSE MATRIX
 		{
 			ret.allocateDenseBlock();
-			
-			SparseBlock a = m1.sparseBlock;
-			DenseBlock dc = ret.getDenseBlock();
-			int m = m1.rlen;
-			int n = m1.clen;
-			
-			//init dense result with unsafe 0-value
-			double val0 = op.executeScalar(0);
-			boolean lsparseSafe = (val0 == 0);
-			if( !lsparseSafe )
-				dc.set(val0);
-			
-			//compute non-zero input values
-			long nnz = lsparseSafe ? 0 : m * n;
-			for(int bi=0; bi<dc.numBlocks(); bi++) {
-				int blen = dc.blockSize(bi);
-				double[] c = dc.valuesAt(bi);
-				for(int i=bi*dc.blockSize(), cix=i*n; i<blen && i<m; i++, cix+=n) {
-					if( a.isEmpty(i) ) continue;
-					int apos = a.pos(i);
-					int alen = a.size(i);
-					int[] aix = a.indexes(i);
-					double[] avals = a.values(i);
-					for(int j=apos; j<apos+alen; j++) {
-						double val = op.executeScalar(avals[j]);
-						c[ cix+aix[j] ] = val;
-						nnz += lsparseSafe ? (val!=0 ? 1 : 0) :
-							(val==0 ? -1 : 0);
-					}
-				}
-			}
-			ret.nonZeros = nnz;
+			ret.nonZeros = unsafeBinaryScalarSparse(m1, ret, op, 0, m1.rlen);
 		}
 		else { //DENSE MATRIX
 			denseBinaryScalar(m1, ret, op);
 		}
 	}
+	
+	private static long unsafeBinaryScalarSparse(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
+		SparseBlock a = m1.sparseBlock;
+		DenseBlock dc = ret.getDenseBlock();
+		int n = m1.clen;
+		
+		//init dense result with unsafe 0-value
+		double val0 = op.executeScalar(0);
+		boolean lsparseSafe = (val0 == 0);
+		if( !lsparseSafe )
+			dc.set(rl, ru, 0, n, val0);
+		
+		//compute non-zero input values
+		long nnz = lsparseSafe ? 0 : (long)(ru-rl) * n;
+		for(int i=rl; i<ru; i++) {
+			if( a.isEmpty(i) ) continue;
+			int apos = a.pos(i);
+			int alen = a.size(i);
+			int[] aix = a.indexes(i);
+			double[] avals = a.values(i);
+			double[] c = dc.values(i);
+			int cix = dc.pos(i);
+			for(int j=apos; j<apos+alen; j++) {
+				double val = op.executeScalar(avals[j]);
+				c[ cix+aix[j] ] = val;
+				nnz += lsparseSafe ? (val!=0 ? 1 : 0) :
+					(val==0 ? -1 : 0);
+			}
+		}
+		return nnz;
+	}
 
 	private static void denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op) {
 		//allocate dense block (if necessary), incl clear nnz
 		ret.allocateDenseBlock(true);
 		
+		//compute scalar operation, incl nnz maintenance
+		ret.nonZeros = denseBinaryScalar(m1, ret, op, 0, m1.rlen);
+	}
+	
+	private static long denseBinaryScalar(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int rl, int ru) {
 		DenseBlock da = m1.getDenseBlock();
 		DenseBlock dc = ret.getDenseBlock();
+		int clen = m1.clen;
 		
 		//compute scalar operation, incl nnz maintenance
 		long nnz = 0;
-		for( int bi=0; bi<da.numBlocks(); bi++) {
-			double[] a = da.valuesAt(bi);
-			double[] c = dc.valuesAt(bi);
-			int limit = da.size(bi);
-			for( int i=0; i<limit; i++ ) {
-				c[i] = op.executeScalar( a[i] );
-				nnz += (c[i] != 0) ? 1 : 0;
+		for( int i=rl; i<ru; i++ ) {
+			double[] a = da.values(i);
+			double[] c = dc.values(i);
+			int aix = da.pos(i), cix = dc.pos(i);
+			for( int j=0; j<clen; j++ ) {
+				c[cix+j] = op.executeScalar( a[aix+j] );
+				nnz += (c[cix+j] != 0) ? 1 : 0;
 			}
 		}
-		ret.nonZeros = nnz;
+		return nnz;
 	}
 
 	private static void safeBinaryInPlace(MatrixBlock m1ret, MatrixBlock m2, BinaryOperator op) {
@@ -1296,9 +1493,15 @@ public class LibMatrixBincell
 				if( colPos1 == colPos2 )
 					sblock.append(resultRow, colPos1,
 						op.fn.execute(values1[pos1+p1], values2[pos2+p2]));
+				else if( colPos1 < colPos2 && !Double.isFinite(values1[pos1+p1]) )
+					sblock.append(resultRow, colPos1, op.fn.execute(values1[pos1+p1], 0));
+				else if( colPos1 > colPos2 && !Double.isFinite(values2[pos2+p2]) )
+					sblock.append(resultRow, colPos2, op.fn.execute(0, values2[pos2+p2]));
 				p1 += (colPos1 <= colPos2) ? 1 : 0;
 				p2 += (colPos1 >= colPos2) ? 1 : 0;
 			}
+			appendNonFiniteForSparseBinary(op, values1, cols1, pos1+p1, pos1+size1, true, resultRow, sblock);
+			appendNonFiniteForSparseBinary(op, values2, cols2, pos2+p2, pos2+size2, false, resultRow, sblock);
 			result.nonZeros += sblock.size(resultRow);
 		}
 		else {
@@ -1360,4 +1563,112 @@ public class LibMatrixBincell
 		if( zero )
 			c.compact(r);
 	}
+	
+	//////////////////////////////////////////////////////
+	// private multi-threaded implementations
+	///////////////////////////////////
+	
+	private static BinaryKernel getParallelKernel(MatrixBlock m1, MatrixBlock ret, ScalarOperator op, int k) {
+		//sequential execution for small or empty inputs, and outputs
+		//that do not allow concurrent modifications of disjoint rows
+		if( k <= 1 || (long)m1.rlen * m1.clen < PAR_NUMCELL_THRESHOLD
+			|| m1.isEmptyBlock(false) || !ret.isThreadSafe() )
+			return null;
+		
+		if( !m1.sparse && !ret.sparse )
+			return BinaryKernel.SCALAR_DENSE;
+		else if( m1.sparse && op.sparseSafe && ret.sparse )
+			return BinaryKernel.SCALAR_SPARSE;
+		else if( m1.sparse && !op.sparseSafe && !ret.sparse )
+			return BinaryKernel.SCALAR_SPARSE_UNSAFE;
+		return null; //invalid representations (see sequential checks)
+	}
+	
+	private static BinaryKernel getParallelKernel(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, BinaryOperator op, int k) {
+		//sequential execution for small or empty inputs (incl special cases
+		//like shallow copies), and outputs that do not allow concurrent 
+		//modifications of disjoint rows
+		if( k <= 1 || (long)m1.rlen * m1.clen < PAR_NUMCELL_THRESHOLD
+			|| m1.isEmptyBlock(false) || m2.isEmptyBlock(false) || !ret.isThreadSafe() )
+			return null;
+		
+		boolean safe = op.sparseSafe || isSparseSafeDivide(op, m2);
+		BinaryAccessType atype = getBinaryAccessType(m1, m2);
+		if( atype == BinaryAccessType.MATRIX_MATRIX ) {
+			if( !m1.sparse && !m2.sparse && !ret.sparse )
+				return BinaryKernel.MM_DENSE_DENSE;
+			else if( safe && m1.sparse && m2.sparse && ret.sparse )
+				return BinaryKernel.MM_SPARSE_SPARSE;
+			else if( safe && m1.sparse != m2.sparse && !ret.sparse
+				&& (op.fn instanceof Plus || op.fn instanceof Minus
+				|| op.fn instanceof PlusMultiply || op.fn instanceof MinusMultiply
+				|| (op.fn instanceof Multiply && !m2.sparse)) )
+				return BinaryKernel.MM_SPARSE_DENSE;
+		}
+		else if( (atype == BinaryAccessType.MATRIX_COL_VECTOR 
+			|| atype == BinaryAccessType.MATRIX_ROW_VECTOR)
+			&& !m1.sparse && !m2.sparse && !ret.sparse ) {
+			return BinaryKernel.MV_DENSE;
+		}
+		return null;
+	}
+	
+	private static long executeParallel(ArrayList<BincellTask> tasks, int k) {
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			List<Future<Long>> taskret = pool.invokeAll(tasks);
+			pool.shutdown();
+			//aggregate partial nnz and error handling
+			long nnz = 0;
+			for( Future<Long> task : taskret )
+				nnz += task.get();
+			return nnz;
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static class BincellTask implements Callable<Long> 
+	{
+		private final BinaryKernel _kernel;
+		private final MatrixBlock _m1;
+		private final MatrixBlock _m2;
+		private final MatrixBlock _ret;
+		private final Operator _op;
+		private final int _rl;
+		private final int _ru;
+		
+		protected BincellTask(BinaryKernel kernel, MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, Operator op, int rl, int ru) {
+			_kernel = kernel;
+			_m1 = m1;
+			_m2 = m2;
+			_ret = ret;
+			_op = op;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			switch( _kernel ) {
+				case MM_DENSE_DENSE:
+					return safeBinaryMMDenseDenseDense(_m1, _m2, _ret, (BinaryOperator)_op, _rl, _ru);
+				case MM_SPARSE_DENSE:
+					return safeBinaryMMSparseDenseDense(_m1, _m2, _ret, (BinaryOperator)_op, _rl, _ru);
+				case MM_SPARSE_SPARSE:
+					return safeBinaryMMSparseSparse(_m1, _m2, _ret, (BinaryOperator)_op, _rl, _ru);
+				case MV_DENSE:
+					return safeBinaryMVDense(_m1, _m2, _ret, (BinaryOperator)_op, _rl, _ru);
+				case SCALAR_DENSE:
+					return denseBinaryScalar(_m1, _ret, (ScalarOperator)_op, _rl, _ru);
+				case SCALAR_SPARSE:
+					return safeBinaryScalarSparse(_m1, _ret, (ScalarOperator)_op, _rl, _ru);
+				case SCALAR_SPARSE_UNSAFE:
+					return unsafeBinaryScalarSparse(_m1, _ret, (ScalarOperator)_op, _rl, _ru);
+				default:
+					throw new DMLRuntimeException("Unsupported binary kernel: "+_kernel);
+			}
+		}
+	}
 }
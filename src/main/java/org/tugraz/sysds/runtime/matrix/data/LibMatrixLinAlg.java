@@ -0,0 +1,687 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.matrix.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Library for cache-blocked, multi-threaded dense linear algebra kernels 
+ * (Cholesky, LU with partial pivoting, Householder QR, triangular solve), 
+ * which are used instead of the single-threaded commons-math decompositions
+ * for sufficiently large inputs (see {@link #isSupportedInput(MatrixBlock)}).
+ * 
+ * All kernels operate in-place on a row-major dense copy of the input and
+ * parallelize the O(n^3) trailing updates over row (or column) partitions.
+ * The tolerances of symmetry, positivity, and singularity checks are 
+ * consistent with the defaults of the commons-math decompositions, but the
+ * positivity and singularity tolerances are relative to the maximum absolute
+ * value of the input in order to support inputs of arbitrary scale.
+ */
+public class LibMatrixLinAlg 
+{
+	//minimum number of rows/columns for native kernels
+	public static final int MIN_DIM = 256;
+	//panel width of blocked factorizations and tile size of trailing updates
+	public static final int BLOCKSIZE = 96;
+	private static final int TILESIZE = 256;
+	//minimum number of cells per parallel update
+	private static final long PAR_NUMCELL_THRESHOLD = 64*1024;
+	
+	private static final double SYMMETRY_THRESHOLD = 1e-14;
+	private static final double POSITIVITY_THRESHOLD = 1e-10;
+	private static final double SINGULARITY_THRESHOLD = 1e-11;
+	
+	private LibMatrixLinAlg() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if the given input qualifies for the native blocked kernels, 
+	 * i.e., if it is large enough and fits into a single dense block.
+	 * 
+	 * @param in input matrix
+	 * @return true if the native kernels are applicable
+	 */
+	public static boolean isSupportedInput(MatrixBlock in) {
+		return in.getNumRows() >= MIN_DIM && in.getNumColumns() >= MIN_DIM
+			&& (long)in.getNumRows() * in.getNumColumns() < Integer.MAX_VALUE;
+	}
+	
+	/**
+	 * Computes the lower triangular Cholesky factor L of a symmetric 
+	 * positive definite matrix A, such that A = L %*% t(L).
+	 * 
+	 * @param in symmetric positive definite input matrix
+	 * @param k degree of parallelism
+	 * @return lower triangular matrix L
+	 */
+	public static MatrixBlock cholesky(MatrixBlock in, int k) {
+		int n = in.getNumRows();
+		double[] a = DataConverter.convertToDoubleVector(in, true);
+		if( !isSymmetric(a, n) )
+			throw new DMLRuntimeException("Input to cholesky() must be a symmetric matrix.");
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			if( !choleskyBlocked(a, n, pool, k) )
+				throw new DMLRuntimeException("Input to cholesky() must be a positive definite matrix.");
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		//clear upper triangle (symmetric input)
+		for( int i=0; i<n; i++ )
+			for( int j=i+1, ix=i*n; j<n; j++ )
+				a[ix+j] = 0;
+		return toMatrixBlock(a, n, n);
+	}
+	
+	/**
+	 * Computes the LU decomposition with partial pivoting of a square 
+	 * matrix A, such that P %*% A = L %*% U.
+	 * 
+	 * @param in square input matrix
+	 * @param k degree of parallelism
+	 * @return array of permutation matrix P, unit lower triangular L, 
+	 *   and upper triangular matrix U
+	 */
+	public static MatrixBlock[] lu(MatrixBlock in, int k) {
+		int n = in.getNumRows();
+		double[] a = DataConverter.convertToDoubleVector(in, true);
+		int[] perm = new int[n];
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			luBlocked(a, n, perm, pool, k);
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		
+		//split in-place factorization into P, L, and U
+		double[] p = new double[n*n];
+		double[] l = new double[n*n];
+		for( int i=0; i<n; i++ ) {
+			int ix = i*n;
+			p[ix+perm[i]] = 1;
+			System.arraycopy(a, ix, l, ix, i);
+			l[ix+i] = 1;
+			for( int j=0; j<i; j++ )
+				a[ix+j] = 0;
+		}
+		return new MatrixBlock[] {toMatrixBlock(p, n, n),
+			toMatrixBlock(l, n, n), toMatrixBlock(a, n, n)};
+	}
+	
+	/**
+	 * Computes the Householder QR decomposition of an m x n matrix A, and
+	 * returns the Householder vectors H and upper triangular matrix R in 
+	 * the same layout and scaling as the commons-math QR decomposition.
+	 * 
+	 * @param in input matrix
+	 * @param k degree of parallelism
+	 * @return array of Householder vectors H and upper triangular matrix R
+	 */
+	public static MatrixBlock[] qr(MatrixBlock in, int k) {
+		int m = in.getNumRows();
+		int n = in.getNumColumns();
+		int minmn = Math.min(m, n);
+		double[] qrt = transpose(DataConverter.convertToDoubleVector(in, false), m, n);
+		double[] rdiag = new double[minmn];
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			qrHouseholder(qrt, m, n, rdiag, pool, k);
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		
+		//extract H (scaled Householder vectors) and R
+		double[] h = new double[m*n];
+		double[] r = new double[m*n];
+		for( int j=0; j<n; j++ ) {
+			int jx = j*m;
+			for( int i=j; j<minmn && i<m; i++ )
+				h[i*n+j] = qrt[jx+i] / -rdiag[j];
+			for( int i=0; i<Math.min(j, minmn); i++ )
+				r[i*n+j] = qrt[jx+i];
+			if( j < minmn )
+				r[j*n+j] = rdiag[j];
+		}
+		return new MatrixBlock[] {toMatrixBlock(h, m, n), toMatrixBlock(r, m, n)};
+	}
+	
+	/**
+	 * Solves the system of linear equations A %*% X = B for a square matrix A.
+	 * Symmetric positive definite systems (e.g., normal equations) are solved
+	 * via Cholesky decomposition, all others via LU decomposition with partial
+	 * pivoting, followed by forward and backward substitution.
+	 * 
+	 * @param in1 square matrix A
+	 * @param in2 right-hand-side matrix B
+	 * @param k degree of parallelism
+	 * @return solution matrix X
+	 */
+	public static MatrixBlock solve(MatrixBlock in1, MatrixBlock in2, int k) {
+		int n = in1.getNumRows();
+		int m = in2.getNumColumns();
+		if( in2.getNumRows() != n )
+			throw new DMLRuntimeException("Dimension mismatch in solve(A,b): "
+				+ n + "x" + n + " vs " + in2.getNumRows() + "x" + m);
+		double[] a = DataConverter.convertToDoubleVector(in1, true);
+		double[] b = DataConverter.convertToDoubleVector(in2, true);
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			//try cholesky on symmetric inputs, fallback to LU if not positive definite
+			double[] l = null;
+			if( isSymmetric(a, n) ) {
+				l = a.clone();
+				if( !choleskyBlocked(l, n, pool, k) )
+					l = null;
+			}
+			if( l != null ) {
+				trsm(l, n, b, m, TrsmType.LOWER, pool, k);
+				trsm(l, n, b, m, TrsmType.LOWER_TRANS, pool, k);
+			}
+			else {
+				int[] perm = new int[n];
+				if( luBlocked(a, n, perm, pool, k) )
+					throw new DMLRuntimeException("Input matrix A in solve(A,b) is singular.");
+				b = permuteRows(b, perm, m);
+				trsm(a, n, b, m, TrsmType.UNIT_LOWER, pool, k);
+				trsm(a, n, b, m, TrsmType.UPPER, pool, k);
+			}
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		return toMatrixBlock(b, n, m);
+	}
+	
+	/**
+	 * Computes the inverse of a square matrix A via LU decomposition with
+	 * partial pivoting and triangular solves against the identity matrix.
+	 * 
+	 * @param in square input matrix
+	 * @param k degree of parallelism
+	 * @return inverse matrix
+	 */
+	public static MatrixBlock inverse(MatrixBlock in, int k) {
+		int n = in.getNumRows();
+		double[] a = DataConverter.convertToDoubleVector(in, true);
+		int[] perm = new int[n];
+		double[] b = new double[n*n];
+		ExecutorService pool = (k > 1) ? CommonThreadPool.get(k) : null;
+		try {
+			if( luBlocked(a, n, perm, pool, k) )
+				throw new DMLRuntimeException("Input to inv() is a singular matrix.");
+			//permuted identity, i.e., P %*% I
+			for( int i=0; i<n; i++ )
+				b[i*n+perm[i]] = 1;
+			trsm(a, n, b, n, TrsmType.UNIT_LOWER, pool, k);
+			trsm(a, n, b, n, TrsmType.UPPER, pool, k);
+		}
+		finally {
+			if( pool != null )
+				pool.shutdown();
+		}
+		return toMatrixBlock(b, n, n);
+	}
+	
+	///////////////////////////////
+	// Blocked factorizations
+	///////////////////////////////
+	
+	/**
+	 * Right-looking blocked Cholesky decomposition, which overwrites the lower
+	 * triangle of the row-major input with L. For every panel, we factorize the
+	 * diagonal block, and then compute the panel solve and the symmetric trailing
+	 * update (lower triangle only) in parallel over row partitions.
+	 * 
+	 * @param a row-major n x n matrix
+	 * @param n number of rows/columns
+	 * @param pool thread pool or null for single-threaded execution
+	 * @param k degree of parallelism
+	 * @return false if the matrix is not positive definite, otherwise true
+	 */
+	private static boolean choleskyBlocked(double[] a, int n, ExecutorService pool, int k) {
+		double tol = POSITIVITY_THRESHOLD * maxAbs(a);
+		for( int bk=0; bk<n; bk+=BLOCKSIZE ) {
+			int bkEnd = Math.min(bk+BLOCKSIZE, n);
+			//factorize diagonal block (unblocked)
+			for( int j=bk; j<bkEnd; j++ ) {
+				int jx = j*n;
+				double s = a[jx+j] - dot(a, jx+bk, a, jx+bk, j-bk);
+				if( s <= tol )
+					return false;
+				double ljj = Math.sqrt(s);
+				a[jx+j] = ljj;
+				for( int i=j+1; i<bkEnd; i++ ) {
+					int ix = i*n;
+					a[ix+j] = (a[ix+j] - dot(a, ix+bk, a, jx+bk, j-bk)) / ljj;
+				}
+			}
+			if( bkEnd == n )
+				break;
+			//panel solve L21 = A21 %*% inv(t(L11)), then trailing update A22 -= L21 %*% t(L21)
+			long cells = (long)(n-bkEnd) * (n-bkEnd) / 2;
+			for( boolean update : new boolean[]{false, true} ) {
+				if( pool == null || cells < PAR_NUMCELL_THRESHOLD )
+					new CholeskyTask(a, n, bk, bkEnd, bkEnd, n, update).call();
+				else {
+					ArrayList<CholeskyTask> tasks = new ArrayList<>();
+					int[] parts = getRowPartitions(bkEnd, n, update ? 2*k : k);
+					for( int i=0; i<parts.length-1; i++ )
+						tasks.add(new CholeskyTask(a, n, bk, bkEnd, parts[i], parts[i+1], update));
+					executeParallel(pool, tasks);
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Right-looking blocked LU decomposition with partial pivoting, which 
+	 * overwrites the row-major input with the unit lower triangular L (without
+	 * diagonal) and the upper triangular U. Row interchanges are applied to 
+	 * entire rows and recorded in the given permutation array.
+	 * 
+	 * @param a row-major n x n matrix
+	 * @param n number of rows/columns
+	 * @param perm output permutation, i.e., original row index per row
+	 * @param pool thread pool or null for single-threaded execution
+	 * @param k degree of parallelism
+	 * @return true if the matrix is singular, otherwise false
+	 */
+	private static boolean luBlocked(double[] a, int n, int[] perm, ExecutorService pool, int k) {
+		boolean singular = false;
+		double tol = SINGULARITY_THRESHOLD * maxAbs(a);
+		double[] tmp = new double[n];
+		for( int i=0; i<n; i++ )
+			perm[i] = i;
+		for( int bk=0; bk<n; bk+=BLOCKSIZE ) {
+			int bkEnd = Math.min(bk+BLOCKSIZE, n);
+			//factorize panel A[bk:n, bk:bkEnd] with partial pivoting
+			for( int j=bk; j<bkEnd; j++ ) {
+				int p = j;
+				double max = Math.abs(a[j*n+j]);
+				for( int i=j+1; i<n; i++ )
+					if( Math.abs(a[i*n+j]) > max ) {
+						max = Math.abs(a[i*n+j]);
+						p = i;
+					}
+				singular |= (max <= tol);
+				if( p != j ) {
+					swapRows(a, n, p, j, tmp);
+					int tp = perm[p]; perm[p] = perm[j]; perm[j] = tp;
+				}
+				int jx = j*n;
+				double ajj = a[jx+j];
+				if( ajj == 0 )
+					continue;
+				for( int i=j+1; i<n; i++ ) {
+					int ix = i*n;
+					double lij = (a[ix+j] /= ajj);
+					if( lij != 0 )
+						axpy(-lij, a, jx+j+1, a, ix+j+1, bkEnd-j-1);
+				}
+			}
+			if( bkEnd == n )
+				break;
+			//compute U12 = inv(L11) %*% A12
+			for( int j=bk; j<bkEnd; j++ )
+				for( int i=j+1, jx=j*n; i<bkEnd; i++ ) {
+					double lij = a[i*n+j];
+					if( lij != 0 )
+						axpy(-lij, a, jx+bkEnd, a, i*n+bkEnd, n-bkEnd);
+				}
+			//trailing update A22 -= L21 %*% U12
+			long cells = (long)(n-bkEnd) * (n-bkEnd);
+			if( pool == null || cells < PAR_NUMCELL_THRESHOLD )
+				new LUTask(a, n, bk, bkEnd, bkEnd, n).call();
+			else {
+				ArrayList<LUTask> tasks = new ArrayList<>();
+				int[] parts = getRowPartitions(bkEnd, n, k);
+				for( int i=0; i<parts.length-1; i++ )
+					tasks.add(new LUTask(a, n, bk, bkEnd, parts[i], parts[i+1]));
+				executeParallel(pool, tasks);
+			}
+		}
+		return singular;
+	}
+	
+	/**
+	 * Householder QR decomposition over the transposed input (i.e., columns of
+	 * A are contiguous rows of qrt), which mirrors the commons-math algorithm
+	 * and thus, its output layout. The reflector of every column is applied
+	 * to all remaining columns in parallel over column partitions.
+	 * 
+	 * @param qrt row-major n x m transposed input matrix
+	 * @param m number of rows of A
+	 * @param n number of columns of A
+	 * @param rdiag output diagonal of R
+	 * @param pool thread pool or null for single-threaded execution
+	 * @param k degree of parallelism
+	 */
+	private static void qrHouseholder(double[] qrt, int m, int n, double[] rdiag, ExecutorService pool, int k) {
+		for( int minor=0; minor<rdiag.length; minor++ ) {
+			int mx = minor*m;
+			double norm2 = 0;
+			for( int i=minor; i<m; i++ )
+				norm2 += qrt[mx+i] * qrt[mx+i];
+			double a = (qrt[mx+minor] > 0) ? -Math.sqrt(norm2) : Math.sqrt(norm2);
+			rdiag[minor] = a;
+			if( a == 0 )
+				continue;
+			qrt[mx+minor] -= a;
+			//apply reflector to remaining columns
+			long cells = (long)(n-minor-1) * (m-minor);
+			if( pool == null || cells < PAR_NUMCELL_THRESHOLD )
+				new QRTask(qrt, m, minor, a, minor+1, n).call();
+			else {
+				ArrayList<QRTask> tasks = new ArrayList<>();
+				int[] parts = getRowPartitions(minor+1, n, k);
+				for( int i=0; i<parts.length-1; i++ )
+					tasks.add(new QRTask(qrt, m, minor, a, parts[i], parts[i+1]));
+				executeParallel(pool, tasks);
+			}
+		}
+	}
+	
+	///////////////////////////////
+	// Triangular solve
+	///////////////////////////////
+	
+	private enum TrsmType {
+		LOWER,       //L %*% X = B
+		UNIT_LOWER,  //L %*% X = B, w/ implicit unit diagonal
+		LOWER_TRANS, //t(L) %*% X = B
+		UPPER,       //U %*% X = B
+	}
+	
+	/**
+	 * Solves a triangular system in-place over the row-major n x m right-hand-side
+	 * matrix, in parallel over column partitions of the right-hand-side.
+	 * 
+	 * @param a row-major n x n triangular matrix
+	 * @param n number of rows/columns of a
+	 * @param b row-major n x m right-hand-side, overwritten with the solution
+	 * @param m number of columns of b
+	 * @param type triangular system type
+	 * @param pool thread pool or null for single-threaded execution
+	 * @param k degree of parallelism
+	 */
+	private static void trsm(double[] a, int n, double[] b, int m, TrsmType type, ExecutorService pool, int k) {
+		long cells = (long)n * n * m;
+		if( pool == null || m < 2*k || cells < PAR_NUMCELL_THRESHOLD )
+			new TrsmTask(a, n, b, m, type, 0, m).call();
+		else {
+			ArrayList<TrsmTask> tasks = new ArrayList<>();
+			int[] parts = getRowPartitions(0, m, k);
+			for( int i=0; i<parts.length-1; i++ )
+				tasks.add(new TrsmTask(a, n, b, m, type, parts[i], parts[i+1]));
+			executeParallel(pool, tasks);
+		}
+	}
+	
+	private static void trsmRange(double[] a, int n, double[] b, int m, TrsmType type, int cl, int cu) {
+		int len = cu - cl;
+		switch( type ) {
+			case LOWER:
+			case UNIT_LOWER:
+				for( int i=0; i<n; i++ ) {
+					int ix = i*n, bix = i*m+cl;
+					for( int p=0; p<i; p++ )
+						if( a[ix+p] != 0 )
+							axpy(-a[ix+p], b, p*m+cl, b, bix, len);
+					if( type == TrsmType.LOWER )
+						scale(1/a[ix+i], b, bix, len);
+				}
+				break;
+			case LOWER_TRANS:
+				//column-oriented backward substitution over rows of L
+				for( int p=n-1; p>=0; p-- ) {
+					int px = p*n, bpx = p*m+cl;
+					scale(1/a[px+p], b, bpx, len);
+					for( int i=0; i<p; i++ )
+						if( a[px+i] != 0 )
+							axpy(-a[px+i], b, bpx, b, i*m+cl, len);
+				}
+				break;
+			case UPPER:
+				for( int i=n-1; i>=0; i-- ) {
+					int ix = i*n, bix = i*m+cl;
+					for( int p=i+1; p<n; p++ )
+						if( a[ix+p] != 0 )
+							axpy(-a[ix+p], b, p*m+cl, b, bix, len);
+					scale(1/a[ix+i], b, bix, len);
+				}
+				break;
+		}
+	}
+	
+	///////////////////////////////
+	// Utility functions
+	///////////////////////////////
+	
+	private static boolean isSymmetric(double[] a, int n) {
+		for( int i=0; i<n; i++ )
+			for( int j=0; j<i; j++ ) {
+				double aij = a[i*n+j], aji = a[j*n+i];
+				if( Math.abs(aij - aji) > SYMMETRY_THRESHOLD * Math.max(Math.abs(aij), Math.abs(aji)) )
+					return false;
+			}
+		return true;
+	}
+	
+	private static double maxAbs(double[] a) {
+		double max = 0;
+		for( int i=0; i<a.length; i++ )
+			max = Math.max(max, Math.abs(a[i]));
+		return max;
+	}
+	
+	private static double dot(double[] a, int ai, double[] b, int bi, int len) {
+		double val = 0;
+		for( int i=0; i<len; i++ )
+			val += a[ai+i] * b[bi+i];
+		return val;
+	}
+	
+	private static void axpy(double alpha, double[] a, int ai, double[] c, int ci, int len) {
+		for( int i=0; i<len; i++ )
+			c[ci+i] += alpha * a[ai+i];
+	}
+	
+	private static void scale(double alpha, double[] c, int ci, int len) {
+		for( int i=0; i<len; i++ )
+			c[ci+i] *= alpha;
+	}
+	
+	private static void swapRows(double[] a, int n, int i1, int i2, double[] tmp) {
+		System.arraycopy(a, i1*n, tmp, 0, n);
+		System.arraycopy(a, i2*n, a, i1*n, n);
+		System.arraycopy(tmp, 0, a, i2*n, n);
+	}
+	
+	private static double[] permuteRows(double[] b, int[] perm, int m) {
+		double[] ret = new double[b.length];
+		for( int i=0; i<perm.length; i++ )
+			System.arraycopy(b, perm[i]*m, ret, i*m, m);
+		return ret;
+	}
+	
+	private static double[] transpose(double[] a, int m, int n) {
+		double[] ret = new double[m*n];
+		for( int bi=0; bi<m; bi+=BLOCKSIZE )
+			for( int bj=0; bj<n; bj+=BLOCKSIZE )
+				for( int i=bi; i<Math.min(bi+BLOCKSIZE, m); i++ )
+					for( int j=bj; j<Math.min(bj+BLOCKSIZE, n); j++ )
+						ret[j*m+i] = a[i*n+j];
+		return ret;
+	}
+	
+	private static int[] getRowPartitions(int rl, int ru, int k) {
+		List<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(ru-rl, k, false);
+		int[] ret = new int[blklens.size()+1];
+		ret[0] = rl;
+		for( int i=0; i<blklens.size(); i++ )
+			ret[i+1] = ret[i] + blklens.get(i);
+		return ret;
+	}
+	
+	private static MatrixBlock toMatrixBlock(double[] a, int rows, int cols) {
+		MatrixBlock ret = new MatrixBlock(rows, cols, false);
+		ret.init(a, rows, cols);
+		ret.examSparsity();
+		return ret;
+	}
+	
+	private static void executeParallel(ExecutorService pool, List<? extends Callable<Object>> tasks) {
+		try {
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static class CholeskyTask implements Callable<Object> 
+	{
+		private final double[] _a;
+		private final int _n, _bk, _bkEnd, _rl, _ru;
+		private final boolean _update;
+		
+		protected CholeskyTask(double[] a, int n, int bk, int bkEnd, int rl, int ru, boolean update) {
+			_a = a; _n = n; _bk = bk; _bkEnd = bkEnd;
+			_rl = rl; _ru = ru; _update = update;
+		}
+		
+		@Override
+		public Object call() {
+			final double[] a = _a;
+			final int n = _n, bk = _bk, len = _bkEnd-_bk;
+			if( !_update ) {
+				//panel solve
+				for( int i=_rl; i<_ru; i++ ) {
+					int ix = i*n;
+					for( int j=bk; j<_bkEnd; j++ ) {
+						int jx = j*n;
+						a[ix+j] = (a[ix+j] - dot(a, ix+bk, a, jx+bk, j-bk)) / a[jx+j];
+					}
+				}
+			}
+			else {
+				//trailing update of lower triangle, tiled over panel rows j
+				for( int bj=_bkEnd; bj<_ru; bj+=TILESIZE ) {
+					int bjEnd = Math.min(bj+TILESIZE, _ru);
+					for( int i=Math.max(_rl, bj); i<_ru; i++ ) {
+						int ix = i*n;
+						for( int j=bj; j<Math.min(bjEnd, i+1); j++ )
+							a[ix+j] -= dot(a, ix+bk, a, j*n+bk, len);
+					}
+				}
+			}
+			return null;
+		}
+	}
+	
+	private static class LUTask implements Callable<Object> 
+	{
+		private final double[] _a;
+		private final int _n, _bk, _bkEnd, _rl, _ru;
+		
+		protected LUTask(double[] a, int n, int bk, int bkEnd, int rl, int ru) {
+			_a = a; _n = n; _bk = bk; _bkEnd = bkEnd; _rl = rl; _ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			final double[] a = _a;
+			final int n = _n;
+			//trailing update, tiled over columns of U12
+			for( int bj=_bkEnd; bj<n; bj+=TILESIZE ) {
+				int len = Math.min(bj+TILESIZE, n) - bj;
+				for( int i=_rl; i<_ru; i++ ) {
+					int ix = i*n;
+					for( int p=_bk; p<_bkEnd; p++ )
+						if( a[ix+p] != 0 )
+							axpy(-a[ix+p], a, p*n+bj, a, ix+bj, len);
+				}
+			}
+			return null;
+		}
+	}
+	
+	private static class QRTask implements Callable<Object> 
+	{
+		private final double[] _qrt;
+		private final int _m, _minor, _cl, _cu;
+		private final double _rdiag;
+		
+		protected QRTask(double[] qrt, int m, int minor, double rdiag, int cl, int cu) {
+			_qrt = qrt; _m = m; _minor = minor;
+			_rdiag = rdiag; _cl = cl; _cu = cu;
+		}
+		
+		@Override
+		public Object call() {
+			final double[] qrt = _qrt;
+			final int m = _m, minor = _minor, len = m-minor;
+			final int mx = minor*m+minor;
+			for( int col=_cl; col<_cu; col++ ) {
+				int cx = col*m+minor;
+				double alpha = -dot(qrt, cx, qrt, mx, len) / (_rdiag * qrt[mx]);
+				axpy(-alpha, qrt, mx, qrt, cx, len);
+			}
+			return null;
+		}
+	}
+	
+	private static class TrsmTask implements Callable<Object> 
+	{
+		private final double[] _a, _b;
+		private final int _n, _m, _cl, _cu;
+		private final TrsmType _type;
+		
+		protected TrsmTask(double[] a, int n, double[] b, int m, TrsmType type, int cl, int cu) {
+			_a = a; _n = n; _b = b; _m = m;
+			_type = type; _cl = cl; _cu = cu;
+		}
+		
+		@Override
+		public Object call() {
+			trsmRange(_a, _n, _b, _m, _type, _cl, _cu);
+			return null;
+		}
+	}
+}
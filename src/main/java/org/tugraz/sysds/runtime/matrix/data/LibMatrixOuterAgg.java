@@ -19,8 +19,14 @@
 
 package org.tugraz.sysds.runtime.matrix.data;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.functionobjects.Builtin;
 import org.tugraz.sysds.runtime.functionobjects.Equals;
@@ -36,8 +42,10 @@ import org.tugraz.sysds.runtime.functionobjects.ReduceRow;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.DataConverter;
 import org.tugraz.sysds.runtime.util.SortUtils;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 /**
  * ACS:
@@ -49,7 +57,9 @@ import org.tugraz.sysds.runtime.util.SortUtils;
  */
 public class LibMatrixOuterAgg 
 {
-
+	//internal configuration parameters
+	private static final int PAR_NUMCELL_THRESHOLD = 16*1024;
+	
 	private LibMatrixOuterAgg() {
 		//prevent instantiation via private constructor
 	}
@@ -299,62 +309,117 @@ public class LibMatrixOuterAgg
 	}
 
 	public static void aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp) {
-		// compute unary aggregate outer chain
+		aggregateMatrix(in1Val, outVal, bv, bvi, bOp, uaggOp, 1);
+	}
+	
+	/**
+	 * Computes the unary aggregate outer chain over the given input, where the 
+	 * sorted vector bv (and for rowIndexMax/rowIndexMin the prepared row indices bvi)
+	 * are shared read-only across all row (or column) partitions. 
+	 * 
+	 * @param in1Val input matrix block (column vector, or row vector for colSums)
+	 * @param outVal output matrix block (already reset to the output dimensions)
+	 * @param bv sorted vector
+	 * @param bvi prepared row indices, only for rowIndexMax/rowIndexMin
+	 * @param bOp binary operator
+	 * @param uaggOp aggregate unary operator
+	 * @param k degree of parallelism
+	 */
+	public static void aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int k) {
+		boolean rowIndex = isRowIndexMax(uaggOp) || isRowIndexMin(uaggOp);
+		boolean colAgg = !rowIndex && uaggOp.indexFn instanceof ReduceRow;
+		boolean fullAgg = !rowIndex && uaggOp.indexFn instanceof ReduceAll;
+		int len = colAgg ? in1Val.clen : in1Val.rlen;
+		
+		//allocate dense output of row/column aggregates (written per partition)
+		if( !fullAgg )
+			outVal.allocateDenseBlock();
+		
+		//compute unary aggregate outer chain over row (or column) partitions
+		long cnt = 0;
+		if( k <= 1 || len < PAR_NUMCELL_THRESHOLD ) {
+			cnt = aggregateMatrix(in1Val, outVal, bv, bvi, bOp, uaggOp, 0, len);
+		}
+		else {
+			try {
+				ExecutorService pool = CommonThreadPool.get(k);
+				ArrayList<OuterAggTask> tasks = new ArrayList<>();
+				ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(len, k, false);
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new OuterAggTask(in1Val, outVal, bv, bvi, bOp, uaggOp, lb, lb+blklens.get(i)));
+				for( Future<Long> task : pool.invokeAll(tasks) )
+					cnt += task.get();
+				pool.shutdown();
+			}
+			catch(Exception ex) {
+				throw new DMLRuntimeException(ex);
+			}
+		}
+		
+		//maintain output value and nnz
+		if( fullAgg )
+			outVal.quickSetValue(0, 0, outVal.quickGetValue(0, 0) + cnt);
+		else
+			outVal.recomputeNonZeros();
+	}
+	
+	private static long aggregateMatrix(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int rl, int ru) {
 		if(isRowIndexMax(uaggOp)) 
 		{
 			if(bOp.fn instanceof LessThan) {
-				uaRIMLt(in1Val, outVal, bv, bvi, bOp);
+				uaRIMLt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof LessThanEquals) {
-				uaRIMLe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMLe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan) { 
-				uaRIMGt(in1Val, outVal, bv, bvi, bOp);
+				uaRIMGt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThanEquals) {
-				uaRIMGe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMGe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals){ 
-				uaRIMEq(in1Val, outVal, bv, bvi, bOp);	
+				uaRIMEq(in1Val, outVal, bv, bvi, bOp, rl, ru);	
 			} else if (bOp.fn instanceof NotEquals) {
-				uaRIMNe(in1Val, outVal, bv, bvi, bOp);
+				uaRIMNe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 			}
 		} else if(isRowIndexMin(uaggOp)) 
 		{
 				if(bOp.fn instanceof LessThan) {
-					uaRIMinLt(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinLt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof LessThanEquals) {
-					uaRIMinLe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinLe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof GreaterThan) { 
-					uaRIMinGt(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinGt(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof GreaterThanEquals) {
-					uaRIMinGe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinGe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				} else if(bOp.fn instanceof Equals){ 
-					uaRIMinEq(in1Val, outVal, bv, bvi, bOp);	
+					uaRIMinEq(in1Val, outVal, bv, bvi, bOp, rl, ru);	
 				} else if (bOp.fn instanceof NotEquals) {
-					uaRIMinNe(in1Val, outVal, bv, bvi, bOp);
+					uaRIMinNe(in1Val, outVal, bv, bvi, bOp, rl, ru);
 				}
 		} else if(uaggOp.indexFn instanceof ReduceCol) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaRowSumLtGe(in1Val, outVal, bv, bOp);
+				uaRowSumLtGe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaRowSumGtLe(in1Val, outVal, bv, bOp);
+				uaRowSumGtLe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaRowSumEqNe(in1Val, outVal, bv, bOp);
+				uaRowSumEqNe(in1Val, outVal, bv, bOp, rl, ru);
 			}
 		} else if(uaggOp.indexFn instanceof ReduceRow) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaColSumLtGe(in1Val, outVal, bv, bOp);
+				uaColSumLtGe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaColSumGtLe(in1Val, outVal, bv, bOp);
+				uaColSumGtLe(in1Val, outVal, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaColSumEqNe(in1Val, outVal, bv, bOp);
+				uaColSumEqNe(in1Val, outVal, bv, bOp, rl, ru);
 			}
 		} else if(uaggOp.indexFn instanceof ReduceAll) {
 			if(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThanEquals) {
-				uaSumLtGe(in1Val, outVal, bv, bOp);
+				return uaSumLtGe(in1Val, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof GreaterThan || bOp.fn instanceof LessThanEquals) {
-				uaSumGtLe(in1Val, outVal, bv, bOp);
+				return uaSumGtLe(in1Val, bv, bOp, rl, ru);
 			} else if(bOp.fn instanceof Equals || bOp.fn instanceof NotEquals) {
-				uaSumEqNe(in1Val, outVal, bv, bOp);
+				return uaSumEqNe(in1Val, bv, bOp, rl, ru);
 			}
 		}
+		return 0;
 	}
 	
 	/**
@@ -364,14 +429,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRowSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void uaRowSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 	
@@ -382,14 +449,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRowSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void uaRowSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 	
@@ -401,14 +470,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRowSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void uaRowSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			out.quickSetValue(i, 0, cnt);
+			c.set(i, 0, cnt);
 		}
 	}
 
@@ -419,12 +490,14 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void uaColSumLtGe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) {
+	private static void uaColSumLtGe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		if (in1Val.isInSparseFormat())
-			s_uaColSumLtGe(in1Val, outVal, bv, bOp);
+			s_uaColSumLtGe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumLtGe(in1Val, outVal, bv, bOp);
+			d_uaColSumLtGe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	/**
@@ -434,12 +507,14 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void uaColSumGtLe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) {
+	private static void uaColSumGtLe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		if (in1Val.isInSparseFormat())
-			s_uaColSumGtLe(in1Val, outVal, bv, bOp);
+			s_uaColSumGtLe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumGtLe(in1Val, outVal, bv, bOp);
+			d_uaColSumGtLe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	
@@ -450,12 +525,14 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void uaColSumEqNe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp) {
+	private static void uaColSumEqNe(MatrixBlock in1Val, MatrixBlock outVal, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		if (in1Val.isInSparseFormat())
-			s_uaColSumEqNe(in1Val, outVal, bv, bOp);
+			s_uaColSumEqNe(in1Val, outVal, bv, bOp, cl, cu);
 		else
-			d_uaColSumEqNe(in1Val, outVal, bv, bOp);
+			d_uaColSumEqNe(in1Val, outVal, bv, bOp, cl, cu);
 	}
 
 	
@@ -463,39 +540,40 @@ public class LibMatrixOuterAgg
 	 * UAgg sums for LessThan and GreaterThanEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 * @return partial count of rows [rl,ru)
 	 */
-	private static void uaSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static long uaSumLtGe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		long cnt = 0;
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0 : sumRowSumLtGeColSumGtLe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 	
 	/**
 	 * UAgg sums for GreaterThan and LessThanEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 * @return partial count of rows [rl,ru)
 	 */
-	private static void uaSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static long uaSumGtLe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.rlen;
-		
-		for( int i=0; i<m; i++ ) {
+		long cnt = 0;
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0 : sumRowSumGtLeColSumLtGe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 	
 	
@@ -503,19 +581,20 @@ public class LibMatrixOuterAgg
 	 * UAgg sums for Equal and NotEqual operator
 	 * 
 	 * @param in input matrix block
-	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 * @return partial count of rows [rl,ru)
 	 */
-	private static void uaSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static long uaSumEqNe(MatrixBlock in, double[] bv, BinaryOperator bOp, int rl, int ru) {
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		long cnt = 0;
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
-			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			cnt += (int)out.quickGetValue(0, 0);
-			out.quickSetValue(0, 0, cnt);
+			cnt += (ai == 0) ? agg0 : sumEqNe(ai, bv, bOp);
 		}
+		return cnt;
 	}
 
 	
@@ -526,14 +605,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxLt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxLt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -544,15 +625,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxLe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxLe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -563,15 +645,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxGt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxGt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -583,14 +666,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxGe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxGe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -602,14 +687,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxEq(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxEq(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -622,15 +709,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uarimaxNe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uarimaxNe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -642,14 +730,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinLt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminLt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminLt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -660,14 +750,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinLe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminLe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminLe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -678,14 +770,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinGt(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminGt(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminGt(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -697,15 +791,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinGe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminGe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminGe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 	
@@ -717,14 +812,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinEq(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminEq(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminEq(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -737,14 +834,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param rl row lower index
+	 * @param ru row upper index
 	 */
-	private static void uaRIMinNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp) {
+	private static void uaRIMinNe(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, int rl, int ru) {
 		int ind0 = uariminNe(0.0, bv, bvi, bOp);
-		int m = in.rlen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=rl; i<ru; i++ ) {
 			double ai = in.quickGetValue(i, 0);
 			int ind = (ai == 0) ? ind0: uariminNe(ai, bv, bvi, bOp);
-			out.quickSetValue(i, 0, ind);
+			c.set(i, 0, ind);
 		}
 	}
 
@@ -756,14 +855,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void d_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void d_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-		int m = in.clen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumRowSumGtLeColSumLtGe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -774,16 +875,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void s_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv,	BinaryOperator bOp) {
+	private static void s_uaColSumLtGe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumRowSumGtLeColSumLtGe(0.0, bv, bOp);
-
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.clen);
-		}
+		
+		//initialize output values (not indices) 
+		DenseBlock c = out.getDenseBlock();
+		if(agg0 != 0.0)
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
@@ -793,11 +894,14 @@ public class LibMatrixOuterAgg
 		if( !sblock.isEmpty(j) ) {
 			int apos = sblock.pos(j);
 			int alen = sblock.size(j);
+			int astart = sblock.posFIndexGTE(j, cl);
+			if( astart < 0 )
+				continue;
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			for (int i=apos+astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumRowSumGtLeColSumLtGe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -809,14 +913,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void d_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void d_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
-		int m = in.clen;
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumRowSumLtGeColSumGtLe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -827,30 +933,33 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void s_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void s_uaColSumGtLe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumRowSumLtGeColSumGtLe(0.0, bv, bOp);
 		
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.getNumColumns());
-		}
+		//initialize output values (not indices) 
+		DenseBlock c = out.getDenseBlock();
+		if(agg0 != 0.0)
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
 		
 		SparseBlock sblock = in.getSparseBlock();
-		for (int j = 0; j < sblock.numRows(); j++)
+		for( int j = 0; j < sblock.numRows(); j++)
 		if( !sblock.isEmpty(j) ) {
 			int apos = sblock.pos(j);
 			int alen = sblock.size(j);
+			int astart = sblock.posFIndexGTE(j, cl);
+			if( astart < 0 )
+				continue;
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			for (int i=apos+astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumRowSumLtGeColSumGtLe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -862,15 +971,16 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void d_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void d_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumEqNe(0.0, bv, bOp);
-		int m = in.clen;
-		
-		for( int i=0; i<m; i++ ) {
+		DenseBlock c = out.getDenseBlock();
+		for( int i=cl; i<cu; i++ ) {
 			double ai = in.quickGetValue(0, i);
 			int cnt = (ai == 0) ? agg0: sumEqNe(ai, bv, bOp);
-			out.quickSetValue(0, i, cnt);
+			c.set(0, i, cnt);
 		}
 	}
 
@@ -881,30 +991,33 @@ public class LibMatrixOuterAgg
 	 * @param out output matrix block
 	 * @param bv ?
 	 * @param bOp binary operator
+	 * @param cl column lower index
+	 * @param cu column upper index
 	 */
-	private static void s_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp) {
+	private static void s_uaColSumEqNe(MatrixBlock in, MatrixBlock out, double[] bv, BinaryOperator bOp, int cl, int cu) {
 		int agg0 = sumEqNe(0.0, bv, bOp);
-
-		//allocate and initialize output values (not indices) 
-		out.allocateDenseBlock(true);
-		if(agg0 != 0.0) {
-			out.getDenseBlock().set(0, 1, 0, out.clen, agg0);
-			out.setNonZeros(out.getNumColumns());
-		}
+		
+		//initialize output values (not indices) 
+		DenseBlock c = out.getDenseBlock();
+		if(agg0 != 0.0)
+			c.set(0, 1, cl, cu, agg0);
 		
 		if( in.isEmptyBlock(false) )
 			return;
 		
 		SparseBlock sblock = in.getSparseBlock();
-		for (int j = 0; j < sblock.numRows(); j++)
+		for( int j = 0; j < sblock.numRows(); j++)
 		if( !sblock.isEmpty(j) ) {
 			int apos = sblock.pos(j);
 			int alen = sblock.size(j);
+			int astart = sblock.posFIndexGTE(j, cl);
+			if( astart < 0 )
+				continue;
 			int[] aix = sblock.indexes(j);
 			double [] avals = sblock.values(j);
-			for (int i=apos; i < apos+alen; i++) {
+			for (int i=apos+astart; i < apos+alen && aix[i] < cu; i++) {
 				int cnt = sumEqNe(avals[i], bv, bOp);
-				out.quickSetValue(0, aix[i], cnt);
+				c.set(0, aix[i], cnt);
 			}
 		}
 	}
@@ -919,19 +1032,13 @@ public class LibMatrixOuterAgg
 	 * @param bOp binary operator
 	 */
 	private static int sumRowSumGtLeColSumLtGe(double value, double[] bv, BinaryOperator bOp) {
-		int ix = Arrays.binarySearch(bv, value);
-		int cnt = 0;
-		if( ix >= 0 ){ //match, scan to next val
-			while( ix > 0 && value==bv[ix-1]) --ix;
-			ix++;	//Readjust index to match subsenquent index calculation.
-		}
-
-		cnt = bv.length-Math.abs(ix)+1;
-
-		//cnt = Math.abs(ix) - 1;
-		if ((bOp.fn instanceof LessThan) || (bOp.fn instanceof GreaterThan))
-			cnt = bv.length - cnt;
-
+		//number of values in bv less than value (or greater than or equal),
+		//where all comparisons with NaN evaluate to false
+		if( Double.isNaN(value) )
+			return 0;
+		int cnt = lowerBound(bv, value);
+		if( !(bOp.fn instanceof LessThan || bOp.fn instanceof GreaterThan) )
+			cnt = numNonNaN(bv) - cnt;
 		return cnt;
 	}
 
@@ -945,19 +1052,13 @@ public class LibMatrixOuterAgg
 	 * @param bOp binary operator
 	 */
 	private static int sumRowSumLtGeColSumGtLe(double value, double[] bv, BinaryOperator bOp) {
-		int ix = Arrays.binarySearch(bv, value);
-		int cnt = 0;
-		
-		if( ix >= 0 ){ //match, scan to next val
-			while( value==bv[ix++] && ix<bv.length ) {}
-			ix += (value==bv[bv.length-1])?1:0;
-		}
-			
-		cnt = bv.length-Math.abs(ix)+1;
-		
-		if (bOp.fn instanceof LessThanEquals || bOp.fn instanceof GreaterThanEquals)
-			cnt = bv.length - cnt;		
-
+		//number of values in bv less than or equal value (or greater than),
+		//where all comparisons with NaN evaluate to false
+		if( Double.isNaN(value) )
+			return 0;
+		int cnt = upperBound(bv, value);
+		if( !(bOp.fn instanceof LessThanEquals || bOp.fn instanceof GreaterThanEquals) )
+			cnt = numNonNaN(bv) - cnt;
 		return cnt;
 	}
 
@@ -970,22 +1071,77 @@ public class LibMatrixOuterAgg
 	 * @param bOp binary operator
 	 */
 	private static int sumEqNe(double value, double[] bv, BinaryOperator bOp) {
-		int ix = Arrays.binarySearch(bv, value);
-		int cnt = 0;
-		
-		if( ix >= 0 ){ //match, scan to next val
-			while( ix > 0 && value==bv[ix-1]) --ix;
-			while( ix<bv.length && value==bv[ix]) {
-				ix++; cnt++;
-			}
-		}
-			
+		int cnt = upperBound(bv, value) - lowerBound(bv, value);
 		if (bOp.fn instanceof NotEquals)
 			cnt = bv.length - cnt;
-
 		return cnt;
 	}
 	
+	/**
+	 * Binary search for the first position in the sorted vector bv with a 
+	 * value greater than or equal to the given value. In contrast to a search
+	 * for an arbitrary match and subsequent scans over duplicates, this kernel 
+	 * has logarithmic complexity independent of the number of duplicates.
+	 * NaN values are sorted to the end and never compare less than a value,
+	 * while a NaN value maps to position 0 (no matches).
+	 * 
+	 * @param bv sorted vector
+	 * @param value search value
+	 * @return number of values in bv less than value
+	 */
+	private static int lowerBound(double[] bv, double value) {
+		int lo = 0, hi = bv.length;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( bv[mid] < value )
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+	
+	/**
+	 * Binary search for the first position in the sorted vector bv with a 
+	 * value greater than the given value (see {@link #lowerBound(double[], double)}).
+	 * 
+	 * @param bv sorted vector
+	 * @param value search value
+	 * @return number of values in bv less than or equal value
+	 */
+	private static int upperBound(double[] bv, double value) {
+		int lo = 0, hi = bv.length;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( bv[mid] <= value )
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+	
+	/**
+	 * Determines the number of non-NaN values in the sorted vector bv, 
+	 * which is bv.length in the common case without NaN values.
+	 * 
+	 * @param bv sorted vector with NaN values at the end
+	 * @return number of non-NaN values in bv
+	 */
+	private static int numNonNaN(double[] bv) {
+		if( bv.length == 0 || !Double.isNaN(bv[bv.length-1]) )
+			return bv.length;
+		int lo = 0, hi = bv.length;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( !Double.isNaN(bv[mid]) )
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+	
 	/**
 	 * Find out rowIndexMax for Equal operator. 
 	 * 
@@ -1403,4 +1559,32 @@ public class LibMatrixOuterAgg
     	}
 	}
 
-}
\ No newline at end of file
+	
+	private static class OuterAggTask implements Callable<Long> 
+	{
+		private final MatrixBlock _in;
+		private final MatrixBlock _out;
+		private final double[] _bv;
+		private final int[] _bvi;
+		private final BinaryOperator _bOp;
+		private final AggregateUnaryOperator _uaggOp;
+		private final int _rl;
+		private final int _ru;
+		
+		protected OuterAggTask(MatrixBlock in, MatrixBlock out, double[] bv, int[] bvi, BinaryOperator bOp, AggregateUnaryOperator uaggOp, int rl, int ru) {
+			_in = in;
+			_out = out;
+			_bv = bv;
+			_bvi = bvi;
+			_bOp = bOp;
+			_uaggOp = uaggOp;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			return aggregateMatrix(_in, _out, _bv, _bvi, _bOp, _uaggOp, _rl, _ru);
+		}
+	}
+}
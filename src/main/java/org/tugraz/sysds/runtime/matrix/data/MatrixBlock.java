@@ -2617,7 +2617,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			ret.reset(rlen, clen, sp, this.nonZeros);
 		
 		//core scalar operations
-		LibMatrixBincell.bincellOp(this, ret, op);
+		LibMatrixBincell.bincellOp(this, ret, op, op.getNumThreads());
 		
 		return ret;
 	}
@@ -2798,7 +2798,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			ret.reset(rows, cols, resultSparse.sparse, resultSparse.estimatedNonZeros);
 		
 		//core binary cell operation
-		LibMatrixBincell.bincellOp( this, that, ret, op );
+		LibMatrixBincell.bincellOp( this, that, ret, op, op.getNumThreads() );
 		
 		return ret;
 	}
@@ -4912,7 +4912,7 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 			else
 				mbOut.reset(iRows, iCols, false);
 
-			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp);
+			LibMatrixOuterAgg.aggregateMatrix(mbLeft, mbOut, bv, bvi, bOp, uaggOp, uaggOp.getNumThreads());
 		} else
 			throw new DMLRuntimeException("Unsupported operator for unary aggregate operations.");
 		
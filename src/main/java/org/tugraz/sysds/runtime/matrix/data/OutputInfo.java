@@ -21,6 +21,7 @@
 package org.tugraz.sysds.runtime.matrix.data;
 
 import static org.tugraz.sysds.parser.DataExpression.FORMAT_TYPE_VALUE_BINARY;
+import static org.tugraz.sysds.parser.DataExpression.FORMAT_TYPE_VALUE_COLUMNAR;
 import static org.tugraz.sysds.parser.DataExpression.FORMAT_TYPE_VALUE_CSV;
 import static org.tugraz.sysds.parser.DataExpression.FORMAT_TYPE_VALUE_LIBSVM;
 import static org.tugraz.sysds.parser.DataExpression.FORMAT_TYPE_VALUE_MATRIXMARKET;
@@ -33,6 +34,7 @@ import org.apache.hadoop.io.LongWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapred.FileOutputFormat;
 import org.apache.hadoop.mapred.OutputFormat;
 import org.apache.hadoop.mapred.SequenceFileOutputFormat;
 import org.apache.hadoop.mapred.TextOutputFormat;
@@ -72,6 +74,9 @@ public class OutputInfo implements Serializable
 	public static final OutputInfo CSVOutputInfo = null;
 	public static final OutputInfo LIBSVMOutputInfo = new OutputInfo (TextOutputFormat.class, 
 			NullWritable.class, Text.class);
+	//single-file columnar frame format, written by FrameWriterColumnar only
+	public static final OutputInfo ColumnarOutputInfo = new OutputInfo (FileOutputFormat.class, 
+			NullWritable.class, FrameBlock.class);
 	
 	public static InputInfo getMatchingInputInfo(OutputInfo oi) {
 		if ( oi == OutputInfo.BinaryBlockOutputInfo )
@@ -88,6 +93,8 @@ public class OutputInfo implements Serializable
 			return InputInfo.CSVInputInfo;
 		else if ( oi == OutputInfo.LIBSVMOutputInfo)
 			return InputInfo.LIBSVMInputInfo;
+		else if ( oi == OutputInfo.ColumnarOutputInfo)
+			return InputInfo.ColumnarInputInfo;
 		else 
 			throw new DMLRuntimeException("Unrecognized output info: " + oi);
 	}
@@ -113,6 +120,8 @@ public class OutputInfo implements Serializable
 			return CSVOutputInfo;
 		else if ( str.equalsIgnoreCase("libsvm") )
 			return LIBSVMOutputInfo;
+		else if ( str.equalsIgnoreCase("columnar") )
+			return ColumnarOutputInfo;
 		return null;
 	}
 	
@@ -131,6 +140,8 @@ public class OutputInfo implements Serializable
 			return "csv";
 		else if ( oi == LIBSVMOutputInfo)
 			return "libsvm";
+		else if ( oi == ColumnarOutputInfo)
+			return "columnar";
 		else
 			throw new DMLRuntimeException("Unrecognized outputInfo: " + oi);
 	}
@@ -145,6 +156,8 @@ public class OutputInfo implements Serializable
 			return DataExpression.FORMAT_TYPE_VALUE_CSV;
 		else if( oinfo == OutputInfo.LIBSVMOutputInfo)
 			return DataExpression.FORMAT_TYPE_VALUE_LIBSVM;
+		else if( oinfo == OutputInfo.ColumnarOutputInfo)
+			return DataExpression.FORMAT_TYPE_VALUE_COLUMNAR;
 		else if( oinfo == OutputInfo.BinaryBlockOutputInfo 
 				|| oinfo == OutputInfo.BinaryCellOutputInfo
 				|| oinfo == OutputInfo.BinaryTensorBlockOutputInfo)
@@ -164,6 +177,8 @@ public class OutputInfo implements Serializable
 			return OutputInfo.LIBSVMOutputInfo;
 		else if (format.equalsIgnoreCase(FORMAT_TYPE_VALUE_CSV))
 			return OutputInfo.CSVOutputInfo;
+		else if (format.equalsIgnoreCase(FORMAT_TYPE_VALUE_COLUMNAR))
+			return OutputInfo.ColumnarOutputInfo;
 		throw new DMLRuntimeException("Invalid external file format: "+format);
 	}
 	
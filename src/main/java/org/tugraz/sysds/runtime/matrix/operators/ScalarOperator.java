@@ -46,12 +46,17 @@ public abstract class ScalarOperator extends Operator
 
 	public final ValueFunction fn;
 	protected final double _constant;
+	protected final int _k; //num threads
 	
 	public ScalarOperator(ValueFunction p, double cst) {
 		this(p, cst, false);
 	}
 	
 	protected ScalarOperator(ValueFunction p, double cst, boolean altSparseSafe) {
+		this(p, cst, altSparseSafe, 1);
+	}
+	
+	protected ScalarOperator(ValueFunction p, double cst, boolean altSparseSafe, int numThreads) {
 		super( isSparseSafeStatic(p) || altSparseSafe
 				|| (p instanceof NotEquals && cst==0)
 				|| (p instanceof Equals && cst!=0)
@@ -60,14 +65,21 @@ public abstract class ScalarOperator extends Operator
 				|| (p instanceof Builtin && ((Builtin)p).getBuiltinCode()==BuiltinCode.MIN && cst>=0));
 		fn = p;
 		_constant = cst;
+		_k = numThreads;
 	}
 	
 	public double getConstant() {
 		return _constant;
 	}
 	
+	public int getNumThreads() {
+		return _k;
+	}
+	
 	public abstract ScalarOperator setConstant(double cst);
 	
+	public abstract ScalarOperator setNumThreads(int numThreads);
+	
 	/**
 	 * Apply the scalar operator over a given input value.
 	 * 
@@ -20,13 +20,21 @@
 package org.tugraz.sysds.runtime.transform.encode;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.wink.json4j.JSONArray;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 /**
@@ -39,6 +47,9 @@ public abstract class Encoder implements Serializable
 	private static final long serialVersionUID = 2299156350718979064L;
 	protected static final Log LOG = LogFactory.getLog(Encoder.class.getName());
 	
+	//minimum number of rows per row partition for multi-threaded build and apply
+	protected static final int PAR_MIN_ROWS = 16 * 1024;
+	
 	protected int _clen = -1; 
 	protected int[] _colList = null;
 	
@@ -103,6 +114,19 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock encode(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Multi-threaded block encode: build and apply (transform encode).
+	 * By default, this call falls back to the single-threaded encode.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		return encode(in, out);
+	}
 
 	/**
 	 * Build the transform meta data for the given block input. This call modifies
@@ -112,6 +136,17 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract void build(FrameBlock in);
 	
+	/**
+	 * Multi-threaded build of the transform meta data for the given block
+	 * input. By default, this call falls back to the single-threaded build.
+	 * 
+	 * @param in input frame block
+	 * @param k degree of parallelism
+	 */
+	public void build(FrameBlock in, int k) {
+		build(in);
+	}
+	
 	/**
 	 * Encode input data blockwise according to existing transform meta
 	 * data (transform apply).
@@ -121,6 +156,51 @@ public abstract class Encoder implements Serializable
 	 * @return output matrix block
 	 */
 	public abstract MatrixBlock apply(FrameBlock in, MatrixBlock out);
+	
+	/**
+	 * Multi-threaded encode of input data blockwise according to existing
+	 * transform meta data (transform apply). Encoders that support row-partitioned
+	 * apply write disjoint row ranges directly into the dense output block,
+	 * all others fall back to the single-threaded apply.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 || !isRowPartitionable() || out.isInSparseFormat()
+			|| getNumRowPartitions(in.getNumRows(), k) <= 1 )
+			return apply(in, out);
+		applyRowPartitioned(Arrays.asList(this), in, out, k);
+		return out;
+	}
+	
+	/**
+	 * Indicates if this encoder supports the row-partitioned apply
+	 * into a dense output block, i.e., if it only modifies its own
+	 * columns in place without changing the output dimensions.
+	 * 
+	 * @return true if row-partitioned apply is supported
+	 */
+	protected boolean isRowPartitionable() {
+		return false;
+	}
+	
+	/**
+	 * Encode the given row range of the input according to existing transform
+	 * meta data. Implementations write directly into the dense output block
+	 * and do not maintain the number of non-zeros.
+	 * 
+	 * @param in input frame block
+	 * @param out dense output block
+	 * @param rl row lower index, inclusive
+	 * @param ru row upper index, exclusive
+	 */
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		throw new DMLRuntimeException("Row-partitioned apply not supported by "
+			+ getClass().getSimpleName() + ".");
+	}
 
 	/**
 	 * Construct a frame block out of the transform meta data.
@@ -149,4 +229,86 @@ public abstract class Encoder implements Serializable
 		//default: do nothing
 		return out;
 	}
+	
+	/**
+	 * Obtain the number of row partitions for multi-threaded build 
+	 * and apply, which ensures a minimum number of rows per partition.
+	 * 
+	 * @param nrow number of rows
+	 * @param k degree of parallelism
+	 * @return number of row partitions
+	 */
+	protected static int getNumRowPartitions(int nrow, int k) {
+		return Math.max(1, Math.min(k, nrow / PAR_MIN_ROWS));
+	}
+	
+	/**
+	 * Obtain the number of row partitions per column for multi-threaded
+	 * build, where row partitions are only used if there are less columns
+	 * to encode than threads.
+	 * 
+	 * @param nrow number of rows
+	 * @param k degree of parallelism
+	 * @return number of row partitions per column
+	 */
+	protected int getNumBuildRowPartitions(int nrow, int k) {
+		return (_colList.length >= k) ? 1 :
+			getNumRowPartitions(nrow, (int)Math.ceil((double)k/_colList.length));
+	}
+	
+	/**
+	 * Applies the given list of row-partitionable encoders in order to 
+	 * disjoint row partitions of the input, writing directly into the
+	 * dense output block, incl final maintenance of the number of non-zeros.
+	 * 
+	 * @param encoders list of row-partitionable encoders
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 */
+	protected static void applyRowPartitioned(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int k) {
+		//allocate dense output w/o reset of existing values 
+		out.allocateDenseBlock(false);
+		int nrow = in.getNumRows();
+		int nparts = getNumRowPartitions(nrow, k);
+		int blklen = (int)Math.ceil((double)nrow / nparts);
+		try {
+			ExecutorService pool = CommonThreadPool.get(nparts);
+			ArrayList<ApplyTask> tasks = new ArrayList<>();
+			for( int i=0; i<nrow; i+=blklen )
+				tasks.add(new ApplyTask(encoders, in, out, i, Math.min(i+blklen, nrow)));
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			out.setNonZeros(nnz);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static class ApplyTask implements Callable<Long> 
+	{
+		private final List<Encoder> _encoders;
+		private final FrameBlock _in;
+		private final MatrixBlock _out;
+		private final int _rl;
+		private final int _ru;
+		
+		protected ApplyTask(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int rl, int ru) {
+			_encoders = encoders;
+			_in = in;
+			_out = out;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			for( Encoder encoder : _encoders )
+				encoder.apply(_in, _out.getDenseBlock(), _rl, _ru);
+			return _out.recomputeNonZeros(_rl, _ru-1);
+		}
+	}
 }
@@ -20,18 +20,25 @@
 package org.tugraz.sysds.runtime.transform.encode;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 import org.tugraz.sysds.lops.Lop;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
 import org.tugraz.sysds.runtime.transform.meta.TfMetaUtils;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 public class EncoderBin extends Encoder 
@@ -48,6 +55,12 @@ public class EncoderBin extends Encoder
 	//TODO binMins is redundant and could be removed
 	private double[][] _binMins = null;
 	private double[][] _binMaxs = null;
+	
+	//column min/max over all builds (e.g., over chunks of a stream),
+	//only maintained in incremental build mode
+	private boolean _incremental = false;
+	private double[] _colMins = null;
+	private double[] _colMaxs = null;
 
 	public EncoderBin(JSONObject parsedSpec, String[] colnames, int clen) 
 		throws JSONException, IOException 
@@ -73,6 +86,19 @@ public class EncoderBin extends Encoder
 		}
 	}
 	
+	/**
+	 * Enables or disables the incremental build mode, in which the bin
+	 * boundaries are derived from the column min/max over all calls of
+	 * build (e.g., over chunks of a stream) instead of the last input.
+	 * 
+	 * @param incremental true to merge min/max across builds
+	 */
+	public void setIncrementalBuild(boolean incremental) {
+		_incremental = incremental;
+		_colMins = null;
+		_colMaxs = null;
+	}
+	
 	@Override
 	public MatrixBlock encode(FrameBlock in, MatrixBlock out) {
 		build(in);
@@ -98,12 +124,72 @@ public class EncoderBin extends Encoder
 				min = Math.min(min, inVal);
 				max = Math.max(max, inVal);
 			}
-			_binMins[j] = new double[_numBins[j]];
-			_binMaxs[j] = new double[_numBins[j]];
-			for(int i=0; i<_numBins[j]; i++) {
-				_binMins[j][i] = min + i*(max-min)/_numBins[j];
-				_binMaxs[j][i] = min + (i+1)*(max-min)/_numBins[j];
+			computeBins(j, min, max);
+		}
+	}
+	
+	@Override
+	public void build(FrameBlock in, int k) {
+		if ( !isApplicable() )
+			return;
+		int nrow = in.getNumRows();
+		if( k <= 1 || nrow == 0 ) {
+			build(in);
+			return;
+		}
+		
+		//determine row partitions per column (if less columns than threads)
+		int nparts = getNumBuildRowPartitions(nrow, k);
+		int blklen = (int)Math.ceil((double)nrow/nparts);
+		nparts = (int)Math.ceil((double)nrow/blklen);
+		
+		try {
+			//compute partial min/max per column and row partition
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<BinBuildTask> tasks = new ArrayList<>();
+			for( int colID : _colList )
+				for( int i=0; i<nrow; i+=blklen )
+					tasks.add(new BinBuildTask(in, colID, i, Math.min(i+blklen, nrow)));
+			List<Future<double[]>> rtasks = pool.invokeAll(tasks);
+			pool.shutdown();
+			
+			//merge partial min/max and derive bin boundaries
+			_binMins = new double[_colList.length][];
+			_binMaxs = new double[_colList.length][];
+			for( int j=0; j<_colList.length; j++ ) {
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				for( int p=0; p<nparts; p++ ) {
+					double[] tmp = rtasks.get(j*nparts+p).get();
+					min = Math.min(min, tmp[0]);
+					max = Math.max(max, tmp[1]);
+				}
+				computeBins(j, min, max);
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private void computeBins(int j, double min, double max) {
+		//merge with min/max of previous builds
+		if( _incremental ) {
+			if( _colMins == null ) {
+				_colMins = new double[_colList.length];
+				_colMaxs = new double[_colList.length];
+				Arrays.fill(_colMins, Double.POSITIVE_INFINITY);
+				Arrays.fill(_colMaxs, Double.NEGATIVE_INFINITY);
 			}
+			min = _colMins[j] = Math.min(_colMins[j], min);
+			max = _colMaxs[j] = Math.max(_colMaxs[j], max);
+		}
+		
+		_binMins[j] = new double[_numBins[j]];
+		_binMaxs[j] = new double[_numBins[j]];
+		for(int i=0; i<_numBins[j]; i++) {
+			_binMins[j][i] = min + i*(max-min)/_numBins[j];
+			_binMaxs[j][i] = min + (i+1)*(max-min)/_numBins[j];
 		}
 	}
 	
@@ -121,6 +207,25 @@ public class EncoderBin extends Encoder
 		}
 		return out;
 	}
+	
+	@Override
+	protected boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		for(int j=0; j<_colList.length; j++) {
+			int colID = _colList[j];
+			for( int i=rl; i<ru; i++ ) {
+				double inVal = UtilFunctions.objectToDouble(
+						in.getSchema()[colID-1], in.get(i, colID-1));
+				int ix = Arrays.binarySearch(_binMaxs[j], inVal);
+				int binID = ((ix < 0) ? Math.abs(ix+1) : ix) + 1;
+				out.set(i, colID-1, binID);
+			}
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
@@ -164,4 +269,32 @@ public class EncoderBin extends Encoder
 			}
 		}
 	}
+	
+	private static class BinBuildTask implements Callable<double[]>
+	{
+		private final FrameBlock _in;
+		private final int _colID;
+		private final int _rl;
+		private final int _ru;
+		
+		protected BinBuildTask(FrameBlock in, int colID, int rl, int ru) {
+			_in = in;
+			_colID = colID;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public double[] call() {
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for( int i=_rl; i<_ru; i++ ) {
+				double inVal = UtilFunctions.objectToDouble(
+					_in.getSchema()[_colID-1], _in.get(i, _colID-1));
+				min = Math.min(min, inVal);
+				max = Math.max(max, inVal);
+			}
+			return new double[] {min, max};
+		}
+	}
 }
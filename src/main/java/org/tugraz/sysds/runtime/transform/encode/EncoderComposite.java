@@ -19,6 +19,7 @@
 
 package org.tugraz.sysds.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -82,12 +83,43 @@ public class EncoderComposite extends Encoder
 		return out;
 	}
 
+	@Override
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 )
+			return encode(in, out);
+		try {
+			//build meta data first (for all encoders)
+			for( Encoder encoder : _encoders )
+				encoder.build(in, k);
+			
+			//propagate meta data 
+			_meta = new FrameBlock(in.getNumColumns(), ValueType.STRING);
+			for( Encoder encoder : _encoders )
+				_meta = encoder.getMetaData(_meta);
+			for( Encoder encoder : _encoders )
+				encoder.initMetaData(_meta);
+		}
+		catch(Exception ex) {
+			LOG.error("Failed transform-encode frame with \n" + this);
+			throw ex;
+		}
+		
+		//apply meta data
+		return apply(in, out, k);
+	}
+
 	@Override
 	public void build(FrameBlock in) {
 		for( Encoder encoder : _encoders )
 			encoder.build(in);
 	}
 	
+	@Override
+	public void build(FrameBlock in, int k) {
+		for( Encoder encoder : _encoders )
+			encoder.build(in, k);
+	}
+	
 	@Override 
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
 		try {
@@ -101,6 +133,35 @@ public class EncoderComposite extends Encoder
 		return out;
 	}
 	
+	@Override 
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 || getNumRowPartitions(in.getNumRows(), k) <= 1 )
+			return apply(in, out);
+		try {
+			//apply consecutive row-partitionable encoders in a single
+			//pass over row partitions, and all others individually
+			List<Encoder> group = new ArrayList<>();
+			for( Encoder encoder : _encoders ) {
+				if( encoder.isRowPartitionable() && !out.isInSparseFormat() ) {
+					group.add(encoder);
+					continue;
+				}
+				if( !group.isEmpty() ) {
+					applyRowPartitioned(group, in, out, k);
+					group = new ArrayList<>();
+				}
+				out = encoder.apply(in, out, k);
+			}
+			if( !group.isEmpty() )
+				applyRowPartitioned(group, in, out, k);
+		}
+		catch(Exception ex) {
+			LOG.error("Failed to transform-apply frame with \n" + this);
+			throw ex;
+		}
+		return out;
+	}
+	
 	@Override
 	public FrameBlock getMetaData(FrameBlock out) {
 		if( _meta != null )
@@ -19,12 +19,21 @@
 
 package org.tugraz.sysds.runtime.transform.encode;
 
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
+import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
 import org.tugraz.sysds.runtime.transform.meta.TfMetaUtils;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 
 public class EncoderDummycode extends Encoder 
 {
@@ -83,6 +92,40 @@ public class EncoderDummycode extends Encoder
 		}
 		return ret;
 	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		int nparts = getNumRowPartitions(out.getNumRows(), k);
+		if( k <= 1 || nparts <= 1 )
+			return apply(in, out);
+		
+		//allocate output in dense or sparse representation
+		final boolean sparse = MatrixBlock.evalSparseFormatInMemory(
+			out.getNumRows(), getNumCols(), out.getNonZeros());
+		MatrixBlock ret = new MatrixBlock(out.getNumRows(), getNumCols(), sparse);
+		if( sparse )
+			ret.allocateSparseRowsBlock();
+		else
+			ret.allocateDenseBlock();
+		
+		//write dummy coded rows of disjoint row partitions
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<DummycodeApplyTask> tasks = new ArrayList<>();
+			int blklen = (int)Math.ceil((double)out.getNumRows()/nparts);
+			for( int i=0; i<out.getNumRows(); i+=blklen )
+				tasks.add(new DummycodeApplyTask(out, ret, i, Math.min(i+blklen, out.getNumRows())));
+			long nnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				nnz += task.get();
+			pool.shutdown();
+			ret.setNonZeros(nnz);
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		return ret;
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock out) {
@@ -120,4 +163,54 @@ public class EncoderDummycode extends Encoder
 		
 		return out;
 	}
+	
+	private class DummycodeApplyTask implements Callable<Long>
+	{
+		private final MatrixBlock _in;
+		private final MatrixBlock _out;
+		private final int _rl;
+		private final int _ru;
+		
+		protected DummycodeApplyTask(MatrixBlock in, MatrixBlock out, int rl, int ru) {
+			_in = in;
+			_out = out;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Long call() {
+			//note: direct block access w/o nnz maintenance, which is
+			//thread-safe for disjoint rows of preallocated blocks
+			final int clen = _in.getNumColumns();
+			SparseBlock sblock = _out.getSparseBlock();
+			DenseBlock dblock = _out.getDenseBlock();
+			long lnnz = 0;
+			for( int i=_rl; i<_ru; i++ ) {
+				for(int colID=1, idx=0, ncolID=1; colID <= clen; colID++) {
+					int cix;
+					double val;
+					if( idx < _colList.length && colID==_colList[idx] ) {
+						cix = ncolID-1+(int)_in.quickGetValue(i, colID-1)-1;
+						val = 1;
+						ncolID += _domainSizes[idx];
+						idx ++;
+					}
+					else {
+						cix = ncolID-1;
+						val = _in.quickGetValue(i, colID-1);
+						ncolID ++;
+					}
+					if( val == 0 )
+						continue;
+					if( sblock != null )
+						sblock.append(i, cix, val);
+					else
+						dblock.set(i, cix, val);
+					lnnz ++;
+				}
+			}
+			return lnnz;
+		}
+	}
 }
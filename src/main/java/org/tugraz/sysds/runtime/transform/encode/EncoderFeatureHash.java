@@ -18,6 +18,7 @@ package org.tugraz.sysds.runtime.transform.encode;
 
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
@@ -85,6 +86,24 @@ public class EncoderFeatureHash extends Encoder
 		return out;
 	}
 	
+	@Override
+	protected boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j];
+			for( int i=rl; i<ru; i++ ) {
+				Object okey = in.get(i, colID-1);
+				String key = (okey!=null) ? okey.toString() : null;
+				long code = getCode(key);
+				out.set(i, colID-1, (code >= 0) ? code : Double.NaN);
+			}
+		}
+	}
+	
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
 		if( !isApplicable() )
@@ -20,14 +20,20 @@
 package org.tugraz.sysds.runtime.transform.encode;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.functionobjects.CM;
 import org.tugraz.sysds.runtime.functionobjects.Mean;
 import org.tugraz.sysds.runtime.instructions.cp.CM_COV_Object;
@@ -38,6 +44,7 @@ import org.tugraz.sysds.runtime.matrix.operators.CMOperator.AggregateOperationTy
 import org.tugraz.sysds.runtime.transform.TfUtils;
 import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
 import org.tugraz.sysds.runtime.transform.meta.TfMetaUtils;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
 
 public class EncoderMVImpute extends Encoder 
@@ -301,43 +308,73 @@ public class EncoderMVImpute extends Encoder
 	@Override
 	public void build(FrameBlock in) {
 		try {
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j];
-				if( _mvMethodList[j] == MVMethod.GLOBAL_MEAN ) {
-					//compute global column mean (scale)
-					long off = _countList[j];
-					for( int i=0; i<in.getNumRows(); i++ )
-						_meanFn.execute2(_meanList[j], UtilFunctions.objectToDouble(
-							in.getSchema()[colID-1], in.get(i, colID-1)), off+i+1);
-					_replacementList[j] = String.valueOf(_meanList[j]._sum);
-					_countList[j] += in.getNumRows();
-				}
-				else if( _mvMethodList[j] == MVMethod.GLOBAL_MODE ) {
-					//compute global column mode (categorical), i.e., most frequent category
-					HashMap<String,Long> hist = _hist.containsKey(colID) ? 
-							_hist.get(colID) : new HashMap<>();
-					for( int i=0; i<in.getNumRows(); i++ ) {
-						String key = String.valueOf(in.get(i, colID-1));
-						if( key != null && !key.isEmpty() ) {
-							Long val = hist.get(key);
-							hist.put(key, (val!=null) ? val+1 : 1);
-						}	
-					}
-					_hist.put(colID, hist);
-					long max = Long.MIN_VALUE; 
-					for( Entry<String, Long> e : hist.entrySet() ) 
-						if( e.getValue() > max  ) {
-							_replacementList[j] = e.getKey();
-							max = e.getValue();
-						}
-				}
-			}
+			for( int j=0; j<_colList.length; j++ )
+				buildColumn(in, j);
 		}
 		catch(Exception ex) {
 			throw new RuntimeException(ex);
 		}
 	}
 	
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( k <= 1 || _colList.length <= 1 ) {
+			build(in);
+			return;
+		}
+		//note: column-wise tasks only in order to retain the exact
+		//sequential aggregation order of means and histograms
+		try {
+			//preallocate histograms to avoid concurrent map modifications
+			for( int j=0; j<_colList.length; j++ )
+				if( _mvMethodList[j] == MVMethod.GLOBAL_MODE && !_hist.containsKey(_colList[j]) )
+					_hist.put(_colList[j], new HashMap<>());
+			ExecutorService pool = CommonThreadPool.get(k);
+			ArrayList<MVImputeBuildTask> tasks = new ArrayList<>();
+			for( int j=0; j<_colList.length; j++ )
+				tasks.add(new MVImputeBuildTask(in, j));
+			for( Future<Object> task : pool.invokeAll(tasks) )
+				task.get();
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private void buildColumn(FrameBlock in, int j) {
+		int colID = _colList[j];
+		if( _mvMethodList[j] == MVMethod.GLOBAL_MEAN ) {
+			//compute global column mean (scale)
+			long off = _countList[j];
+			for( int i=0; i<in.getNumRows(); i++ )
+				_meanFn.execute2(_meanList[j], UtilFunctions.objectToDouble(
+					in.getSchema()[colID-1], in.get(i, colID-1)), off+i+1);
+			_replacementList[j] = String.valueOf(_meanList[j]._sum);
+			_countList[j] += in.getNumRows();
+		}
+		else if( _mvMethodList[j] == MVMethod.GLOBAL_MODE ) {
+			//compute global column mode (categorical), i.e., most frequent category
+			HashMap<String,Long> hist = _hist.containsKey(colID) ? 
+					_hist.get(colID) : new HashMap<>();
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				String key = String.valueOf(in.get(i, colID-1));
+				if( key != null && !key.isEmpty() ) {
+					Long val = hist.get(key);
+					hist.put(key, (val!=null) ? val+1 : 1);
+				}	
+			}
+			if( !_hist.containsKey(colID) )
+				_hist.put(colID, hist);
+			long max = Long.MIN_VALUE; 
+			for( Entry<String, Long> e : hist.entrySet() ) 
+				if( e.getValue() > max  ) {
+					_replacementList[j] = e.getKey();
+					max = e.getValue();
+				}
+		}
+	}
+	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
 		for(int i=0; i<in.getNumRows(); i++) {
@@ -350,6 +387,22 @@ public class EncoderMVImpute extends Encoder
 		return out;
 	}
 	
+	@Override
+	protected boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		for(int i=rl; i<ru; i++) {
+			for(int j=0; j<_colList.length; j++) {
+				int colID = _colList[j];
+				if( Double.isNaN(out.get(i, colID-1)) )
+					out.set(i, colID-1, Double.parseDouble(_replacementList[j]));
+			}
+		}
+	}
+	
 	@Override
 	public FrameBlock getMetaData(FrameBlock out) {
 		for( int j=0; j<_colList.length; j++ ) {
@@ -391,4 +444,21 @@ public class EncoderMVImpute extends Encoder
 	public HashMap<String,Long> getHistogram( int colID ) {
 		return _hist.get(colID);
 	}
+	
+	private class MVImputeBuildTask implements Callable<Object>
+	{
+		private final FrameBlock _in;
+		private final int _j;
+		
+		protected MVImputeBuildTask(FrameBlock in, int j) {
+			_in = in;
+			_j = j;
+		}
+		
+		@Override
+		public Object call() {
+			buildColumn(_in, _j);
+			return null;
+		}
+	}
 }
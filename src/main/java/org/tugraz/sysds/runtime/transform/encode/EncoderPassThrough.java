@@ -21,6 +21,7 @@ package org.tugraz.sysds.runtime.transform.encode;
 
 
 import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.util.UtilFunctions;
@@ -64,6 +65,25 @@ public class EncoderPassThrough extends Encoder
 		
 		return out;
 	}
+	
+	@Override
+	protected boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int col = _colList[j]-1;
+			ValueType vt = in.getSchema()[col];
+			for( int i=rl; i<ru; i++ ) {
+				Object val = in.get(i, col);
+				out.set(i, col, (val==null||(vt==ValueType.STRING 
+						&& val.toString().isEmpty())) ? Double.NaN : 
+						UtilFunctions.objectToDouble(vt, val));
+			}
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
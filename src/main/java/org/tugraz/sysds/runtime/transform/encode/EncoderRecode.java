@@ -19,25 +19,34 @@
 
 package org.tugraz.sysds.runtime.transform.encode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map.Entry;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.lops.Lop;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.data.DenseBlock;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
 import org.tugraz.sysds.runtime.transform.meta.TfMetaUtils;
+import org.tugraz.sysds.runtime.util.CommonThreadPool;
+import org.tugraz.sysds.runtime.util.StringIntHashMap;
 
 public class EncoderRecode extends Encoder 
 {
 	private static final long serialVersionUID = 8213163881283341874L;
 	
 	//recode maps and custom map for partial recode maps 
-	private HashMap<Integer, HashMap<String, Long>> _rcdMaps  = new HashMap<>();
+	private HashMap<Integer, StringIntHashMap> _rcdMaps  = new HashMap<>();
 	private HashMap<Integer, HashSet<Object>> _rcdMapsPart = null;
 	
 	public EncoderRecode(JSONObject parsedSpec, String[] colnames, int clen)
@@ -47,7 +56,7 @@ public class EncoderRecode extends Encoder
 		_colList = TfMetaUtils.parseJsonIDList(parsedSpec, colnames, TfMethod.RECODE.toString());
 	}
 	
-	public HashMap<Integer, HashMap<String,Long>> getCPRecodeMaps() { 
+	public HashMap<Integer, StringIntHashMap> getCPRecodeMaps() { 
 		return _rcdMaps; 
 	}
 	
@@ -55,11 +64,30 @@ public class EncoderRecode extends Encoder
 		return _rcdMapsPart; 
 	}
 	
-	private long lookupRCDMap(int colID, String key) {
-		if( !_rcdMaps.containsKey(colID) )
-			return -1; //empty recode map
-		Long tmp = _rcdMaps.get(colID).get(key);
-		return (tmp!=null) ? tmp : -1;
+	private static double lookupRCDMap(StringIntHashMap map, String key) {
+		//note: null map for empty recode map
+		int code = (map != null) ? map.get(key) : -1;
+		return (code >= 0) ? code : Double.NaN;
+	}
+	
+	/**
+	 * Obtain the raw string array of the given column for direct column-wise
+	 * access, or null if the column is not of value type string.
+	 * 
+	 * @param in input frame block
+	 * @param colID column ID (1-based)
+	 * @return string array or null
+	 */
+	private static String[] getStringColumn(FrameBlock in, int colID) {
+		return (in.getNumRows() > 0 && in.getSchema()[colID-1] == ValueType.STRING) ?
+			(String[]) in.getColumnData(colID-1) : null;
+	}
+	
+	private static String getString(FrameBlock in, String[] sdata, int i, int colID) {
+		if( sdata != null )
+			return sdata[i];
+		Object okey = in.get(i, colID-1);
+		return (okey!=null) ? okey.toString() : null;
 	}
 	
 	@Override
@@ -79,30 +107,76 @@ public class EncoderRecode extends Encoder
 		if( !isApplicable() )
 			return;
 
-		Iterator<String[]> iter = in.getStringRowIterator(_colList);
-		while( iter.hasNext() ) {
-			String[] row = iter.next(); 
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j]; //1-based
-				//allocate column map if necessary
-				if( !_rcdMaps.containsKey(colID) ) 
-					_rcdMaps.put(colID, new HashMap<String,Long>());
-				//probe and build column map
-				HashMap<String,Long> map = _rcdMaps.get(colID);
-				String key = row[j];
-				if( key!=null && !key.isEmpty() && !map.containsKey(key) )
+		//iterate over columns for sequential access, which yields
+		//the same codes as row-wise because column maps are independent
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j]; //1-based
+			//allocate column map if necessary
+			if( !_rcdMaps.containsKey(colID) ) 
+				_rcdMaps.put(colID, new StringIntHashMap());
+			//probe and build column map
+			StringIntHashMap map = _rcdMaps.get(colID);
+			String[] sdata = getStringColumn(in, colID);
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				String key = getString(in, sdata, i, colID);
+				if( key!=null && !key.isEmpty() )
 					putCode(map, key);
 			}
 		}
 	}
 
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( !isApplicable() )
+			return;
+		int nrow = in.getNumRows();
+		if( k <= 1 || nrow == 0 ) {
+			build(in);
+			return;
+		}
+		
+		//determine row partitions per column (if less columns than threads)
+		int nparts = getNumBuildRowPartitions(nrow, k);
+		int blklen = (int)Math.ceil((double)nrow/nparts);
+		nparts = (int)Math.ceil((double)nrow/blklen);
+		
+		//allocate column maps upfront for thread-safe merge
+		for( int colID : _colList )
+			if( !_rcdMaps.containsKey(colID) )
+				_rcdMaps.put(colID, new StringIntHashMap());
+		
+		try {
+			ExecutorService pool = CommonThreadPool.get(k);
+			//build partial token sets per column and row partition
+			ArrayList<RecodeBuildTask> tasks = new ArrayList<>();
+			for( int colID : _colList )
+				for( int i=0; i<nrow; i+=blklen )
+					tasks.add(new RecodeBuildTask(in, colID, i, Math.min(i+blklen, nrow)));
+			List<Future<LinkedHashSet<String>>> rtasks = pool.invokeAll(tasks);
+			
+			//merge partial token sets in row order into the final recode
+			//maps, which yields the same codes as the single-threaded build
+			ArrayList<RecodeMergeTask> mtasks = new ArrayList<>();
+			for( int j=0; j<_colList.length; j++ )
+				mtasks.add(new RecodeMergeTask(_rcdMaps.get(_colList[j]),
+					rtasks.subList(j*nparts, (j+1)*nparts)));
+			for( Future<Object> task : pool.invokeAll(mtasks) )
+				task.get();
+			pool.shutdown();
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
 	/**
-	 * Put the code into the map with the provided key. The code depends on the type of encoder. 
+	 * Put the code into the map with the provided key if the key does not exist yet. 
+	 * The code depends on the type of encoder. 
 	 * @param map column map
 	 * @param key key for the new entry
 	 */
-	protected void putCode(HashMap<String,Long> map, String key) {
-		map.put(key, Long.valueOf(map.size()+1));
+	protected void putCode(StringIntHashMap map, String key) {
+		map.putIfAbsent(key, map.size()+1);
 	}
 
 	public void buildPartial(FrameBlock in) {
@@ -135,17 +209,31 @@ public class EncoderRecode extends Encoder
 		//apply recode maps column wise
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
-				Object okey = in.get(i, colID-1);
-				String key = (okey!=null) ? okey.toString() : null;
-				long code = lookupRCDMap(colID, key);
+			StringIntHashMap map = _rcdMaps.get(colID);
+			String[] sdata = getStringColumn(in, colID);
+			for( int i=0; i<in.getNumRows(); i++ )
 				out.quickSetValue(i, colID-1,
-					(code >= 0) ? code : Double.NaN);
-			}
+					lookupRCDMap(map, getString(in, sdata, i, colID)));
 		}
 		
 		return out;
 	}
+	
+	@Override
+	protected boolean isRowPartitionable() {
+		return true;
+	}
+	
+	@Override
+	protected void apply(FrameBlock in, DenseBlock out, int rl, int ru) {
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j];
+			StringIntHashMap map = _rcdMaps.get(colID);
+			String[] sdata = getStringColumn(in, colID);
+			for( int i=rl; i<ru; i++ )
+				out.set(i, colID-1, lookupRCDMap(map, getString(in, sdata, i, colID)));
+		}
+	}
 
 	@Override
 	public FrameBlock getMetaData(FrameBlock meta) {
@@ -165,14 +253,13 @@ public class EncoderRecode extends Encoder
 		StringBuilder sb = new StringBuilder(); //for reuse
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			int rowID = 0;
-			if( _rcdMaps.containsKey(_colList[j]) )
-				for( Entry<String, Long> e : _rcdMaps.get(colID).entrySet() ) {
-					meta.set(rowID++, colID-1, 
-						constructRecodeMapEntry(e.getKey(), e.getValue(), sb)); 
-				}
+			int[] rowID = new int[1];
+			StringIntHashMap map = _rcdMaps.get(colID);
+			if( map != null )
+				map.forEach((token, code) -> meta.set(rowID[0]++, colID-1, 
+					constructRecodeMapEntry(token, code, sb)));
 			meta.getColumnMetadata(colID-1).setNumDistinct(
-					_rcdMaps.get(colID).size());
+				(map != null) ? map.size() : 0);
 		}
 		
 		return meta;
@@ -192,7 +279,7 @@ public class EncoderRecode extends Encoder
 		
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			_rcdMaps.put(colID, meta.getRecodeMap(colID-1));
+			_rcdMaps.put(colID, meta.getRecodeDictionary(colID-1));
 		}
 	}
 	
@@ -208,10 +295,10 @@ public class EncoderRecode extends Encoder
 		return constructRecodeMapEntry(token, code, sb);
 	}
 	
-	private static String constructRecodeMapEntry(String token, Long code, StringBuilder sb) {
+	private static String constructRecodeMapEntry(String token, long code, StringBuilder sb) {
 		sb.setLength(0); //reset reused string builder
 		return sb.append(token).append(Lop.DATATYPE_PREFIX)
-			.append(code.longValue()).toString();
+			.append(code).toString();
 	}
 	
 	/**
@@ -226,4 +313,51 @@ public class EncoderRecode extends Encoder
 		int pos = value.toString().lastIndexOf(Lop.DATATYPE_PREFIX);
 		return new String[] {value.substring(0, pos), value.substring(pos+1)};
 	}
+	
+	private static class RecodeBuildTask implements Callable<LinkedHashSet<String>>
+	{
+		private final FrameBlock _in;
+		private final int _colID;
+		private final int _rl;
+		private final int _ru;
+		
+		protected RecodeBuildTask(FrameBlock in, int colID, int rl, int ru) {
+			_in = in;
+			_colID = colID;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public LinkedHashSet<String> call() {
+			//collect distinct tokens in order of first occurrence
+			LinkedHashSet<String> ret = new LinkedHashSet<>();
+			String[] sdata = getStringColumn(_in, _colID);
+			for( int i=_rl; i<_ru; i++ ) {
+				String key = getString(_in, sdata, i, _colID);
+				if( key!=null && !key.isEmpty() )
+					ret.add(key);
+			}
+			return ret;
+		}
+	}
+	
+	private class RecodeMergeTask implements Callable<Object>
+	{
+		private final StringIntHashMap _map;
+		private final List<Future<LinkedHashSet<String>>> _parts;
+		
+		protected RecodeMergeTask(StringIntHashMap map, List<Future<LinkedHashSet<String>>> parts) {
+			_map = map;
+			_parts = parts;
+		}
+		
+		@Override
+		public Object call() throws Exception {
+			for( Future<LinkedHashSet<String>> part : _parts )
+				for( String key : part.get() )
+					putCode(_map, key);
+			return null;
+		}
+	}
 }
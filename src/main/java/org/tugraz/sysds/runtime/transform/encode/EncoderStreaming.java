@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.transform.encode;
+
+import java.io.IOException;
+
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.runtime.DMLRuntimeException;
+import org.tugraz.sysds.runtime.io.FileFormatProperties;
+import org.tugraz.sysds.runtime.io.FrameReader;
+import org.tugraz.sysds.runtime.io.FrameReaderFactory;
+import org.tugraz.sysds.runtime.io.WriterBinaryBlockStreaming;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.meta.DataCharacteristics;
+import org.tugraz.sysds.runtime.transform.TfUtils.TfMethod;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Streaming transform encode for frames larger than memory. The input frame
+ * is read twice in chunks of rows via the format-specific frame readers: a build
+ * pass incrementally updates the transform meta data with every chunk, and an
+ * apply pass encodes every chunk with the final meta data and incrementally writes
+ * the encoded binary blocks. Only the meta data and a single chunk reside in memory.
+ *
+ */
+public class EncoderStreaming
+{
+	//target size of frame chunks relative to the local memory budget,
+	//with conservative estimate of in-memory bytes per frame cell
+	private static final double CHUNK_MEM_FRACTION = 0.05;
+	private static final long CHUNK_CELL_SIZE = 64;
+
+	private final String _spec;
+	private final String _fname;
+	private final FrameReader _reader;
+	private final ValueType[] _schema;
+	private final long _clen;
+	private final int _k;
+
+	private String[] _colnames = null;
+	private Encoder _encoder = null;
+
+	public EncoderStreaming(String spec, String fname, InputInfo iinfo, FileFormatProperties props,
+		ValueType[] schema, long clen, int k)
+	{
+		_spec = spec;
+		_fname = fname;
+		_reader = (props != null) ? FrameReaderFactory.createFrameReader(iinfo, props) :
+			FrameReaderFactory.createFrameReader(iinfo);
+		_schema = (schema != null) ? schema :
+			UtilFunctions.nCopies((int)Math.max(clen, 1), ValueType.STRING);
+		_clen = clen;
+		_k = k;
+	}
+
+	/**
+	 * Indicates if a streaming transform encode is supported for the given
+	 * input format and transform specification. Omit is not supported because
+	 * it would shift the row offsets of subsequent chunks.
+	 *
+	 * @param spec transform specification as json string
+	 * @param iinfo input info of the input frame
+	 * @return true if streaming transform encode supported
+	 */
+	public static boolean isSupported(String spec, InputInfo iinfo) {
+		if( iinfo != InputInfo.CSVInputInfo && iinfo != InputInfo.BinaryBlockInputInfo )
+			return false;
+		try {
+			return !new JSONObject(spec).containsKey(TfMethod.OMIT.toString());
+		}
+		catch(JSONException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+
+	/**
+	 * Obtain a conservative estimate of the in-memory size of a frame with
+	 * the given dimensions, used for deciding on streaming transform encode.
+	 *
+	 * @param rows number of rows
+	 * @param cols number of columns
+	 * @return estimated size in bytes, or -1 if unknown dimensions
+	 */
+	public static long estimateFrameSize(long rows, long cols) {
+		return (rows <= 0 || cols <= 0) ? -1 :
+			(long)Math.min((double)rows * cols * CHUNK_CELL_SIZE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Obtain the number of rows per chunk, which is a multiple of the
+	 * block size in order to write aligned binary blocks per chunk.
+	 *
+	 * @param clen number of columns
+	 * @param blen block size
+	 * @return number of rows per chunk
+	 */
+	public static int getChunkSize(long clen, int blen) {
+		long rows = (long)(CHUNK_MEM_FRACTION * OptimizerUtils.getLocalMemBudget()
+			/ (CHUNK_CELL_SIZE * Math.max(clen, 1)));
+		rows = Math.min(rows, Integer.MAX_VALUE/2);
+		return (int)Math.max(blen, rows / blen * blen);
+	}
+
+	/**
+	 * Encodes the input frame and writes the encoded matrix in binary block format.
+	 *
+	 * @param fnameOut file name of the output matrix
+	 * @param dcOut data characteristics of the output matrix, incl block size,
+	 *   which are updated with the final dimensions and number of non-zeros
+	 * @return transform meta data frame
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock encode(String fnameOut, DataCharacteristics dcOut)
+		throws IOException
+	{
+		return encode(fnameOut, dcOut, getChunkSize(_clen, dcOut.getBlocksize()));
+	}
+
+	/**
+	 * Encodes the input frame with the given number of rows per chunk
+	 * and writes the encoded matrix in binary block format.
+	 *
+	 * @param fnameOut file name of the output matrix
+	 * @param dcOut data characteristics of the output matrix, incl block size,
+	 *   which are updated with the final dimensions and number of non-zeros
+	 * @param chunkSize number of rows per chunk, multiple of the block size
+	 * @return transform meta data frame
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock encode(String fnameOut, DataCharacteristics dcOut, int chunkSize)
+		throws IOException
+	{
+		int blen = dcOut.getBlocksize();
+		if( chunkSize <= 0 || chunkSize % blen != 0 )
+			throw new DMLRuntimeException("Invalid chunk size "+chunkSize+" for block size "+blen+".");
+		String[] names = FrameBlock.createColNames((int)_clen);
+
+		//build pass: incremental build of transform meta data over all chunks
+		_reader.readFrameChunksFromHDFS(_fname, _schema, names, _clen, chunkSize,
+			(chunk, rl) -> getEncoder(chunk).build(chunk, _k));
+
+		//propagate meta data to all encoders (see EncoderComposite.encode)
+		Encoder encoder = getEncoder(null);
+		FrameBlock meta = encoder.getMetaData(new FrameBlock((int)_clen, ValueType.STRING));
+		encoder.initMetaData(meta);
+		meta.setColumnNames(_colnames);
+
+		//apply pass: chunk-wise apply and incremental write of binary blocks
+		try( WriterBinaryBlockStreaming writer = new WriterBinaryBlockStreaming(
+			fnameOut, encoder.getNumCols(), blen, -1) )
+		{
+			_reader.readFrameChunksFromHDFS(_fname, _schema, names, _clen, chunkSize,
+				(chunk, rl) -> writer.appendRows(encoder.apply(chunk, new MatrixBlock(
+					chunk.getNumRows(), chunk.getNumColumns(), false), _k), rl));
+			dcOut.set(writer.getNumRows(), encoder.getNumCols(), blen, writer.getNonZeros());
+		}
+
+		return meta;
+	}
+
+	private Encoder getEncoder(FrameBlock chunk) {
+		//create encoder on first chunk, which provides the column names
+		if( _encoder == null ) {
+			_colnames = (chunk != null) ? chunk.getColumnNames() :
+				FrameBlock.createColNames((int)_clen);
+			_encoder = EncoderFactory.createEncoder(_spec, _colnames, (int)_clen, null);
+			//derive bin boundaries from the min/max over all chunks
+			for( Encoder e : ((EncoderComposite)_encoder).getEncoders() )
+				if( e instanceof EncoderBin )
+					((EncoderBin)e).setIncrementalBuild(true);
+		}
+		return _encoder;
+	}
+}
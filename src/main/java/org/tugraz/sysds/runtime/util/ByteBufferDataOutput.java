@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.tugraz.sysds.runtime.util;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+
+import org.tugraz.sysds.runtime.data.SparseBlock;
+import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+
+/**
+ * Custom DataOutput to serialize directly into the given (heap, direct,
+ * or memory-mapped) byte buffer, as counterpart of ByteBufferDataInput.
+ */
+public class ByteBufferDataOutput implements DataOutput, MatrixBlockDataOutput
+{
+	protected final ByteBuffer _buff;
+
+	public ByteBufferDataOutput(ByteBuffer buff) {
+		_buff = buff;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		_buff.put((byte)b);
+	}
+
+	@Override
+	public void write(byte[] b) throws IOException {
+		_buff.put(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		_buff.put(b, off, len);
+	}
+
+	@Override
+	public void writeBoolean(boolean v) throws IOException {
+		_buff.put((byte)( v ? 1 : 0 ));
+	}
+
+	@Override
+	public void writeByte(int v) throws IOException {
+		_buff.put((byte) v);
+	}
+
+	@Override
+	public void writeShort(int v) throws IOException {
+		_buff.putShort((short) v);
+	}
+
+	@Override
+	public void writeChar(int v) throws IOException {
+		_buff.putChar((char) v);
+	}
+
+	@Override
+	public void writeInt(int v) throws IOException {
+		_buff.putInt(v);
+	}
+
+	@Override
+	public void writeLong(long v) throws IOException {
+		_buff.putLong(v);
+	}
+
+	@Override
+	public void writeFloat(float v) throws IOException {
+		_buff.putFloat(v);
+	}
+
+	@Override
+	public void writeDouble(double v) throws IOException {
+		_buff.putDouble(v);
+	}
+
+	@Override
+	public void writeBytes(String s) throws IOException {
+		throw new IOException("Not supported.");
+	}
+
+	@Override
+	public void writeChars(String s) throws IOException {
+		throw new IOException("Not supported.");
+	}
+
+	@Override
+	public void writeUTF(String s) throws IOException {
+		int slen = s.length();
+		int utflen = IOUtilFunctions.getUTFSize(s) - 2;
+		if (utflen-2 > 65535)
+			throw new UTFDataFormatException("encoded string too long: "+utflen);
+		
+		//write utf len (2 bytes) 
+		writeShort(utflen);
+		
+		//write utf payload
+		for( int i=0; i<slen; i++ ) {
+			char c = s.charAt(i);
+			if( c>= 0x0001 && c<=0x007F ) //1 byte range
+				_buff.put((byte) c);
+			else if( c>=0x0800 ) { //3 byte range
+				_buff.put((byte) (0xE0 | ((c >> 12) & 0x0F)));
+				_buff.put((byte) (0x80 | ((c >>  6) & 0x3F)));
+				_buff.put((byte) (0x80 | ((c >>  0) & 0x3F)));
+			}
+			else { //2 byte range and null
+				_buff.put((byte) (0xC0 | ((c >>  6) & 0x1F)));
+				_buff.put((byte) (0x80 | ((c >>  0) & 0x3F)));
+			}
+		}
+	}
+
+	///////////////////////////////////////////////
+	// Implementation of MatrixBlockDSMDataOutput
+	///////////////////////////////////////////////
+
+	@Override
+	public void writeDoubleArray(int len, double[] varr) throws IOException {
+		//bulk copy via double view (big endian, consistent w/ writeDouble)
+		_buff.asDoubleBuffer().put(varr, 0, len);
+		_buff.position(_buff.position() + len*8);
+	}
+
+	@Override
+	public void writeSparseRows(int rlen, SparseBlock rows) throws IOException {
+		int lrlen = Math.min(rows.numRows(), rlen);
+		
+		//process existing rows
+		for( int i=0; i<lrlen; i++ ) {
+			if( !rows.isEmpty(i) ) {
+				int apos = rows.pos(i);
+				int alen = rows.size(i);
+				int[] aix = rows.indexes(i);
+				double[] avals = rows.values(i);
+				_buff.putInt(alen);
+				for( int j=apos; j<apos+alen; j++ ) {
+					_buff.putInt(aix[j]);
+					_buff.putDouble(avals[j]);
+				}
+			}
+			else
+				_buff.putInt(0);
+		}
+		
+		//process remaining empty rows
+		for( int i=lrlen; i<rlen; i++ )
+			_buff.putInt(0);
+	}
+}
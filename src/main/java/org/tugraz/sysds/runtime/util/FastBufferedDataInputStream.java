@@ -26,6 +26,7 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.tugraz.sysds.runtime.controlprogram.caching.PageCache;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.data.SparseBlockCSR;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
@@ -44,9 +45,20 @@ public class FastBufferedDataInputStream extends FilterInputStream implements Da
 		super(in);
 		if (size <= 0) 
 			throw new IllegalArgumentException("Buffer size <= 0");
-		_buff = new byte[ size ];
+		//obtain buffer from page cache (potentially larger than size)
+		_buff = PageCache.getOrAllocPage(size);
 		_bufflen = size;
 	}
+	
+	@Override
+	public void close() throws IOException {
+		super.close();
+		//return buffer to page cache (once, even on repeated close)
+		if( _buff != null ) {
+			PageCache.putPage(_buff);
+			_buff = null;
+		}
+	}
 
 	/////////////////////////////
 	// DataInput Implementation
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UTFDataFormatException;
 
+import org.tugraz.sysds.runtime.controlprogram.caching.PageCache;
 import org.tugraz.sysds.runtime.data.SparseBlock;
 import org.tugraz.sysds.runtime.io.IOUtilFunctions;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlockDataOutput;
@@ -58,7 +59,8 @@ public class FastBufferedDataOutputStream extends FilterOutputStream implements
 			throw new IllegalArgumentException("Buffer size <= 0.");
 		if( size%8 != 0 )
 			throw new IllegalArgumentException("Buffer size not a multiple of 8.");
-		_buff = new byte[size];
+		//obtain buffer from page cache (potentially larger than size)
+		_buff = PageCache.getOrAllocPage(size);
 		_bufflen = size;
 	}
 
@@ -101,6 +103,11 @@ public class FastBufferedDataOutputStream extends FilterOutputStream implements
 	@Override
 	public void close() throws IOException {
 		super.close();
+		//return buffer to page cache (once, even on repeated close)
+		if( _buff != null ) {
+			PageCache.putPage(_buff);
+			_buff = null;
+		}
 	}
 
 	/////////////////////////////
@@ -57,6 +57,11 @@ public class LocalFileUtils
 {
 	public static final int BUFFER_SIZE = 8192;
 	
+	//memory-mapped reads of local matrix blocks larger than the min size
+	//and local binary block files (see MappedBinaryBlockReader)
+	public static boolean USE_MMAP_READ = true;
+	public static final long MMAP_MIN_SIZE = 1024 * 1024;
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -127,6 +132,14 @@ public class LocalFileUtils
 	public static Writable readWritableFromLocal(String fname, Writable ret)
 		throws IOException
 	{
+		//memory-mapped read of large matrix blocks
+		if( ret instanceof MatrixBlock && USE_MMAP_READ ) {
+			File file = new File(fname);
+			long len = file.length();
+			if( len >= MMAP_MIN_SIZE && len <= Integer.MAX_VALUE )
+				return readWritableFromLocalMapped(file, ret, len);
+		}
+		
 		FileInputStream fis = new FileInputStream(fname);
 		DataInput in = !(ret instanceof MatrixBlock) ? 
 			new DataInputStream(new BufferedInputStream(fis, BUFFER_SIZE)) :
@@ -142,6 +155,30 @@ public class LocalFileUtils
 		return ret;
 	}
 	
+	private static Writable readWritableFromLocalMapped(File file, Writable ret, long len)
+		throws IOException
+	{
+		//deserialize directly from the read-only mapping (w/o stream buffer copies),
+		//where the mapping remains valid after closing the channel
+		ByteBuffer buff = null;
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			buff = channel.map(FileChannel.MapMode.READ_ONLY, 0, len);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+		//explicit unmap after deserialization (block does not reference 
+		//the buffer), which frees the disk space of deleted spill files
+		try {
+			ret.readFields(new ByteBufferDataInput(buff));
+		}
+		finally {
+			IOUtilFunctions.unmapSilently(buff);
+		}
+		return ret;
+	}
+	
 	/**
 	 * Reads a matrix block from an input stream, using a fused buffered reader
 	 * with special support for matrix blocks.
@@ -260,6 +297,24 @@ public class LocalFileUtils
 			IOUtilFunctions.closeSilently(channel);
 		}
 	}
+	
+	public static void writeByteBufferToLocal( String fname, ByteBuffer data )
+		throws IOException
+	{
+		//write remaining bytes, e.g., of direct buffers (w/o copy into heap arrays)
+		FileChannel channel = null;
+		try {
+			Path path = Paths.get(fname);
+			channel = FileChannel.open(path, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			ByteBuffer tmp = data.duplicate();
+			while( tmp.hasRemaining() )
+				channel.write(tmp);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(channel);
+		}
+	}
 
 	public static int readBlockSequenceFromLocal(String fname, 
 			Pair<MatrixIndexes,MatrixValue>[] outValues, HashMap<MatrixIndexes, Integer> outMap) 
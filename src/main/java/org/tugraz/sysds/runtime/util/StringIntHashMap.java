@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.runtime.util;
+
+import java.io.Serializable;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This native string - int hashmap is specifically designed for recode
+ * maps, which only require put-if-absent and get semantics. In contrast
+ * to a default hashmap of boxed longs, the open addressing (w/ linear
+ * probing) over flat key and value arrays avoids entry and value objects,
+ * which significantly reduces the size of high-cardinality maps and
+ * keeps lookups in few cache lines. Keys are stored by reference, i.e.,
+ * the map holds a single string instance per distinct token.
+ *
+ */
+public class StringIntHashMap implements Serializable
+{
+	private static final long serialVersionUID = -3482573719420458612L;
+
+	private static final int INIT_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final int RESIZE_FACTOR = 2;
+	private static final float LOAD_FACTOR = 0.75f;
+
+	private String[] _keys = null;
+	private int[] _values = null;
+	private int _size = -1;
+
+	public StringIntHashMap() {
+		this(INIT_CAPACITY);
+	}
+
+	public StringIntHashMap(int expectedSize) {
+		int cap = INIT_CAPACITY;
+		while( cap < MAX_CAPACITY && cap*LOAD_FACTOR <= expectedSize )
+			cap *= RESIZE_FACTOR;
+		_keys = new String[cap];
+		_values = new int[cap];
+		_size = 0;
+	}
+
+	public int size() {
+		return _size;
+	}
+
+	public boolean containsKey(String key) {
+		return get(key) >= 0;
+	}
+
+	/**
+	 * Returns the value of the given key.
+	 *
+	 * @param key string key
+	 * @return value, or -1 if the key does not exist
+	 */
+	public int get(String key) {
+		if( key == null )
+			return -1;
+		int mask = _keys.length-1;
+		for( int ix = indexFor(hash(key), mask); _keys[ix] != null; ix = (ix+1) & mask )
+			if( _keys[ix].equals(key) )
+				return _values[ix];
+		return -1;
+	}
+
+	/**
+	 * Puts the given key-value pair, overwriting the value
+	 * of an existing key.
+	 *
+	 * @param key string key, not null
+	 * @param value non-negative value
+	 */
+	public void put(String key, int value) {
+		int mask = _keys.length-1;
+		int ix = indexFor(hash(key), mask);
+		for( ; _keys[ix] != null; ix = (ix+1) & mask )
+			if( _keys[ix].equals(key) ) {
+				_values[ix] = value;
+				return;
+			}
+		appendEntry(ix, key, value);
+	}
+
+	/**
+	 * Puts the given key-value pair if the key does not exist yet.
+	 *
+	 * @param key string key, not null
+	 * @param value non-negative value
+	 * @return value of the existing key, or -1 if the pair was added
+	 */
+	public int putIfAbsent(String key, int value) {
+		int mask = _keys.length-1;
+		int ix = indexFor(hash(key), mask);
+		for( ; _keys[ix] != null; ix = (ix+1) & mask )
+			if( _keys[ix].equals(key) )
+				return _values[ix];
+		appendEntry(ix, key, value);
+		return -1;
+	}
+
+	/**
+	 * Calls the given function for all key-value pairs in
+	 * unspecified order.
+	 *
+	 * @param fn function of key and value
+	 */
+	public void forEach(ObjIntConsumer<String> fn) {
+		for( int i=0; i<_keys.length; i++ )
+			if( _keys[i] != null )
+				fn.accept(_keys[i], _values[i]);
+	}
+
+	private void appendEntry(int ix, String key, int value) {
+		_keys[ix] = key;
+		_values[ix] = value;
+		_size++;
+
+		//resize if necessary
+		if( _size >= LOAD_FACTOR*_keys.length )
+			resize();
+	}
+
+	private void resize() {
+		//check for maximum capacity, allow higher load up to a full table
+		if( _keys.length >= MAX_CAPACITY ) {
+			if( _size >= _keys.length-1 )
+				throw new RuntimeException("StringIntHashMap exceeded its maximum capacity.");
+			return;
+		}
+
+		//resize key and value arrays and rehash existing entries
+		String[] oldkeys = _keys;
+		int[] oldvalues = _values;
+		_keys = new String[oldkeys.length*RESIZE_FACTOR];
+		_values = new int[oldkeys.length*RESIZE_FACTOR];
+		int mask = _keys.length-1;
+		for( int i=0; i<oldkeys.length; i++ ) {
+			if( oldkeys[i] == null )
+				continue;
+			int ix = indexFor(hash(oldkeys[i]), mask);
+			while( _keys[ix] != null )
+				ix = (ix+1) & mask;
+			_keys[ix] = oldkeys[i];
+			_values[ix] = oldvalues[i];
+		}
+	}
+
+	private static int hash(String key) {
+		int h = key.hashCode();
+
+		// This function ensures that hashCodes that differ only by
+		// constant multiples at each bit position have a bounded
+		// number of collisions (approximately 8 at default load factor).
+		h ^= (h >>> 20) ^ (h >>> 12);
+		return h ^ (h >>> 7) ^ (h >>> 4);
+	}
+
+	private static int indexFor(int h, int mask) {
+		return h & mask;
+	}
+}
@@ -38,6 +38,7 @@ import org.tugraz.sysds.api.DMLScript;
 import org.tugraz.sysds.conf.ConfigurationManager;
 import org.tugraz.sysds.hops.OptimizerUtils;
 import org.tugraz.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.tugraz.sysds.runtime.controlprogram.caching.PageCache;
 import org.tugraz.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.tugraz.sysds.runtime.instructions.Instruction;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
@@ -107,6 +108,9 @@ public class Statistics
 	private static final LongAdder funRecompileTime = new LongAdder(); //in nano sec
 	private static final LongAdder funRecompiles = new LongAdder(); //count
 	
+	//Transform stats
+	private static final LongAdder transformStreamEncodes = new LongAdder(); //count
+	
 	//Spark-specific stats
 	private static long sparkCtxCreateTime = 0; 
 	private static final LongAdder sparkParallelize = new LongAdder();
@@ -361,6 +365,10 @@ public class Statistics
 		funRecompiles.increment();
 	}
 	
+	public static void incrementTransformStreamEncodes() {
+		transformStreamEncodes.increment();
+	}
+	
 	public static synchronized void incrementParForOptimCount(){
 		parforOptCount ++;
 	}
@@ -425,6 +433,8 @@ public class Statistics
 		funRecompiles.reset();
 		funRecompileTime.reset();
 		
+		transformStreamEncodes.reset();
+		
 		codegenHopCompile.reset();
 		codegenCPlanCompile.reset();
 		codegenClassCompile.reset();
@@ -451,6 +461,7 @@ public class Statistics
 		lTotalUIPVar.reset();
 		
 		CacheStatistics.reset();
+		PageCache.resetStatistics();
 		LineageCacheStatistics.reset();
 		
 		resetJITCompileTime();
@@ -850,6 +861,10 @@ public class Statistics
 	public static long getFunRecompiles(){
 		return funRecompiles.longValue();
 	}
+	
+	public static long getTransformStreamEncodes(){
+		return transformStreamEncodes.longValue();
+	}
 		
 	public static long getParforOptCount(){
 		return parforOptCount;
@@ -937,6 +952,8 @@ public class Statistics
 			sb.append("Cache hits (Mem, WB, FS, HDFS):\t" + CacheStatistics.displayHits() + ".\n");
 			sb.append("Cache writes (WB, FS, HDFS):\t" + CacheStatistics.displayWrites() + ".\n");
 			sb.append("Cache times (ACQr/m, RLS, EXP):\t" + CacheStatistics.displayTime() + " sec.\n");
+			if( PageCache.getNumHits() + PageCache.getNumMisses() > 0 )
+				sb.append("Cache pages (Hit/Miss/MB):\t" + PageCache.displayStatistics() + ".\n");
 			if (DMLScript.JMLC_MEM_STATISTICS)
 				sb.append("Max size of live objects:\t" + byteCountToDisplaySize(getSizeofPinnedObjects()) + " ("  + getNumPinnedObjects() + " total objects)" + "\n");
 			sb.append("HOP DAGs recompiled (PRED, SB):\t" + getHopRecompiledPredDAGs() + "/" + getHopRecompiledSBDAGs() + ".\n");
@@ -945,10 +962,16 @@ public class Statistics
 				sb.append("Functions recompiled:\t\t" + getFunRecompiles() + ".\n");
 				sb.append("Functions recompile time:\t" + String.format("%.3f", ((double)getFunRecompileTime())/1000000000) + " sec.\n");
 			}
+			if( getTransformStreamEncodes()>0 )
+				sb.append("Transform streaming encodes:\t" + getTransformStreamEncodes() + ".\n");
 			if (DMLScript.LINEAGE && !ReuseCacheType.isNone()) {
 				sb.append("LinCache hits (Mem/FS/Del): \t" + LineageCacheStatistics.displayHits() + ".\n");
 				sb.append("LinCache MultiLevel (Ins/SB/Fn):" + LineageCacheStatistics.displayMultiLvlHits() + ".\n");
+				sb.append("LinCache pending (Hits/Wait): \t" + LineageCacheStatistics.displayPendingHits() + " sec.\n");
 				sb.append("LinCache writes (Mem/FS): \t" + LineageCacheStatistics.displayWtrites() + ".\n");
+				sb.append("LinCache persist (Hit/Wr/T): \t" + LineageCacheStatistics.displayPersistent() + " sec.\n");
+				sb.append("LinCache evictions (#/MB): \t" + LineageCacheStatistics.displayEvictions() + ".\n");
+				sb.append("LinCache comptime (Saved/Lost):\t" + LineageCacheStatistics.displayComputeTime() + " sec.\n");
 				sb.append("LinCache FStimes (Rd/Wr): \t" + LineageCacheStatistics.displayTime() + " sec.\n");
 				sb.append("LinCache costing time:  \t" + LineageCacheStatistics.displayCostingTime() + " sec.\n");
 				sb.append("LinCache Rewrites:    \t\t" + LineageCacheStatistics.displayRewrites() + ".\n");
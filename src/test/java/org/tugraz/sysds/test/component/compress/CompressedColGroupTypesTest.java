@@ -0,0 +1,283 @@
+/*
+ * Modification Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.test.component.compress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.lops.MMTSJ.MMTSJType;
+import org.tugraz.sysds.runtime.compress.BitmapEncoder;
+import org.tugraz.sysds.runtime.compress.ColGroup;
+import org.tugraz.sysds.runtime.compress.ColGroup.CompressionType;
+import org.tugraz.sysds.runtime.compress.ColGroupDDC;
+import org.tugraz.sysds.runtime.compress.ColGroupDDCBP;
+import org.tugraz.sysds.runtime.compress.ColGroupSDC;
+import org.tugraz.sysds.runtime.compress.CompressedMatrixBlock;
+import org.tugraz.sysds.runtime.compress.UncompressedBitmap;
+import org.tugraz.sysds.runtime.compress.utils.ConverterUtils;
+import org.tugraz.sysds.runtime.functionobjects.Multiply;
+import org.tugraz.sysds.runtime.functionobjects.Plus;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.AggregateBinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.AggregateOperator;
+import org.tugraz.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+public class CompressedColGroupTypesTest extends AutomatedTestBase {
+	private final static int rows = 20000;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testConstantColumn() {
+		double[][] input = new double[rows][1];
+		for(int i = 0; i < rows; i++)
+			input[i][0] = 7;
+		runColGroupTypeTest(input, CompressionType.CONST);
+	}
+
+	@Test
+	public void testNearConstantColumn() {
+		double[][] input = new double[rows][1];
+		for(int i = 0; i < rows; i++)
+			input[i][0] = (i % 100 == 0) ? (i / 100) % 5 + 1 : 3;
+		runColGroupTypeTest(input, CompressionType.SDC);
+	}
+
+	@Test
+	public void testNearConstantColumnWithZeros() {
+		double[][] input = new double[rows][1];
+		for(int i = 0; i < rows; i++)
+			input[i][0] = (i % 100 == 0) ? 0 : (i % 150 == 0) ? 9 : 3;
+		runColGroupTypeTest(input, CompressionType.SDC);
+	}
+
+	@Test
+	public void testOneHotColumn() {
+		Random rand = new Random(7);
+		double[][] input = new double[rows][1];
+		for(int i = 0; i < rows; i++)
+			input[i][0] = rand.nextBoolean() ? 1 : 0;
+		runColGroupTypeTest(input, CompressionType.DDCBP);
+	}
+
+	@Test
+	public void testSmallRangeIntegerColumn() {
+		Random rand = new Random(7);
+		double[][] input = new double[rows][1];
+		for(int i = 0; i < rows; i++)
+			input[i][0] = rand.nextInt(10) + 100;
+		runColGroupTypeTest(input, CompressionType.DDCBP);
+	}
+
+	@Test
+	public void testNearConstantMultiColumn() {
+		// default tuple (3,5,1), exceptions incl the all-zero tuple
+		double[][] tuples = new double[][] {{3, 5, 1}, {1, 2, 0}, {0, 0, 0}, {3, 0, 1}, {7, 5, 2}};
+		double[][] input = new double[rows][];
+		for(int i = 0; i < rows; i++)
+			input[i] = tuples[(i % 50 == 0) ? (i / 50) % 4 + 1 : 0].clone();
+		runMultiColGroupTest(input, CompressionType.SDC);
+	}
+
+	@Test
+	public void testNearZeroMultiColumn() {
+		// default all-zero tuple, exceptions with non-zero tuples
+		double[][] tuples = new double[][] {{0, 0}, {4, 0}, {0, 9}, {2, 2}};
+		double[][] input = new double[rows][];
+		for(int i = 0; i < rows; i++)
+			input[i] = tuples[(i % 70 == 0) ? (i / 70) % 3 + 1 : 0].clone();
+		runMultiColGroupTest(input, CompressionType.SDC);
+	}
+
+	@Test
+	public void testSmallRangeMultiColumn() {
+		// few distinct tuples incl the all-zero tuple
+		Random rand = new Random(7);
+		double[][] tuples = new double[][] {{0, 0}, {1, 0}, {0, 1}, {2, 3}, {7, 7}};
+		double[][] input = new double[rows][];
+		for(int i = 0; i < rows; i++)
+			input[i] = tuples[rand.nextInt(tuples.length)].clone();
+		runMultiColGroupTest(input, CompressionType.DDCBP);
+	}
+
+	@Test
+	public void testMixedColGroups() {
+		// constant, near-constant, one-hot, and small range columns
+		Random rand = new Random(7);
+		double[][] input = new double[rows][4];
+		for(int i = 0; i < rows; i++) {
+			input[i][0] = 7;
+			input[i][1] = (i % 100 == 0) ? 0 : (i % 150 == 0) ? 9 : 3;
+			input[i][2] = rand.nextBoolean() ? 1 : 0;
+			input[i][3] = rand.nextInt(10) + 100;
+		}
+		try {
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			cmb.setSeed(1);
+			Assert.assertTrue(cmb.compress() instanceof CompressedMatrixBlock);
+			TestUtils.compareMatrices(input, DataConverter.convertToDoubleMatrix(cmb.decompress()), rows, 4, 0);
+
+			// check tsmm over all pairs of column groups
+			MatrixBlock ret1 = mb.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT);
+			MatrixBlock ret2 = cmb.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT);
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), 4, 4, 1e-6);
+
+			// check cbind (copy of column groups) and rbind (append rows)
+			ret1 = mb.append(mb, new MatrixBlock(), true);
+			ret2 = cmb.append(cmb, null);
+			Assert.assertTrue(ret2 instanceof CompressedMatrixBlock);
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(((CompressedMatrixBlock) ret2).decompress()), rows, 8, 0);
+			ret1 = mb.append(mb, new MatrixBlock(), false);
+			ret2 = cmb.append(mb, null, false);
+			ret2 = (ret2 instanceof CompressedMatrixBlock) ? ((CompressedMatrixBlock) ret2).decompress() : ret2;
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), 2 * rows, 4, 0);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void runMultiColGroupTest(double[][] input, CompressionType type) {
+		try {
+			final int ncol = input[0].length;
+			int[] colIndexes = new int[ncol];
+			for(int j = 0; j < ncol; j++)
+				colIndexes[j] = j;
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			UncompressedBitmap ubm = BitmapEncoder.extractBitmap(colIndexes, mb);
+			ColGroupDDC grp = (type == CompressionType.SDC) ? new ColGroupSDC(colIndexes, rows, ubm) :
+				new ColGroupDDCBP(colIndexes, rows, ubm);
+			Assert.assertEquals(type, grp.getCompType());
+
+			// check cell access and decompression (reordered dictionary)
+			checkColGroup(input, grp, 0);
+			MatrixBlock ret = new MatrixBlock(rows, ncol, false);
+			ret.allocateDenseBlock();
+			grp.decompressToBlock(ret, 0, rows);
+			TestUtils.compareMatrices(input, DataConverter.convertToDoubleMatrix(ret), rows, ncol, 0);
+
+			// check copy w/ shifted column indexes (cbind)
+			ColGroup grp2 = ConverterUtils.copyColGroup(grp);
+			grp2.shiftColIndices(ncol);
+			checkColGroup(input, grp2, ncol);
+			Assert.assertEquals(0, grp.getColIndex(0));
+
+			// check serialization round trip
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			grp.write(new DataOutputStream(bos));
+			ColGroup grp3 = (type == CompressionType.SDC) ? new ColGroupSDC() : new ColGroupDDCBP();
+			grp3.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+			checkColGroup(input, grp3, 0);
+
+			// check append of rows w/ existing and new value tuples
+			double[][] input2 = new double[rows + 1000][];
+			for(int i = 0; i < rows; i++)
+				input2[i] = input[i];
+			for(int i = 0; i < 1000; i++) {
+				input2[rows + i] = input[(i * 7) % rows].clone();
+				if(i % 10 == 0)
+					input2[rows + i][ncol - 1] = 11;
+			}
+			ColGroupDDC grp4 = grp.appendRows(DataConverter.convertToMatrixBlock(
+				Arrays.copyOfRange(input2, rows, rows + 1000)));
+			Assert.assertNotNull(grp4);
+			checkColGroup(input2, grp4, 0);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void checkColGroup(double[][] input, ColGroup grp, int coff) {
+		Assert.assertEquals(input.length, grp.getNumRows());
+		for(int i = 0; i < input.length; i++)
+			for(int j = 0; j < input[i].length; j++)
+				Assert.assertEquals("Mismatch at (" + i + "," + j + ")", input[i][j], grp.get(i, coff + j), 0);
+	}
+
+	private static void runColGroupTypeTest(double[][] input, CompressionType type) {
+		try {
+			MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+			CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+			cmb.setSeed(1);
+			MatrixBlock ret = cmb.compress();
+
+			// check chosen column group encoding
+			Assert.assertTrue(ret instanceof CompressedMatrixBlock);
+			for(ColGroup grp : cmb.getColGroups())
+				Assert.assertEquals(type, grp.getCompType());
+
+			// check decompression
+			double[][] d1 = DataConverter.convertToDoubleMatrix(cmb.decompress());
+			TestUtils.compareMatrices(input, d1, rows, 1, 0);
+
+			// check matrix-vector and vector-matrix multiplication
+			AggregateOperator aop = new AggregateOperator(0, Plus.getPlusFnObject());
+			AggregateBinaryOperator abop = new AggregateBinaryOperator(Multiply.getMultiplyFnObject(), aop);
+			MatrixBlock vector1 = DataConverter.convertToMatrixBlock(TestUtils.generateTestMatrix(1, 1, 1, 1, 1.0, 3));
+			MatrixBlock ret1 = mb.aggregateBinaryOperations(mb, vector1, new MatrixBlock(), abop);
+			MatrixBlock ret2 = cmb.aggregateBinaryOperations(cmb, vector1, new MatrixBlock(), abop);
+			TestUtils.compareMatricesBitAvgDistance(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), rows, 1, 1024, 1);
+			MatrixBlock vector2 = DataConverter
+				.convertToMatrixBlock(TestUtils.generateTestMatrix(1, rows, 1, 1, 1.0, 3));
+			ret1 = mb.aggregateBinaryOperations(vector2, mb, new MatrixBlock(), abop);
+			ret2 = cmb.aggregateBinaryOperations(vector2, cmb, new MatrixBlock(), abop);
+			TestUtils.compareMatricesBitAvgDistance(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), 1, 1, 10000, 500);
+
+			// check scalar operation and sum over the dictionary
+			RightScalarOperator sop = new RightScalarOperator(Plus.getPlusFnObject(), 7);
+			ret1 = mb.scalarOperations(sop, new MatrixBlock());
+			ret2 = cmb.scalarOperations(sop, new MatrixBlock());
+			Assert.assertTrue(ret2 instanceof CompressedMatrixBlock);
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(((CompressedMatrixBlock) ret2).decompress()), rows, 1, 0);
+			Assert.assertEquals(mb.sum(), cmb.sum(), 1e-6);
+
+			// check serialization round trip
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			cmb.write(new DataOutputStream(bos));
+			CompressedMatrixBlock cmb2 = new CompressedMatrixBlock();
+			cmb2.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+			double[][] d2 = DataConverter.convertToDoubleMatrix(cmb2.decompress());
+			TestUtils.compareMatrices(input, d2, rows, 1, 0);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -29,13 +29,17 @@ import org.tugraz.sysds.lops.MapMultChain.ChainType;
 import org.tugraz.sysds.runtime.compress.CompressedMatrixBlock;
 import org.tugraz.sysds.runtime.functionobjects.Multiply;
 import org.tugraz.sysds.runtime.functionobjects.Plus;
+import org.tugraz.sysds.runtime.functionobjects.RevIndex;
 import org.tugraz.sysds.runtime.instructions.InstructionUtils;
 import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateBinaryOperator;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateOperator;
 import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ReorgOperator;
 import org.tugraz.sysds.runtime.matrix.operators.RightScalarOperator;
 import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
 import org.tugraz.sysds.runtime.util.DataConverter;
 import org.tugraz.sysds.test.TestUtils;
 import org.tugraz.sysds.test.TestConstants.CompressionType;
@@ -317,6 +321,159 @@ public class CompressedMatrixTest extends CompressedTestBase {
 		}
 	}
 
+	@Test
+	public void testUnaryOperations() {
+		try {
+			if(!(cmbResult instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			// sparse-safe and sparse-unsafe cell-wise operations
+			for(String opcode : new String[] {"abs", "round", "cos"}) {
+				UnaryOperator uop = InstructionUtils.parseUnaryOperator(opcode);
+
+				// matrix unary uncompressed
+				MatrixBlock ret1 = mb.unaryOperations(uop, new MatrixBlock());
+
+				// matrix unary compressed
+				MatrixBlock ret2 = cmb.unaryOperations(uop, new MatrixBlock());
+				if(compress)
+					ret2 = ((CompressedMatrixBlock) ret2).decompress();
+
+				// compare result with input
+				double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+				double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+				TestUtils.compareMatricesBitAvgDistance(d1, d2, rows, cols, 150, 1);
+			}
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testBinaryRowVectorOperations() {
+		try {
+			if(!(cmbResult instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			MatrixBlock vector = DataConverter
+				.convertToMatrixBlock(TestUtils.generateTestMatrix(1, cols, 1, 5, 1.0, 3));
+
+			// sparse-safe and sparse-unsafe row vector operations
+			for(String opcode : new String[] {"*", "+", ">"}) {
+				BinaryOperator bop = InstructionUtils.parseBinaryOperator(opcode);
+
+				// matrix-row vector uncompressed
+				MatrixBlock ret1 = mb.binaryOperations(bop, vector, new MatrixBlock());
+
+				// matrix-row vector compressed
+				MatrixBlock ret2 = cmb.binaryOperations(bop, vector, new MatrixBlock());
+				if(compress)
+					ret2 = ((CompressedMatrixBlock) ret2).decompress();
+
+				// compare result with input
+				double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+				double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+				TestUtils.compareMatricesBitAvgDistance(d1, d2, rows, cols, 150, 1);
+			}
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testBinaryOperationsInPlace() {
+		try {
+			if(!(cmbResult instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			BinaryOperator bop = InstructionUtils.parseBinaryOperator("+");
+			MatrixBlock vector = DataConverter
+				.convertToMatrixBlock(TestUtils.generateTestMatrix(1, cols, 1, 5, 1.0, 3));
+			MatrixBlock matrix = DataConverter
+				.convertToMatrixBlock(TestUtils.generateTestMatrix(rows, cols, 1, 5, 1.0, 5));
+
+			// matrix-row vector and matrix-matrix uncompressed
+			MatrixBlock ret1 = new MatrixBlock(mb);
+			ret1.binaryOperationsInPlace(bop, vector);
+			ret1.binaryOperationsInPlace(bop, matrix);
+
+			// matrix-row vector and matrix-matrix compressed (fallback)
+			cmb.binaryOperationsInPlace(bop, vector);
+			cmb.binaryOperationsInPlace(bop, matrix);
+			MatrixBlock ret2 = compress ? cmb.decompress() : cmb;
+
+			// compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatricesBitAvgDistance(d1, d2, rows, cols, 150, 1);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testReverse() {
+		try {
+			if(!(cmbResult instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			ReorgOperator rop = new ReorgOperator(RevIndex.getRevIndexFnObject());
+
+			// rev uncompressed
+			MatrixBlock ret1 = mb.reorgOperations(rop, new MatrixBlock(), 0, 0, 0);
+
+			// rev compressed
+			MatrixBlock ret2 = cmb.reorgOperations(rop, new MatrixBlock(), 0, 0, 0);
+			if(compress)
+				ret2 = ((CompressedMatrixBlock) ret2).decompress();
+
+			// compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatricesBitAvgDistance(d1, d2, rows, cols, 0, 0);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testAppendRows() {
+		try {
+			if(!(cmbResult instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			// append existing rows (no new value tuples) and random rows
+			MatrixBlock rows2 = mb.slice(0, 9, 0, cols - 1, new MatrixBlock())
+				.append(DataConverter.convertToMatrixBlock(
+					TestUtils.generateTestMatrix(10, cols, min, max, sparsity, 3)), new MatrixBlock(), false);
+
+			// rbind uncompressed
+			MatrixBlock ret1 = mb.append(rows2, new MatrixBlock(), false);
+
+			// rbind compressed
+			MatrixBlock ret2 = cmb.append(rows2, new MatrixBlock(), false);
+			if(ret2 instanceof CompressedMatrixBlock)
+				ret2 = ((CompressedMatrixBlock) ret2).decompress();
+
+			// compare result with input
+			double[][] d1 = DataConverter.convertToDoubleMatrix(ret1);
+			double[][] d2 = DataConverter.convertToDoubleMatrix(ret2);
+			TestUtils.compareMatricesBitAvgDistance(d1, d2, rows + 20, cols, 0, 0);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
 	// TODO replace with Direction x Types.AggOp
 	enum AggType {
 		ROWSUMS, COLSUMS, SUM, ROWSUMSSQ, COLSUMSSQ, SUMSQ, ROWMAXS, COLMAXS, MAX, ROWMINS, COLMINS, MIN,
@@ -0,0 +1,75 @@
+/*
+ * Modification Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.tugraz.sysds.test.component.compress;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.compress.CompressedMatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+public class CompressedPlanningTest extends AutomatedTestBase {
+	private final static int rows = 20000;
+	private final static int cols = 40;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testPlanningSequential() {
+		runPlanningTest(1, -1, -1, true);
+	}
+
+	@Test
+	public void testPlanningParallel() {
+		runPlanningTest(4, -1, -1, true);
+	}
+
+	@Test
+	public void testPlanningAbortMinRatio() {
+		runPlanningTest(4, -1, 1000, false);
+	}
+
+	@Test
+	public void testPlanningAbortTimeout() {
+		// already expired deadline, independent of the wall-clock time
+		runPlanningTest(4, 0, -1, false);
+	}
+
+	private static void runPlanningTest(int k, long deadline, double minRatio, boolean compressed) {
+		// rounded values in [0,10] are well compressible
+		double[][] input = TestUtils.round(TestUtils.generateTestMatrix(rows, cols, 0, 10, 1.0, 7));
+		MatrixBlock mb = DataConverter.convertToMatrixBlock(input);
+
+		CompressedMatrixBlock cmb = new CompressedMatrixBlock(mb);
+		cmb.setSeed(1);
+		cmb.setPlanningTimeout(0);
+		cmb.setPlanningDeadline(deadline);
+		cmb.setPlanningMinRatio(minRatio);
+		MatrixBlock ret = cmb.compress(k);
+
+		// check compression decision and unchanged contents
+		Assert.assertEquals(compressed, ret instanceof CompressedMatrixBlock);
+		if(ret instanceof CompressedMatrixBlock)
+			ret = ((CompressedMatrixBlock) ret).decompress();
+		TestUtils.compareMatrices(input, DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.component.frame;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.io.ColumnarFrameFormat;
+import org.tugraz.sysds.runtime.io.FrameReaderColumnar;
+import org.tugraz.sysds.runtime.io.FrameReaderColumnarParallel;
+import org.tugraz.sysds.runtime.io.FrameWriterColumnar;
+import org.tugraz.sysds.runtime.io.FrameWriterColumnarParallel;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for the native columnar frame format, which compares full reads,
+ * and row range and column projection reads with the original frame, for both 
+ * single- and multi-threaded readers and writers over multiple row groups.
+ */
+public class ColumnarFrameReadWriteTest extends AutomatedTestBase 
+{
+	private final static int rows = 5432;
+	private final static ValueType[] schema = new ValueType[] {ValueType.STRING, 
+		ValueType.STRING, ValueType.BOOLEAN, ValueType.INT32, ValueType.INT64, ValueType.FP64};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testFullReadSequential() throws Exception {
+		runColumnarFrameTest(false, 0, rows-1, null);
+	}
+	
+	@Test
+	public void testFullReadParallel() throws Exception {
+		runColumnarFrameTest(true, 0, rows-1, null);
+	}
+	
+	@Test
+	public void testProjectionSequential() throws Exception {
+		runColumnarFrameTest(false, 1500, 3700, new int[]{5, 0, 2});
+	}
+	
+	@Test
+	public void testProjectionParallel() throws Exception {
+		runColumnarFrameTest(true, 1500, 3700, new int[]{1, 3, 4});
+	}
+	
+	@Test
+	public void testProjectionSingleRowGroup() throws Exception {
+		runColumnarFrameTest(true, 10, 20, new int[]{1});
+	}
+	
+	private static void runColumnarFrameTest(boolean parallel, int rl, int ru, int[] cols) throws Exception {
+		FrameBlock fb = createFrame(rows, 7);
+		File dir = Files.createTempDirectory("columnar").toFile();
+		String fname = dir.getAbsolutePath() + "/F";
+		long size = ColumnarFrameFormat.ROW_GROUP_SIZE;
+		try {
+			//small row groups to obtain multiple row groups
+			ColumnarFrameFormat.ROW_GROUP_SIZE = 16 * 1024;
+			FrameWriterColumnar writer = parallel ?
+				new FrameWriterColumnarParallel() : new FrameWriterColumnar();
+			writer.writeFrameToHDFS(fb, fname, rows, schema.length);
+			Assert.assertTrue(FrameReaderColumnar.readFileMetadata(fname).getNumRowGroups() > 1);
+			
+			FrameReaderColumnar reader = parallel ? 
+				new FrameReaderColumnarParallel() : new FrameReaderColumnar();
+			FrameBlock ret = (cols == null) ?
+				reader.readFrameFromHDFS(fname, rows, schema.length) :
+				reader.readFrameFromHDFS(fname, rl, ru, cols);
+			
+			//compare schema, column names, and values
+			int[] lcols = (cols != null) ? cols : new int[]{0, 1, 2, 3, 4, 5};
+			Assert.assertEquals(ru-rl+1, ret.getNumRows());
+			Assert.assertEquals(lcols.length, ret.getNumColumns());
+			for( int j=0; j<lcols.length; j++ ) {
+				Assert.assertEquals(fb.getSchema()[lcols[j]], ret.getSchema()[j]);
+				Assert.assertEquals(fb.getColumnNames()[lcols[j]], ret.getColumnNames()[j]);
+				for( int i=rl; i<=ru; i++ )
+					Assert.assertEquals(fb.get(i, lcols[j]), ret.get(i-rl, j));
+			}
+		}
+		finally {
+			ColumnarFrameFormat.ROW_GROUP_SIZE = size;
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+	
+	private static FrameBlock createFrame(int nrow, long seed) {
+		//col 1: high-cardinality strings (plain), col 2: low-cardinality strings (dict)
+		Random rand = new Random(seed);
+		FrameBlock ret = new FrameBlock(schema, new String[]{"a","b","c","d","e","f"});
+		ret.ensureAllocatedColumns(nrow);
+		for( int i=0; i<nrow; i++ ) {
+			ret.set(i, 0, (i%13==0) ? null : "str_" + rand.nextInt());
+			ret.set(i, 1, (i%17==0) ? null : "cat_" + rand.nextInt(7));
+			ret.set(i, 2, rand.nextBoolean());
+			ret.set(i, 3, rand.nextInt());
+			ret.set(i, 4, rand.nextLong());
+			ret.set(i, 5, rand.nextDouble());
+		}
+		return ret;
+	}
+}
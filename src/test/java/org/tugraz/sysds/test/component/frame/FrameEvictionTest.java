@@ -23,9 +23,11 @@ package org.tugraz.sysds.test.component.frame;
 
 import java.lang.reflect.Method;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.tugraz.sysds.common.Types.ValueType;
 import org.tugraz.sysds.runtime.controlprogram.caching.CacheableData;
+import org.tugraz.sysds.runtime.controlprogram.caching.DirectBufferPool;
 import org.tugraz.sysds.runtime.controlprogram.caching.FrameObject;
 import org.tugraz.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
 import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
@@ -174,6 +176,29 @@ public class FrameEvictionTest extends AutomatedTestBase
 		runFrameEvictionTest(schemaMixed, true, false, true);
 	}
 
+	@Test
+	public void testFrameEvictionDoublesDenseDefaultOffHeap()  {
+		runFrameEvictionTest(schemaDoubles, false, true, false, true);
+	}
+	
+	@Test
+	public void testFrameEvictionMixedSparseCustomOffHeap()  {
+		runFrameEvictionTest(schemaMixed, true, false, false, true);
+	}
+	
+	@Test
+	public void testFrameEvictionDoublesDenseDefaultForceOffHeap()  {
+		runFrameEvictionTest(schemaDoubles, false, true, true, true);
+	}
+	
+	@Test
+	public void testFrameEvictionMixedSparseCustomForceOffHeap()  {
+		runFrameEvictionTest(schemaMixed, true, false, true, true);
+	}
+	
+	private void runFrameEvictionTest( ValueType[] schema, boolean sparse, boolean defaultMeta, boolean force) {
+		runFrameEvictionTest(schema, sparse, defaultMeta, force, false);
+	}
 	
 	/**
 	 * 
@@ -181,11 +206,15 @@ public class FrameEvictionTest extends AutomatedTestBase
 	 * @param sparse
 	 * @param defaultMeta
 	 * @param force
+	 * @param offheap
 	 */
-	private void runFrameEvictionTest( ValueType[] schema, boolean sparse, boolean defaultMeta, boolean force)
+	private void runFrameEvictionTest( ValueType[] schema, boolean sparse, boolean defaultMeta, boolean force, boolean offheap)
 	{
+		boolean oldOffHeap = CacheableData.CACHING_BUFFER_OFFHEAP;
 		try
 		{
+			CacheableData.CACHING_BUFFER_OFFHEAP = offheap;
+			
 			//data generation
 			double sparsity = sparse ? sparsity2 : sparsity1;
 			double[][] A = getRandomMatrix(rows, schema.length, -10, 10, sparsity, 765); 
@@ -228,10 +257,18 @@ public class FrameEvictionTest extends AutomatedTestBase
 			String[][] sA = DataConverter.convertToStringFrame(fA);
 			String[][] sA2 = DataConverter.convertToStringFrame(fA2);
 			TestUtils.compareFrames(sA, sA2, rows, schema.length);
+			
+			//check that evicted direct buffers are pooled within the limit
+			if( offheap && force )
+				Assert.assertTrue(DirectBufferPool.getSize() > 0
+					&& DirectBufferPool.getSize() <= LazyWriteBuffer.getWriteBufferLimit());
 		}
 		catch(Exception ex) {
 			ex.printStackTrace();
 			throw new RuntimeException(ex);
 		}
+		finally {
+			CacheableData.CACHING_BUFFER_OFFHEAP = oldOffHeap;
+		}
 	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.binary.matrix;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.functionobjects.Builtin;
+import org.tugraz.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.tugraz.sysds.runtime.functionobjects.Divide;
+import org.tugraz.sysds.runtime.functionobjects.GreaterThan;
+import org.tugraz.sysds.runtime.functionobjects.Minus;
+import org.tugraz.sysds.runtime.functionobjects.Multiply;
+import org.tugraz.sysds.runtime.functionobjects.Plus;
+import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.tugraz.sysds.runtime.matrix.operators.ScalarOperator;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for multi-threaded cellwise binary operations, which
+ * compares the results and nnz of single- and multi-threaded execution
+ * with a reference computation over dense double arrays.
+ */
+public class BincellMultiThreadedTest extends AutomatedTestBase 
+{
+	private final static int rows = 2317;
+	private final static int cols = 673;
+	private final static double sparsity1 = 0.7;
+	private final static double sparsity2 = 0.05;
+	private final static int k = 4;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testPlusDenseDense() {
+		runMatrixMatrixTest(Plus.getPlusFnObject(), sparsity1, sparsity1, cols);
+	}
+	
+	@Test
+	public void testMinusSparseDense() {
+		runMatrixMatrixTest(Minus.getMinusFnObject(), sparsity2, sparsity1, cols);
+	}
+	
+	@Test
+	public void testMinusDenseSparse() {
+		runMatrixMatrixTest(Minus.getMinusFnObject(), sparsity1, sparsity2, cols);
+	}
+	
+	@Test
+	public void testMultDenseSparse() {
+		runMatrixMatrixTest(Multiply.getMultiplyFnObject(), sparsity1, sparsity2, cols);
+	}
+	
+	@Test
+	public void testMultSparseDense() {
+		runMatrixMatrixTest(Multiply.getMultiplyFnObject(), sparsity2, sparsity1, cols);
+	}
+	
+	@Test
+	public void testMinusSparseSparse() {
+		runMatrixMatrixTest(Minus.getMinusFnObject(), sparsity2, sparsity2, cols);
+	}
+	
+	@Test
+	public void testMultSparseSparse() {
+		runMatrixMatrixTest(Multiply.getMultiplyFnObject(), sparsity2, sparsity2, cols);
+	}
+	
+	@Test
+	public void testPlusSparseSparse() {
+		runMatrixMatrixTest(Plus.getPlusFnObject(), sparsity2, sparsity2, cols);
+	}
+	
+	@Test
+	public void testMultSparseSparseNaNInf() {
+		runMatrixMatrixTest(Multiply.getMultiplyFnObject(), sparsity2, sparsity2, cols, true);
+	}
+	
+	@Test
+	public void testMultDenseSparseNaNInf() {
+		runMatrixMatrixTest(Multiply.getMultiplyFnObject(), sparsity1, sparsity2, cols, true);
+	}
+	
+	@Test
+	public void testMinusSparseSparseNaNInf() {
+		runMatrixMatrixTest(Minus.getMinusFnObject(), sparsity2, sparsity2, cols, true);
+	}
+	
+	@Test
+	public void testGreaterDenseDense() {
+		runMatrixMatrixTest(GreaterThan.getGreaterThanFnObject(), sparsity1, sparsity1, cols);
+	}
+	
+	@Test
+	public void testMinusDenseRowVector() {
+		runMatrixMatrixTest(Minus.getMinusFnObject(), sparsity1, 1, 1);
+	}
+	
+	@Test
+	public void testDivideDenseColVector() {
+		runMatrixMatrixTest(Divide.getDivideFnObject(), sparsity1, 1, -1);
+	}
+	
+	@Test
+	public void testMaxDenseScalar() {
+		runMatrixScalarTest(Builtin.getBuiltinFnObject(BuiltinCode.MAX), sparsity1, 0.5);
+	}
+	
+	@Test
+	public void testMultSparseScalar() {
+		runMatrixScalarTest(Multiply.getMultiplyFnObject(), sparsity2, 7);
+	}
+	
+	@Test
+	public void testPlusSparseScalar() {
+		runMatrixScalarTest(Plus.getPlusFnObject(), sparsity2, 7);
+	}
+	
+	/**
+	 * @param fn value function
+	 * @param sp1 sparsity of left input
+	 * @param sp2 sparsity of right input
+	 * @param vcols number of columns of right input (1: row vector, -1: column vector)
+	 */
+	private static void runMatrixMatrixTest(ValueFunction fn, double sp1, double sp2, int vcols) {
+		runMatrixMatrixTest(fn, sp1, sp2, vcols, false);
+	}
+	
+	/**
+	 * @param fn value function
+	 * @param sp1 sparsity of left input
+	 * @param sp2 sparsity of right input
+	 * @param vcols number of columns of right input (1: row vector, -1: column vector)
+	 * @param specials inject NaN/Inf values without matching non-zeros and empty rows
+	 */
+	private static void runMatrixMatrixTest(ValueFunction fn, double sp1, double sp2, int vcols, boolean specials) {
+		int rows2 = (vcols == 1) ? 1 : rows;
+		int cols2 = (vcols == 1) ? cols : (vcols == -1) ? 1 : cols;
+		MatrixBlock m1 = MatrixBlock.randOperations(rows, cols, sp1, 1, 10, "uniform", 7);
+		MatrixBlock m2 = MatrixBlock.randOperations(rows2, cols2, sp2, 1, 10, "uniform", 3);
+		if( specials ) {
+			injectSpecialValues(m1, m2, 0);
+			injectSpecialValues(m2, m1, 1);
+		}
+		
+		//reference computation w/ row/column vector broadcasting
+		double[][] A = DataConverter.convertToDoubleMatrix(m1);
+		double[][] B = DataConverter.convertToDoubleMatrix(m2);
+		double[][] C = new double[rows][cols];
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				C[i][j] = fn.execute(A[i][j], B[(rows2==1)?0:i][(cols2==1)?0:j]);
+		
+		MatrixBlock ret1 = m1.binaryOperations(new BinaryOperator(fn), m2, new MatrixBlock());
+		MatrixBlock ret2 = m1.binaryOperations(new BinaryOperator(fn, k), m2, new MatrixBlock());
+		compareResults(C, ret1);
+		compareResults(C, ret2);
+	}
+	
+	private static void runMatrixScalarTest(ValueFunction fn, double sp, double constant) {
+		MatrixBlock m1 = MatrixBlock.randOperations(rows, cols, sp, 1, 10, "uniform", 7);
+		ScalarOperator op = new RightScalarOperator(fn, constant);
+		
+		//reference computation
+		double[][] A = DataConverter.convertToDoubleMatrix(m1);
+		double[][] C = new double[rows][cols];
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				C[i][j] = fn.execute(A[i][j], constant);
+		
+		MatrixBlock ret1 = m1.scalarOperations(op, new MatrixBlock());
+		MatrixBlock ret2 = m1.scalarOperations(op.setNumThreads(k), new MatrixBlock());
+		compareResults(C, ret1);
+		compareResults(C, ret2);
+	}
+	
+	private static void injectSpecialValues(MatrixBlock m, MatrixBlock other, int offset) {
+		//NaN/Inf at positions where the other input is zero, and rows
+		//that are empty in the other input (e.g., Inf*0=NaN, NaN*0=NaN)
+		double[] specials = new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+		for( int i=offset; i<rows; i+=13 ) {
+			int j = (i * 7 + offset) % cols;
+			other.quickSetValue(i, j, 0);
+			m.quickSetValue(i, j, specials[i % specials.length]);
+			if( i % 5 == 0 )
+				for( int c=0; c<cols; c++ )
+					if( c != j )
+						other.quickSetValue(i, c, 0);
+		}
+	}
+	
+	private static void compareResults(double[][] expected, MatrixBlock ret) {
+		long nnz = 0;
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				nnz += (expected[i][j] != 0) ? 1 : 0;
+		Assert.assertEquals(nnz, ret.getNonZeros());
+		Assert.assertEquals(nnz, ret.recomputeNonZeros());
+		TestUtils.compareMatrices(expected,
+			DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+	}
+}
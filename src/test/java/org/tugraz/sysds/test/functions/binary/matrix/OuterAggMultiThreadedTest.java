@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.binary.matrix;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.functionobjects.Equals;
+import org.tugraz.sysds.runtime.functionobjects.GreaterThan;
+import org.tugraz.sysds.runtime.functionobjects.GreaterThanEquals;
+import org.tugraz.sysds.runtime.functionobjects.LessThan;
+import org.tugraz.sysds.runtime.functionobjects.LessThanEquals;
+import org.tugraz.sysds.runtime.functionobjects.NotEquals;
+import org.tugraz.sysds.runtime.functionobjects.ValueFunction;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.tugraz.sysds.runtime.matrix.operators.BinaryOperator;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for multi-threaded unary aggregate outer chains, which 
+ * compares the results of single- and multi-threaded execution for all 
+ * supported comparison and aggregate pairs. The sum aggregates are further
+ * compared against a naive reference of outer(A,B,op) and subsequent 
+ * aggregation, including ties, -0.0/0.0, and NaN values.
+ */
+public class OuterAggMultiThreadedTest extends AutomatedTestBase 
+{
+	private final static int rows = 71003;
+	private final static int cols = 1017;
+	private final static int k = 4;
+	
+	private final static ValueFunction[] fns = new ValueFunction[] {
+		LessThan.getLessThanFnObject(), LessThanEquals.getLessThanEqualsFnObject(),
+		GreaterThan.getGreaterThanFnObject(), GreaterThanEquals.getGreaterThanEqualsFnObject(),
+		Equals.getEqualsFnObject(), NotEquals.getNotEqualsFnObject()};
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testRowSums() {
+		runOuterAggTest("uark+", 0.8);
+	}
+	
+	@Test
+	public void testColSumsDense() {
+		runOuterAggTest("uack+", 0.8);
+	}
+	
+	@Test
+	public void testColSumsSparse() {
+		runOuterAggTest("uack+", 0.05);
+	}
+	
+	@Test
+	public void testSum() {
+		runOuterAggTest("uak+", 0.8);
+	}
+	
+	@Test
+	public void testRowSumsSpecials() {
+		runOuterAggTest("uark+", 0.8, true);
+	}
+	
+	@Test
+	public void testColSumsDenseSpecials() {
+		runOuterAggTest("uack+", 0.8, true);
+	}
+	
+	@Test
+	public void testColSumsSparseSpecials() {
+		runOuterAggTest("uack+", 0.05, true);
+	}
+	
+	@Test
+	public void testSumSpecials() {
+		runOuterAggTest("uak+", 0.8, true);
+	}
+	
+	@Test
+	public void testRowIndexMax() {
+		runOuterAggTest("uarimax", 0.8);
+	}
+	
+	@Test
+	public void testRowIndexMin() {
+		runOuterAggTest("uarimin", 0.8);
+	}
+	
+	private static void runOuterAggTest(String opcode, double sparsity) {
+		runOuterAggTest(opcode, sparsity, false);
+	}
+	
+	private static void runOuterAggTest(String opcode, double sparsity, boolean specials) {
+		boolean colAgg = opcode.equals("uack+");
+		boolean sumAgg = opcode.endsWith("k+");
+		//input vectors with many duplicates (incl zeros)
+		MatrixBlock mbLeft = createVector(rows, !colAgg, sparsity, specials, 7);
+		MatrixBlock mbRight = createVector(cols, colAgg, 1.0, specials, 3);
+		AggregateUnaryOperator uaggOp1 = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, 1);
+		AggregateUnaryOperator uaggOpk = InstructionUtils.parseBasicAggregateUnaryOperator(opcode, k);
+		
+		for( ValueFunction fn : fns ) {
+			BinaryOperator bOp = new BinaryOperator(fn);
+			MatrixBlock ret1 = mbLeft.uaggouterchainOperations(mbLeft, mbRight, null, bOp, uaggOp1);
+			MatrixBlock ret2 = mbLeft.uaggouterchainOperations(mbLeft, mbRight, null, bOp, uaggOpk);
+			Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), ret1.getNumRows(), ret1.getNumColumns(), 0);
+			if( sumAgg )
+				compareWithReference(opcode, mbLeft, mbRight, fn, ret1);
+		}
+	}
+	
+	private static void compareWithReference(String opcode, MatrixBlock mbLeft, MatrixBlock mbRight, ValueFunction fn, MatrixBlock ret) {
+		double[] a = DataConverter.convertToDoubleVector(mbLeft);
+		double[] b = DataConverter.convertToDoubleVector(mbRight);
+		if( opcode.equals("uack+") ) {
+			//colSums(outer(B, A, op)) with B as column and A as row vector
+			for( int j=0; j<a.length; j++ ) {
+				long cnt = 0;
+				for( int i=0; i<b.length; i++ )
+					cnt += (long) fn.execute(b[i], a[j]);
+				Assert.assertEquals("colSums mismatch at "+j+" ("+a[j]+")", cnt, ret.quickGetValue(0, j), 0);
+			}
+		}
+		else {
+			//rowSums(outer(A, B, op)) and sum(outer(A, B, op))
+			long total = 0;
+			for( int i=0; i<a.length; i++ ) {
+				long cnt = 0;
+				for( int j=0; j<b.length; j++ )
+					cnt += (long) fn.execute(a[i], b[j]);
+				if( opcode.equals("uark+") )
+					Assert.assertEquals("rowSums mismatch at "+i+" ("+a[i]+")", cnt, ret.quickGetValue(i, 0), 0);
+				total += cnt;
+			}
+			if( opcode.equals("uak+") )
+				Assert.assertEquals(total, ret.quickGetValue(0, 0), 0);
+		}
+	}
+	
+	private static MatrixBlock createVector(int len, boolean colVector, double sparsity, boolean specials, long seed) {
+		Random rand = new Random(seed);
+		double[] data = new double[len];
+		for( int i=0; i<len; i++ ) {
+			data[i] = (rand.nextDouble() < sparsity) ? rand.nextInt(100) - 20 : 0;
+			if( specials && rand.nextDouble() < 0.05 ) //NaN, -0.0
+				data[i] = rand.nextBoolean() ? Double.NaN : -0.0;
+		}
+		return DataConverter.convertToMatrixBlock(data, colVector);
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.caching;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.controlprogram.caching.PageCache;
+
+public class PageCacheTest {
+
+	@Before
+	public void setUp() {
+		PageCache.init();
+		PageCache.resetStatistics();
+	}
+	
+	@After
+	public void tearDown() {
+		PageCache.clear();
+	}
+	
+	@Test
+	public void testExactSizeReuse() {
+		byte[] page = new byte[3 * 1024 * 1024 + 17];
+		PageCache.putPage(page);
+		Assert.assertSame(page, PageCache.getPage(page.length));
+		Assert.assertEquals(1, PageCache.getNumHits());
+		Assert.assertEquals(0, PageCache.getPoolSize());
+	}
+	
+	@Test
+	public void testSizeClassReuse() {
+		//page of next larger size class serves smaller requests
+		byte[] page = new byte[4 * 1024 * 1024];
+		PageCache.putPage(page);
+		Assert.assertNull(PageCache.getPage(5 * 1024 * 1024));
+		Assert.assertSame(page, PageCache.getPage(3 * 1024 * 1024));
+		Assert.assertEquals(1, PageCache.getNumHits());
+		Assert.assertEquals(1, PageCache.getNumMisses());
+		Assert.assertEquals(page.length, PageCache.getNumBytesRecycled());
+	}
+	
+	@Test
+	public void testSmallPageMagazine() {
+		byte[] page = new byte[8192];
+		PageCache.putPage(page);
+		Assert.assertSame(page, PageCache.getPage(8192));
+		Assert.assertNull(PageCache.getPage(8192));
+	}
+	
+	@Test
+	public void testNoDuplicateReuse() {
+		byte[] page = new byte[1024 * 1024];
+		PageCache.putPage(page);
+		Assert.assertSame(page, PageCache.getPage(1024 * 1024));
+		Assert.assertNull(PageCache.getPage(1024 * 1024));
+		Assert.assertTrue(PageCache.getOrAllocPage(1024 * 1024) != page);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.tugraz.sysds.test.functions.federated;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.controlprogram.federated.FederatedData;
+import org.tugraz.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.tugraz.sysds.runtime.controlprogram.federated.FederatedRequest.FedMethod;
+import org.tugraz.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.tugraz.sysds.runtime.functionobjects.Multiply;
+import org.tugraz.sysds.runtime.instructions.InstructionUtils;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+import java.net.InetSocketAddress;
+
+@net.jcip.annotations.NotThreadSafe
+public class FederatedBatchTest extends AutomatedTestBase {
+
+	private final static String TEST_DIR = "functions/federated/";
+	private final static String TEST_NAME = "FederatedBatchTest";
+	private final static String TEST_CLASS_DIR = TEST_DIR + FederatedBatchTest.class.getSimpleName() + "/";
+
+	private final static int blocksize = 1024;
+	private final static int rows = 1000;
+	private final static int cols = 10;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {}));
+	}
+
+	@Test
+	public void federatedMatVecSumScalarChain() throws Exception {
+		getAndLoadTestConfiguration(TEST_NAME);
+
+		double[][] A = getRandomMatrix(rows, cols, -10, 10, 1, 7);
+		double[][] v = getRandomMatrix(cols, 1, -1, 1, 1, 3);
+		writeInputMatrixWithMTD("A", A, false, new MatrixCharacteristics(rows, cols, blocksize, rows * cols));
+		int port = getRandomAvailablePort();
+		Thread t = startLocalFedWorker(port);
+
+		try {
+			FederatedData fd = new FederatedData(new InetSocketAddress("localhost", port), input("A"));
+			FederatedResponse init = fd.initFederatedData().get();
+			Assert.assertTrue(init.isSuccessful());
+			fd.setVarID((Long) init.getData());
+
+			// sum(A %*% v) * 2 in a single round trip
+			FederatedResponse response = fd.executeFederatedChain(
+				new FederatedRequest(FedMethod.MATVECMULT, DataConverter.convertToMatrixBlock(v), true),
+				new FederatedRequest(FedMethod.AGGREGATE, InstructionUtils.parseBasicAggregateUnaryOperator("uak+")),
+				new FederatedRequest(FedMethod.SCALAR, new RightScalarOperator(Multiply.getMultiplyFnObject(), 2)))
+				.get();
+			Assert.assertTrue(response.isSuccessful());
+
+			double expected = 0;
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					expected += A[i][j] * v[j][0];
+			expected *= 2;
+			Assert.assertEquals(expected, ((MatrixBlock) response.getData()).quickGetValue(0, 0), 1e-8);
+		}
+		finally {
+			TestUtils.shutdownThread(t);
+		}
+	}
+}
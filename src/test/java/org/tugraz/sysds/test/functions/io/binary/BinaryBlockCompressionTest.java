@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.io.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.mapred.JobConf;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.conf.DMLConfig;
+import org.tugraz.sysds.runtime.functionobjects.Builtin;
+import org.tugraz.sysds.runtime.functionobjects.Builtin.BuiltinCode;
+import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.matrix.operators.UnaryOperator;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for block-compressed binary block writes, which compares 
+ * the file sizes and read results of compressed and uncompressed writes.
+ */
+public class BinaryBlockCompressionTest extends AutomatedTestBase 
+{
+	private final static int rows = 2345;
+	private final static int cols = 1234;
+	private final static int blen = 1000;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testDefaultCodecDense() throws Exception {
+		runCompressionTest("default", 0.9);
+	}
+	
+	@Test
+	public void testDefaultCodecSparse() throws Exception {
+		runCompressionTest("default", 0.1);
+	}
+	
+	@Test
+	public void testGzipCodecDense() throws Exception {
+		runCompressionTest("gzip", 0.9);
+	}
+	
+	@Test
+	public void testNativeCodecFallback() throws Exception {
+		//lz4 falls back to the default codec w/o native hadoop library
+		runCompressionTest("lz4", 0.9);
+	}
+	
+	@Test(expected = IOException.class)
+	public void testUnknownCodec() throws Exception {
+		IOUtilFunctions.getCompressionCodec(new JobConf(), "foo");
+	}
+	
+	private static void runCompressionTest(String codec, double sparsity) throws Exception {
+		//compressible input w/ few distinct values
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, 0, 10, "uniform", 7)
+			.unaryOperations(new UnaryOperator(Builtin.getBuiltinFnObject(BuiltinCode.ROUND)), new MatrixBlock());
+		File dir = Files.createTempDirectory("codec").toFile();
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		try {
+			long size1 = writeAndCompare(mb, dir.getAbsolutePath()+"/X1");
+			DMLConfig conf2 = new DMLConfig(conf);
+			conf2.setTextValue(DMLConfig.IO_COMPRESSION_CODEC, codec);
+			ConfigurationManager.setGlobalConfig(conf2);
+			long size2 = writeAndCompare(mb, dir.getAbsolutePath()+"/X2");
+			Assert.assertTrue("Compressed size "+size2+" not smaller than "+size1, size2 < size1);
+		}
+		finally {
+			ConfigurationManager.setGlobalConfig(conf);
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+	
+	private static long writeAndCompare(MatrixBlock mb, String fname) throws Exception {
+		DataConverter.writeMatrixToHDFS(mb, fname, OutputInfo.BinaryBlockOutputInfo,
+			new MatrixCharacteristics(rows, cols, blen, mb.getNonZeros()));
+		MatrixBlock ret = DataConverter.readMatrixFromHDFS(fname,
+			InputInfo.BinaryBlockInputInfo, rows, cols, blen, mb.getNonZeros());
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(mb),
+			DataConverter.convertToDoubleMatrix(ret), rows, cols, 0);
+		return FileUtils.sizeOf(new File(fname));
+	}
+}
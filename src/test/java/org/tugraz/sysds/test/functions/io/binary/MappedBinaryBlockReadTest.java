@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.io.binary;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.LocalFileUtils;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for memory-mapped reads of local binary block files and 
+ * spilled matrix blocks, which compares the results with the regular 
+ * stream-based reads.
+ */
+public class MappedBinaryBlockReadTest extends AutomatedTestBase 
+{
+	private final static int rows = 2345;
+	private final static int cols = 1234;
+	private final static int blen = 1000;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testBinaryBlockDense() throws Exception {
+		runBinaryBlockReadTest(0.9);
+	}
+	
+	@Test
+	public void testBinaryBlockSparse() throws Exception {
+		runBinaryBlockReadTest(0.05);
+	}
+	
+	@Test
+	public void testBinaryBlockUltraSparse() throws Exception {
+		runBinaryBlockReadTest(0.0001);
+	}
+	
+	@Test
+	public void testLocalBlockDense() throws Exception {
+		runLocalBlockReadTest(0.9);
+	}
+	
+	@Test
+	public void testLocalBlockSparse() throws Exception {
+		runLocalBlockReadTest(0.1);
+	}
+	
+	private static void runBinaryBlockReadTest(double sparsity) throws Exception {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 7);
+		File dir = Files.createTempDirectory("mmap").toFile();
+		String fname = dir.getAbsolutePath() + "/X";
+		boolean flag = LocalFileUtils.USE_MMAP_READ;
+		try {
+			DataConverter.writeMatrixToHDFS(mb, fname, OutputInfo.BinaryBlockOutputInfo,
+				new MatrixCharacteristics(rows, cols, blen, mb.getNonZeros()));
+			LocalFileUtils.USE_MMAP_READ = false;
+			MatrixBlock ret1 = DataConverter.readMatrixFromHDFS(fname,
+				InputInfo.BinaryBlockInputInfo, rows, cols, blen, mb.getNonZeros());
+			LocalFileUtils.USE_MMAP_READ = true;
+			MatrixBlock ret2 = DataConverter.readMatrixFromHDFS(fname,
+				InputInfo.BinaryBlockInputInfo, rows, cols, blen, mb.getNonZeros());
+			Assert.assertEquals(mb.getNonZeros(), ret2.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+		}
+		finally {
+			LocalFileUtils.USE_MMAP_READ = flag;
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+	
+	private static void runLocalBlockReadTest(double sparsity) throws Exception {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", 3);
+		File dir = Files.createTempDirectory("mmap").toFile();
+		String fname = dir.getAbsolutePath() + "/X";
+		boolean flag = LocalFileUtils.USE_MMAP_READ;
+		try {
+			LocalFileUtils.writeMatrixBlockToLocal(fname, mb);
+			Assert.assertTrue(new File(fname).length() >= LocalFileUtils.MMAP_MIN_SIZE);
+			LocalFileUtils.USE_MMAP_READ = false;
+			MatrixBlock ret1 = LocalFileUtils.readMatrixBlockFromLocal(fname);
+			LocalFileUtils.USE_MMAP_READ = true;
+			MatrixBlock ret2 = LocalFileUtils.readMatrixBlockFromLocal(fname);
+			Assert.assertEquals(ret1.getNonZeros(), ret2.getNonZeros());
+			Assert.assertEquals(ret1.isInSparseFormat(), ret2.isInSparseFormat());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), rows, cols, 0);
+		}
+		finally {
+			LocalFileUtils.USE_MMAP_READ = flag;
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+}
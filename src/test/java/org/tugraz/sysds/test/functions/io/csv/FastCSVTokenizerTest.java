@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.io.csv;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.apache.hadoop.io.Text;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.io.FastCSVTokenizer;
+import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+
+public class FastCSVTokenizerTest {
+
+	@Test
+	public void testTokenizeSingleCharDelim() {
+		checkTokens(" 1, 2 ,,3 ,", ",");
+	}
+	
+	@Test
+	public void testTokenizeMultiCharDelim() {
+		checkTokens("a::b:: c ::", "::");
+	}
+	
+	@Test
+	public void testTokenizeEmptyLine() {
+		checkTokens("  ", ",");
+	}
+	
+	@Test
+	public void testParseSpecialValues() {
+		checkParse("NA");
+		checkParse("NaN");
+		checkParse("Infinity");
+		checkParse("-Infinity");
+		checkParse("-0");
+		checkParse("1.");
+		checkParse(".5");
+		checkParse("+7");
+		checkParse("000123.4500");
+		checkParse("1e22");
+		checkParse("1e23");
+		checkParse("9007199254740993");
+	}
+	
+	@Test(expected = NumberFormatException.class)
+	public void testParseInvalid() {
+		byte[] b = "1.2x".getBytes();
+		FastCSVTokenizer.parseDouble(b, 0, b.length);
+	}
+	
+	@Test
+	public void testParseRandomValues() {
+		Random rand = new Random(7);
+		for( int i=0; i<10000; i++ ) {
+			double v = (i%2==0) ? rand.nextDouble() : rand.nextGaussian()*1e6;
+			checkParse(Double.toString(v));
+			checkParse(String.format("%.6f", v));
+			checkParse(String.format("%.3e", v));
+		}
+	}
+	
+	private static void checkTokens(String line, String delim) {
+		String[] expected = IOUtilFunctions.split(line.trim(), delim);
+		FastCSVTokenizer st = new FastCSVTokenizer(delim);
+		st.reset(new Text(line));
+		ArrayList<String> tokens = new ArrayList<>();
+		while( st.hasNext() ) {
+			st.next();
+			tokens.add(st.getString());
+		}
+		Assert.assertEquals(expected.length, tokens.size());
+		for( int i=0; i<expected.length; i++ )
+			Assert.assertEquals(expected[i].trim(), tokens.get(i));
+	}
+	
+	private static void checkParse(String str) {
+		byte[] b = str.getBytes();
+		double expected = "NA".equals(str) ? Double.NaN : Double.parseDouble(str);
+		Assert.assertEquals(Double.doubleToLongBits(expected),
+			Double.doubleToLongBits(FastCSVTokenizer.parseDouble(b, 0, b.length)));
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.lineage;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.recompile.Recompiler;
+import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+import org.tugraz.sysds.utils.Statistics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class CachePolicyTest extends AutomatedTestBase {
+	
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "CachePolicy1";
+	protected String TEST_CLASS_DIR = TEST_DIR + CachePolicyTest.class.getSimpleName() + "/";
+	
+	protected static final int numFeatures = 100;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+	
+	@Test
+	public void testPolicyLRU() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.LRU, false, false);
+	}
+	
+	@Test
+	public void testPolicyCostNSize() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.COSTNSIZE, false, false);
+	}
+	
+	@Test
+	public void testPolicyLFU() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.LFU, false, false);
+	}
+	
+	@Test
+	public void testPolicyDAGHeight() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.DAGHEIGHT, false, false);
+	}
+	
+	@Test
+	public void testPolicyEvictionOrder() {
+		// large but cheap slices and small but expensive tsmm results exceed the
+		// cache limit, where LRU evicts tsmm results as well, and hence they are
+		// recomputed in the second pass, while cost-per-byte evicts only slices
+		int k = numFeatures - 9;
+		long tsmmLRU = testCachePolicy(TEST_NAME1, LineageCachePolicy.LRU, false, false);
+		long tsmmCostNSize = testCachePolicy(TEST_NAME1, LineageCachePolicy.COSTNSIZE, false, false);
+		long tsmmDAGHeight = testCachePolicy(TEST_NAME1, LineageCachePolicy.DAGHEIGHT, false, false);
+		Assert.assertEquals(k, tsmmCostNSize);
+		Assert.assertTrue("Unexpected tsmm w/ LRU: "+tsmmLRU, tsmmLRU > tsmmCostNSize && tsmmLRU <= 2*k);
+		// the DAG height weighting prefers the taller tsmm results over slices
+		Assert.assertTrue("Unexpected tsmm w/ DAG height: "+tsmmDAGHeight,
+			tsmmDAGHeight >= tsmmCostNSize && tsmmDAGHeight <= tsmmLRU);
+	}
+	
+	@Test
+	public void testPolicyLRUSpill() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.LRU, true, false);
+	}
+	
+	@Test
+	public void testPolicyLRUAsyncSpill() {
+		testCachePolicy(TEST_NAME1, LineageCachePolicy.LRU, true, true);
+	}
+	
+	public long testCachePolicy(String testname, LineageCachePolicy policy, boolean spill, boolean async) {
+		boolean old_simplification = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean old_sum_product = OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES;
+		
+		try {
+			System.out.println("------------ BEGIN " + testname + " ("+policy.name()+") ------------");
+			
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = false;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = false;
+			
+			getAndLoadTestConfiguration(testname);
+			fullDMLScriptName = getScript();
+			
+			// Without lineage-based reuse enabled
+			List<String> proArgs = new ArrayList<>();
+			proArgs.add("-stats");
+			proArgs.add("-lineage");
+			proArgs.add("-args");
+			proArgs.add(output("R"));
+			proArgs.add(String.valueOf(numFeatures));
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_orig = readDMLMatrixFromHDFS("R");
+			
+			// With lineage-based reuse and the given eviction policy
+			proArgs.add(2, ReuseCacheType.REUSE_FULL.name().toLowerCase());
+			proArgs.add(3, "policy_"+policy.name().toLowerCase());
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			Lineage.setLinReuseFull();
+			LineageCacheConfig.setSpill(spill);
+			LineageCacheConfig.setAsyncSpill(async);
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_reused = readDMLMatrixFromHDFS("R");
+			long tsmmCount = Statistics.getCPHeavyHitterCount("tsmm");
+			Lineage.setLinReuseNone();
+			
+			TestUtils.compareMatrices(R_orig, R_reused, 1e-6, "Origin", "Reused");
+			Assert.assertEquals(policy, LineageCacheConfig.getCachePolicy());
+			return tsmmCount;
+		}
+		finally {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = old_simplification;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = old_sum_product;
+			LineageCacheConfig.setCachePolicy(LineageCachePolicy.LRU);
+			LineageCacheConfig.setSpill(false);
+			LineageCacheConfig.setAsyncSpill(true);
+			Recompiler.reinitRecompiler();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.lineage;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.recompile.Recompiler;
+import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+import org.tugraz.sysds.utils.Statistics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class FullReuseParforTest extends AutomatedTestBase
+{
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "FullReuseParfor1";
+	protected static final String TEST_NAME2 = "FullReuseParfor2";
+	protected String TEST_CLASS_DIR = TEST_DIR + FullReuseParforTest.class.getSimpleName() + "/";
+	
+	protected static final int numRecords = 1000;
+	protected static final int numFeatures = 100;
+	protected static final int numIterations = 256;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
+	}
+	
+	@Test
+	public void testLineageReuseParforSingle() {
+		testLineageReuseParfor(TEST_NAME1, 1);
+	}
+	
+	@Test
+	public void testLineageReuseParfor8() {
+		testLineageReuseParfor(TEST_NAME1, 8);
+	}
+	
+	@Test
+	public void testLineageReuseParfor32() {
+		testLineageReuseParfor(TEST_NAME1, 32);
+	}
+	
+	@Test
+	public void testLineageReuseParforFunction8() {
+		testLineageReuseParfor(TEST_NAME2, 8);
+	}
+	
+	@Test
+	public void testLineageReuseParforFunction32() {
+		testLineageReuseParfor(TEST_NAME2, 32);
+	}
+	
+	public void testLineageReuseParfor(String testname, int par) {
+		boolean old_simplification = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean old_sum_product = OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES;
+		
+		try {
+			System.out.println("------------ BEGIN " + testname + " (par="+par+") ------------");
+			
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = false;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = false;
+			
+			getAndLoadTestConfiguration(testname);
+			fullDMLScriptName = getScript();
+			
+			// Without lineage-based reuse enabled
+			programArgs = getArgs(null, par);
+			Lineage.resetInternalState();
+			long t0 = System.nanoTime();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			long t1 = System.nanoTime();
+			HashMap<MatrixValue.CellIndex, Double> R_orig = readDMLMatrixFromHDFS("R");
+			long tsmmOrig = Statistics.getCPHeavyHitterCount("tsmm");
+			
+			// With lineage-based reuse enabled, all workers probe the same items
+			programArgs = getArgs(ReuseCacheType.REUSE_FULL, par);
+			Lineage.resetInternalState();
+			Lineage.setLinReuseFull();
+			long t2 = System.nanoTime();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			long t3 = System.nanoTime();
+			HashMap<MatrixValue.CellIndex, Double> R_reused = readDMLMatrixFromHDFS("R");
+			long tsmmReused = Statistics.getCPHeavyHitterCount("tsmm");
+			Lineage.setLinReuseNone();
+			
+			System.out.println("Parfor reuse probes (par="+par+"): "
+				+ String.format("%.3f", ((double)t1-t0)/1e9) + " sec (no reuse) vs "
+				+ String.format("%.3f", ((double)t3-t2)/1e9) + " sec (reuse).");
+			TestUtils.compareMatrices(R_orig, R_reused, 1e-6, "Origin", "Reused");
+			
+			//every iteration computes tsmm w/o reuse, while reuse avoids
+			//recomputation across iterations and concurrent workers
+			Assert.assertEquals(numIterations, tsmmOrig);
+			Assert.assertTrue("Unexpected number of tsmm w/ reuse: "+tsmmReused,
+				tsmmReused >= 1 && tsmmReused < tsmmOrig);
+		}
+		finally {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = old_simplification;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = old_sum_product;
+			Recompiler.reinitRecompiler();
+		}
+	}
+	
+	private String[] getArgs(ReuseCacheType type, int par) {
+		List<String> proArgs = new ArrayList<>();
+		proArgs.add("-stats");
+		proArgs.add("-lineage");
+		if( type != null )
+			proArgs.add(type.name().toLowerCase());
+		proArgs.add("-args");
+		proArgs.add(output("R"));
+		proArgs.add(String.valueOf(numRecords));
+		proArgs.add(String.valueOf(numFeatures));
+		proArgs.add(String.valueOf(numIterations));
+		proArgs.add(String.valueOf(par));
+		return proArgs.toArray(new String[proArgs.size()]);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Graz University of Technology
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.tugraz.sysds.test.functions.lineage;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.hops.OptimizerUtils;
+import org.tugraz.sysds.hops.recompile.Recompiler;
+import org.tugraz.sysds.runtime.lineage.Lineage;
+import org.tugraz.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.tugraz.sysds.runtime.lineage.LineageCacheStatistics;
+import org.tugraz.sysds.runtime.matrix.data.MatrixValue;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class PersistentReuseTest extends AutomatedTestBase {
+	
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "PersistentReuse1";
+	protected static final String TEST_NAME2 = "PersistentReuse2";
+	protected String TEST_CLASS_DIR = TEST_DIR + PersistentReuseTest.class.getSimpleName() + "/";
+	
+	private final static String TEST_CONF = "SystemDS-config-persist.xml";
+	private final static File   TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, TEST_CONF);
+	private final static String STORE_DIR = "target/testTemp/functions/lineage/PersistentReuseTest/store";
+	
+	protected static final int numFeatures = 50;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2));
+	}
+	
+	@Test
+	public void testPersistentReuse() {
+		testPersistentReuse(TEST_NAME1);
+	}
+	
+	@Test
+	public void testPersistentReuseChangedInput() {
+		boolean old_simplification = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean old_sum_product = OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES;
+		
+		try {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = false;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = false;
+			FileUtils.deleteDirectory(new File(STORE_DIR));
+			
+			getAndLoadTestConfiguration(TEST_NAME2);
+			fullDMLScriptName = getScript();
+			programArgs = new String[] {"-stats", "-lineage", ReuseCacheType.REUSE_FULL.name().toLowerCase(),
+				"-args", output("R"), String.valueOf(numFeatures), input("X")};
+			
+			// Populate the persistent store with the original input
+			writeInputMatrixWithMTD("X", getRandomMatrix(1000, numFeatures, 0, 1, 1.0, 7), true);
+			Lineage.resetInternalState();
+			Lineage.setLinReuseFull();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			
+			// Unchanged input in new session reuses from the persistent store
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			Assert.assertTrue(LineageCacheStatistics.getPersistentHits() > 0);
+			
+			// Changed input in new session must not reuse stale entries
+			Thread.sleep(1000); //distinct modification time
+			double[][] X2 = getRandomMatrix(1000, numFeatures, 0, 1, 1.0, 3);
+			writeInputMatrixWithMTD("X", X2, true);
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			Assert.assertEquals(0, LineageCacheStatistics.getPersistentHits());
+			Lineage.setLinReuseNone();
+			
+			// Compare against the expected result of the changed input
+			HashMap<MatrixValue.CellIndex, Double> R = readDMLMatrixFromHDFS("R");
+			for( int i=0; i<numFeatures-9; i++ ) {
+				double sum = 0;
+				for( int j=i; j<i+10; j++ )
+					for( int l=i; l<i+10; l++ )
+						for( int r=0; r<X2.length; r++ )
+							sum += X2[r][j] * X2[r][l];
+				Assert.assertEquals(sum, R.get(new MatrixValue.CellIndex(i+1, 1)), 1e-6);
+			}
+		}
+		catch(IOException | InterruptedException ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = old_simplification;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = old_sum_product;
+			Recompiler.reinitRecompiler();
+		}
+	}
+	
+	public void testPersistentReuse(String testname) {
+		boolean old_simplification = OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION;
+		boolean old_sum_product = OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES;
+		
+		try {
+			System.out.println("------------ BEGIN " + testname + "------------");
+			
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = false;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = false;
+			FileUtils.deleteDirectory(new File(STORE_DIR));
+			
+			getAndLoadTestConfiguration(testname);
+			fullDMLScriptName = getScript();
+			
+			// Without lineage-based reuse enabled
+			List<String> proArgs = new ArrayList<>();
+			proArgs.add("-stats");
+			proArgs.add("-lineage");
+			proArgs.add("-args");
+			proArgs.add(output("R"));
+			proArgs.add(String.valueOf(numFeatures));
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_orig = readDMLMatrixFromHDFS("R");
+			
+			// With lineage-based reuse, populating the persistent store
+			proArgs.add(2, ReuseCacheType.REUSE_FULL.name().toLowerCase());
+			programArgs = proArgs.toArray(new String[proArgs.size()]);
+			
+			Lineage.resetInternalState();
+			Lineage.setLinReuseFull();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			Assert.assertEquals(0, LineageCacheStatistics.getPersistentHits());
+			
+			// With lineage-based reuse from the persistent store (new session)
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_reused = readDMLMatrixFromHDFS("R");
+			Assert.assertTrue(LineageCacheStatistics.getPersistentHits() > 0);
+			Lineage.setLinReuseNone();
+			
+			TestUtils.compareMatrices(R_orig, R_reused, 1e-6, "Origin", "Reused");
+		}
+		catch(IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			OptimizerUtils.ALLOW_ALGEBRAIC_SIMPLIFICATION = old_simplification;
+			OptimizerUtils.ALLOW_SUM_PRODUCT_REWRITES = old_sum_product;
+			Recompiler.reinitRecompiler();
+		}
+	}
+	
+	/**
+	 * Override default configuration with custom test configuration to
+	 * enable the persistent lineage cache.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		System.out.println("This test case overrides default configuration with " + TEST_CONF_FILE.getPath());
+		return TEST_CONF_FILE;
+	}
+}
@@ -28,6 +28,7 @@ import org.tugraz.sysds.test.TestConfiguration;
 public class ParamservLocalNNTest extends AutomatedTestBase {
 
 	private static final String TEST_NAME = "paramserv-test";
+	private static final String TEST_NAME2 = "paramserv-ssp";
 
 	private static final String TEST_DIR = "functions/paramserv/";
 	private static final String TEST_CLASS_DIR = TEST_DIR + ParamservLocalNNTest.class.getSimpleName() + "/";
@@ -35,6 +36,7 @@ public class ParamservLocalNNTest extends AutomatedTestBase {
 	@Override
 	public void setUp() {
 		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {}));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] {}));
 	}
 
 	@Test
@@ -42,6 +44,11 @@ public class ParamservLocalNNTest extends AutomatedTestBase {
 		runDMLTest(10, 2, Statement.PSUpdateType.BSP, Statement.PSFrequency.BATCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
 	}
 
+	@Test
+	public void testParamservBSPBatchManyWorkers() {
+		runDMLTest(5, 4, Statement.PSUpdateType.BSP, Statement.PSFrequency.BATCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
+	}
+
 	@Test
 	public void testParamservASPBatch() {
 		runDMLTest(10, 2, Statement.PSUpdateType.ASP, Statement.PSFrequency.BATCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
@@ -57,6 +64,31 @@ public class ParamservLocalNNTest extends AutomatedTestBase {
 		runDMLTest(10, 2, Statement.PSUpdateType.ASP, Statement.PSFrequency.EPOCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
 	}
 
+	@Test
+	public void testParamservSSPBatch() {
+		runDMLTest(10, 3, Statement.PSUpdateType.SSP, Statement.PSFrequency.BATCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
+	}
+
+	@Test
+	public void testParamservSSPEpoch() {
+		runDMLTest(10, 3, Statement.PSUpdateType.SSP, Statement.PSFrequency.EPOCH, 32, Statement.PSScheme.DISJOINT_CONTIGUOUS);
+	}
+
+	@Test(timeout = 300000)
+	public void testParamservSSPUnevenPartitionsStaleness0() {
+		runSSPTest(0, Statement.PSFrequency.BATCH);
+	}
+
+	@Test(timeout = 300000)
+	public void testParamservSSPUnevenPartitionsStaleness1() {
+		runSSPTest(1, Statement.PSFrequency.BATCH);
+	}
+
+	@Test(timeout = 300000)
+	public void testParamservSSPUnevenPartitionsEpoch() {
+		runSSPTest(0, Statement.PSFrequency.EPOCH);
+	}
+
 	@Test
 	public void testParamservBSPBatchDisjointRoundRobin() {
 		runDMLTest(10, 2, Statement.PSUpdateType.BSP, Statement.PSFrequency.BATCH, 32, Statement.PSScheme.DISJOINT_ROUND_ROBIN);
@@ -82,4 +114,14 @@ public class ParamservLocalNNTest extends AutomatedTestBase {
 		fullDMLScriptName = HOME + ParamservLocalNNTest.TEST_NAME + ".dml";
 		runTest(true, false, null, null, -1);
 	}
+
+	private void runSSPTest(int staleness, Statement.PSFrequency freq) {
+		TestConfiguration config = getTestConfiguration(ParamservLocalNNTest.TEST_NAME2);
+		loadTestConfiguration(config);
+		programArgs = new String[] { "-stats", "-nvargs", "mode=LOCAL",
+			"staleness=" + staleness, "freq=" + freq };
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + ParamservLocalNNTest.TEST_NAME2 + ".dml";
+		runTest(true, false, null, null, -1);
+	}
 }
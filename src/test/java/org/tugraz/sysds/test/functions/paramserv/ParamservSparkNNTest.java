@@ -33,6 +33,7 @@ public class ParamservSparkNNTest extends AutomatedTestBase {
 	private static final String TEST_NAME1 = "paramserv-test";
 	private static final String TEST_NAME2 = "paramserv-spark-worker-failed";
 	private static final String TEST_NAME3 = "paramserv-spark-agg-service-failed";
+	private static final String TEST_NAME4 = "paramserv-ssp";
 
 	private static final String TEST_DIR = "functions/paramserv/";
 	private static final String TEST_CLASS_DIR = TEST_DIR + ParamservSparkNNTest.class.getSimpleName() + "/";
@@ -42,6 +43,7 @@ public class ParamservSparkNNTest extends AutomatedTestBase {
 		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] {}));
 		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] {}));
 		addTestConfiguration(TEST_NAME3, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME3, new String[] {}));
+		addTestConfiguration(TEST_NAME4, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME4, new String[] {}));
 	}
 
 	@Test
@@ -64,6 +66,17 @@ public class ParamservSparkNNTest extends AutomatedTestBase {
 		runDMLTest(5, 2, Statement.PSUpdateType.ASP, Statement.PSFrequency.EPOCH, 16, Statement.PSScheme.DISJOINT_CONTIGUOUS);
 	}
 
+	@Test
+	public void testParamservSSPBatchDisjointContiguous() {
+		runDMLTest(2, 2, Statement.PSUpdateType.SSP, Statement.PSFrequency.BATCH, 16, Statement.PSScheme.DISJOINT_CONTIGUOUS);
+	}
+
+	@Test(timeout = 300000)
+	public void testParamservSSPUnevenPartitions() {
+		programArgs = new String[] { "-explain", "-nvargs", "mode=REMOTE_SPARK", "staleness=0", "freq=BATCH" };
+		internalRunDMLTest(TEST_NAME4, false, null, null);
+	}
+
 	@Test
 	public void testParamservWorkerFailed() {
 		runDMLTest(TEST_NAME2, true, DMLException.class, "Invalid indexing by name in unnamed list: worker_err.");
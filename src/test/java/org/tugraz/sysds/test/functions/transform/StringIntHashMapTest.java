@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.transform;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.runtime.util.StringIntHashMap;
+
+public class StringIntHashMapTest {
+
+	@Test
+	public void testPutGetSmall() {
+		checkPutGet(10, 100);
+	}
+
+	@Test
+	public void testPutGetLargeWithResize() {
+		checkPutGet(100000, 10000);
+	}
+
+	@Test
+	public void testPutIfAbsent() {
+		StringIntHashMap map = new StringIntHashMap();
+		Assert.assertEquals(-1, map.putIfAbsent("a", 1));
+		Assert.assertEquals(-1, map.putIfAbsent("b", 2));
+		Assert.assertEquals(1, map.putIfAbsent("a", 3));
+		Assert.assertEquals(2, map.size());
+		Assert.assertEquals(1, map.get("a"));
+	}
+
+	@Test
+	public void testMissingAndNullKeys() {
+		StringIntHashMap map = new StringIntHashMap(4);
+		map.put("x", 7);
+		map.put("x", 8);
+		Assert.assertEquals(1, map.size());
+		Assert.assertEquals(8, map.get("x"));
+		Assert.assertEquals(-1, map.get("y"));
+		Assert.assertEquals(-1, map.get(null));
+		Assert.assertFalse(map.containsKey(""));
+	}
+
+	private static void checkPutGet(int n, int domain) {
+		Random rand = new Random(7);
+		StringIntHashMap map = new StringIntHashMap();
+		HashMap<String,Integer> ref = new HashMap<>();
+		for( int i=0; i<n; i++ ) {
+			String key = "t" + rand.nextInt(domain);
+			map.putIfAbsent(key, map.size()+1);
+			ref.putIfAbsent(key, ref.size()+1);
+		}
+
+		//compare size, lookups, and iterated entries
+		Assert.assertEquals(ref.size(), map.size());
+		for( int i=0; i<domain; i++ ) {
+			String key = "t" + i;
+			Integer val = ref.get(key);
+			Assert.assertEquals((val != null) ? val : -1, map.get(key));
+		}
+		int[] count = new int[1];
+		map.forEach((k, v) -> {
+			Assert.assertEquals(ref.get(k).intValue(), v);
+			count[0]++;
+		});
+		Assert.assertEquals(ref.size(), count[0]);
+	}
+}
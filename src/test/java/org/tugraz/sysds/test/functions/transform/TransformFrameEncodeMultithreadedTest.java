@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.transform.encode.Encoder;
+import org.tugraz.sysds.runtime.transform.encode.EncoderFactory;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+public class TransformFrameEncodeMultithreadedTest extends AutomatedTestBase
+{
+	private static final int rows = 70000;
+	private static final int cols = 4;
+	private static final int k = 4;
+
+	private static final String SPEC_RECODE = "{ids:true, recode:[1,2]}";
+	private static final String SPEC_DUMMY = "{ids:true, recode:[1,2], dummycode:[1]}";
+	private static final String SPEC_BIN = "{ids:true, recode:[1], "
+		+ "bin:[{id:3, method:equi-width, numbins:4}], impute:[{id:4, method:global_mean}]}";
+
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+
+	@Test
+	public void testEncodeRecode() {
+		runTransformEncodeTest(SPEC_RECODE);
+	}
+
+	@Test
+	public void testEncodeRecodeDummycode() {
+		runTransformEncodeTest(SPEC_DUMMY);
+	}
+
+	@Test
+	public void testEncodeRecodeBinImpute() {
+		runTransformEncodeTest(SPEC_BIN);
+	}
+
+	private void runTransformEncodeTest(String spec) {
+		//generate input data w/ small integer domains and missing values
+		double[][] A = getRandomMatrix(rows, cols, 1, 50, 0.95, 7);
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				A[i][j] = Math.floor(A[i][j]);
+		FrameBlock data = DataConverter.convertToFrameBlock(
+			DataConverter.convertToMatrixBlock(A), ValueType.STRING);
+		Assert.assertTrue(hasMissingValues(data, cols-1));
+
+		//single- and multi-threaded transform encode
+		Encoder encoder1 = EncoderFactory.createEncoder(spec, data.getColumnNames(), cols, null);
+		MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, cols, false));
+		FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(cols, ValueType.STRING));
+		Encoder encoder2 = EncoderFactory.createEncoder(spec, data.getColumnNames(), cols, null);
+		MatrixBlock out2 = encoder2.encode(data, new MatrixBlock(rows, cols, false), k);
+		FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(cols, ValueType.STRING));
+
+		//multi-threaded transform apply w/ meta data of single-threaded encode
+		Encoder encoder3 = EncoderFactory.createEncoder(spec, data.getColumnNames(), cols, meta1);
+		MatrixBlock out3 = encoder3.apply(data, new MatrixBlock(rows, cols, false), k);
+
+		//compare meta data, outputs, and number of non-zeros
+		TestUtils.compareFrames(DataConverter.convertToStringFrame(meta1),
+			DataConverter.convertToStringFrame(meta2), meta1.getNumRows(), cols);
+		compareOutputs(out1, out2);
+		compareOutputs(out1, out3);
+	}
+
+	private static boolean hasMissingValues(FrameBlock data, int col) {
+		for( int i=0; i<data.getNumRows(); i++ )
+			if( data.get(i, col) == null )
+				return true;
+		return false;
+	}
+
+	private static void compareOutputs(MatrixBlock expected, MatrixBlock actual) {
+		Assert.assertEquals(expected.getNumColumns(), actual.getNumColumns());
+		Assert.assertEquals(expected.getNonZeros(), actual.getNonZeros());
+		TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(expected),
+			DataConverter.convertToDoubleMatrix(actual), rows, expected.getNumColumns(), 0);
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.transform;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.mapred.JobConf;
+import org.junit.Assert;
+import org.junit.Test;
+import org.tugraz.sysds.common.Types.ExecMode;
+import org.tugraz.sysds.common.Types.ValueType;
+import org.tugraz.sysds.conf.ConfigurationManager;
+import org.tugraz.sysds.lops.LopProperties.ExecType;
+import org.tugraz.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.tugraz.sysds.runtime.io.FrameReaderFactory;
+import org.tugraz.sysds.runtime.io.FrameWriterFactory;
+import org.tugraz.sysds.runtime.io.IOUtilFunctions;
+import org.tugraz.sysds.runtime.io.MatrixReaderFactory;
+import org.tugraz.sysds.runtime.matrix.data.FrameBlock;
+import org.tugraz.sysds.runtime.matrix.data.InputInfo;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.matrix.data.OutputInfo;
+import org.tugraz.sysds.runtime.meta.MatrixCharacteristics;
+import org.tugraz.sysds.runtime.transform.TfUtils;
+import org.tugraz.sysds.runtime.transform.encode.Encoder;
+import org.tugraz.sysds.runtime.transform.encode.EncoderBin;
+import org.tugraz.sysds.runtime.transform.encode.EncoderComposite;
+import org.tugraz.sysds.runtime.transform.encode.EncoderFactory;
+import org.tugraz.sysds.runtime.transform.encode.EncoderStreaming;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.runtime.util.HDFSTool;
+import org.tugraz.sysds.runtime.util.UtilFunctions;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestConfiguration;
+import org.tugraz.sysds.test.TestUtils;
+import org.tugraz.sysds.utils.Statistics;
+
+public class TransformFrameEncodeStreamingTest extends AutomatedTestBase
+{
+	private static final String TEST_NAME1 = "TransformFrameEncodeStreaming";
+	private static final String TEST_DIR = "functions/transform/";
+	private static final String TEST_CLASS_DIR = TEST_DIR + TransformFrameEncodeStreamingTest.class.getSimpleName() + "/";
+	private static final File TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, "SystemDS-config-streaming.xml");
+	
+	private static final int rows = 5500;
+	private static final int cols = 4;
+	private static final int blen = 1000;
+	private static final int chunkSize = 2000;
+	private static final int unalignedBlen = 700;
+	private static final int k = 4;
+
+	private static final String SPEC_RECODE = "{ids:true, recode:[1,2]}";
+	private static final String SPEC_DUMMY = "{ids:true, recode:[1,2], dummycode:[1]}";
+	private static final String SPEC_BIN = "{ids:true, recode:[1], "
+		+ "bin:[{id:3, method:equi-width, numbins:4}], impute:[{id:4, method:global_mean}]}";
+
+	private boolean _streamingConf = false;
+
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] { "X" }) );
+	}
+
+	@Test
+	public void testEncodeRecodeCSV() throws Exception {
+		runTransformEncodeTest(SPEC_RECODE, OutputInfo.CSVOutputInfo, InputInfo.CSVInputInfo, false);
+	}
+
+	@Test
+	public void testEncodeRecodeDummycodeCSV() throws Exception {
+		runTransformEncodeTest(SPEC_DUMMY, OutputInfo.CSVOutputInfo, InputInfo.CSVInputInfo, false);
+	}
+
+	@Test
+	public void testEncodeRecodeBinImputeCSV() throws Exception {
+		runTransformEncodeTest(SPEC_BIN, OutputInfo.CSVOutputInfo, InputInfo.CSVInputInfo, false);
+	}
+
+	@Test
+	public void testEncodeRecodeDummycodeBinary() throws Exception {
+		runTransformEncodeTest(SPEC_DUMMY, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo, false);
+	}
+
+	@Test
+	public void testEncodeRecodeBinImputeBinary() throws Exception {
+		runTransformEncodeTest(SPEC_BIN, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo, false);
+	}
+
+	@Test
+	public void testEncodeRecodeDummycodeBinaryUnaligned() throws Exception {
+		runTransformEncodeTest(SPEC_DUMMY, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo, true);
+	}
+
+	@Test
+	public void testEncodeRecodeBinImputeBinaryUnaligned() throws Exception {
+		runTransformEncodeTest(SPEC_BIN, OutputInfo.BinaryBlockOutputInfo, InputInfo.BinaryBlockInputInfo, true);
+	}
+
+	@Test
+	public void testEncodeRecodeDummycodeScript() {
+		runTransformEncodeScriptTest(SPEC_DUMMY);
+	}
+
+	@Test
+	public void testEncodeRecodeBinImputeScript() {
+		runTransformEncodeScriptTest(SPEC_BIN);
+	}
+
+	@Test
+	public void testReadChunksMetaDataCSV() throws Exception {
+		//csv input w/ meta data lines and multiple chunks
+		File dir = Files.createTempDirectory("tfstream").toFile();
+		try {
+			File fname = new File(dir, "X");
+			FileUtils.writeStringToFile(fname, TfUtils.TXMTD_MVPREFIX+",a,b\n"
+				+ TfUtils.TXMTD_NDPREFIX+",3,7\n1,2\n3,4\n5,6\n7,8\n9,10\n", "UTF-8");
+			int[] nchunks = new int[1];
+			FrameReaderFactory.createFrameReader(InputInfo.CSVInputInfo, new FileFormatPropertiesCSV())
+				.readFrameChunksFromHDFS(fname.getAbsolutePath(), UtilFunctions.nCopies(2, ValueType.STRING),
+					FrameBlock.createColNames(2), 2, 2, (chunk, rl) -> {
+					nchunks[0]++;
+					Assert.assertEquals("a", chunk.getColumnMetadata(0).getMvValue());
+					Assert.assertEquals("b", chunk.getColumnMetadata(1).getMvValue());
+					Assert.assertEquals(3, chunk.getColumnMetadata(0).getNumDistinct());
+					Assert.assertEquals(7, chunk.getColumnMetadata(1).getNumDistinct());
+				});
+			Assert.assertEquals(3, nchunks[0]);
+		}
+		finally {
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+	
+	@Test
+	public void testBinBuildNonIncremental() {
+		//bin boundaries of the last build only
+		Assert.assertEquals(1, runBinBuildTest(false));
+	}
+	
+	@Test
+	public void testBinBuildIncremental() {
+		//bin boundaries of the min/max over all builds
+		Assert.assertEquals(3, runBinBuildTest(true));
+	}
+	
+	private static int runBinBuildTest(boolean incremental) {
+		EncoderComposite encoder = (EncoderComposite) EncoderFactory.createEncoder(
+			"{ids:true, bin:[{id:1, method:equi-width, numbins:4}]}", FrameBlock.createColNames(1), 1, null);
+		EncoderBin bin = (EncoderBin) encoder.getEncoders().get(0);
+		bin.setIncrementalBuild(incremental);
+		bin.build(createFrame(0, 4));
+		bin.build(createFrame(10, 14));
+		MatrixBlock out = bin.apply(createFrame(10, 10), new MatrixBlock(1, 1, false));
+		return (int) out.quickGetValue(0, 0);
+	}
+	
+	private static FrameBlock createFrame(int min, int max) {
+		FrameBlock ret = new FrameBlock(new ValueType[]{ValueType.FP64});
+		for( int i=min; i<=max; i++ )
+			ret.appendRow(new Object[]{(double)i});
+		return ret;
+	}
+
+	private void runTransformEncodeScriptTest(String spec) {
+		ExecMode platformOld = setExecMode(ExecType.CP);
+		try {
+			getAndLoadTestConfiguration(TEST_NAME1);
+			double[][] A = getRandomMatrix(rows, cols, 1, 50, 0.95, 7);
+			for( int i=0; i<rows; i++ )
+				for( int j=0; j<cols; j++ )
+					A[i][j] = Math.floor(A[i][j]);
+			writeInputFrameWithMTD("F", A, false, UtilFunctions.nCopies(cols, ValueType.STRING), OutputInfo.CSVOutputInfo);
+			HDFSTool.writeStringToHDFS(spec, input("spec"));
+			
+			//in-memory transform encode (auto mode w/ small input)
+			String[] R1 = runTransformEncodeScript(false);
+			Assert.assertEquals(0, Statistics.getTransformStreamEncodes());
+			
+			//streaming transform encode (forced via configuration)
+			String[] R2 = runTransformEncodeScript(true);
+			Assert.assertEquals(1, Statistics.getTransformStreamEncodes());
+			
+			//compare encoded data, subsequent aggregates, and meta data
+			for( int i=0; i<2; i++ ) {
+				double[][] C1 = readCSVMatrix(R1[i]);
+				double[][] C2 = readCSVMatrix(R2[i]);
+				TestUtils.compareMatrices(C1, C2, C1.length, C1[0].length, 0);
+			}
+			FrameBlock meta1 = FrameReaderFactory.createFrameReader(InputInfo.CSVInputInfo).readFrameFromHDFS(R1[2], -1, cols);
+			FrameBlock meta2 = FrameReaderFactory.createFrameReader(InputInfo.CSVInputInfo).readFrameFromHDFS(R2[2], -1, cols);
+			TestUtils.compareFrames(DataConverter.convertToStringFrame(meta1),
+				DataConverter.convertToStringFrame(meta2), meta1.getNumRows(), cols);
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+		finally {
+			_streamingConf = false;
+			rtplatform = platformOld;
+		}
+	}
+	
+	private String[] runTransformEncodeScript(boolean streaming) {
+		_streamingConf = streaming;
+		loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+		String suffix = streaming ? "2" : "1";
+		String[] outputs = new String[]{output("X"+suffix), output("R"+suffix), output("M"+suffix)};
+		fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME1 + ".dml";
+		programArgs = new String[]{"-stats", "-nvargs", "DATA=" + input("F"), "TFSPEC=" + input("spec"),
+			"TFDATA=" + outputs[0], "TFAGG=" + outputs[1], "TFMETA=" + outputs[2]};
+		runTest(true, false, null, -1);
+		return outputs;
+	}
+	
+	private static double[][] readCSVMatrix(String fname) throws IOException {
+		return DataConverter.convertToDoubleMatrix(MatrixReaderFactory
+			.createMatrixReader(InputInfo.CSVInputInfo).readMatrixFromHDFS(fname, -1L, -1L, blen, -1));
+	}
+
+	/**
+	 * Override default configuration with custom test configuration
+	 * to force the streaming transform encode.
+	 */
+	@Override
+	protected File getConfigTemplateFile() {
+		return _streamingConf ? TEST_CONF_FILE : super.getConfigTemplateFile();
+	}
+
+	private void runTransformEncodeTest(String spec, OutputInfo oinfo, InputInfo iinfo, boolean unaligned) throws Exception {
+		//generate input data w/ small integer domains and missing values
+		double[][] A = getRandomMatrix(rows, cols, 1, 50, 0.95, 7);
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				A[i][j] = Math.floor(A[i][j]);
+		FrameBlock data = DataConverter.convertToFrameBlock(
+			DataConverter.convertToMatrixBlock(A), ValueType.STRING);
+
+		File dir = Files.createTempDirectory("tfstream").toFile();
+		try {
+			//write input frame and read it back as reference
+			String fnameIn = dir.getAbsolutePath()+"/X";
+			String fnameOut = dir.getAbsolutePath()+"/Y";
+			FileFormatPropertiesCSV props = new FileFormatPropertiesCSV();
+			if( unaligned )
+				writeUnalignedBinaryBlocks(data, fnameIn);
+			else
+				FrameWriterFactory.createFrameWriter(oinfo, (iinfo==InputInfo.CSVInputInfo) ? props : null)
+					.writeFrameToHDFS(data, fnameIn, rows, cols);
+			FrameBlock data2 = FrameReaderFactory.createFrameReader(iinfo)
+				.readFrameFromHDFS(fnameIn, data.getSchema(), rows, cols);
+
+			//in-memory transform encode
+			Encoder encoder1 = EncoderFactory.createEncoder(spec, data2.getColumnNames(), cols, null);
+			MatrixBlock out1 = encoder1.encode(data2, new MatrixBlock(rows, cols, false));
+			FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(cols, ValueType.STRING));
+
+			//streaming transform encode over multiple chunks
+			Assert.assertTrue(EncoderStreaming.isSupported(spec, iinfo));
+			MatrixCharacteristics mc = new MatrixCharacteristics(-1, -1, blen);
+			EncoderStreaming encoder2 = new EncoderStreaming(spec, fnameIn, iinfo,
+				(iinfo==InputInfo.CSVInputInfo) ? props : null, data.getSchema(), cols, k);
+			FrameBlock meta2 = encoder2.encode(fnameOut, mc, chunkSize);
+			MatrixBlock out2 = DataConverter.readMatrixFromHDFS(fnameOut,
+				InputInfo.BinaryBlockInputInfo, mc.getRows(), mc.getCols(), blen, mc.getNonZeros());
+
+			//compare meta data, outputs, and number of non-zeros
+			TestUtils.compareFrames(DataConverter.convertToStringFrame(meta1),
+				DataConverter.convertToStringFrame(meta2), meta1.getNumRows(), cols);
+			Assert.assertEquals(rows, mc.getRows());
+			Assert.assertEquals(out1.getNumColumns(), mc.getCols());
+			Assert.assertEquals(out1.getNonZeros(), mc.getNonZeros());
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(out1),
+				DataConverter.convertToDoubleMatrix(out2), rows, out1.getNumColumns(), 0);
+		}
+		finally {
+			FileUtils.deleteQuietly(dir);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void writeUnalignedBinaryBlocks(FrameBlock data, String fname) throws IOException {
+		//write blocks that are not aligned to the block size round-robin to
+		//multiple part files in reverse order (similar to spark-written frames)
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		SequenceFile.Writer[] writers = new SequenceFile.Writer[3];
+		try {
+			for( int i=0; i<writers.length; i++ )
+				writers[i] = new SequenceFile.Writer(fs, job, new Path(path,
+					IOUtilFunctions.getPartFileName(writers.length-i-1)), LongWritable.class, FrameBlock.class);
+			for( int bi=0, i=0; bi<rows; bi+=unalignedBlen, i++ ) {
+				FrameBlock block = data.slice(bi, Math.min(bi+unalignedBlen, rows)-1, 0, cols-1, new FrameBlock());
+				writers[i % writers.length].append(new LongWritable(bi+1), block);
+			}
+		}
+		finally {
+			for( SequenceFile.Writer writer : writers )
+				IOUtilFunctions.closeSilently(writer);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tugraz.sysds.test.functions.unary.matrix;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.apache.commons.math3.linear.QRDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.Test;
+import org.tugraz.sysds.lops.MMTSJ.MMTSJType;
+import org.tugraz.sysds.runtime.matrix.data.LibMatrixLinAlg;
+import org.tugraz.sysds.runtime.matrix.data.MatrixBlock;
+import org.tugraz.sysds.runtime.util.DataConverter;
+import org.tugraz.sysds.test.AutomatedTestBase;
+import org.tugraz.sysds.test.TestUtils;
+
+/**
+ * Component test for the blocked, multi-threaded dense linear algebra kernels,
+ * which compares their results with the commons-math decompositions.
+ */
+public class LinAlgMultiThreadedTest extends AutomatedTestBase 
+{
+	private final static int rows = 411;
+	private final static int cols = 317;
+	private final static double eps = 1e-8;
+	private final static int k = 4;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testCholeskySingleThreaded() {
+		runCholeskyTest(1);
+	}
+	
+	@Test
+	public void testCholeskyMultiThreaded() {
+		runCholeskyTest(k);
+	}
+	
+	@Test
+	public void testLUSingleThreaded() {
+		runLUTest(1);
+	}
+	
+	@Test
+	public void testLUMultiThreaded() {
+		runLUTest(k);
+	}
+	
+	@Test
+	public void testQRSingleThreaded() {
+		runQRTest(1);
+	}
+	
+	@Test
+	public void testQRMultiThreaded() {
+		runQRTest(k);
+	}
+	
+	@Test
+	public void testSolveSPDMultiThreaded() {
+		runSolveTest(true, k);
+	}
+	
+	@Test
+	public void testSolveGeneralMultiThreaded() {
+		runSolveTest(false, k);
+	}
+	
+	@Test
+	public void testInverseMultiThreaded() {
+		MatrixBlock A = MatrixBlock.randOperations(cols, cols, 1.0, -1, 1, "uniform", 7);
+		MatrixBlock ret = LibMatrixLinAlg.inverse(A, k);
+		RealMatrix expected = new LUDecomposition(toRealMatrix(A)).getSolver().getInverse();
+		compareResults(expected, ret, 1e-6);
+	}
+	
+	@Test
+	public void testInverseScaledIdentityMultiThreaded() {
+		runScaledIdentityTest(1e-6, false, k);
+	}
+	
+	@Test
+	public void testInverseSmallScaledIdentityMultiThreaded() {
+		runScaledIdentityTest(1e-14, false, k);
+	}
+	
+	@Test
+	public void testSolveSmallScaledIdentityMultiThreaded() {
+		runScaledIdentityTest(1e-14, true, k);
+	}
+	
+	private static void runCholeskyTest(int k) {
+		MatrixBlock A = createSPDMatrix();
+		MatrixBlock ret = LibMatrixLinAlg.cholesky(A, k);
+		compareResults(new CholeskyDecomposition(toRealMatrix(A)).getL(), ret, eps);
+	}
+	
+	private static void runLUTest(int k) {
+		MatrixBlock A = MatrixBlock.randOperations(cols, cols, 1.0, -1, 1, "uniform", 7);
+		MatrixBlock[] ret = LibMatrixLinAlg.lu(A, k);
+		LUDecomposition lu = new LUDecomposition(toRealMatrix(A));
+		compareResults(lu.getP(), ret[0], 0);
+		compareResults(lu.getL(), ret[1], eps);
+		compareResults(lu.getU(), ret[2], eps);
+	}
+	
+	private static void runQRTest(int k) {
+		MatrixBlock A = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 7);
+		MatrixBlock[] ret = LibMatrixLinAlg.qr(A, k);
+		QRDecomposition qr = new QRDecomposition(toRealMatrix(A));
+		compareResults(qr.getH(), ret[0], eps);
+		compareResults(qr.getR(), ret[1], eps);
+	}
+	
+	private static void runSolveTest(boolean spd, int k) {
+		MatrixBlock A = spd ? createSPDMatrix() :
+			MatrixBlock.randOperations(cols, cols, 1.0, -1, 1, "uniform", 7);
+		MatrixBlock b = MatrixBlock.randOperations(cols, 3, 1.0, -1, 1, "uniform", 3);
+		MatrixBlock ret = LibMatrixLinAlg.solve(A, b, k);
+		RealMatrix expected = new LUDecomposition(toRealMatrix(A))
+			.getSolver().solve(toRealMatrix(b));
+		compareResults(expected, ret, 1e-6);
+	}
+	
+	private static void runScaledIdentityTest(double scale, boolean solve, int k) {
+		MatrixBlock A = new MatrixBlock(cols, cols, false);
+		for( int i=0; i<cols; i++ )
+			A.quickSetValue(i, i, scale);
+		MatrixBlock b = MatrixBlock.randOperations(cols, 3, 1.0, -1, 1, "uniform", 3);
+		MatrixBlock ret = solve ? LibMatrixLinAlg.solve(A, b, k) : LibMatrixLinAlg.inverse(A, k);
+		//scale the result back, which yields b or the identity matrix
+		double[][] C = DataConverter.convertToDoubleMatrix(ret);
+		for( int i=0; i<C.length; i++ )
+			for( int j=0; j<C[i].length; j++ )
+				C[i][j] *= scale;
+		double[][] expected = solve ? DataConverter.convertToDoubleMatrix(b) :
+			MatrixUtils.createRealIdentityMatrix(cols).getData();
+		TestUtils.compareMatrices(expected, C, cols, expected[0].length, eps);
+	}
+	
+	private static MatrixBlock createSPDMatrix() {
+		MatrixBlock X = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 7);
+		return X.transposeSelfMatrixMultOperations(new MatrixBlock(), MMTSJType.LEFT);
+	}
+	
+	private static RealMatrix toRealMatrix(MatrixBlock mb) {
+		return new Array2DRowRealMatrix(DataConverter.convertToDoubleMatrix(mb), false);
+	}
+	
+	private static void compareResults(RealMatrix expected, MatrixBlock ret, double eps) {
+		TestUtils.compareMatrices(expected.getData(), DataConverter.convertToDoubleMatrix(ret),
+			expected.getRowDimension(), expected.getColumnDimension(), eps);
+	}
+}